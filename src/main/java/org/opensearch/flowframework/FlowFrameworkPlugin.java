@@ -26,6 +26,7 @@ import org.opensearch.env.Environment;
 import org.opensearch.env.NodeEnvironment;
 import org.opensearch.flowframework.common.FlowFrameworkSettings;
 import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
+import org.opensearch.flowframework.rest.RestBulkCreateWorkflowAction;
 import org.opensearch.flowframework.rest.RestCreateWorkflowAction;
 import org.opensearch.flowframework.rest.RestDeleteWorkflowAction;
 import org.opensearch.flowframework.rest.RestDeprovisionWorkflowAction;
@@ -35,6 +36,8 @@ import org.opensearch.flowframework.rest.RestGetWorkflowStepAction;
 import org.opensearch.flowframework.rest.RestProvisionWorkflowAction;
 import org.opensearch.flowframework.rest.RestSearchWorkflowAction;
 import org.opensearch.flowframework.rest.RestSearchWorkflowStateAction;
+import org.opensearch.flowframework.transport.BulkCreateWorkflowAction;
+import org.opensearch.flowframework.transport.BulkCreateWorkflowTransportAction;
 import org.opensearch.flowframework.transport.CreateWorkflowAction;
 import org.opensearch.flowframework.transport.CreateWorkflowTransportAction;
 import org.opensearch.flowframework.transport.DeleteWorkflowAction;
@@ -57,6 +60,10 @@ import org.opensearch.flowframework.transport.SearchWorkflowStateTransportAction
 import org.opensearch.flowframework.transport.SearchWorkflowTransportAction;
 import org.opensearch.flowframework.transport.handler.SearchHandler;
 import org.opensearch.flowframework.util.EncryptorUtils;
+import org.opensearch.flowframework.util.FlowFrameworkExecutors;
+import org.opensearch.flowframework.util.WorkflowAccessControlCache;
+import org.opensearch.flowframework.util.WorkflowCountTracker;
+import org.opensearch.flowframework.workflow.StepDurationHistory;
 import org.opensearch.flowframework.workflow.WorkflowProcessSorter;
 import org.opensearch.flowframework.workflow.WorkflowStepFactory;
 import org.opensearch.indices.SystemIndexDescriptor;
@@ -71,11 +78,13 @@ import org.opensearch.rest.RestController;
 import org.opensearch.rest.RestHandler;
 import org.opensearch.script.ScriptService;
 import org.opensearch.threadpool.ExecutorBuilder;
+import org.opensearch.threadpool.FixedExecutorBuilder;
 import org.opensearch.threadpool.ScalingExecutorBuilder;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.Client;
 import org.opensearch.watcher.ResourceWatcherService;
 
+import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -83,6 +92,7 @@ import java.util.Map;
 import java.util.function.Supplier;
 
 import static org.opensearch.flowframework.common.CommonValue.CONFIG_INDEX;
+import static org.opensearch.flowframework.common.CommonValue.CRYPTO_WORKFLOW_THREAD_POOL;
 import static org.opensearch.flowframework.common.CommonValue.DEPROVISION_WORKFLOW_THREAD_POOL;
 import static org.opensearch.flowframework.common.CommonValue.FLOW_FRAMEWORK_THREAD_POOL_PREFIX;
 import static org.opensearch.flowframework.common.CommonValue.GLOBAL_CONTEXT_INDEX;
@@ -90,12 +100,15 @@ import static org.opensearch.flowframework.common.CommonValue.PROVISION_WORKFLOW
 import static org.opensearch.flowframework.common.CommonValue.TENANT_ID_FIELD;
 import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_STATE_INDEX;
 import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_THREAD_POOL;
+import static org.opensearch.flowframework.common.FlowFrameworkSettings.CREDENTIAL_DATA_KEY_CACHE_ENABLED;
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.DEPROVISION_THREAD_POOL_SIZE;
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.FILTER_BY_BACKEND_ROLES;
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.FLOW_FRAMEWORK_ENABLED;
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.FLOW_FRAMEWORK_MULTI_TENANCY_ENABLED;
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.MAX_ACTIVE_DEPROVISIONS_PER_TENANT;
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.MAX_ACTIVE_PROVISIONS_PER_TENANT;
+import static org.opensearch.flowframework.common.FlowFrameworkSettings.MAX_BULK_WORKFLOWS;
+import static org.opensearch.flowframework.common.FlowFrameworkSettings.MAX_CONCURRENT_STEPS_PER_WORKFLOW;
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.MAX_WORKFLOWS;
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.MAX_WORKFLOW_STEPS;
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.PROVISION_THREAD_POOL_SIZE;
@@ -104,6 +117,7 @@ import static org.opensearch.flowframework.common.FlowFrameworkSettings.REMOTE_M
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.REMOTE_METADATA_SERVICE_NAME;
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.REMOTE_METADATA_TYPE;
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.TASK_REQUEST_RETRY_DURATION;
+import static org.opensearch.flowframework.common.FlowFrameworkSettings.VIRTUAL_THREADS_ENABLED;
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.WORKFLOW_REQUEST_TIMEOUT;
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.WORKFLOW_THREAD_POOL_SIZE;
 import static org.opensearch.remote.metadata.common.CommonValue.REMOTE_METADATA_ENDPOINT_KEY;
@@ -119,6 +133,7 @@ import static org.opensearch.remote.metadata.common.CommonValue.TENANT_ID_FIELD_
 public class FlowFrameworkPlugin extends Plugin implements ActionPlugin, SystemIndexPlugin {
 
     private FlowFrameworkSettings flowFrameworkSettings;
+    private FlowFrameworkExecutors flowFrameworkExecutors;
 
     /**
      * Instantiate this plugin.
@@ -160,13 +175,21 @@ public class FlowFrameworkPlugin extends Plugin implements ActionPlugin, SystemI
             // TODO: Find a better thread pool or make one
             client.threadPool().executor(ThreadPool.Names.GENERIC)
         );
-        EncryptorUtils encryptorUtils = new EncryptorUtils(clusterService, client, sdkClient, xContentRegistry);
+        EncryptorUtils encryptorUtils = new EncryptorUtils(
+            clusterService,
+            client,
+            sdkClient,
+            xContentRegistry,
+            CREDENTIAL_DATA_KEY_CACHE_ENABLED.get(settings)
+        );
         FlowFrameworkIndicesHandler flowFrameworkIndicesHandler = new FlowFrameworkIndicesHandler(
             client,
             sdkClient,
             clusterService,
             encryptorUtils,
-            xContentRegistry
+            xContentRegistry,
+            // Documents are only stored outside the cluster with multi-tenancy
+            !FLOW_FRAMEWORK_MULTI_TENANCY_ENABLED.get(settings)
         );
         WorkflowStepFactory workflowStepFactory = new WorkflowStepFactory(
             threadPool,
@@ -175,7 +198,18 @@ public class FlowFrameworkPlugin extends Plugin implements ActionPlugin, SystemI
             flowFrameworkSettings,
             client
         );
-        WorkflowProcessSorter workflowProcessSorter = new WorkflowProcessSorter(workflowStepFactory, threadPool, flowFrameworkSettings);
+        flowFrameworkExecutors = new FlowFrameworkExecutors(threadPool, flowFrameworkSettings.isVirtualThreadsEnabled());
+        flowFrameworkExecutors.startStatsLogging(TimeValue.timeValueMinutes(1));
+        WorkflowProcessSorter workflowProcessSorter = new WorkflowProcessSorter(
+            workflowStepFactory,
+            threadPool,
+            flowFrameworkExecutors,
+            flowFrameworkSettings
+        );
+
+        WorkflowCountTracker workflowCountTracker = new WorkflowCountTracker();
+        StepDurationHistory stepDurationHistory = new StepDurationHistory();
+        WorkflowAccessControlCache accessControlCache = new WorkflowAccessControlCache();
 
         SearchHandler searchHandler = new SearchHandler(
             settings,
@@ -192,6 +226,10 @@ public class FlowFrameworkPlugin extends Plugin implements ActionPlugin, SystemI
             flowFrameworkIndicesHandler,
             searchHandler,
             flowFrameworkSettings,
+            flowFrameworkExecutors,
+            workflowCountTracker,
+            stepDurationHistory,
+            accessControlCache,
             sdkClient
         );
     }
@@ -215,7 +253,8 @@ public class FlowFrameworkPlugin extends Plugin implements ActionPlugin, SystemI
             new RestGetWorkflowStateAction(flowFrameworkSettings),
             new RestGetWorkflowAction(flowFrameworkSettings),
             new RestGetWorkflowStepAction(flowFrameworkSettings),
-            new RestSearchWorkflowStateAction(flowFrameworkSettings)
+            new RestSearchWorkflowStateAction(flowFrameworkSettings),
+            new RestBulkCreateWorkflowAction(flowFrameworkSettings)
         );
     }
 
@@ -231,7 +270,8 @@ public class FlowFrameworkPlugin extends Plugin implements ActionPlugin, SystemI
             new ActionHandler<>(GetWorkflowAction.INSTANCE, GetWorkflowTransportAction.class),
             new ActionHandler<>(GetWorkflowStepAction.INSTANCE, GetWorkflowStepTransportAction.class),
             new ActionHandler<>(SearchWorkflowStateAction.INSTANCE, SearchWorkflowStateTransportAction.class),
-            new ActionHandler<>(ReprovisionWorkflowAction.INSTANCE, ReprovisionWorkflowTransportAction.class)
+            new ActionHandler<>(ReprovisionWorkflowAction.INSTANCE, ReprovisionWorkflowTransportAction.class),
+            new ActionHandler<>(BulkCreateWorkflowAction.INSTANCE, BulkCreateWorkflowTransportAction.class)
         );
     }
 
@@ -240,6 +280,7 @@ public class FlowFrameworkPlugin extends Plugin implements ActionPlugin, SystemI
         return List.of(
             FLOW_FRAMEWORK_ENABLED,
             MAX_WORKFLOWS,
+            MAX_BULK_WORKFLOWS,
             MAX_WORKFLOW_STEPS,
             WORKFLOW_REQUEST_TIMEOUT,
             TASK_REQUEST_RETRY_DURATION,
@@ -248,12 +289,15 @@ public class FlowFrameworkPlugin extends Plugin implements ActionPlugin, SystemI
             WORKFLOW_THREAD_POOL_SIZE,
             PROVISION_THREAD_POOL_SIZE,
             MAX_ACTIVE_PROVISIONS_PER_TENANT,
+            MAX_CONCURRENT_STEPS_PER_WORKFLOW,
             DEPROVISION_THREAD_POOL_SIZE,
             MAX_ACTIVE_DEPROVISIONS_PER_TENANT,
             REMOTE_METADATA_TYPE,
             REMOTE_METADATA_ENDPOINT,
             REMOTE_METADATA_REGION,
-            REMOTE_METADATA_SERVICE_NAME
+            REMOTE_METADATA_SERVICE_NAME,
+            VIRTUAL_THREADS_ENABLED,
+            CREDENTIAL_DATA_KEY_CACHE_ENABLED
         );
     }
 
@@ -281,6 +325,14 @@ public class FlowFrameworkPlugin extends Plugin implements ActionPlugin, SystemI
                 Math.max(DEPROVISION_THREAD_POOL_SIZE.get(settings), maxSizeFromAllocatedProcessors),
                 TimeValue.timeValueMinutes(1),
                 FLOW_FRAMEWORK_THREAD_POOL_PREFIX + DEPROVISION_WORKFLOW_THREAD_POOL
+            ),
+            // Bounded, so credential encryption and decryption can not take the threads of the other pools
+            new FixedExecutorBuilder(
+                settings,
+                CRYPTO_WORKFLOW_THREAD_POOL,
+                Math.max(1, OpenSearchExecutors.allocatedProcessors(settings) / 2),
+                1000,
+                FLOW_FRAMEWORK_THREAD_POOL_PREFIX + CRYPTO_WORKFLOW_THREAD_POOL
             )
         );
     }
@@ -294,4 +346,12 @@ public class FlowFrameworkPlugin extends Plugin implements ActionPlugin, SystemI
         );
     }
 
+    @Override
+    public void close() throws IOException {
+        if (flowFrameworkExecutors != null) {
+            flowFrameworkExecutors.close();
+        }
+        super.close();
+    }
+
 }
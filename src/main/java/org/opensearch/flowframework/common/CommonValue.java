@@ -73,6 +73,14 @@ public class CommonValue {
     public static final String FLOW_FRAMEWORK_BASE_URI = "/_plugins/_flow_framework";
     /** The URI for this plugin's workflow rest actions */
     public static final String WORKFLOW_URI = FLOW_FRAMEWORK_BASE_URI + "/workflow";
+    /** The URI for this plugin's bulk workflow rest action */
+    public static final String BULK_WORKFLOW_URI = WORKFLOW_URI + "/_bulk";
+    /** Field name for the templates of a bulk create request */
+    public static final String TEMPLATES_FIELD = "templates";
+    /** Field name for the workflows of a bulk create response */
+    public static final String WORKFLOWS_FIELD = "workflows";
+    /** Field name for the status of a failed item of a bulk create response */
+    public static final String STATUS_FIELD = "status";
     /** Field name for workflow Id, the document Id of the indexed use case template */
     public static final String WORKFLOW_ID = "workflow_id";
     /** Field name for template validation, the flag to indicate if validation is necessary */
@@ -107,6 +115,8 @@ public class CommonValue {
     public static final String PROVISION_WORKFLOW_THREAD_POOL = "opensearch_provision_workflow";
     /** The workflow thread pool name for deprovisioning */
     public static final String DEPROVISION_WORKFLOW_THREAD_POOL = "opensearch_deprovision_workflow";
+    /** The workflow thread pool name for encrypting and decrypting template credentials */
+    public static final String CRYPTO_WORKFLOW_THREAD_POOL = "opensearch_crypto_workflow";
 
     /*
      * Field names common to multiple classes
@@ -226,6 +236,22 @@ public class CommonValue {
     public static final String USER_OUTPUTS_FIELD = "user_outputs";
     /** The template field name for template resources created */
     public static final String RESOURCES_CREATED_FIELD = "resources_created";
+    /** The template field name for the workflow execution journal */
+    public static final String EXECUTION_JOURNAL_FIELD = "execution_journal";
+    /** The field name for the id of the cluster node executing a workflow */
+    public static final String EXECUTING_NODE_ID_FIELD = "executing_node_id";
+    /** The field name for the substitution params recorded in an execution journal */
+    public static final String PARAMS_FIELD = "params";
+    /** The field name for the value of a substitution param */
+    public static final String PARAM_VALUE_FIELD = "value";
+    /** The field name for the steps recorded in an execution journal */
+    public static final String STEPS_FIELD = "steps";
+    /** The field name for the start time of a step */
+    public static final String STEP_START_TIME_FIELD = "start_time";
+    /** The field name for the end time of a step */
+    public static final String STEP_END_TIME_FIELD = "end_time";
+    /** The field name for the output of a step */
+    public static final String STEP_OUTPUT_FIELD = "output";
     /** The parameter to clear workflow state when deleting template */
     public static final String CLEAR_STATUS = "clear_status";
     /** The field name for the step name where a resource is created */
@@ -264,4 +290,6 @@ public class CommonValue {
      */
     /** Version 2.19.0 */
     public static final Version VERSION_2_19_0 = Version.fromString("2.19.0");
+    /** Version 3.2.0 */
+    public static final Version VERSION_3_2_0 = Version.fromString("3.2.0");
 }
@@ -29,6 +29,8 @@ public class FlowFrameworkSettings {
     private volatile Integer maxWorkflowSteps;
     /** Max workflows that can be created*/
     protected volatile Integer maxWorkflows;
+    /** Max workflows that can be created by a single bulk request */
+    private volatile Integer maxBulkWorkflows;
     /** Timeout for internal requests*/
     protected volatile TimeValue requestTimeout;
     /** Whether multitenancy is enabled */
@@ -39,10 +41,14 @@ public class FlowFrameworkSettings {
     private volatile Integer provisionThreadPoolSize;
     /** Max simultaneous provision requests */
     private volatile Integer maxActiveProvisionsPerTenant;
+    /** Max steps of a single workflow running simultaneously */
+    private volatile Integer maxConcurrentStepsPerWorkflow;
     /** Size of the threadpool for deprovisioning */
     private volatile Integer deprovisionThreadPoolSize;
     /** Max simultaneous deprovision requests */
     private volatile Integer maxActiveDeprovisionsPerTenant;
+    /** Whether the flow framework executors use virtual threads */
+    private final Boolean isVirtualThreadsEnabled;
 
     /** The upper limit of max workflows that can be created  */
     public static final int MAX_WORKFLOWS_LIMIT = 10000;
@@ -157,6 +163,16 @@ public class FlowFrameworkSettings {
         Setting.Property.NodeScope
     );
 
+    /** This setting sets max workflows that can be created by a single bulk create request */
+    public static final Setting<Integer> MAX_BULK_WORKFLOWS = Setting.intSetting(
+        "plugins.flow_framework.max_bulk_workflows",
+        100,
+        1,
+        1000,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
     /** This setting sets max workflows that can be simultaneously provisioned, or reprovisioned by the same tenant */
     public static final Setting<Integer> MAX_ACTIVE_PROVISIONS_PER_TENANT = Setting.intSetting(
         "plugins.flow_framework.max_active_provisions_per_tenant",
@@ -167,6 +183,16 @@ public class FlowFrameworkSettings {
         Setting.Property.Dynamic
     );
 
+    /** This setting sets max steps of a single workflow that can run simultaneously during provisioning or reprovisioning */
+    public static final Setting<Integer> MAX_CONCURRENT_STEPS_PER_WORKFLOW = Setting.intSetting(
+        "plugins.flow_framework.max_concurrent_steps_per_workflow",
+        4,
+        1,
+        800,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
     /** This setting sets the max size of the deprovision thread pool */
     public static final Setting<Integer> DEPROVISION_THREAD_POOL_SIZE = Setting.intSetting(
         "plugins.flow_framework.deprovision_thread_pool_size",
@@ -185,6 +211,28 @@ public class FlowFrameworkSettings {
         Setting.Property.NodeScope,
         Setting.Property.Dynamic
     );
+
+    /**
+     * Indicates whether the workflow, provision and deprovision executors are backed by virtual threads rather than the sized thread pools.
+     * Virtual threads allow blocking waits on steps and ML tasks to scale with the number of concurrent provisions without tuning the
+     * thread pool sizes. This is a static setting that requires a node restart.
+     */
+    public static final Setting<Boolean> VIRTUAL_THREADS_ENABLED = Setting.boolSetting(
+        "plugins.flow_framework.virtual_threads_enabled",
+        false,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Indicates whether the data keys encrypting template credentials are cached and reused for a bounded number of credentials and time,
+     * rather than generated for each credential. This is a static setting that requires a node restart.
+     */
+    public static final Setting<Boolean> CREDENTIAL_DATA_KEY_CACHE_ENABLED = Setting.boolSetting(
+        "plugins.flow_framework.credential_data_key_cache_enabled",
+        false,
+        Setting.Property.NodeScope
+    );
+
     /** This setting sets the remote metadata type */
     public static final Setting<String> REMOTE_METADATA_TYPE = Setting.simpleString(
         "plugins.flow_framework." + REMOTE_METADATA_TYPE_KEY,
@@ -226,20 +274,26 @@ public class FlowFrameworkSettings {
         this.retryDuration = TASK_REQUEST_RETRY_DURATION.get(settings);
         this.maxWorkflowSteps = MAX_WORKFLOW_STEPS.get(settings);
         this.maxWorkflows = MAX_WORKFLOWS.get(settings);
+        this.maxBulkWorkflows = MAX_BULK_WORKFLOWS.get(settings);
         this.requestTimeout = WORKFLOW_REQUEST_TIMEOUT.get(settings);
         this.isMultiTenancyEnabled = FLOW_FRAMEWORK_MULTI_TENANCY_ENABLED.get(settings);
         this.workflowThreadPoolSize = WORKFLOW_THREAD_POOL_SIZE.get(settings);
         this.provisionThreadPoolSize = PROVISION_THREAD_POOL_SIZE.get(settings);
         this.maxActiveProvisionsPerTenant = MAX_ACTIVE_PROVISIONS_PER_TENANT.get(settings);
+        this.maxConcurrentStepsPerWorkflow = MAX_CONCURRENT_STEPS_PER_WORKFLOW.get(settings);
         this.deprovisionThreadPoolSize = DEPROVISION_THREAD_POOL_SIZE.get(settings);
         this.maxActiveDeprovisionsPerTenant = MAX_ACTIVE_DEPROVISIONS_PER_TENANT.get(settings);
+        this.isVirtualThreadsEnabled = VIRTUAL_THREADS_ENABLED.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(FLOW_FRAMEWORK_ENABLED, it -> isFlowFrameworkEnabled = it);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(TASK_REQUEST_RETRY_DURATION, it -> retryDuration = it);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(MAX_WORKFLOW_STEPS, it -> maxWorkflowSteps = it);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(MAX_WORKFLOWS, it -> maxWorkflows = it);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(MAX_BULK_WORKFLOWS, it -> maxBulkWorkflows = it);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(WORKFLOW_REQUEST_TIMEOUT, it -> requestTimeout = it);
         clusterService.getClusterSettings()
             .addSettingsUpdateConsumer(MAX_ACTIVE_PROVISIONS_PER_TENANT, it -> maxActiveProvisionsPerTenant = it);
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(MAX_CONCURRENT_STEPS_PER_WORKFLOW, it -> maxConcurrentStepsPerWorkflow = it);
         clusterService.getClusterSettings()
             .addSettingsUpdateConsumer(MAX_ACTIVE_DEPROVISIONS_PER_TENANT, it -> maxActiveDeprovisionsPerTenant = it);
     }
@@ -276,6 +330,14 @@ public class FlowFrameworkSettings {
         return maxWorkflows;
     }
 
+    /**
+     * Getter for max bulk workflows
+     * @return max workflows of a bulk request
+     */
+    public Integer getMaxBulkWorkflows() {
+        return maxBulkWorkflows;
+    }
+
     /**
      * Getter for request timeout
      * @return request timeout
@@ -316,6 +378,14 @@ public class FlowFrameworkSettings {
         return maxActiveProvisionsPerTenant;
     }
 
+    /**
+     * Getter for max concurrent steps per workflow
+     * @return max concurrent steps
+     */
+    public Integer getMaxConcurrentStepsPerWorkflow() {
+        return maxConcurrentStepsPerWorkflow;
+    }
+
     /**
      * Getter for deprovision thread pool max size
      * @return deprovision thread pool max
@@ -331,4 +401,12 @@ public class FlowFrameworkSettings {
     public Integer getMaxActiveDeprovisionsPerTenant() {
         return maxActiveDeprovisionsPerTenant;
     }
+
+    /**
+     * Whether the flow framework executors use virtual threads.
+     * @return whether virtual threads are enabled
+     */
+    public boolean isVirtualThreadsEnabled() {
+        return isVirtualThreadsEnabled;
+    }
 }
@@ -46,39 +46,47 @@ import java.util.stream.Stream;
 public enum WorkflowResources {
 
     /** Workflow steps for creating/deleting a connector and associated created resource */
-    CREATE_CONNECTOR(CreateConnectorStep.NAME, null, DeleteConnectorStep.NAME, WorkflowResources.CONNECTOR_ID),
+    CREATE_CONNECTOR(CreateConnectorStep.NAME, null, DeleteConnectorStep.NAME, WorkflowResources.CONNECTOR_ID, 4),
     /** Workflow steps for registering/deleting a remote model and associated created resource */
-    REGISTER_REMOTE_MODEL(RegisterRemoteModelStep.NAME, null, DeleteModelStep.NAME, WorkflowResources.MODEL_ID),
+    REGISTER_REMOTE_MODEL(RegisterRemoteModelStep.NAME, null, DeleteModelStep.NAME, WorkflowResources.MODEL_ID, 3),
     /** Workflow steps for registering/deleting a local model and associated created resource */
-    REGISTER_LOCAL_MODEL(RegisterLocalCustomModelStep.NAME, null, DeleteModelStep.NAME, WorkflowResources.MODEL_ID),
+    REGISTER_LOCAL_MODEL(RegisterLocalCustomModelStep.NAME, null, DeleteModelStep.NAME, WorkflowResources.MODEL_ID, 3),
     /** Workflow steps for registering/deleting a local sparse encoding model and associated created resource */
-    REGISTER_LOCAL_SPARSE_ENCODING_MODEL(RegisterLocalSparseEncodingModelStep.NAME, null, DeleteModelStep.NAME, WorkflowResources.MODEL_ID),
+    REGISTER_LOCAL_SPARSE_ENCODING_MODEL(
+        RegisterLocalSparseEncodingModelStep.NAME,
+        null,
+        DeleteModelStep.NAME,
+        WorkflowResources.MODEL_ID,
+        3
+    ),
     /** Workflow steps for registering/deleting a local OpenSearch provided pretrained model and associated created resource */
-    REGISTER_LOCAL_PRETRAINED_MODEL(RegisterLocalPretrainedModelStep.NAME, null, DeleteModelStep.NAME, WorkflowResources.MODEL_ID),
+    REGISTER_LOCAL_PRETRAINED_MODEL(RegisterLocalPretrainedModelStep.NAME, null, DeleteModelStep.NAME, WorkflowResources.MODEL_ID, 3),
     /** Workflow steps for registering/deleting a model group and associated created resource */
-    REGISTER_MODEL_GROUP(RegisterModelGroupStep.NAME, null, NoOpStep.NAME, WorkflowResources.MODEL_GROUP_ID),
+    REGISTER_MODEL_GROUP(RegisterModelGroupStep.NAME, null, NoOpStep.NAME, WorkflowResources.MODEL_GROUP_ID, 4),
     /** Workflow steps for deploying/undeploying a model and associated created resource */
-    DEPLOY_MODEL(DeployModelStep.NAME, null, UndeployModelStep.NAME, WorkflowResources.MODEL_ID),
+    DEPLOY_MODEL(DeployModelStep.NAME, null, UndeployModelStep.NAME, WorkflowResources.MODEL_ID, 2),
     /** Workflow steps for creating an ingest-pipeline and associated created resource */
     CREATE_INGEST_PIPELINE(
         CreateIngestPipelineStep.NAME,
         UpdateIngestPipelineStep.NAME,
         DeleteIngestPipelineStep.NAME,
-        WorkflowResources.PIPELINE_ID
+        WorkflowResources.PIPELINE_ID,
+        1
     ),
     /** Workflow steps for creating an ingest-pipeline and associated created resource */
     CREATE_SEARCH_PIPELINE(
         CreateSearchPipelineStep.NAME,
         UpdateSearchPipelineStep.NAME,
         DeleteSearchPipelineStep.NAME,
-        WorkflowResources.PIPELINE_ID
+        WorkflowResources.PIPELINE_ID,
+        1
     ),
     /** Workflow steps for creating an index and associated created resource */
-    CREATE_INDEX(CreateIndexStep.NAME, UpdateIndexStep.NAME, DeleteIndexStep.NAME, WorkflowResources.INDEX_NAME),
+    CREATE_INDEX(CreateIndexStep.NAME, UpdateIndexStep.NAME, DeleteIndexStep.NAME, WorkflowResources.INDEX_NAME, 0),
     /** Workflow steps for reindex a source index to destination index and associated created resource */
-    REINDEX(ReindexStep.NAME, null, NoOpStep.NAME, WorkflowResources.INDEX_NAME),
+    REINDEX(ReindexStep.NAME, null, NoOpStep.NAME, WorkflowResources.INDEX_NAME, 0),
     /** Workflow steps for registering/deleting an agent and the associated created resource */
-    REGISTER_AGENT(RegisterAgentStep.NAME, null, DeleteAgentStep.NAME, WorkflowResources.AGENT_ID);
+    REGISTER_AGENT(RegisterAgentStep.NAME, null, DeleteAgentStep.NAME, WorkflowResources.AGENT_ID, 0);
 
     /** Connector Id for a remote model connector */
     public static final String CONNECTOR_ID = "connector_id";
@@ -97,17 +105,19 @@ public enum WorkflowResources {
     private final String updateStep;
     private final String deprovisionStep;
     private final String resourceCreated;
+    private final int deprovisionOrder;
 
     private static final Logger logger = LogManager.getLogger(WorkflowResources.class);
     private static final Set<String> allResources = Stream.of(values())
         .map(WorkflowResources::getResourceCreated)
         .collect(Collectors.toSet());
 
-    WorkflowResources(String createStep, String updateStep, String deprovisionStep, String resourceCreated) {
+    WorkflowResources(String createStep, String updateStep, String deprovisionStep, String resourceCreated, int deprovisionOrder) {
         this.createStep = createStep;
         this.updateStep = updateStep;
         this.deprovisionStep = deprovisionStep;
         this.resourceCreated = resourceCreated;
+        this.deprovisionOrder = deprovisionOrder;
     }
 
     /**
@@ -142,6 +152,15 @@ public enum WorkflowResources {
         return resourceCreated;
     }
 
+    /**
+     * Returns the deprovisionOrder for the given enum Constant. Resources are deprovisioned in ascending order, so resources which may
+     * reference others (such as pipelines referencing models) are deleted before the resources they reference.
+     * @return the deprovisionOrder of this data.
+     */
+    public int getDeprovisionOrder() {
+        return deprovisionOrder;
+    }
+
     /**
      * Gets the resources created type based on the workflowStep.
      * @param workflowStep workflow step name
@@ -180,6 +199,24 @@ public enum WorkflowResources {
         throw new FlowFrameworkException("Unable to find deprovision step for step: " + workflowStep, RestStatus.BAD_REQUEST);
     }
 
+    /**
+     * Gets the deprovision order based on the workflowStep.
+     * @param workflowStep workflow step name
+     * @return the order in which the resource created by the step is deprovisioned
+     * @throws FlowFrameworkException if workflow step doesn't exist in enum
+     */
+    public static int getDeprovisionOrderByWorkflowStep(String workflowStep) throws FlowFrameworkException {
+        if (workflowStep != null && !workflowStep.isEmpty()) {
+            for (WorkflowResources mapping : values()) {
+                if (mapping.getCreateStep().equals(workflowStep)) {
+                    return mapping.getDeprovisionOrder();
+                }
+            }
+        }
+        logger.error("Unable to find deprovision order for step: {}", workflowStep);
+        throw new FlowFrameworkException("Unable to find deprovision order for step: " + workflowStep, RestStatus.BAD_REQUEST);
+    }
+
     /**
      * Gets the update step type based on the workflowStep.
      * @param workflowStep workflow step name
@@ -18,12 +18,16 @@ import org.opensearch.action.admin.indices.create.CreateIndexRequest;
 import org.opensearch.action.admin.indices.create.CreateIndexResponse;
 import org.opensearch.action.admin.indices.mapping.put.PutMappingRequest;
 import org.opensearch.action.admin.indices.settings.put.UpdateSettingsRequest;
+import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.action.delete.DeleteResponse;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.update.UpdateRequest;
 import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.util.concurrent.ThreadContext.StoredContext;
 import org.opensearch.common.xcontent.XContentType;
@@ -34,6 +38,8 @@ import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.ToXContentObject;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.flowframework.exception.FlowFrameworkException;
+import org.opensearch.flowframework.model.ExecutionJournal;
+import org.opensearch.flowframework.model.ExecutionJournal.StepExecution;
 import org.opensearch.flowframework.model.ProvisioningProgress;
 import org.opensearch.flowframework.model.ResourceCreated;
 import org.opensearch.flowframework.model.State;
@@ -43,12 +49,18 @@ import org.opensearch.flowframework.util.EncryptorUtils;
 import org.opensearch.flowframework.util.ParseUtils;
 import org.opensearch.flowframework.workflow.WorkflowData;
 import org.opensearch.index.IndexNotFoundException;
+import org.opensearch.index.engine.DocumentMissingException;
+import org.opensearch.index.seqno.SequenceNumbers;
+import org.opensearch.remote.metadata.client.BulkDataObjectRequest;
 import org.opensearch.remote.metadata.client.DeleteDataObjectRequest;
 import org.opensearch.remote.metadata.client.GetDataObjectRequest;
 import org.opensearch.remote.metadata.client.PutDataObjectRequest;
 import org.opensearch.remote.metadata.client.SdkClient;
 import org.opensearch.remote.metadata.client.UpdateDataObjectRequest;
 import org.opensearch.remote.metadata.common.SdkClientUtils;
+import org.opensearch.script.Script;
+import org.opensearch.script.ScriptException;
+import org.opensearch.script.ScriptType;
 import org.opensearch.transport.client.Client;
 
 import java.io.IOException;
@@ -59,6 +71,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Consumer;
 
 import static org.opensearch.core.rest.RestStatus.INTERNAL_SERVER_ERROR;
@@ -88,6 +102,30 @@ public class FlowFrameworkIndicesHandler {
     private final NamedXContentRegistry xContentRegistry;
     // Retries in case of simultaneous updates
     private static final int RETRIES = 5;
+    // Resource and execution journal updates queued while an update of the same workflow state document is in flight, keyed by workflow id
+    private final Map<String, List<StateUpdate>> pendingResourceUpdates = new HashMap<>();
+    // Applies resource and execution journal updates in order on the shard holding the workflow state document, avoiding a get before
+    // each update. The record of a step is merged into the record already stored, like a partial update would.
+    private static final String UPDATE_RESOURCES_SCRIPT = "if (ctx._source.resources_created == null) {"
+        + " ctx._source.resources_created = new ArrayList(); }"
+        + " for (def u : params.updates) {"
+        + " if (u.op == 'step') {"
+        + " if (ctx._source.execution_journal == null) { ctx._source.execution_journal = new HashMap(); }"
+        + " if (ctx._source.execution_journal.steps == null) { ctx._source.execution_journal.steps = new HashMap(); }"
+        + " def step = ctx._source.execution_journal.steps.get(u.step_id);"
+        + " if (step == null) { ctx._source.execution_journal.steps.put(u.step_id, new HashMap(u.fields)); }"
+        + " else { step.putAll(u.fields); } }"
+        + " else if (u.op == 'delete') { ctx._source.resources_created.removeIf(r -> r.equals(u.resource)); }"
+        + " else { ctx._source.resources_created.add(u.resource); } }";
+    // Whether resource updates may be written with a script, cleared if the cluster rejects the script
+    private final AtomicBoolean scriptedResourceUpdates;
+    // The maximum total source size of the parsed templates cached on this node
+    private static final long TEMPLATE_CACHE_MAX_BYTES = 32L * 1024 * 1024;
+    // Parsed templates keyed by workflow id, reused while the sequence number and primary term of the document are unchanged
+    private final Cache<String, CachedTemplate> templateCache = CacheBuilder.<String, CachedTemplate>builder()
+        .setMaximumWeight(TEMPLATE_CACHE_MAX_BYTES)
+        .weigher((workflowId, cachedTemplate) -> cachedTemplate.sizeInBytes)
+        .build();
 
     /**
      * constructor
@@ -96,13 +134,16 @@ public class FlowFrameworkIndicesHandler {
      * @param clusterService ClusterService
      * @param encryptorUtils encryption utility
      * @param xContentRegistry contentRegister to parse any response
+     * @param scriptedResourceUpdates whether created resources may be updated with a script on the local cluster. Must be false when
+     *          the remote metadata client stores documents outside the cluster.
      */
     public FlowFrameworkIndicesHandler(
         Client client,
         SdkClient sdkClient,
         ClusterService clusterService,
         EncryptorUtils encryptorUtils,
-        NamedXContentRegistry xContentRegistry
+        NamedXContentRegistry xContentRegistry,
+        boolean scriptedResourceUpdates
     ) {
         this.client = client;
         this.sdkClient = sdkClient;
@@ -112,6 +153,7 @@ public class FlowFrameworkIndicesHandler {
             indexMappingUpdated.put(mlIndex.getIndexName(), new AtomicBoolean(false));
         }
         this.xContentRegistry = xContentRegistry;
+        this.scriptedResourceUpdates = new AtomicBoolean(scriptedResourceUpdates);
     }
 
     static {
@@ -344,15 +386,32 @@ public class FlowFrameworkIndicesHandler {
     }
 
     private void putOrReplaceTemplateInGlobalContextIndex(String documentId, Template template, ActionListener<IndexResponse> listener) {
+        encryptorUtils.encryptTemplateCredentials(
+            template,
+            ActionListener.wrap(
+                encryptedTemplate -> putOrReplaceEncryptedTemplateInGlobalContextIndex(documentId, encryptedTemplate, listener),
+                listener::onFailure
+            )
+        );
+    }
+
+    private void putOrReplaceEncryptedTemplateInGlobalContextIndex(
+        String documentId,
+        Template encryptedTemplate,
+        ActionListener<IndexResponse> listener
+    ) {
         PutDataObjectRequest request = PutDataObjectRequest.builder()
             .index(GLOBAL_CONTEXT_INDEX)
             .id(documentId)
-            .tenantId(template.getTenantId())
-            .dataObject(encryptorUtils.encryptTemplateCredentials(template))
+            .tenantId(encryptedTemplate.getTenantId())
+            .dataObject(encryptedTemplate)
             .build();
         try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
             sdkClient.putDataObjectAsync(request).whenComplete((r, throwable) -> {
                 context.restore();
+                if (documentId != null) {
+                    invalidateTemplate(documentId);
+                }
                 if (throwable == null) {
                     try {
                         IndexResponse indexResponse = IndexResponse.fromXContent(r.parser());
@@ -398,15 +457,7 @@ public class FlowFrameworkIndicesHandler {
      * @param listener action listener
      */
     public void putInitialStateToWorkflowState(String workflowId, String tenantId, User user, ActionListener<IndexResponse> listener) {
-        WorkflowState state = WorkflowState.builder()
-            .workflowId(workflowId)
-            .state(State.NOT_STARTED.name())
-            .provisioningProgress(ProvisioningProgress.NOT_STARTED.name())
-            .user(user)
-            .resourcesCreated(Collections.emptyList())
-            .userOutputs(Collections.emptyMap())
-            .tenantId(tenantId)
-            .build();
+        WorkflowState state = initialState(workflowId, tenantId, user);
         initWorkflowStateIndexIfAbsent(ActionListener.wrap(indexCreated -> {
             if (!indexCreated) {
                 listener.onFailure(new FlowFrameworkException("No response to create workflow_state index", INTERNAL_SERVER_ERROR));
@@ -444,6 +495,130 @@ public class FlowFrameworkIndicesHandler {
         }));
     }
 
+    private static WorkflowState initialState(String workflowId, String tenantId, User user) {
+        return WorkflowState.builder()
+            .workflowId(workflowId)
+            .state(State.NOT_STARTED.name())
+            .provisioningProgress(ProvisioningProgress.NOT_STARTED.name())
+            .user(user)
+            .resourcesCreated(Collections.emptyList())
+            .userOutputs(Collections.emptyMap())
+            .tenantId(tenantId)
+            .build();
+    }
+
+    /**
+     * add documents insert into global context index, with one bulk request
+     * @param templates the use-case templates
+     * @param tenantId the tenant id of the templates
+     * @param listener action listener, with an item for each template in order. Items fail individually.
+     */
+    public void putTemplatesToGlobalContext(List<Template> templates, String tenantId, ActionListener<BulkResponse> listener) {
+        initGlobalContextIndexIfAbsent(ActionListener.wrap(indexCreated -> {
+            if (!indexCreated) {
+                listener.onFailure(new FlowFrameworkException("No response to create global_context index", INTERNAL_SERVER_ERROR));
+                return;
+            }
+            encryptTemplateCredentials(templates, ActionListener.wrap(encryptedTemplates -> {
+                BulkDataObjectRequest bulkRequest = BulkDataObjectRequest.builder().globalIndex(GLOBAL_CONTEXT_INDEX).build();
+                for (Template encryptedTemplate : encryptedTemplates) {
+                    bulkRequest.add(
+                        PutDataObjectRequest.builder().index(GLOBAL_CONTEXT_INDEX).tenantId(tenantId).dataObject(encryptedTemplate).build()
+                    );
+                }
+                bulkPutDataObjects(bulkRequest, "Failed to index templates in global context index", listener);
+            }, listener::onFailure));
+        }, e -> {
+            logger.error("Failed to create global_context index");
+            listener.onFailure(e);
+        }));
+    }
+
+    /**
+     * Encrypts the credentials of templates on the crypto thread pool
+     * @param templates the templates to encrypt
+     * @param listener notified with the encrypted templates, in the order of the templates
+     */
+    private void encryptTemplateCredentials(List<Template> templates, ActionListener<List<Template>> listener) {
+        if (templates.isEmpty()) {
+            listener.onResponse(Collections.emptyList());
+            return;
+        }
+        ActionListener<List<Template>> notifyOnceListener = ActionListener.notifyOnce(listener);
+        AtomicReferenceArray<Template> encryptedTemplates = new AtomicReferenceArray<>(templates.size());
+        AtomicInteger pendingTemplates = new AtomicInteger(templates.size());
+        for (int i = 0; i < templates.size(); i++) {
+            int index = i;
+            encryptorUtils.encryptTemplateCredentials(templates.get(i), ActionListener.wrap(encryptedTemplate -> {
+                encryptedTemplates.set(index, encryptedTemplate);
+                if (pendingTemplates.decrementAndGet() == 0) {
+                    List<Template> encrypted = new ArrayList<>(templates.size());
+                    for (int j = 0; j < templates.size(); j++) {
+                        encrypted.add(encryptedTemplates.get(j));
+                    }
+                    notifyOnceListener.onResponse(encrypted);
+                }
+            }, notifyOnceListener::onFailure));
+        }
+    }
+
+    /**
+     * add documents insert into workflow state index, with one bulk request
+     * @param workflowIds the workflowIds, corresponding to the document IDs
+     * @param tenantId the tenant id of the workflows
+     * @param user passes the user that created the workflows
+     * @param listener action listener, with an item for each workflow in order. Items fail individually.
+     */
+    public void putInitialStatesToWorkflowState(
+        List<String> workflowIds,
+        String tenantId,
+        User user,
+        ActionListener<BulkResponse> listener
+    ) {
+        initWorkflowStateIndexIfAbsent(ActionListener.wrap(indexCreated -> {
+            if (!indexCreated) {
+                listener.onFailure(new FlowFrameworkException("No response to create workflow_state index", INTERNAL_SERVER_ERROR));
+                return;
+            }
+            BulkDataObjectRequest bulkRequest = BulkDataObjectRequest.builder().globalIndex(WORKFLOW_STATE_INDEX).build();
+            for (String workflowId : workflowIds) {
+                bulkRequest.add(
+                    PutDataObjectRequest.builder()
+                        .index(WORKFLOW_STATE_INDEX)
+                        .id(workflowId)
+                        .tenantId(tenantId)
+                        .dataObject(initialState(workflowId, tenantId, user))
+                        .build()
+                );
+            }
+            bulkPutDataObjects(bulkRequest, "Failed to put state index documents", listener);
+        }, e -> {
+            String errorMessage = "Failed to create workflow_state index";
+            logger.error(errorMessage, e);
+            listener.onFailure(new FlowFrameworkException(errorMessage, ExceptionsHelper.status(e)));
+        }));
+    }
+
+    private void bulkPutDataObjects(BulkDataObjectRequest bulkRequest, String errorMessage, ActionListener<BulkResponse> listener) {
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            sdkClient.bulkDataObjectAsync(bulkRequest).whenComplete((r, throwable) -> {
+                context.restore();
+                if (throwable == null) {
+                    try {
+                        listener.onResponse(BulkResponse.fromXContent(r.parser()));
+                    } catch (IOException e) {
+                        logger.error("Failed to parse bulk response", e);
+                        listener.onFailure(new FlowFrameworkException("Failed to parse bulk response", INTERNAL_SERVER_ERROR));
+                    }
+                } else {
+                    Exception exception = SdkClientUtils.unwrapAndConvertToException(throwable);
+                    logger.error(errorMessage, exception);
+                    listener.onFailure(new FlowFrameworkException(errorMessage, ExceptionsHelper.status(exception)));
+                }
+            });
+        }
+    }
+
     /**
      * Replaces a document in the global context index
      * @param documentId the document Id
@@ -564,6 +739,39 @@ public class FlowFrameworkIndicesHandler {
         });
     }
 
+    /**
+     * Parses the template of a global context get response. The parsed template is cached and reused for later responses with the same
+     * sequence number and primary term, which identify an unchanged document.
+     *
+     * @param response a get response of an existing template
+     * @return the template
+     * @throws IOException if the template can not be parsed
+     */
+    public Template parseTemplate(GetResponse response) throws IOException {
+        long seqNo = response.getSeqNo();
+        long primaryTerm = response.getPrimaryTerm();
+        if (seqNo == SequenceNumbers.UNASSIGNED_SEQ_NO || primaryTerm == SequenceNumbers.UNASSIGNED_PRIMARY_TERM) {
+            // The document version can not be validated, for example when stored outside the cluster
+            return Template.parse(response.getSourceAsString());
+        }
+        CachedTemplate cachedTemplate = templateCache.get(response.getId());
+        if (cachedTemplate != null && cachedTemplate.seqNo == seqNo && cachedTemplate.primaryTerm == primaryTerm) {
+            return cachedTemplate.template;
+        }
+        Template template = Template.parse(response.getSourceAsString());
+        templateCache.put(response.getId(), new CachedTemplate(template, seqNo, primaryTerm, response.getSourceAsBytesRef().length()));
+        return template;
+    }
+
+    /**
+     * Removes a template from the parsed template cache, after it has been updated or deleted
+     *
+     * @param documentId the document id
+     */
+    public void invalidateTemplate(String documentId) {
+        templateCache.invalidate(documentId);
+    }
+
     /**
      * Get a workflow state from the state index
      *
@@ -898,12 +1106,11 @@ public class FlowFrameworkIndicesHandler {
         String resourceName = getResourceByWorkflowStep(workflowStepName);
         ResourceCreated newResource = new ResourceCreated(workflowStepName, nodeId, resourceName, resourceId);
         try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
-            getAndUpdateResourceInStateDocumentWithRetries(
+            updateResourceInStateDocument(
                 workflowId,
                 tenantId,
                 newResource,
                 OpType.INDEX,
-                RETRIES,
                 ActionListener.runBefore(listener, context::restore)
             );
         }
@@ -926,17 +1133,40 @@ public class FlowFrameworkIndicesHandler {
             return;
         }
         try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
-            getAndUpdateResourceInStateDocumentWithRetries(
+            updateResourceInStateDocument(
                 workflowId,
                 tenantId,
                 resourceToDelete,
                 OpType.DELETE,
-                RETRIES,
                 ActionListener.runBefore(listener, context::restore)
             );
         }
     }
 
+    /**
+     * Records the start or completion of a step in the execution journal of a workflow. The record is queued with the resources added and
+     * removed by the workflow's steps, and written in the same update of the State Index document.
+     * @param workflowId The workflow document id in the state index
+     * @param tenantId The tenant id
+     * @param stepId The workflow step id
+     * @param step The record of the step
+     * @param listener the ActionListener notified once the record is written
+     */
+    public void recordStepInExecutionJournal(
+        String workflowId,
+        String tenantId,
+        String stepId,
+        StepExecution step,
+        ActionListener<WorkflowData> listener
+    ) {
+        if (!validateStateIndexExists(workflowId, listener)) {
+            return;
+        }
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            queueStateUpdate(workflowId, StateUpdate.step(tenantId, stepId, step, ActionListener.runBefore(listener, context::restore)));
+        }
+    }
+
     private boolean validateStateIndexExists(String workflowId, ActionListener<WorkflowData> listener) {
         if (!doesIndexExist(WORKFLOW_STATE_INDEX)) {
             String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage(
@@ -952,21 +1182,150 @@ public class FlowFrameworkIndicesHandler {
     }
 
     /**
-     * Performs a get and update of a State Index document adding or removing a resource with strong consistency and retries
+     * Queues a resource addition or removal for a State Index document
      * @param workflowId The document id to update
-     * @param tenantId
+     * @param tenantId The tenant id
      * @param resource The resource to add or remove from the resources created list
      * @param operation The operation to perform on the resource (INDEX to append to the list or DELETE to remove)
-     * @param retries The number of retries on update version conflicts
      * @param listener The listener to complete on success or failure
      */
-    private void getAndUpdateResourceInStateDocumentWithRetries(
+    private void updateResourceInStateDocument(
         String workflowId,
         String tenantId,
         ResourceCreated resource,
         OpType operation,
-        int retries,
         ActionListener<WorkflowData> listener
+    ) {
+        queueStateUpdate(workflowId, StateUpdate.resource(tenantId, resource, operation, listener));
+    }
+
+    /**
+     * Queues a resource or execution journal update for a State Index document. If no update of the document is in flight, the update is
+     * written immediately; otherwise it is coalesced with any other updates queued for the same document and written in a single update
+     * once the in-flight update completes. Each listener completes only after the update containing its change has been written.
+     * @param workflowId The document id to update
+     * @param update The update to queue
+     */
+    private void queueStateUpdate(String workflowId, StateUpdate update) {
+        synchronized (pendingResourceUpdates) {
+            List<StateUpdate> pending = pendingResourceUpdates.get(workflowId);
+            if (pending != null) {
+                // An update of this document is in flight, write this one with the next batch
+                pending.add(update);
+                return;
+            }
+            pendingResourceUpdates.put(workflowId, new ArrayList<>());
+        }
+        writeResourceBatch(workflowId, update.tenantId, List.of(update));
+    }
+
+    /**
+     * Writes the updates queued for a State Index document while the previous update was in flight, if any
+     * @param workflowId The document id to update
+     */
+    private void updateNextResourceBatch(String workflowId) {
+        List<StateUpdate> batch;
+        synchronized (pendingResourceUpdates) {
+            batch = pendingResourceUpdates.get(workflowId);
+            if (batch == null || batch.isEmpty()) {
+                pendingResourceUpdates.remove(workflowId);
+                return;
+            }
+            pendingResourceUpdates.put(workflowId, new ArrayList<>());
+        }
+        logger.debug("Coalesced {} state updates for workflow {}", batch.size(), workflowId);
+        // The previous batch's listeners restored their callers' contexts, so stash again to write to the system index
+        try (ThreadContext.StoredContext ignored = client.threadPool().getThreadContext().stashContext()) {
+            writeResourceBatch(workflowId, batch.get(0).tenantId, batch);
+        }
+    }
+
+    /**
+     * Writes a batch of resource and execution journal updates to a State Index document. Documents without a tenant are stored in the
+     * local cluster and are updated with a script, otherwise the document is read and written back with optimistic concurrency control.
+     * @param workflowId The document id to update
+     * @param tenantId The tenant id
+     * @param batch The resources to add or remove and the steps to record, in order
+     */
+    private void writeResourceBatch(String workflowId, String tenantId, List<StateUpdate> batch) {
+        if (tenantId == null && scriptedResourceUpdates.get()) {
+            scriptUpdateResourcesInStateDocument(workflowId, batch);
+        } else {
+            getAndUpdateResourceInStateDocumentWithRetries(workflowId, tenantId, batch, RETRIES);
+        }
+    }
+
+    /**
+     * Adds or removes resources and records steps in a State Index document with a script executed on the shard, so concurrent updates
+     * are serialized by the shard rather than by a get and conditional update. Falls back to the get and update path if the cluster cannot
+     * run the script.
+     * @param workflowId The document id to update
+     * @param batch The resources to add or remove and the steps to record, in order
+     */
+    private void scriptUpdateResourcesInStateDocument(String workflowId, List<StateUpdate> batch) {
+        List<Map<String, Object>> updates = new ArrayList<>();
+        for (StateUpdate update : batch) {
+            if (update.step != null) {
+                updates.add(Map.of("op", "step", "step_id", update.stepId, "fields", update.step.fields()));
+            } else {
+                updates.add(
+                    Map.of(
+                        "op",
+                        update.operation == OpType.DELETE ? "delete" : "add",
+                        "resource",
+                        new HashMap<>(update.resource.resourceMap())
+                    )
+                );
+            }
+        }
+        UpdateRequest updateRequest = new UpdateRequest(WORKFLOW_STATE_INDEX, workflowId).script(
+            new Script(ScriptType.INLINE, Script.DEFAULT_SCRIPT_LANG, UPDATE_RESOURCES_SCRIPT, Map.of("updates", updates))
+        ).retryOnConflict(RETRIES);
+        client.update(
+            updateRequest,
+            ActionListener.wrap(
+                r -> completeResourceBatch(
+                    workflowId,
+                    batch,
+                    u -> handleStateUpdateSuccess(workflowId, u)
+                ),
+                e -> {
+                    Throwable cause = ExceptionsHelper.unwrapCause(e);
+                    if (cause instanceof DocumentMissingException) {
+                        completeResourceBatch(
+                            workflowId,
+                            batch,
+                            u -> u.listener.onFailure(
+                                new FlowFrameworkException("Workflow state not found for " + workflowId, RestStatus.NOT_FOUND)
+                            )
+                        );
+                    } else if (cause instanceof ScriptException || cause instanceof IllegalArgumentException) {
+                        // Scripting is unavailable or disabled on this cluster
+                        if (scriptedResourceUpdates.compareAndSet(true, false)) {
+                            logger.warn("Failed to update resources created with a script, falling back to get and update", e);
+                        }
+                        getAndUpdateResourceInStateDocumentWithRetries(workflowId, null, batch, RETRIES);
+                    } else {
+                        handleStateUpdateException(workflowId, null, batch, 0, e);
+                    }
+                }
+            )
+        );
+    }
+
+    /**
+     * Performs a get and update of a State Index document adding or removing resources and recording steps with strong consistency and
+     * retries
+     * @param workflowId The document id to update
+     * @param tenantId The tenant id
+     * @param batch The resources to add or remove and the steps to record, in order
+     * @param retries The number of retries on update version conflicts
+     */
+    private void getAndUpdateResourceInStateDocumentWithRetries(
+        String workflowId,
+        String tenantId,
+        List<StateUpdate> batch,
+        int retries
     ) {
         GetDataObjectRequest getRequest = GetDataObjectRequest.builder()
             .index(WORKFLOW_STATE_INDEX)
@@ -977,14 +1336,18 @@ public class FlowFrameworkIndicesHandler {
             if (throwable == null) {
                 try {
                     GetResponse getResponse = GetResponse.fromXContent(r.parser());
-                    handleStateGetResponse(workflowId, tenantId, resource, operation, retries, listener, getResponse);
+                    handleStateGetResponse(workflowId, tenantId, batch, retries, getResponse);
                 } catch (Exception e) {
                     logger.error("Failed to parse get response", e);
-                    listener.onFailure(new FlowFrameworkException("Failed to parse get response", INTERNAL_SERVER_ERROR));
+                    completeResourceBatch(
+                        workflowId,
+                        batch,
+                        u -> u.listener.onFailure(new FlowFrameworkException("Failed to parse get response", INTERNAL_SERVER_ERROR))
+                    );
                 }
             } else {
                 Exception ex = SdkClientUtils.unwrapAndConvertToException(throwable);
-                handleStateUpdateException(workflowId, tenantId, resource, operation, 0, listener, ex);
+                handleStateUpdateException(workflowId, tenantId, batch, 0, ex);
             }
         });
     }
@@ -992,25 +1355,38 @@ public class FlowFrameworkIndicesHandler {
     private void handleStateGetResponse(
         String workflowId,
         String tenantId,
-        ResourceCreated resource,
-        OpType operation,
+        List<StateUpdate> batch,
         int retries,
-        ActionListener<WorkflowData> listener,
         GetResponse getResponse
     ) {
         if (!getResponse.isExists()) {
-            listener.onFailure(new FlowFrameworkException("Workflow state not found for " + workflowId, RestStatus.NOT_FOUND));
+            completeResourceBatch(
+                workflowId,
+                batch,
+                u -> u.listener.onFailure(new FlowFrameworkException("Workflow state not found for " + workflowId, RestStatus.NOT_FOUND))
+            );
             return;
         }
         try {
             WorkflowState currentState = WorkflowState.parse(getResponse.getSourceAsString());
             List<ResourceCreated> resourcesCreated = new ArrayList<>(currentState.resourcesCreated());
-            if (operation == OpType.DELETE) {
-                resourcesCreated.removeIf(r -> r.resourceMap().equals(resource.resourceMap()));
-            } else {
-                resourcesCreated.add(resource);
+            ExecutionJournal executionJournal = currentState.executionJournal();
+            for (StateUpdate update : batch) {
+                if (update.step != null) {
+                    if (executionJournal == null) {
+                        executionJournal = new ExecutionJournal(null, Collections.emptyMap(), Collections.emptyMap());
+                    }
+                    executionJournal = executionJournal.withStep(update.stepId, update.step);
+                } else if (update.operation == OpType.DELETE) {
+                    resourcesCreated.removeIf(r -> r.resourceMap().equals(update.resource.resourceMap()));
+                } else {
+                    resourcesCreated.add(update.resource);
+                }
             }
-            WorkflowState newState = WorkflowState.builder(currentState).resourcesCreated(resourcesCreated).build();
+            WorkflowState newState = WorkflowState.builder(currentState)
+                .resourcesCreated(resourcesCreated)
+                .executionJournal(executionJournal)
+                .build();
             UpdateDataObjectRequest updateRequest = UpdateDataObjectRequest.builder()
                 .index(WORKFLOW_STATE_INDEX)
                 .id(workflowId)
@@ -1021,10 +1397,10 @@ public class FlowFrameworkIndicesHandler {
                 .build();
             sdkClient.updateDataObjectAsync(updateRequest).whenComplete((r, throwable) -> {
                 if (throwable == null) {
-                    handleStateUpdateSuccess(workflowId, resource, operation, listener);
+                    completeResourceBatch(workflowId, batch, u -> handleStateUpdateSuccess(workflowId, u));
                 } else {
                     Exception e = SdkClientUtils.unwrapAndConvertToException(throwable);
-                    handleStateUpdateException(workflowId, tenantId, resource, operation, retries, listener, e);
+                    handleStateUpdateException(workflowId, tenantId, batch, retries, e);
                 }
             });
         } catch (Exception e) {
@@ -1033,16 +1409,23 @@ public class FlowFrameworkIndicesHandler {
                 workflowId
             ).getFormattedMessage();
             logger.error(errorMessage, e);
-            listener.onFailure(new FlowFrameworkException(errorMessage, INTERNAL_SERVER_ERROR));
+            completeResourceBatch(
+                workflowId,
+                batch,
+                u -> u.listener.onFailure(new FlowFrameworkException(errorMessage, INTERNAL_SERVER_ERROR))
+            );
         }
     }
 
-    private void handleStateUpdateSuccess(
-        String workflowId,
-        ResourceCreated newResource,
-        OpType operation,
-        ActionListener<WorkflowData> listener
-    ) {
+    private void handleStateUpdateSuccess(String workflowId, StateUpdate update) {
+        if (update.step != null) {
+            logger.debug("Recorded step {} of workflow {} in the execution journal", update.stepId, workflowId);
+            update.listener.onResponse(new WorkflowData(Collections.emptyMap(), workflowId, update.stepId));
+            return;
+        }
+        ResourceCreated newResource = update.resource;
+        OpType operation = update.operation;
+        ActionListener<WorkflowData> listener = update.listener;
         String resourceName = newResource.resourceType();
         String resourceId = newResource.resourceId();
         String nodeId = newResource.workflowStepId();
@@ -1057,29 +1440,100 @@ public class FlowFrameworkIndicesHandler {
         listener.onResponse(new WorkflowData(Map.of(resourceName, resourceId), workflowId, nodeId));
     }
 
-    private void handleStateUpdateException(
-        String workflowId,
-        String tenantId,
-        ResourceCreated newResource,
-        OpType operation,
-        int retries,
-        ActionListener<WorkflowData> listener,
-        Exception e
-    ) {
+    private void handleStateUpdateException(String workflowId, String tenantId, List<StateUpdate> batch, int retries, Exception e) {
         if (e instanceof OpenSearchStatusException && ((OpenSearchStatusException) e).status() == RestStatus.CONFLICT && retries > 0) {
             // Retry if we haven't exhausted retries
-            getAndUpdateResourceInStateDocumentWithRetries(workflowId, tenantId, newResource, operation, retries - 1, listener);
+            getAndUpdateResourceInStateDocumentWithRetries(workflowId, tenantId, batch, retries - 1);
             return;
         }
-        String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage(
-            "Failed to update workflow state for {} on step {} to {} resource {} {}",
-            workflowId,
-            newResource.workflowStepId(),
-            operation.equals(OpType.DELETE) ? "delete" : "add",
-            newResource.resourceType(),
-            newResource.resourceId()
-        ).getFormattedMessage();
-        logger.error(errorMessage, e);
-        listener.onFailure(new FlowFrameworkException(errorMessage, ExceptionsHelper.status(e)));
+        completeResourceBatch(workflowId, batch, u -> {
+            if (u.step != null) {
+                String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage(
+                    "Failed to record step {} of workflow {} in the execution journal",
+                    u.stepId,
+                    workflowId
+                ).getFormattedMessage();
+                logger.error(errorMessage, e);
+                u.listener.onFailure(new FlowFrameworkException(errorMessage, ExceptionsHelper.status(e)));
+                return;
+            }
+            String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage(
+                "Failed to update workflow state for {} on step {} to {} resource {} {}",
+                workflowId,
+                u.resource.workflowStepId(),
+                u.operation.equals(OpType.DELETE) ? "delete" : "add",
+                u.resource.resourceType(),
+                u.resource.resourceId()
+            ).getFormattedMessage();
+            logger.error(errorMessage, e);
+            u.listener.onFailure(new FlowFrameworkException(errorMessage, ExceptionsHelper.status(e)));
+        });
+    }
+
+    /**
+     * Completes the listeners of a written batch of state updates, then writes any updates queued meanwhile
+     * @param workflowId The document id which was updated
+     * @param batch The batch of state updates
+     * @param completion Completes the listener of a single state update
+     */
+    private void completeResourceBatch(String workflowId, List<StateUpdate> batch, Consumer<StateUpdate> completion) {
+        try {
+            batch.forEach(completion);
+        } finally {
+            updateNextResourceBatch(workflowId);
+        }
+    }
+
+    /**
+     * A resource addition or removal, or the record of a step in the execution journal, waiting to be written to a State Index document
+     */
+    private static class StateUpdate {
+        private final String tenantId;
+        private final ResourceCreated resource;
+        private final OpType operation;
+        private final String stepId;
+        private final StepExecution step;
+        private final ActionListener<WorkflowData> listener;
+
+        private StateUpdate(
+            String tenantId,
+            ResourceCreated resource,
+            OpType operation,
+            String stepId,
+            StepExecution step,
+            ActionListener<WorkflowData> listener
+        ) {
+            this.tenantId = tenantId;
+            this.resource = resource;
+            this.operation = operation;
+            this.stepId = stepId;
+            this.step = step;
+            this.listener = listener;
+        }
+
+        static StateUpdate resource(String tenantId, ResourceCreated resource, OpType operation, ActionListener<WorkflowData> listener) {
+            return new StateUpdate(tenantId, resource, operation, null, null, listener);
+        }
+
+        static StateUpdate step(String tenantId, String stepId, StepExecution step, ActionListener<WorkflowData> listener) {
+            return new StateUpdate(tenantId, null, null, stepId, step, listener);
+        }
+    }
+
+    /**
+     * A parsed template with the version of the document it was parsed from
+     */
+    private static final class CachedTemplate {
+        private final Template template;
+        private final long seqNo;
+        private final long primaryTerm;
+        private final long sizeInBytes;
+
+        CachedTemplate(Template template, long seqNo, long primaryTerm, long sizeInBytes) {
+            this.template = template;
+            this.seqNo = seqNo;
+            this.primaryTerm = primaryTerm;
+            this.sizeInBytes = sizeInBytes;
+        }
     }
 }
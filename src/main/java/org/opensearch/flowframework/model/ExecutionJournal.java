@@ -0,0 +1,404 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.model;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.flowframework.exception.FlowFrameworkException;
+import org.opensearch.flowframework.util.ParseUtils;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.flowframework.common.CommonValue.EXECUTING_NODE_ID_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.EXECUTION_JOURNAL_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.NAME_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.PARAMS_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.PARAM_VALUE_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.STEPS_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.STEP_END_TIME_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.STEP_OUTPUT_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.STEP_START_TIME_FIELD;
+
+/**
+ * The journal of a workflow's provisioning, stored in the {@link WorkflowState}.
+ * <p>
+ * The journal records the cluster node executing the workflow, the substitution params it was provisioned with and, for each step, when
+ * it started and completed along with the string values of its output. The node and params are written when provisioning starts. Steps
+ * are queued with the resources created and written in the same coalesced updates of the workflow state document. If the executing node
+ * restarts, the workflow is resumed with the same params, reusing the outputs of the steps which completed.
+ */
+public class ExecutionJournal implements ToXContentObject, Writeable {
+
+    private final String executingNodeId;
+    private final Map<String, String> params;
+    private final Map<String, StepExecution> steps;
+
+    /**
+     * Instantiate the journal of a workflow
+     * @param executingNodeId the id of the cluster node executing the workflow
+     * @param params the substitution params the workflow is provisioned with
+     * @param steps the steps recorded, keyed by workflow step id
+     */
+    public ExecutionJournal(String executingNodeId, Map<String, String> params, Map<String, StepExecution> steps) {
+        this.executingNodeId = executingNodeId;
+        this.params = Map.copyOf(params);
+        this.steps = Map.copyOf(steps);
+    }
+
+    /**
+     * Instantiate the journal of a workflow from an input stream
+     * @param input the input stream to read from
+     * @throws IOException if failed to read input stream
+     */
+    public ExecutionJournal(StreamInput input) throws IOException {
+        this(
+            input.readOptionalString(),
+            input.readMap(StreamInput::readString, StreamInput::readString),
+            input.readMap(StreamInput::readString, StepExecution::new)
+        );
+    }
+
+    @Override
+    public void writeTo(StreamOutput output) throws IOException {
+        output.writeOptionalString(executingNodeId);
+        output.writeMap(params, StreamOutput::writeString, StreamOutput::writeString);
+        output.writeMap(steps, StreamOutput::writeString, (o, step) -> step.writeTo(o));
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        if (executingNodeId != null) {
+            builder.field(EXECUTING_NODE_ID_FIELD, executingNodeId);
+        }
+        builder.field(PARAMS_FIELD, paramsList(params));
+        builder.startObject(STEPS_FIELD);
+        for (Map.Entry<String, StepExecution> step : steps.entrySet()) {
+            builder.field(step.getKey(), step.getValue());
+        }
+        builder.endObject();
+        return builder.endObject();
+    }
+
+    /**
+     * Parse raw JSON content into an ExecutionJournal instance.
+     *
+     * @param parser JSON based content parser
+     * @return the parsed ExecutionJournal instance
+     * @throws IOException if content can't be parsed correctly
+     */
+    public static ExecutionJournal parse(XContentParser parser) throws IOException {
+        String executingNodeId = null;
+        Map<String, String> params = new HashMap<>();
+        Map<String, StepExecution> steps = new HashMap<>();
+        ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
+        while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+            switch (fieldName) {
+                case EXECUTING_NODE_ID_FIELD:
+                    executingNodeId = parser.textOrNull();
+                    break;
+                case PARAMS_FIELD:
+                    ensureExpectedToken(XContentParser.Token.START_ARRAY, parser.currentToken(), parser);
+                    while (parser.nextToken() != XContentParser.Token.END_ARRAY) {
+                        Map<String, String> param = parser.mapStrings();
+                        params.put(param.get(NAME_FIELD), param.get(PARAM_VALUE_FIELD));
+                    }
+                    break;
+                case STEPS_FIELD:
+                    ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
+                    while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+                        String stepId = parser.currentName();
+                        parser.nextToken();
+                        steps.put(stepId, StepExecution.parse(parser));
+                    }
+                    break;
+                default:
+                    throw new FlowFrameworkException(
+                        "Unable to parse field [" + fieldName + "] in an execution journal object.",
+                        RestStatus.BAD_REQUEST
+                    );
+            }
+        }
+        return new ExecutionJournal(executingNodeId, params, steps);
+    }
+
+    /**
+     * Gets the id of the cluster node executing the workflow
+     * @return the node id
+     */
+    public String getExecutingNodeId() {
+        return executingNodeId;
+    }
+
+    /**
+     * Gets the substitution params the workflow is provisioned with
+     * @return the params
+     */
+    public Map<String, String> getParams() {
+        return params;
+    }
+
+    /**
+     * Gets the steps recorded in the journal
+     * @return the steps, keyed by workflow step id
+     */
+    public Map<String, StepExecution> getSteps() {
+        return steps;
+    }
+
+    /**
+     * Gets the outputs of the steps which completed during the current provisioning, so they are reused rather than executed again.
+     * Steps recorded during an earlier provisioning of the workflow are ignored. A step which was interrupted after creating its resource
+     * is treated as complete, with the resource as its output, so the resource is not created twice.
+     * @param provisionStartTime the start time of the current provisioning
+     * @param resourcesCreated the resources created during the current provisioning
+     * @return the output of each completed step, keyed by workflow step id
+     */
+    public Map<String, Map<String, String>> completedOutputs(Instant provisionStartTime, List<ResourceCreated> resourcesCreated) {
+        Map<String, Map<String, String>> outputs = new HashMap<>();
+        for (Map.Entry<String, StepExecution> step : steps.entrySet()) {
+            Instant endTime = step.getValue().getEndTime();
+            if (endTime != null && (provisionStartTime == null || !endTime.isBefore(provisionStartTime))) {
+                outputs.put(step.getKey(), step.getValue().getOutput());
+            }
+        }
+        for (ResourceCreated resource : resourcesCreated) {
+            outputs.putIfAbsent(resource.workflowStepId(), Map.of(resource.resourceType(), resource.resourceId()));
+        }
+        return outputs;
+    }
+
+    /**
+     * Gets a copy of this journal recording a step. A step already recorded is merged with the new record.
+     * @param stepId the workflow step id
+     * @param step the record of the step
+     * @return the journal with the step recorded
+     */
+    public ExecutionJournal withStep(String stepId, StepExecution step) {
+        Map<String, StepExecution> newSteps = new HashMap<>(steps);
+        newSteps.merge(stepId, step, StepExecution::merge);
+        return new ExecutionJournal(executingNodeId, params, newSteps);
+    }
+
+    /**
+     * Gets the fields of a workflow state update recording the cluster node executing the workflow and the params it is provisioned with
+     * @param executingNodeId the node id, or null if the workflow must not be resumed after a restart
+     * @param params the substitution params the workflow is provisioned with
+     * @return the fields to update
+     */
+    public static Map<String, Object> executingNodeUpdate(String executingNodeId, Map<String, String> params) {
+        Map<String, Object> journalFields = new HashMap<>();
+        journalFields.put(EXECUTING_NODE_ID_FIELD, executingNodeId);
+        journalFields.put(PARAMS_FIELD, paramsList(params));
+        return Map.of(EXECUTION_JOURNAL_FIELD, journalFields);
+    }
+
+    /**
+     * Gets the params as a list of name and value pairs. A partial update replaces a list rather than merging it like an object, so the
+     * params of an earlier provisioning are not kept.
+     * @param params the params
+     * @return the list of params
+     */
+    private static List<Map<String, String>> paramsList(Map<String, String> params) {
+        List<Map<String, String>> paramsList = new ArrayList<>();
+        for (Map.Entry<String, String> param : new TreeMap<>(params).entrySet()) {
+            paramsList.add(Map.of(NAME_FIELD, param.getKey(), PARAM_VALUE_FIELD, param.getValue()));
+        }
+        return paramsList;
+    }
+
+    @Override
+    public String toString() {
+        return "execution_journal [executingNodeId=" + executingNodeId + ", params=" + params + ", steps=" + steps + "]";
+    }
+
+    /**
+     * The execution of a single workflow step
+     */
+    public static class StepExecution implements ToXContentObject, Writeable {
+
+        private final Instant startTime;
+        private final Instant endTime;
+        private final Map<String, String> output;
+
+        /**
+         * Instantiate the execution of a step
+         * @param startTime the start time of the step, or null if not recorded
+         * @param endTime the end time of the step, or null if it has not completed
+         * @param output the string values of the step output
+         */
+        public StepExecution(Instant startTime, Instant endTime, Map<String, String> output) {
+            this.startTime = startTime;
+            this.endTime = endTime;
+            this.output = Map.copyOf(output);
+        }
+
+        /**
+         * Gets the record of a step which started
+         * @param startTime the start time of the step
+         * @return the record of the step
+         */
+        public static StepExecution started(Instant startTime) {
+            return new StepExecution(startTime, null, Collections.emptyMap());
+        }
+
+        /**
+         * Gets the record of a step which completed. Only the string values of its output are recorded.
+         * @param endTime the end time of the step
+         * @param output the content of the step output
+         * @return the record of the step
+         */
+        public static StepExecution completed(Instant endTime, Map<String, Object> output) {
+            Map<String, String> recordedOutput = new HashMap<>();
+            for (Map.Entry<String, Object> e : output.entrySet()) {
+                if (e.getValue() instanceof String) {
+                    recordedOutput.put(e.getKey(), (String) e.getValue());
+                }
+            }
+            return new StepExecution(null, endTime, recordedOutput);
+        }
+
+        /**
+         * Instantiate the execution of a step from an input stream
+         * @param input the input stream to read from
+         * @throws IOException if failed to read input stream
+         */
+        public StepExecution(StreamInput input) throws IOException {
+            this(input.readOptionalInstant(), input.readOptionalInstant(), input.readMap(StreamInput::readString, StreamInput::readString));
+        }
+
+        @Override
+        public void writeTo(StreamOutput output) throws IOException {
+            output.writeOptionalInstant(startTime);
+            output.writeOptionalInstant(endTime);
+            output.writeMap(this.output, StreamOutput::writeString, StreamOutput::writeString);
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.startObject();
+            if (startTime != null) {
+                builder.field(STEP_START_TIME_FIELD, startTime.toEpochMilli());
+            }
+            if (endTime != null) {
+                builder.field(STEP_END_TIME_FIELD, endTime.toEpochMilli());
+            }
+            builder.field(STEP_OUTPUT_FIELD, output);
+            return builder.endObject();
+        }
+
+        /**
+         * Parse raw JSON content into a StepExecution instance.
+         *
+         * @param parser JSON based content parser
+         * @return the parsed StepExecution instance
+         * @throws IOException if content can't be parsed correctly
+         */
+        public static StepExecution parse(XContentParser parser) throws IOException {
+            Instant startTime = null;
+            Instant endTime = null;
+            Map<String, String> output = new HashMap<>();
+            ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
+            while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+                String fieldName = parser.currentName();
+                parser.nextToken();
+                switch (fieldName) {
+                    case STEP_START_TIME_FIELD:
+                        startTime = ParseUtils.parseInstant(parser);
+                        break;
+                    case STEP_END_TIME_FIELD:
+                        endTime = ParseUtils.parseInstant(parser);
+                        break;
+                    case STEP_OUTPUT_FIELD:
+                        output = parser.mapStrings();
+                        break;
+                    default:
+                        throw new FlowFrameworkException(
+                            "Unable to parse field [" + fieldName + "] in a step execution object.",
+                            RestStatus.BAD_REQUEST
+                        );
+                }
+            }
+            return new StepExecution(startTime, endTime, output);
+        }
+
+        /**
+         * Gets the start time of the step
+         * @return the start time, or null if not recorded
+         */
+        public Instant getStartTime() {
+            return startTime;
+        }
+
+        /**
+         * Gets the end time of the step
+         * @return the end time, or null if the step has not completed
+         */
+        public Instant getEndTime() {
+            return endTime;
+        }
+
+        /**
+         * Gets the string values of the step output
+         * @return the output
+         */
+        public Map<String, String> getOutput() {
+            return output;
+        }
+
+        /**
+         * Merges a later record of this step, whose recorded times and output replace those of this record
+         * @param update the later record
+         * @return the merged record
+         */
+        public StepExecution merge(StepExecution update) {
+            return new StepExecution(
+                update.startTime == null ? startTime : update.startTime,
+                update.endTime == null ? endTime : update.endTime,
+                update.endTime == null ? output : update.output
+            );
+        }
+
+        /**
+         * Gets the fields recorded for this step, which a partial update or script merges into the stored record of the step
+         * @return the fields
+         */
+        public Map<String, Object> fields() {
+            Map<String, Object> fields = new HashMap<>();
+            if (startTime != null) {
+                fields.put(STEP_START_TIME_FIELD, startTime.toEpochMilli());
+            }
+            if (endTime != null) {
+                fields.put(STEP_END_TIME_FIELD, endTime.toEpochMilli());
+                fields.put(STEP_OUTPUT_FIELD, output);
+            }
+            return fields;
+        }
+
+        @Override
+        public String toString() {
+            return "step_execution [startTime=" + startTime + ", endTime=" + endTime + ", output=" + output + "]";
+        }
+    }
+}
@@ -14,11 +14,15 @@ import org.opensearch.common.xcontent.json.JsonXContent;
 import org.opensearch.common.xcontent.yaml.YamlXContent;
 import org.opensearch.commons.authuser.User;
 import org.opensearch.core.common.Strings;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.ToXContentObject;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.flowframework.common.CommonValue;
 import org.opensearch.flowframework.exception.FlowFrameworkException;
 import org.opensearch.flowframework.util.ParseUtils;
 
@@ -46,7 +50,7 @@ import static org.opensearch.flowframework.common.CommonValue.VERSION_FIELD;
 /**
  * The Template is the central data structure which configures workflows. This object is used to parse JSON communicated via REST API.
  */
-public class Template implements ToXContentObject {
+public class Template implements ToXContentObject, Writeable {
 
     /** The template field name for template workflows */
     public static final String WORKFLOWS_FIELD = "workflows";
@@ -328,6 +332,68 @@ public class Template implements ToXContentObject {
         return new Builder(t);
     }
 
+    /**
+     * Reads a template from an input stream, which nodes of versions before 3.2.0 write as JSON
+     * @param input the input stream to read from
+     * @return the template
+     * @throws IOException if the template cannot be read from the input stream
+     */
+    public static Template readFrom(StreamInput input) throws IOException {
+        if (input.getVersion().before(CommonValue.VERSION_3_2_0)) {
+            return parse(input.readString());
+        }
+        String name = input.readOptionalString();
+        String description = input.readOptionalString();
+        String useCase = input.readOptionalString();
+        String templateVersion = input.readOptionalString();
+        List<Version> compatibilityVersion = new ArrayList<>();
+        for (String v : input.readStringList()) {
+            compatibilityVersion.add(Version.fromString(v));
+        }
+        return new Builder().name(name)
+            .description(description)
+            .useCase(useCase)
+            .templateVersion(templateVersion == null ? null : Version.fromString(templateVersion))
+            .compatibilityVersion(compatibilityVersion)
+            .workflows(input.readMap(StreamInput::readString, Workflow::new))
+            .uiMetadata(input.readBoolean() ? input.readMap() : null)
+            .user(input.readOptionalWriteable(User::new))
+            .createdTime(input.readOptionalInstant())
+            .lastUpdatedTime(input.readOptionalInstant())
+            .lastProvisionedTime(input.readOptionalInstant())
+            .tenantId(input.readOptionalString())
+            .build();
+    }
+
+    @Override
+    public void writeTo(StreamOutput output) throws IOException {
+        if (output.getVersion().before(CommonValue.VERSION_3_2_0)) {
+            output.writeString(toJson());
+            return;
+        }
+        output.writeOptionalString(name);
+        output.writeOptionalString(description);
+        output.writeOptionalString(useCase);
+        output.writeOptionalString(templateVersion == null ? null : templateVersion.toString());
+        List<String> compatibility = new ArrayList<>(compatibilityVersion.size());
+        for (Version v : compatibilityVersion) {
+            compatibility.add(v.toString());
+        }
+        output.writeStringCollection(compatibility);
+        output.writeMap(workflows, StreamOutput::writeString, (o, w) -> w.writeTo(o));
+        if (uiMetadata != null) {
+            output.writeBoolean(true);
+            output.writeMap(uiMetadata);
+        } else {
+            output.writeBoolean(false);
+        }
+        output.writeOptionalWriteable(user);
+        output.writeOptionalInstant(createdTime);
+        output.writeOptionalInstant(lastUpdatedTime);
+        output.writeOptionalInstant(lastProvisionedTime);
+        output.writeOptionalString(tenantId);
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         XContentBuilder xContentBuilder = builder.startObject();
@@ -12,6 +12,9 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessageFactory;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.ToXContentObject;
 import org.opensearch.core.xcontent.XContentBuilder;
@@ -50,7 +53,7 @@ import static org.opensearch.flowframework.util.ParseUtils.parseStringToStringMa
  * where its type is used to determine the correct {@link WorkflowStep} object,
  * and its inputs are used to populate the {@link WorkflowData} input.
  */
-public class WorkflowNode implements ToXContentObject {
+public class WorkflowNode implements ToXContentObject, Writeable {
     /** The template field name for node id */
     public static final String ID_FIELD = "id";
     /** The template field name for node type */
@@ -67,6 +70,12 @@ public class WorkflowNode implements ToXContentObject {
     public static final TimeValue NODE_TIMEOUT_DEFAULT_VALUE = new TimeValue(10, SECONDS);
     /** Map fields */
     private static final Set<String> MAP_FIELDS = Set.of(CONFIGURATIONS, INTERFACE_FIELD, LLM);
+    // Tags of user input values in the stream, for those types parsed from a template which the generic value writer does not keep
+    private static final byte GENERIC_INPUT = 0;
+    private static final byte GUARDRAILS_INPUT = 1;
+    private static final byte PROCESSORS_INPUT = 2;
+    private static final byte STRING_ARRAY_INPUT = 3;
+    private static final byte MAP_ARRAY_INPUT = 4;
 
     private final String id; // unique id
     private final String type; // maps to a WorkflowStep
@@ -89,6 +98,75 @@ public class WorkflowNode implements ToXContentObject {
         this.userInputs = Map.copyOf(userInputs);
     }
 
+    /**
+     * Instantiates a new WorkflowNode from an input stream
+     * @param input the input stream to read from
+     * @throws IOException if the node cannot be read from the input stream
+     */
+    public WorkflowNode(StreamInput input) throws IOException {
+        this.id = input.readString();
+        this.type = input.readString();
+        this.previousNodeInputs = Map.copyOf(input.readMap(StreamInput::readString, StreamInput::readString));
+        int inputCount = input.readVInt();
+        Map<String, Object> inputs = new HashMap<>();
+        for (int i = 0; i < inputCount; i++) {
+            String key = input.readString();
+            switch (input.readByte()) {
+                case GUARDRAILS_INPUT:
+                    inputs.put(key, new Guardrails(input));
+                    break;
+                case PROCESSORS_INPUT:
+                    inputs.put(key, input.readArray(PipelineProcessor::new, PipelineProcessor[]::new));
+                    break;
+                case STRING_ARRAY_INPUT:
+                    inputs.put(key, input.readStringArray());
+                    break;
+                case MAP_ARRAY_INPUT:
+                    Map<?, ?>[] maps = new Map<?, ?>[input.readVInt()];
+                    for (int m = 0; m < maps.length; m++) {
+                        maps[m] = input.readMap();
+                    }
+                    inputs.put(key, maps);
+                    break;
+                default:
+                    inputs.put(key, input.readGenericValue());
+            }
+        }
+        this.userInputs = Map.copyOf(inputs);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void writeTo(StreamOutput output) throws IOException {
+        output.writeString(id);
+        output.writeString(type);
+        output.writeMap(previousNodeInputs, StreamOutput::writeString, StreamOutput::writeString);
+        output.writeVInt(userInputs.size());
+        for (Entry<String, Object> e : userInputs.entrySet()) {
+            output.writeString(e.getKey());
+            if (e.getValue() instanceof Guardrails) {
+                output.writeByte(GUARDRAILS_INPUT);
+                ((Guardrails) e.getValue()).writeTo(output);
+            } else if (e.getValue() instanceof PipelineProcessor[]) {
+                output.writeByte(PROCESSORS_INPUT);
+                output.writeArray((o, p) -> p.writeTo(o), (PipelineProcessor[]) e.getValue());
+            } else if (e.getValue() instanceof String[]) {
+                output.writeByte(STRING_ARRAY_INPUT);
+                output.writeStringArray((String[]) e.getValue());
+            } else if (e.getValue() instanceof Map<?, ?>[]) {
+                output.writeByte(MAP_ARRAY_INPUT);
+                Map<?, ?>[] maps = (Map<?, ?>[]) e.getValue();
+                output.writeVInt(maps.length);
+                for (Map<?, ?> map : maps) {
+                    output.writeMap((Map<String, Object>) map);
+                }
+            } else {
+                output.writeByte(GENERIC_INPUT);
+                output.writeGenericValue(e.getValue());
+            }
+        }
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         XContentBuilder xContentBuilder = builder.startObject();
@@ -34,6 +34,7 @@ import java.util.Map;
 
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
 import static org.opensearch.flowframework.common.CommonValue.ERROR_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.EXECUTION_JOURNAL_FIELD;
 import static org.opensearch.flowframework.common.CommonValue.PROVISIONING_PROGRESS_FIELD;
 import static org.opensearch.flowframework.common.CommonValue.PROVISION_END_TIME_FIELD;
 import static org.opensearch.flowframework.common.CommonValue.PROVISION_START_TIME_FIELD;
@@ -61,6 +62,7 @@ public class WorkflowState implements ToXContentObject, Writeable {
     private Map<String, Object> userOutputs;
     private List<ResourceCreated> resourcesCreated;
     private String tenantId;
+    private ExecutionJournal executionJournal;
 
     /**
      * Instantiate the object representing the workflow state
@@ -125,6 +127,9 @@ public class WorkflowState implements ToXContentObject, Writeable {
         if (input.getVersion().onOrAfter(CommonValue.VERSION_2_19_0)) {
             this.tenantId = input.readOptionalString();
         }
+        if (input.getVersion().onOrAfter(CommonValue.VERSION_3_2_0)) {
+            this.executionJournal = input.readOptionalWriteable(ExecutionJournal::new);
+        }
     }
 
     /**
@@ -158,6 +163,7 @@ public class WorkflowState implements ToXContentObject, Writeable {
         private Map<String, Object> userOutputs = null;
         private List<ResourceCreated> resourcesCreated = null;
         private String tenantId = null;
+        private ExecutionJournal executionJournal = null;
 
         /**
          * Empty Constructor for the Builder object
@@ -179,6 +185,7 @@ public class WorkflowState implements ToXContentObject, Writeable {
             this.userOutputs = existingState.userOutputs();
             this.resourcesCreated = existingState.resourcesCreated();
             this.tenantId = existingState.getTenantId();
+            this.executionJournal = existingState.executionJournal();
         }
 
         /**
@@ -281,6 +288,16 @@ public class WorkflowState implements ToXContentObject, Writeable {
             return this;
         }
 
+        /**
+         * Builder method for adding the execution journal
+         * @param executionJournal the execution journal
+         * @return the Builder object
+         */
+        public Builder executionJournal(ExecutionJournal executionJournal) {
+            this.executionJournal = executionJournal;
+            return this;
+        }
+
         /**
          * Allows building a workflowState
          * @return WorkflowState workflowState Object containing all needed fields
@@ -297,6 +314,7 @@ public class WorkflowState implements ToXContentObject, Writeable {
             workflowState.userOutputs = this.userOutputs;
             workflowState.resourcesCreated = this.resourcesCreated;
             workflowState.tenantId = this.tenantId;
+            workflowState.executionJournal = this.executionJournal;
             return workflowState;
         }
     }
@@ -339,6 +357,9 @@ public class WorkflowState implements ToXContentObject, Writeable {
         if (stateWithNewFields.getTenantId() != null) {
             builder.tenantId(stateWithNewFields.getTenantId());
         }
+        if (stateWithNewFields.executionJournal() != null) {
+            builder.executionJournal(stateWithNewFields.executionJournal());
+        }
         return builder.build();
     }
 
@@ -375,6 +396,9 @@ public class WorkflowState implements ToXContentObject, Writeable {
         if (tenantId != null) {
             xContentBuilder.field(TENANT_ID_FIELD, tenantId);
         }
+        if (executionJournal != null) {
+            xContentBuilder.field(EXECUTION_JOURNAL_FIELD, executionJournal);
+        }
         return xContentBuilder.endObject();
     }
 
@@ -408,6 +432,9 @@ public class WorkflowState implements ToXContentObject, Writeable {
         if (output.getVersion().onOrAfter(CommonValue.VERSION_2_19_0)) {
             output.writeOptionalString(tenantId);
         }
+        if (output.getVersion().onOrAfter(CommonValue.VERSION_3_2_0)) {
+            output.writeOptionalWriteable(executionJournal);
+        }
     }
 
     /**
@@ -428,6 +455,7 @@ public class WorkflowState implements ToXContentObject, Writeable {
         Map<String, Object> userOutputs = new HashMap<>();
         List<ResourceCreated> resourcesCreated = new ArrayList<>();
         String tenantId = null;
+        ExecutionJournal executionJournal = null;
 
         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
         while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
@@ -490,6 +518,9 @@ public class WorkflowState implements ToXContentObject, Writeable {
                 case TENANT_ID_FIELD:
                     tenantId = parser.text();
                     break;
+                case EXECUTION_JOURNAL_FIELD:
+                    executionJournal = ExecutionJournal.parse(parser);
+                    break;
                 default:
                     throw new FlowFrameworkException(
                         "Unable to parse field [" + fieldName + "] in a workflowState object.",
@@ -507,6 +538,7 @@ public class WorkflowState implements ToXContentObject, Writeable {
             .userOutputs(userOutputs)
             .resourcesCreated(resourcesCreated)
             .tenantId(tenantId)
+            .executionJournal(executionJournal)
             .build();
     }
 
@@ -606,6 +638,14 @@ public class WorkflowState implements ToXContentObject, Writeable {
         return tenantId;
     }
 
+    /**
+     * The journal of the steps executed while provisioning this workflow
+     * @return the execution journal, or null if none was recorded
+     */
+    public ExecutionJournal executionJournal() {
+        return executionJournal;
+    }
+
     @Override
     public String toString() {
         return "WorkflowState [workflowId="
@@ -0,0 +1,162 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.rest;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.flowframework.common.FlowFrameworkSettings;
+import org.opensearch.flowframework.exception.FlowFrameworkException;
+import org.opensearch.flowframework.model.Template;
+import org.opensearch.flowframework.transport.BulkCreateWorkflowAction;
+import org.opensearch.flowframework.transport.BulkWorkflowRequest;
+import org.opensearch.flowframework.util.TenantAwareHelper;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.transport.client.node.NodeClient;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.flowframework.common.CommonValue.BULK_WORKFLOW_URI;
+import static org.opensearch.flowframework.common.CommonValue.PROVISION_WORKFLOW;
+import static org.opensearch.flowframework.common.CommonValue.TEMPLATES_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.VALIDATION;
+import static org.opensearch.flowframework.common.FlowFrameworkSettings.FLOW_FRAMEWORK_ENABLED;
+
+/**
+ * Rest Action to facilitate requests to create many use case templates at once
+ */
+public class RestBulkCreateWorkflowAction extends BaseRestHandler {
+
+    private static final Logger logger = LogManager.getLogger(RestBulkCreateWorkflowAction.class);
+    private static final String BULK_CREATE_WORKFLOW_ACTION = "bulk_create_workflow_action";
+
+    private FlowFrameworkSettings flowFrameworkSettings;
+
+    /**
+     * Instantiates a new RestBulkCreateWorkflowAction
+     * @param flowFrameworkSettings The settings for the flow framework plugin
+     */
+    public RestBulkCreateWorkflowAction(FlowFrameworkSettings flowFrameworkSettings) {
+        this.flowFrameworkSettings = flowFrameworkSettings;
+    }
+
+    @Override
+    public String getName() {
+        return BULK_CREATE_WORKFLOW_ACTION;
+    }
+
+    @Override
+    public List<Route> routes() {
+        return List.of(new Route(RestRequest.Method.POST, BULK_WORKFLOW_URI));
+    }
+
+    @Override
+    protected RestChannelConsumer prepareRequest(RestRequest request, NodeClient client) throws IOException {
+        String[] validation = request.paramAsStringArray(VALIDATION, new String[] { "all" });
+        boolean provision = request.paramAsBoolean(PROVISION_WORKFLOW, false);
+        try {
+            if (!flowFrameworkSettings.isFlowFrameworkEnabled()) {
+                FlowFrameworkException ffe = new FlowFrameworkException(
+                    "This API is disabled. To enable it, set [" + FLOW_FRAMEWORK_ENABLED.getKey() + "] to true.",
+                    RestStatus.FORBIDDEN
+                );
+                return channel -> channel.sendResponse(
+                    new BytesRestResponse(ffe.getRestStatus(), ffe.toXContent(channel.newErrorBuilder(), ToXContent.EMPTY_PARAMS))
+                );
+            }
+            String tenantId = TenantAwareHelper.getTenantID(flowFrameworkSettings.isMultiTenancyEnabled(), request);
+            List<Template> templates = parseTemplates(request.contentParser(), tenantId);
+            BulkWorkflowRequest bulkRequest = new BulkWorkflowRequest(
+                templates,
+                validation,
+                provision,
+                tenantId,
+                flowFrameworkSettings.getMaxBulkWorkflows()
+            );
+            ActionRequestValidationException validationException = bulkRequest.validate();
+            if (validationException != null) {
+                throw new FlowFrameworkException(validationException.validationErrors().get(0), RestStatus.BAD_REQUEST);
+            }
+
+            return channel -> client.execute(BulkCreateWorkflowAction.INSTANCE, bulkRequest, ActionListener.wrap(response -> {
+                XContentBuilder builder = response.toXContent(channel.newBuilder(), ToXContent.EMPTY_PARAMS);
+                channel.sendResponse(new BytesRestResponse(provision ? RestStatus.ACCEPTED : RestStatus.CREATED, builder));
+            }, exception -> {
+                try {
+                    FlowFrameworkException ex = exception instanceof FlowFrameworkException
+                        ? (FlowFrameworkException) exception
+                        : new FlowFrameworkException("Failed to create workflows.", ExceptionsHelper.status(exception));
+                    XContentBuilder exceptionBuilder = ex.toXContent(channel.newErrorBuilder(), ToXContent.EMPTY_PARAMS);
+                    channel.sendResponse(new BytesRestResponse(ex.getRestStatus(), exceptionBuilder));
+                } catch (IOException e) {
+                    String errorMessage = "IOException: Failed to send back bulk create workflow exception";
+                    logger.error(errorMessage, e);
+                    channel.sendResponse(new BytesRestResponse(ExceptionsHelper.status(e), errorMessage));
+                }
+            }));
+
+        } catch (FlowFrameworkException e) {
+            logger.error("failed to prepare rest request", e);
+            return channel -> channel.sendResponse(
+                new BytesRestResponse(e.getRestStatus(), e.toXContent(channel.newErrorBuilder(), ToXContent.EMPTY_PARAMS))
+            );
+        } catch (Exception e) {
+            logger.error("failed to prepare rest request", e);
+            FlowFrameworkException ex = new FlowFrameworkException(
+                "IOException: template content invalid for specified Content-Type.",
+                RestStatus.BAD_REQUEST
+            );
+            return channel -> channel.sendResponse(
+                new BytesRestResponse(ex.getRestStatus(), ex.toXContent(channel.newErrorBuilder(), ToXContent.EMPTY_PARAMS))
+            );
+        }
+    }
+
+    /**
+     * Parses the templates of a bulk request body, of the form {"templates": [ ... ]}
+     * @param parser the request content parser
+     * @param tenantId the tenant id to set on each template
+     * @return the parsed templates
+     * @throws IOException if the content cannot be parsed
+     */
+    private static List<Template> parseTemplates(XContentParser parser, String tenantId) throws IOException {
+        List<Template> templates = new ArrayList<>();
+        ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
+        while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+            if (!TEMPLATES_FIELD.equals(fieldName)) {
+                throw new FlowFrameworkException(
+                    "Unable to parse field [" + fieldName + "] in a bulk workflow request.",
+                    RestStatus.BAD_REQUEST
+                );
+            }
+            ensureExpectedToken(XContentParser.Token.START_ARRAY, parser.currentToken(), parser);
+            while (parser.nextToken() != XContentParser.Token.END_ARRAY) {
+                Template template = Template.parse(parser);
+                if (tenantId != null) {
+                    template.setTenantId(tenantId);
+                }
+                templates.add(template);
+            }
+        }
+        return templates;
+    }
+}
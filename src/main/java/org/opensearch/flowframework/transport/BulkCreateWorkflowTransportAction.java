@@ -0,0 +1,448 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.transport;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessageFactory;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.commons.authuser.User;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.flowframework.common.FlowFrameworkSettings;
+import org.opensearch.flowframework.exception.FlowFrameworkException;
+import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
+import org.opensearch.flowframework.model.Template;
+import org.opensearch.flowframework.model.Workflow;
+import org.opensearch.flowframework.transport.BulkWorkflowResponse.BulkWorkflowItem;
+import org.opensearch.flowframework.util.FlowFrameworkExecutors;
+import org.opensearch.flowframework.util.TenantAwareHelper;
+import org.opensearch.flowframework.util.WorkflowCountTracker;
+import org.opensearch.flowframework.workflow.ProcessNode;
+import org.opensearch.flowframework.workflow.WorkflowProcessSorter;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.plugins.PluginsService;
+import org.opensearch.remote.metadata.client.SdkClient;
+import org.opensearch.remote.metadata.client.SearchDataObjectRequest;
+import org.opensearch.remote.metadata.common.SdkClientUtils;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.tasks.Task;
+import org.opensearch.transport.TransportService;
+import org.opensearch.transport.client.Client;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.opensearch.flowframework.common.CommonValue.GLOBAL_CONTEXT_INDEX;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_THREAD_POOL;
+import static org.opensearch.flowframework.common.FlowFrameworkSettings.FILTER_BY_BACKEND_ROLES;
+import static org.opensearch.flowframework.util.ParseUtils.checkFilterByBackendRoles;
+import static org.opensearch.flowframework.util.ParseUtils.getUserContext;
+
+/**
+ * Transport Action to index many use case templates within the Global Context at once.
+ * <p>
+ * The templates are validated in parallel, then the templates and their initial states are written with one bulk request per index.
+ * Each template succeeds or fails on its own, and the response reports the outcome of each template in the order of the request.
+ */
+public class BulkCreateWorkflowTransportAction extends HandledTransportAction<BulkWorkflowRequest, BulkWorkflowResponse> {
+
+    private final Logger logger = LogManager.getLogger(BulkCreateWorkflowTransportAction.class);
+
+    private final WorkflowProcessSorter workflowProcessSorter;
+    private final FlowFrameworkIndicesHandler flowFrameworkIndicesHandler;
+    private final Client client;
+    private final SdkClient sdkClient;
+    private final FlowFrameworkSettings flowFrameworkSettings;
+    private final WorkflowCountTracker workflowCountTracker;
+    private final FlowFrameworkExecutors flowFrameworkExecutors;
+    private final PluginsService pluginsService;
+    private volatile Boolean filterByEnabled;
+
+    /**
+     * Instantiates a new BulkCreateWorkflowTransportAction
+     * @param transportService the TransportService
+     * @param actionFilters action filters
+     * @param workflowProcessSorter the workflow process sorter
+     * @param flowFrameworkIndicesHandler The handler for the global context index
+     * @param flowFrameworkSettings Plugin settings
+     * @param workflowCountTracker The tracker of the number of workflows of each tenant
+     * @param flowFrameworkExecutors The executors to validate templates on
+     * @param client The client used to make the request to OS
+     * @param sdkClient the Multitenant Client
+     * @param pluginsService The plugin service
+     * @param clusterService the cluster service
+     * @param settings the plugin settings
+     */
+    @Inject
+    public BulkCreateWorkflowTransportAction(
+        TransportService transportService,
+        ActionFilters actionFilters,
+        WorkflowProcessSorter workflowProcessSorter,
+        FlowFrameworkIndicesHandler flowFrameworkIndicesHandler,
+        FlowFrameworkSettings flowFrameworkSettings,
+        WorkflowCountTracker workflowCountTracker,
+        FlowFrameworkExecutors flowFrameworkExecutors,
+        Client client,
+        SdkClient sdkClient,
+        PluginsService pluginsService,
+        ClusterService clusterService,
+        Settings settings
+    ) {
+        super(BulkCreateWorkflowAction.NAME, transportService, actionFilters, BulkWorkflowRequest::new);
+        this.workflowProcessSorter = workflowProcessSorter;
+        this.flowFrameworkIndicesHandler = flowFrameworkIndicesHandler;
+        this.flowFrameworkSettings = flowFrameworkSettings;
+        this.workflowCountTracker = workflowCountTracker;
+        this.flowFrameworkExecutors = flowFrameworkExecutors;
+        this.client = client;
+        this.sdkClient = sdkClient;
+        this.pluginsService = pluginsService;
+        filterByEnabled = FILTER_BY_BACKEND_ROLES.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(FILTER_BY_BACKEND_ROLES, it -> filterByEnabled = it);
+    }
+
+    @Override
+    protected void doExecute(Task task, BulkWorkflowRequest request, ActionListener<BulkWorkflowResponse> listener) {
+        String tenantId = request.getTenantId();
+        if (!TenantAwareHelper.validateTenantId(flowFrameworkSettings.isMultiTenancyEnabled(), tenantId, listener)) {
+            return;
+        }
+        User user = getUserContext(client);
+        // When filter by is enabled, block users creating workflows who do not have backend roles.
+        if (filterByEnabled == Boolean.TRUE) {
+            try {
+                checkFilterByBackendRoles(user);
+            } catch (FlowFrameworkException e) {
+                logger.error(e.getMessage(), e);
+                listener.onFailure(e);
+                return;
+            }
+        }
+        Instant creationTime = Instant.now();
+        List<Template> templates = new ArrayList<>(request.getTemplates().size());
+        for (Template template : request.getTemplates()) {
+            templates.add(
+                Template.builder(template).user(user).createdTime(creationTime).lastUpdatedTime(creationTime).tenantId(tenantId).build()
+            );
+        }
+        BulkWorkflowItem[] items = new BulkWorkflowItem[templates.size()];
+
+        String[] validateAll = { "all" };
+        CompletableFuture<Void> validated = Arrays.equals(request.getValidation(), validateAll)
+            ? validateWorkflows(templates, items)
+            : CompletableFuture.completedFuture(null);
+        validated.whenComplete((v, throwable) -> {
+            if (throwable != null) {
+                String errorMessage = "Failed to validate workflows";
+                logger.error(errorMessage, throwable);
+                listener.onFailure(new FlowFrameworkException(errorMessage, RestStatus.INTERNAL_SERVER_ERROR));
+                return;
+            }
+            List<Integer> validIndices = new ArrayList<>();
+            for (int i = 0; i < items.length; i++) {
+                if (items[i] == null) {
+                    validIndices.add(i);
+                }
+            }
+            if (validIndices.isEmpty()) {
+                listener.onResponse(new BulkWorkflowResponse(Arrays.asList(items)));
+                return;
+            }
+            checkRemainingCapacity(tenantId, validIndices.size(), ActionListener.wrap(remaining -> {
+                // Admit templates in request order up to the remaining capacity
+                List<Integer> admittedIndices = validIndices.subList(0, (int) Math.min(validIndices.size(), Math.max(0, remaining)));
+                for (int i : validIndices.subList(admittedIndices.size(), validIndices.size())) {
+                    String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage(
+                        "Maximum workflows limit reached: {}",
+                        flowFrameworkSettings.getMaxWorkflows()
+                    ).getFormattedMessage();
+                    items[i] = BulkWorkflowItem.failure(null, errorMessage, RestStatus.BAD_REQUEST);
+                }
+                if (admittedIndices.isEmpty()) {
+                    listener.onResponse(new BulkWorkflowResponse(Arrays.asList(items)));
+                    return;
+                }
+                createWorkflows(templates, admittedIndices, items, request.isProvision(), user, tenantId, listener);
+            }, exception -> {
+                String errorMessage = "Failed to check the maximum workflows limit";
+                logger.error(errorMessage, exception);
+                if (exception instanceof FlowFrameworkException) {
+                    listener.onFailure(exception);
+                } else {
+                    listener.onFailure(new FlowFrameworkException(errorMessage, ExceptionsHelper.status(exception)));
+                }
+            }));
+        });
+    }
+
+    /**
+     * Validates the workflows of each template in parallel, recording the templates which fail validation
+     * @param templates the templates to validate
+     * @param items the outcome of each template, set for the templates which fail validation
+     * @return a future completed once every template is validated
+     */
+    private CompletableFuture<Void> validateWorkflows(List<Template> templates, BulkWorkflowItem[] items) {
+        Executor executor = flowFrameworkExecutors.executor(WORKFLOW_THREAD_POOL);
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[templates.size()];
+        for (int i = 0; i < templates.size(); i++) {
+            Template template = templates.get(i);
+            int index = i;
+            futures[i] = CompletableFuture.runAsync(() -> {
+                try {
+                    for (Workflow workflow : template.workflows().values()) {
+                        List<ProcessNode> sortedNodes = workflowProcessSorter.sortProcessNodes(
+                            workflow,
+                            null,
+                            Collections.emptyMap(),
+                            template.getTenantId()
+                        );
+                        workflowProcessSorter.validate(sortedNodes, pluginsService);
+                    }
+                } catch (Exception e) {
+                    String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage(
+                        "Workflow validation failed for template {}",
+                        template.name()
+                    ).getFormattedMessage();
+                    logger.error(errorMessage, e);
+                    items[index] = e instanceof FlowFrameworkException
+                        ? BulkWorkflowItem.failure(null, e.getMessage(), ((FlowFrameworkException) e).getRestStatus())
+                        : BulkWorkflowItem.failure(null, errorMessage, ExceptionsHelper.status(e));
+                }
+            }, executor);
+        }
+        return CompletableFuture.allOf(futures);
+    }
+
+    /**
+     * Gets the number of templates the tenant may still create. The tenant's templates are only counted when the count tracked by
+     * {@link WorkflowCountTracker} is out of date or too close to the limit to admit the whole batch.
+     * @param tenantId the tenant id
+     * @param batchSize the number of templates to create
+     * @param listener listener for the remaining capacity
+     */
+    private void checkRemainingCapacity(String tenantId, int batchSize, ActionListener<Long> listener) {
+        int maxWorkflows = flowFrameworkSettings.getMaxWorkflows();
+        if (!flowFrameworkIndicesHandler.doesIndexExist(GLOBAL_CONTEXT_INDEX)) {
+            workflowCountTracker.reconcile(tenantId, 0);
+            listener.onResponse((long) maxWorkflows);
+        } else if (workflowCountTracker.isBelowMax(tenantId, maxWorkflows - batchSize + 1)) {
+            listener.onResponse((long) batchSize);
+        } else {
+            SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder().query(QueryBuilders.matchAllQuery())
+                .size(0)
+                .timeout(flowFrameworkSettings.getRequestTimeout());
+            SearchDataObjectRequest searchRequest = SearchDataObjectRequest.builder()
+                .indices(GLOBAL_CONTEXT_INDEX)
+                .searchSourceBuilder(searchSourceBuilder)
+                .tenantId(tenantId)
+                .build();
+            try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+                sdkClient.searchDataObjectAsync(searchRequest).whenComplete((r, throwable) -> {
+                    if (throwable == null) {
+                        context.restore();
+                        try {
+                            SearchResponse searchResponse = SearchResponse.fromXContent(r.parser());
+                            long workflowCount = searchResponse.getHits().getTotalHits().value();
+                            workflowCountTracker.reconcile(tenantId, workflowCount);
+                            listener.onResponse(maxWorkflows - workflowCount);
+                        } catch (Exception e) {
+                            logger.error("Failed to parse workflow searchResponse", e);
+                            listener.onFailure(e);
+                        }
+                    } else {
+                        Exception exception = SdkClientUtils.unwrapAndConvertToException(throwable);
+                        String errorMessage = "Unable to fetch the workflows";
+                        logger.error(errorMessage, exception);
+                        listener.onFailure(new FlowFrameworkException(errorMessage, ExceptionsHelper.status(exception)));
+                    }
+                });
+            } catch (Exception e) {
+                String errorMessage = "Unable to fetch the workflows";
+                logger.error(errorMessage, e);
+                listener.onFailure(new FlowFrameworkException(errorMessage, ExceptionsHelper.status(e)));
+            }
+        }
+    }
+
+    /**
+     * Creates the admitted templates
+     * 1. Create config index
+     * 2. Create global context index entries with one bulk request
+     * 3. Create state index entries with one bulk request
+     * 4. Provision the new workflows if requested
+     * @param templates the templates of the request
+     * @param admittedIndices the positions of the templates to create
+     * @param items the outcome of each template
+     * @param provision whether to provision the new workflows
+     * @param user the user making the request
+     * @param tenantId the tenant id
+     * @param listener the action listener
+     */
+    private void createWorkflows(
+        List<Template> templates,
+        List<Integer> admittedIndices,
+        BulkWorkflowItem[] items,
+        boolean provision,
+        User user,
+        String tenantId,
+        ActionListener<BulkWorkflowResponse> listener
+    ) {
+        List<Template> admittedTemplates = new ArrayList<>(admittedIndices.size());
+        for (int i : admittedIndices) {
+            admittedTemplates.add(templates.get(i));
+        }
+        flowFrameworkIndicesHandler.initializeConfigIndex(tenantId, ActionListener.wrap(isInitialized -> {
+            if (Boolean.FALSE.equals(isInitialized)) {
+                listener.onFailure(new FlowFrameworkException("Failed to initalize config index", RestStatus.INTERNAL_SERVER_ERROR));
+                return;
+            }
+            ActionListener<BulkResponse> globalContextListener = ActionListener.wrap(globalContextResponse -> {
+                List<Integer> createdIndices = new ArrayList<>();
+                List<String> workflowIds = new ArrayList<>();
+                BulkItemResponse[] responses = globalContextResponse.getItems();
+                for (int j = 0; j < responses.length; j++) {
+                    int i = admittedIndices.get(j);
+                    if (responses[j].isFailed()) {
+                        logger.error("Failed to save use case template {}: {}", i, responses[j].getFailureMessage());
+                        items[i] = BulkWorkflowItem.failure(null, responses[j].getFailureMessage(), responses[j].status());
+                    } else {
+                        workflowCountTracker.onCreated(tenantId);
+                        createdIndices.add(i);
+                        workflowIds.add(responses[j].getId());
+                    }
+                }
+                if (workflowIds.isEmpty()) {
+                    listener.onResponse(new BulkWorkflowResponse(Arrays.asList(items)));
+                    return;
+                }
+                putInitialStates(workflowIds, createdIndices, items, provision, user, tenantId, listener);
+            }, exception -> {
+                // Some of the templates may have been indexed even though the request failed
+                workflowCountTracker.invalidate(tenantId);
+                String errorMessage = "Failed to save use case templates";
+                logger.error(errorMessage, exception);
+                if (exception instanceof FlowFrameworkException) {
+                    listener.onFailure(exception);
+                } else {
+                    listener.onFailure(new FlowFrameworkException(errorMessage, ExceptionsHelper.status(exception)));
+                }
+            });
+            flowFrameworkIndicesHandler.putTemplatesToGlobalContext(admittedTemplates, tenantId, globalContextListener);
+        }, exception -> {
+            String errorMessage = "Failed to initialize config index";
+            logger.error(errorMessage, exception);
+            if (exception instanceof FlowFrameworkException) {
+                listener.onFailure(exception);
+            } else {
+                listener.onFailure(new FlowFrameworkException(errorMessage, ExceptionsHelper.status(exception)));
+            }
+        }));
+    }
+
+    private void putInitialStates(
+        List<String> workflowIds,
+        List<Integer> createdIndices,
+        BulkWorkflowItem[] items,
+        boolean provision,
+        User user,
+        String tenantId,
+        ActionListener<BulkWorkflowResponse> listener
+    ) {
+        flowFrameworkIndicesHandler.putInitialStatesToWorkflowState(workflowIds, tenantId, user, ActionListener.wrap(stateResponse -> {
+            List<String> provisionIds = new ArrayList<>();
+            List<Integer> provisionIndices = new ArrayList<>();
+            BulkItemResponse[] responses = stateResponse.getItems();
+            for (int j = 0; j < responses.length; j++) {
+                int i = createdIndices.get(j);
+                if (responses[j].isFailed()) {
+                    logger.error("Failed to save workflow state {}: {}", workflowIds.get(j), responses[j].getFailureMessage());
+                    items[i] = BulkWorkflowItem.failure(workflowIds.get(j), responses[j].getFailureMessage(), responses[j].status());
+                } else {
+                    logger.info("Creating state workflow doc: {}", workflowIds.get(j));
+                    items[i] = BulkWorkflowItem.success(workflowIds.get(j));
+                    provisionIds.add(workflowIds.get(j));
+                    provisionIndices.add(i);
+                }
+            }
+            if (provision && !provisionIds.isEmpty()) {
+                provisionWorkflows(provisionIds, provisionIndices, items, tenantId, listener);
+            } else {
+                listener.onResponse(new BulkWorkflowResponse(Arrays.asList(items)));
+            }
+        }, exception -> {
+            String errorMessage = "Failed to save workflow state";
+            logger.error(errorMessage, exception);
+            RestStatus status = exception instanceof FlowFrameworkException
+                ? ((FlowFrameworkException) exception).getRestStatus()
+                : RestStatus.BAD_REQUEST;
+            for (int j = 0; j < workflowIds.size(); j++) {
+                items[createdIndices.get(j)] = BulkWorkflowItem.failure(workflowIds.get(j), errorMessage, status);
+            }
+            listener.onResponse(new BulkWorkflowResponse(Arrays.asList(items)));
+        }));
+    }
+
+    /**
+     * Provisions the new workflows asynchronously, responding once every provisioning has been started
+     * @param workflowIds the ids of the workflows to provision
+     * @param indices the positions of the workflows in the request
+     * @param items the outcome of each template
+     * @param tenantId the tenant id
+     * @param listener the action listener
+     */
+    private void provisionWorkflows(
+        List<String> workflowIds,
+        List<Integer> indices,
+        BulkWorkflowItem[] items,
+        String tenantId,
+        ActionListener<BulkWorkflowResponse> listener
+    ) {
+        AtomicInteger pending = new AtomicInteger(workflowIds.size());
+        for (int j = 0; j < workflowIds.size(); j++) {
+            String workflowId = workflowIds.get(j);
+            int i = indices.get(j);
+            WorkflowRequest workflowRequest = new WorkflowRequest(
+                workflowId,
+                Template.createEmptyTemplateWithTenantId(tenantId),
+                Collections.emptyMap(),
+                TimeValue.MINUS_ONE
+            );
+            logger.info("Provisioning parameter is set, continuing to provision workflow {}", workflowId);
+            client.execute(ProvisionWorkflowAction.INSTANCE, workflowRequest, ActionListener.runAfter(ActionListener.wrap(r -> {}, e -> {
+                String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage("Provisioning failed for workflow {}", workflowId)
+                    .getFormattedMessage();
+                logger.error(errorMessage, e);
+                items[i] = e instanceof FlowFrameworkException
+                    ? BulkWorkflowItem.failure(workflowId, e.getMessage(), ((FlowFrameworkException) e).getRestStatus())
+                    : BulkWorkflowItem.failure(workflowId, errorMessage, ExceptionsHelper.status(e));
+            }), () -> {
+                if (pending.decrementAndGet() == 0) {
+                    listener.onResponse(new BulkWorkflowResponse(Arrays.asList(items)));
+                }
+            }));
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.transport;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.common.Nullable;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.flowframework.model.Template;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+/**
+ * Transport request to create many workflows at once
+ */
+public class BulkWorkflowRequest extends ActionRequest {
+
+    /**
+     * The use case templates to create
+     */
+    private final List<Template> templates;
+    /**
+     * The validation flag, used to determine if the templates must be validated
+     */
+    private final String[] validation;
+    /**
+     * Flag to indicate if the new workflows should be provisioned
+     */
+    private final boolean provision;
+    /**
+     * The tenant id of the templates
+     */
+    private final String tenantId;
+    /**
+     * The maximum number of templates of the request
+     */
+    private final int maxBulkWorkflows;
+
+    /**
+     * Instantiates a new BulkWorkflowRequest
+     * @param templates the use case templates to create
+     * @param validation flag to indicate if validation is necessary
+     * @param provision flag to indicate if the new workflows should be provisioned
+     * @param tenantId the tenant id of the templates
+     * @param maxBulkWorkflows the maximum number of templates of the request
+     */
+    public BulkWorkflowRequest(
+        List<Template> templates,
+        String[] validation,
+        boolean provision,
+        @Nullable String tenantId,
+        int maxBulkWorkflows
+    ) {
+        this.templates = templates;
+        this.validation = validation;
+        this.provision = provision;
+        this.tenantId = tenantId;
+        this.maxBulkWorkflows = maxBulkWorkflows;
+    }
+
+    /**
+     * Instantiates a new BulkWorkflowRequest
+     * @param in The input stream to read from
+     * @throws IOException If the stream cannot be read properly
+     */
+    public BulkWorkflowRequest(StreamInput in) throws IOException {
+        super(in);
+        this.templates = in.readList(Template::readFrom);
+        this.validation = in.readStringArray();
+        this.provision = in.readBoolean();
+        this.tenantId = in.readOptionalString();
+        this.maxBulkWorkflows = in.readVInt();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeList(templates);
+        out.writeStringArray(validation);
+        out.writeBoolean(provision);
+        out.writeOptionalString(tenantId);
+        out.writeVInt(maxBulkWorkflows);
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        if (templates.isEmpty()) {
+            return addValidationError("At least one template is required.", null);
+        }
+        if (templates.size() > maxBulkWorkflows) {
+            return addValidationError(
+                "A bulk request can create at most " + maxBulkWorkflows + " templates, but " + templates.size() + " were provided.",
+                null
+            );
+        }
+        return null;
+    }
+
+    /**
+     * Gets the use case templates of the request
+     * @return the use case templates
+     */
+    public List<Template> getTemplates() {
+        return this.templates;
+    }
+
+    /**
+     * Gets the validation flag
+     * @return the validation flag
+     */
+    public String[] getValidation() {
+        return this.validation;
+    }
+
+    /**
+     * Gets the provision flag
+     * @return the provision boolean
+     */
+    public boolean isProvision() {
+        return this.provision;
+    }
+
+    /**
+     * Gets the maximum number of templates of the request
+     * @return the maximum number of templates
+     */
+    public int getMaxBulkWorkflows() {
+        return this.maxBulkWorkflows;
+    }
+
+    /**
+     * Gets the tenant id of the templates
+     * @return the tenant id
+     */
+    @Nullable
+    public String getTenantId() {
+        return this.tenantId;
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.transport;
+
+import org.opensearch.common.Nullable;
+import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.opensearch.flowframework.common.CommonValue.ERROR_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.STATUS_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOWS_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_ID;
+
+/**
+ * Transport Response from creating many workflows at once
+ */
+public class BulkWorkflowResponse extends ActionResponse implements ToXContentObject {
+
+    /**
+     * The outcome of each template, in the order of the request
+     */
+    private final List<BulkWorkflowItem> items;
+
+    /**
+     * Instantiates a new BulkWorkflowResponse
+     * @param items the outcome of each template, in the order of the request
+     */
+    public BulkWorkflowResponse(List<BulkWorkflowItem> items) {
+        this.items = items;
+    }
+
+    /**
+     * Instantiates a new BulkWorkflowResponse from an input stream
+     * @param in the input stream to read from
+     * @throws IOException if the items cannot be read from the input stream
+     */
+    public BulkWorkflowResponse(StreamInput in) throws IOException {
+        super(in);
+        this.items = in.readList(BulkWorkflowItem::new);
+    }
+
+    /**
+     * Gets the outcome of each template
+     * @return the items, in the order of the request
+     */
+    public List<BulkWorkflowItem> getItems() {
+        return this.items;
+    }
+
+    /**
+     * Checks whether any template failed
+     * @return true if at least one item has an error
+     */
+    public boolean hasFailures() {
+        return items.stream().anyMatch(BulkWorkflowItem::isFailed);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeList(items);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject().startArray(WORKFLOWS_FIELD);
+        for (BulkWorkflowItem item : items) {
+            item.toXContent(builder, params);
+        }
+        return builder.endArray().endObject();
+    }
+
+    /**
+     * The outcome of a single template of a bulk request. Holds the id of the created workflow, or the error which prevented it.
+     */
+    public static class BulkWorkflowItem implements ToXContentObject, Writeable {
+
+        private final String workflowId;
+        private final String error;
+        private final RestStatus status;
+
+        private BulkWorkflowItem(String workflowId, String error, RestStatus status) {
+            this.workflowId = workflowId;
+            this.error = error;
+            this.status = status;
+        }
+
+        /**
+         * Instantiates the outcome of a template from an input stream
+         * @param in the input stream to read from
+         * @throws IOException if the item cannot be read from the input stream
+         */
+        public BulkWorkflowItem(StreamInput in) throws IOException {
+            this(in.readOptionalString(), in.readOptionalString(), in.readBoolean() ? RestStatus.readFrom(in) : null);
+        }
+
+        /**
+         * Creates the outcome of a template which was created
+         * @param workflowId the id of the created workflow
+         * @return the item
+         */
+        public static BulkWorkflowItem success(String workflowId) {
+            return new BulkWorkflowItem(workflowId, null, null);
+        }
+
+        /**
+         * Creates the outcome of a template which failed
+         * @param workflowId the id of the workflow if it was created before failing, or null
+         * @param error the error message
+         * @param status the status of the error
+         * @return the item
+         */
+        public static BulkWorkflowItem failure(@Nullable String workflowId, String error, RestStatus status) {
+            return new BulkWorkflowItem(workflowId, error, status);
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeOptionalString(workflowId);
+            out.writeOptionalString(error);
+            out.writeBoolean(status != null);
+            if (status != null) {
+                RestStatus.writeTo(out, status);
+            }
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.startObject();
+            if (workflowId != null) {
+                builder.field(WORKFLOW_ID, workflowId);
+            }
+            if (error != null) {
+                builder.field(ERROR_FIELD, error);
+                builder.field(STATUS_FIELD, status.getStatus());
+            }
+            return builder.endObject();
+        }
+
+        /**
+         * Gets the id of the workflow
+         * @return the workflow id, or null if the template was not created
+         */
+        @Nullable
+        public String getWorkflowId() {
+            return workflowId;
+        }
+
+        /**
+         * Gets the error message
+         * @return the error message, or null if the template succeeded
+         */
+        @Nullable
+        public String getError() {
+            return error;
+        }
+
+        /**
+         * Gets the status of the error
+         * @return the status, or null if the template succeeded
+         */
+        @Nullable
+        public RestStatus getStatus() {
+            return status;
+        }
+
+        /**
+         * Checks whether the template failed
+         * @return true if the item has an error
+         */
+        public boolean isFailed() {
+            return error != null;
+        }
+    }
+}
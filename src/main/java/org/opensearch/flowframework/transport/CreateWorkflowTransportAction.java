@@ -13,6 +13,7 @@ import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessageFactory;
 import org.opensearch.ExceptionsHelper;
 import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.support.ActionFilters;
 import org.opensearch.action.support.HandledTransportAction;
@@ -33,6 +34,8 @@ import org.opensearch.flowframework.model.State;
 import org.opensearch.flowframework.model.Template;
 import org.opensearch.flowframework.model.Workflow;
 import org.opensearch.flowframework.util.TenantAwareHelper;
+import org.opensearch.flowframework.util.WorkflowAccessControlCache;
+import org.opensearch.flowframework.util.WorkflowCountTracker;
 import org.opensearch.flowframework.workflow.ProcessNode;
 import org.opensearch.flowframework.workflow.WorkflowProcessSorter;
 import org.opensearch.index.query.QueryBuilder;
@@ -76,10 +79,12 @@ public class CreateWorkflowTransportAction extends HandledTransportAction<Workfl
     private final Client client;
     private final SdkClient sdkClient;
     private final FlowFrameworkSettings flowFrameworkSettings;
+    private final WorkflowCountTracker workflowCountTracker;
     private final PluginsService pluginsService;
     private volatile Boolean filterByEnabled;
     private final ClusterService clusterService;
     private final NamedXContentRegistry xContentRegistry;
+    private final WorkflowAccessControlCache accessControlCache;
 
     /**
      * Instantiates a new CreateWorkflowTransportAction
@@ -88,11 +93,13 @@ public class CreateWorkflowTransportAction extends HandledTransportAction<Workfl
      * @param workflowProcessSorter the workflow process sorter
      * @param flowFrameworkIndicesHandler The handler for the global context index
      * @param flowFrameworkSettings Plugin settings
+     * @param workflowCountTracker The tracker of the number of workflows of each tenant
      * @param client The client used to make the request to OS
      * @param sdkClient the Multitenant Client
      * @param pluginsService The plugin service
      * @param clusterService the cluster service
      * @param xContentRegistry the named content registry
+     * @param accessControlCache the cache of workflow access controls
      * @param settings the plugin settings
      */
     @Inject
@@ -102,17 +109,20 @@ public class CreateWorkflowTransportAction extends HandledTransportAction<Workfl
         WorkflowProcessSorter workflowProcessSorter,
         FlowFrameworkIndicesHandler flowFrameworkIndicesHandler,
         FlowFrameworkSettings flowFrameworkSettings,
+        WorkflowCountTracker workflowCountTracker,
         Client client,
         SdkClient sdkClient,
         PluginsService pluginsService,
         ClusterService clusterService,
         NamedXContentRegistry xContentRegistry,
+        WorkflowAccessControlCache accessControlCache,
         Settings settings
     ) {
         super(CreateWorkflowAction.NAME, transportService, actionFilters, WorkflowRequest::new);
         this.workflowProcessSorter = workflowProcessSorter;
         this.flowFrameworkIndicesHandler = flowFrameworkIndicesHandler;
         this.flowFrameworkSettings = flowFrameworkSettings;
+        this.workflowCountTracker = workflowCountTracker;
         this.client = client;
         this.sdkClient = sdkClient;
         this.pluginsService = pluginsService;
@@ -120,6 +130,7 @@ public class CreateWorkflowTransportAction extends HandledTransportAction<Workfl
         this.clusterService = clusterService;
         clusterService.getClusterSettings().addSettingsUpdateConsumer(FILTER_BY_BACKEND_ROLES, it -> filterByEnabled = it);
         this.xContentRegistry = xContentRegistry;
+        this.accessControlCache = accessControlCache;
     }
 
     @Override
@@ -192,7 +203,8 @@ public class CreateWorkflowTransportAction extends HandledTransportAction<Workfl
                     client,
                     sdkClient,
                     clusterService,
-                    xContentRegistry
+                    xContentRegistry,
+                    accessControlCache
                 );
             } else {
                 // Create Workflow. No need to get current workflow.
@@ -292,6 +304,7 @@ public class CreateWorkflowTransportAction extends HandledTransportAction<Workfl
                                 flowFrameworkIndicesHandler.putTemplateToGlobalContext(
                                     templateWithUser,
                                     ActionListener.wrap(globalContextResponse -> {
+                                        workflowCountTracker.onCreated(tenantId);
                                         flowFrameworkIndicesHandler.putInitialStateToWorkflowState(
                                             globalContextResponse.getId(),
                                             tenantId,
@@ -350,6 +363,8 @@ public class CreateWorkflowTransportAction extends HandledTransportAction<Workfl
                                             })
                                         );
                                     }, exception -> {
+                                        // The template may have been indexed even though the request failed
+                                        workflowCountTracker.invalidate(tenantId);
                                         String errorMessage = "Failed to save use case template";
                                         logger.error(errorMessage, exception);
                                         if (exception instanceof FlowFrameworkException) {
@@ -432,7 +447,7 @@ public class CreateWorkflowTransportAction extends HandledTransportAction<Workfl
         TimeValue waitForTimeCompletion,
         ActionListener<WorkflowResponse> listener
     ) throws IOException {
-        Template existingTemplate = Template.parse(getResponse.getSourceAsString());
+        Template existingTemplate = flowFrameworkIndicesHandler.parseTemplate(getResponse);
         Template template = request.isUpdateFields()
             ? Template.updateExistingTemplate(existingTemplate, templateWithUser)
             : Template.builder(templateWithUser)
@@ -484,7 +499,7 @@ public class CreateWorkflowTransportAction extends HandledTransportAction<Workfl
 
     private void handleFullDocUpdate(WorkflowRequest request, Template template, ActionListener<WorkflowResponse> listener) {
         final boolean isFieldUpdate = request.isUpdateFields();
-        flowFrameworkIndicesHandler.updateTemplateInGlobalContext(request.getWorkflowId(), template, ActionListener.wrap(response -> {
+        ActionListener<IndexResponse> updateListener = ActionListener.wrap(response -> {
             // Regular update, reset provisioning status, ignore state index if updating fields
             if (!isFieldUpdate) {
                 flowFrameworkIndicesHandler.updateFlowFrameworkSystemIndexDoc(
@@ -524,17 +539,28 @@ public class CreateWorkflowTransportAction extends HandledTransportAction<Workfl
             } else {
                 listener.onFailure(new FlowFrameworkException(errorMessage, ExceptionsHelper.status(exception)));
             }
-        }), isFieldUpdate);
+        });
+        // The update may change the user or tenant of the template, so access is checked again on the next request
+        flowFrameworkIndicesHandler.updateTemplateInGlobalContext(
+            request.getWorkflowId(),
+            template,
+            ActionListener.runBefore(updateListener, () -> accessControlCache.invalidate(request.getWorkflowId())),
+            isFieldUpdate
+        );
     }
 
     /**
-     * Checks if the max workflows limit has been reachesd
+     * Checks if the max workflows limit has been reachesd. The tenant's templates are only counted when the count tracked by
+     * {@link WorkflowCountTracker} is out of date or at the limit.
      *  @param requestTimeOut request time out
      *  @param maxWorkflow max workflows
      *  @param internalListener listener for search request
      */
     void checkMaxWorkflows(TimeValue requestTimeOut, Integer maxWorkflow, String tenantId, ActionListener<Boolean> internalListener) {
         if (!flowFrameworkIndicesHandler.doesIndexExist(GLOBAL_CONTEXT_INDEX)) {
+            workflowCountTracker.reconcile(tenantId, 0);
+            internalListener.onResponse(true);
+        } else if (workflowCountTracker.isBelowMax(tenantId, maxWorkflow)) {
             internalListener.onResponse(true);
         } else {
             QueryBuilder query = QueryBuilders.matchAllQuery();
@@ -550,7 +576,9 @@ public class CreateWorkflowTransportAction extends HandledTransportAction<Workfl
                         context.restore();
                         try {
                             SearchResponse searchResponse = SearchResponse.fromXContent(r.parser());
-                            internalListener.onResponse(searchResponse.getHits().getTotalHits().value() < maxWorkflow);
+                            long workflowCount = searchResponse.getHits().getTotalHits().value();
+                            workflowCountTracker.reconcile(tenantId, workflowCount);
+                            internalListener.onResponse(workflowCount < maxWorkflow);
                         } catch (Exception e) {
                             logger.error("Failed to parse workflow searchResponse", e);
                             internalListener.onFailure(e);
@@ -12,6 +12,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.core.util.Booleans;
 import org.apache.logging.log4j.message.ParameterizedMessageFactory;
+import org.opensearch.action.DocWriteResponse;
 import org.opensearch.action.delete.DeleteResponse;
 import org.opensearch.action.support.ActionFilters;
 import org.opensearch.action.support.HandledTransportAction;
@@ -27,6 +28,8 @@ import org.opensearch.flowframework.common.FlowFrameworkSettings;
 import org.opensearch.flowframework.exception.FlowFrameworkException;
 import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
 import org.opensearch.flowframework.util.TenantAwareHelper;
+import org.opensearch.flowframework.util.WorkflowAccessControlCache;
+import org.opensearch.flowframework.util.WorkflowCountTracker;
 import org.opensearch.remote.metadata.client.DeleteDataObjectRequest;
 import org.opensearch.remote.metadata.client.SdkClient;
 import org.opensearch.remote.metadata.common.SdkClientUtils;
@@ -49,11 +52,13 @@ public class DeleteWorkflowTransportAction extends HandledTransportAction<Workfl
 
     private final FlowFrameworkIndicesHandler flowFrameworkIndicesHandler;
     private final FlowFrameworkSettings flowFrameworkSettings;
+    private final WorkflowCountTracker workflowCountTracker;
     private final Client client;
     private final SdkClient sdkClient;
     private volatile Boolean filterByEnabled;
     private final ClusterService clusterService;
     private final NamedXContentRegistry xContentRegistry;
+    private final WorkflowAccessControlCache accessControlCache;
 
     /**
      * Instantiates a new DeleteWorkflowTransportAction instance
@@ -61,10 +66,12 @@ public class DeleteWorkflowTransportAction extends HandledTransportAction<Workfl
      * @param actionFilters action filters
      * @param flowFrameworkIndicesHandler The Flow Framework indices handler
      * @param flowFrameworkSettings The Flow Framework settings
+     * @param workflowCountTracker The tracker of the number of workflows of each tenant
      * @param client the OpenSearch Client
      * @param sdkClient the Multitenant Client
      * @param clusterService the cluster service
      * @param xContentRegistry contentRegister to parse get response
+     * @param accessControlCache the cache of workflow access controls
      * @param settings the plugin settings
      */
     @Inject
@@ -73,19 +80,23 @@ public class DeleteWorkflowTransportAction extends HandledTransportAction<Workfl
         ActionFilters actionFilters,
         FlowFrameworkIndicesHandler flowFrameworkIndicesHandler,
         FlowFrameworkSettings flowFrameworkSettings,
+        WorkflowCountTracker workflowCountTracker,
         Client client,
         SdkClient sdkClient,
         ClusterService clusterService,
         NamedXContentRegistry xContentRegistry,
+        WorkflowAccessControlCache accessControlCache,
         Settings settings
     ) {
         super(DeleteWorkflowAction.NAME, transportService, actionFilters, WorkflowRequest::new);
         this.flowFrameworkIndicesHandler = flowFrameworkIndicesHandler;
         this.flowFrameworkSettings = flowFrameworkSettings;
+        this.workflowCountTracker = workflowCountTracker;
         this.client = client;
         this.sdkClient = sdkClient;
         filterByEnabled = FILTER_BY_BACKEND_ROLES.get(settings);
         this.xContentRegistry = xContentRegistry;
+        this.accessControlCache = accessControlCache;
         this.clusterService = clusterService;
         clusterService.getClusterSettings().addSettingsUpdateConsumer(FILTER_BY_BACKEND_ROLES, it -> filterByEnabled = it);
     }
@@ -116,7 +127,8 @@ public class DeleteWorkflowTransportAction extends HandledTransportAction<Workfl
                 client,
                 sdkClient,
                 clusterService,
-                xContentRegistry
+                xContentRegistry,
+                accessControlCache
             );
 
         } else {
@@ -147,15 +159,22 @@ public class DeleteWorkflowTransportAction extends HandledTransportAction<Workfl
             .build();
         sdkClient.deleteDataObjectAsync(deleteRequest).whenComplete((r, throwable) -> {
             context.restore();
+            flowFrameworkIndicesHandler.invalidateTemplate(workflowId);
+            accessControlCache.invalidate(workflowId);
             if (throwable == null) {
                 try {
                     DeleteResponse response = DeleteResponse.fromXContent(r.parser());
+                    if (response.getResult() == DocWriteResponse.Result.DELETED) {
+                        workflowCountTracker.onDeleted(tenantId);
+                    }
                     listener.onResponse(response);
                 } catch (Exception e) {
                     logger.error("Failed to parse delete response", e);
                     listener.onFailure(new FlowFrameworkException("Failed to parse delete response", RestStatus.INTERNAL_SERVER_ERROR));
                 }
             } else {
+                // The template may have been deleted even though the request failed
+                workflowCountTracker.invalidate(tenantId);
                 Exception exception = SdkClientUtils.unwrapAndConvertToException(throwable);
                 String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage("Failed to delete template {}", workflowId)
                     .getFormattedMessage();
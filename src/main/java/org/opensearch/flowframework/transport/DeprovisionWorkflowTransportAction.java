@@ -12,10 +12,8 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessageFactory;
 import org.opensearch.ExceptionsHelper;
-import org.opensearch.OpenSearchStatusException;
 import org.opensearch.action.support.ActionFilters;
 import org.opensearch.action.support.HandledTransportAction;
-import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.settings.Settings;
@@ -31,9 +29,10 @@ import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
 import org.opensearch.flowframework.model.ProvisioningProgress;
 import org.opensearch.flowframework.model.ResourceCreated;
 import org.opensearch.flowframework.model.State;
+import org.opensearch.flowframework.util.FlowFrameworkExecutors;
 import org.opensearch.flowframework.util.TenantAwareHelper;
-import org.opensearch.flowframework.workflow.ProcessNode;
-import org.opensearch.flowframework.workflow.WorkflowData;
+import org.opensearch.flowframework.util.WorkflowAccessControlCache;
+import org.opensearch.flowframework.workflow.DeprovisionPlanner;
 import org.opensearch.flowframework.workflow.WorkflowStep;
 import org.opensearch.flowframework.workflow.WorkflowStepFactory;
 import org.opensearch.remote.metadata.client.SdkClient;
@@ -45,12 +44,10 @@ import org.opensearch.transport.client.Client;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static org.opensearch.flowframework.common.CommonValue.ALLOW_DELETE;
@@ -78,9 +75,11 @@ public class DeprovisionWorkflowTransportAction extends HandledTransportAction<W
     private final WorkflowStepFactory workflowStepFactory;
     private final FlowFrameworkIndicesHandler flowFrameworkIndicesHandler;
     private final FlowFrameworkSettings flowFrameworkSettings;
+    private final FlowFrameworkExecutors flowFrameworkExecutors;
     private volatile Boolean filterByEnabled;
     private final ClusterService clusterService;
     private final NamedXContentRegistry xContentRegistry;
+    private final WorkflowAccessControlCache accessControlCache;
 
     /**
      * Instantiates a new ProvisionWorkflowTransportAction
@@ -92,8 +91,10 @@ public class DeprovisionWorkflowTransportAction extends HandledTransportAction<W
      * @param workflowStepFactory The factory instantiating workflow steps
      * @param flowFrameworkIndicesHandler Class to handle all internal system indices actions
      * @param flowFrameworkSettings The plugin settings
+     * @param flowFrameworkExecutors The executors to run deprovision steps on
      * @param clusterService the cluster service
      * @param xContentRegistry contentRegister to parse get response
+     * @param accessControlCache the cache of workflow access controls
      * @param settings the plugin settings
      */
     @Inject
@@ -106,8 +107,10 @@ public class DeprovisionWorkflowTransportAction extends HandledTransportAction<W
         WorkflowStepFactory workflowStepFactory,
         FlowFrameworkIndicesHandler flowFrameworkIndicesHandler,
         FlowFrameworkSettings flowFrameworkSettings,
+        FlowFrameworkExecutors flowFrameworkExecutors,
         ClusterService clusterService,
         NamedXContentRegistry xContentRegistry,
+        WorkflowAccessControlCache accessControlCache,
         Settings settings
     ) {
         super(DeprovisionWorkflowAction.NAME, transportService, actionFilters, WorkflowRequest::new);
@@ -117,8 +120,10 @@ public class DeprovisionWorkflowTransportAction extends HandledTransportAction<W
         this.workflowStepFactory = workflowStepFactory;
         this.flowFrameworkIndicesHandler = flowFrameworkIndicesHandler;
         this.flowFrameworkSettings = flowFrameworkSettings;
+        this.flowFrameworkExecutors = flowFrameworkExecutors;
         filterByEnabled = FILTER_BY_BACKEND_ROLES.get(settings);
         this.xContentRegistry = xContentRegistry;
+        this.accessControlCache = accessControlCache;
         this.clusterService = clusterService;
         clusterService.getClusterSettings().addSettingsUpdateConsumer(FILTER_BY_BACKEND_ROLES, it -> filterByEnabled = it);
     }
@@ -154,7 +159,8 @@ public class DeprovisionWorkflowTransportAction extends HandledTransportAction<W
                 client,
                 sdkClient,
                 clusterService,
-                xContentRegistry
+                xContentRegistry,
+                accessControlCache
             );
 
         } catch (Exception e) {
@@ -180,7 +186,7 @@ public class DeprovisionWorkflowTransportAction extends HandledTransportAction<W
 
             Set<String> deleteAllowedResources = Strings.tokenizeByCommaToSet(allowDelete);
             // Retrieve resources from workflow state and deprovision
-            threadPool.executor(DEPROVISION_WORKFLOW_THREAD_POOL)
+            flowFrameworkExecutors.executor(DEPROVISION_WORKFLOW_THREAD_POOL)
                 .execute(
                     () -> executeDeprovisionSequence(
                         workflowId,
@@ -210,120 +216,35 @@ public class DeprovisionWorkflowTransportAction extends HandledTransportAction<W
         User user
     ) {
         List<ResourceCreated> deleteNotAllowed = new ArrayList<>();
-        // Create a list of ProcessNodes with the corresponding deprovision workflow steps
-        List<ProcessNode> deprovisionProcessSequence = new ArrayList<>();
+        List<ResourceCreated> deprovisionResources = new ArrayList<>();
         for (ResourceCreated resource : resourcesCreated) {
-            String workflowStepId = resource.workflowStepId();
-
-            String stepName = resource.workflowStepName();
-            WorkflowStep deprovisionStep = workflowStepFactory.createStep(getDeprovisionStepByWorkflowStep(stepName));
+            WorkflowStep deprovisionStep = workflowStepFactory.createStep(getDeprovisionStepByWorkflowStep(resource.workflowStepName()));
             // Skip if the step requires allow_delete but the resourceId isn't included
             if (deprovisionStep.allowDeleteRequired() && !deleteAllowedResources.contains(resource.resourceId())) {
                 deleteNotAllowed.add(resource);
                 continue;
             }
-            // New ID is old ID with (deprovision step type) prepended
-            String deprovisionStepId = "(deprovision_" + stepName + ") " + workflowStepId;
-            deprovisionProcessSequence.add(
-                new ProcessNode(
-                    deprovisionStepId,
-                    deprovisionStep,
-                    Collections.emptyMap(),
-                    Collections.emptyMap(),
-                    new WorkflowData(Map.of(getResourceByWorkflowStep(stepName), resource.resourceId()), workflowId, deprovisionStepId),
-                    Collections.emptyList(),
-                    this.threadPool,
-                    DEPROVISION_WORKFLOW_THREAD_POOL,
-                    flowFrameworkSettings.getRequestTimeout(),
-                    tenantId
-                )
-            );
+            deprovisionResources.add(resource);
         }
-
         // Deprovision in reverse order of provisioning to minimize risk of dependencies
-        Collections.reverse(deprovisionProcessSequence);
-        logger.info("Deprovisioning steps: {}", deprovisionProcessSequence.stream().map(ProcessNode::id).collect(Collectors.joining(", ")));
+        Collections.reverse(deprovisionResources);
 
-        // Repeat attempting to delete resources as long as at least one is successful
-        int resourceCount = deprovisionProcessSequence.size();
-        while (resourceCount > 0) {
-            PlainActionFuture<WorkflowData> stateUpdateFuture;
-            Iterator<ProcessNode> iter = deprovisionProcessSequence.iterator();
-            do {
-                ProcessNode deprovisionNode = iter.next();
-                ResourceCreated resource = getResourceFromDeprovisionNode(deprovisionNode, resourcesCreated);
-                String resourceNameAndId = getResourceNameAndId(resource);
-                PlainActionFuture<WorkflowData> deprovisionFuture = deprovisionNode.execute();
-                stateUpdateFuture = PlainActionFuture.newFuture();
-                try {
-                    deprovisionFuture.get();
-                    logger.info("Successful {} for {}", deprovisionNode.id(), resourceNameAndId);
-                    // Remove from state index resource list
-                    flowFrameworkIndicesHandler.deleteResourceFromStateIndex(workflowId, tenantId, resource, stateUpdateFuture);
-                    try {
-                        // Wait at most 1 second for state index update.
-                        stateUpdateFuture.actionGet(1, TimeUnit.SECONDS);
-                    } catch (Exception e) {
-                        // Ignore incremental resource removal failures (or timeouts) as we catch up at the end with remainingResources
-                    }
-                    // Remove from list so we don't try again
-                    iter.remove();
-                    // Pause briefly before next step
-                    Thread.sleep(100);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    break;
-                } catch (Throwable t) {
-                    // If any deprovision fails due to not found, it's a success
-                    if (t.getCause() instanceof OpenSearchStatusException
-                        && ((OpenSearchStatusException) t.getCause()).status() == RestStatus.NOT_FOUND) {
-                        logger.info("Successful (not found) {} for {}", deprovisionNode.id(), resourceNameAndId);
-                        // Remove from list so we don't try again
-                        iter.remove();
-                    } else {
-                        logger.info("Failed {} for {}", deprovisionNode.id(), resourceNameAndId);
-                    }
-                }
-            } while (iter.hasNext());
-            if (deprovisionProcessSequence.size() < resourceCount) {
-                // If we've deleted something, decrement and try again if not zero
-                resourceCount = deprovisionProcessSequence.size();
-                deprovisionProcessSequence = deprovisionProcessSequence.stream().map(pn -> {
-                    return new ProcessNode(
-                        pn.id(),
-                        workflowStepFactory.createStep(pn.workflowStep().getName()),
-                        pn.previousNodeInputs(),
-                        pn.params(),
-                        pn.input(),
-                        pn.predecessors(),
-                        this.threadPool,
-                        DEPROVISION_WORKFLOW_THREAD_POOL,
-                        pn.nodeTimeout(),
-                        tenantId
-                    );
-                }).collect(Collectors.toList());
-                // Pause briefly before next loop
-                try {
-                    Thread.sleep(1000);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    break;
-                }
-            } else {
-                // If nothing was deleted, exit loop
-                break;
+        new DeprovisionPlanner(
+            workflowId,
+            tenantId,
+            deprovisionResources,
+            workflowStepFactory,
+            flowFrameworkIndicesHandler,
+            threadPool,
+            flowFrameworkExecutors.executor(DEPROVISION_WORKFLOW_THREAD_POOL),
+            flowFrameworkSettings.getRequestTimeout()
+        ).execute(ActionListener.wrap(remainingResources -> {
+            if (!deleteNotAllowed.isEmpty()) {
+                logger.info("Resources requiring allow_delete: {}.", deleteNotAllowed);
             }
-        }
-        // Get corresponding resources
-        List<ResourceCreated> remainingResources = deprovisionProcessSequence.stream()
-            .map(pn -> getResourceFromDeprovisionNode(pn, resourcesCreated))
-            .collect(Collectors.toList());
-        logger.info("Resources remaining: {}.", remainingResources);
-        if (!deleteNotAllowed.isEmpty()) {
-            logger.info("Resources requiring allow_delete: {}.", deleteNotAllowed);
-        }
-        // This is a redundant best-effort backup to the incremental deletion done earlier
-        updateWorkflowState(workflowId, tenantId, remainingResources, deleteNotAllowed, listener, user);
+            // This is a redundant best-effort backup to the incremental deletion done by the planner
+            updateWorkflowState(workflowId, tenantId, remainingResources, deleteNotAllowed, listener, user);
+        }, listener::onFailure));
     }
 
     private void updateWorkflowState(
@@ -403,13 +324,6 @@ public class DeprovisionWorkflowTransportAction extends HandledTransportAction<W
         }
     }
 
-    private static ResourceCreated getResourceFromDeprovisionNode(ProcessNode deprovisionNode, List<ResourceCreated> resourcesCreated) {
-        return resourcesCreated.stream()
-            .filter(r -> deprovisionNode.id().equals("(deprovision_" + r.workflowStepName() + ") " + r.workflowStepId()))
-            .findFirst()
-            .orElse(null);
-    }
-
     private static String getResourceNameAndId(ResourceCreated resource) {
         if (resource == null) {
             return null;
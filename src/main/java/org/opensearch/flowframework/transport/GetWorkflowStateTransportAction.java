@@ -26,6 +26,7 @@ import org.opensearch.flowframework.exception.FlowFrameworkException;
 import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
 import org.opensearch.flowframework.util.ParseUtils;
 import org.opensearch.flowframework.util.TenantAwareHelper;
+import org.opensearch.flowframework.util.WorkflowAccessControlCache;
 import org.opensearch.remote.metadata.client.SdkClient;
 import org.opensearch.tasks.Task;
 import org.opensearch.transport.TransportService;
@@ -49,6 +50,7 @@ public class GetWorkflowStateTransportAction extends HandledTransportAction<GetW
     private final Client client;
     private final SdkClient sdkClient;
     private final NamedXContentRegistry xContentRegistry;
+    private final WorkflowAccessControlCache accessControlCache;
     private volatile Boolean filterByEnabled;
     private final ClusterService clusterService;
 
@@ -61,6 +63,7 @@ public class GetWorkflowStateTransportAction extends HandledTransportAction<GetW
      * @param client The client used to make the request to OS
      * @param sdkClient the Multitenant Client
      * @param xContentRegistry contentRegister to parse get response
+     * @param accessControlCache the cache of workflow access controls
      * @param clusterService the cluster service
      * @param settings the plugin settings
      */
@@ -73,6 +76,7 @@ public class GetWorkflowStateTransportAction extends HandledTransportAction<GetW
         Client client,
         SdkClient sdkClient,
         NamedXContentRegistry xContentRegistry,
+        WorkflowAccessControlCache accessControlCache,
         ClusterService clusterService,
         Settings settings
     ) {
@@ -82,6 +86,7 @@ public class GetWorkflowStateTransportAction extends HandledTransportAction<GetW
         this.client = client;
         this.sdkClient = sdkClient;
         this.xContentRegistry = xContentRegistry;
+        this.accessControlCache = accessControlCache;
         filterByEnabled = FILTER_BY_BACKEND_ROLES.get(settings);
         this.clusterService = clusterService;
         clusterService.getClusterSettings().addSettingsUpdateConsumer(FILTER_BY_BACKEND_ROLES, it -> filterByEnabled = it);
@@ -110,7 +115,8 @@ public class GetWorkflowStateTransportAction extends HandledTransportAction<GetW
                 client,
                 sdkClient,
                 clusterService,
-                xContentRegistry
+                xContentRegistry,
+                accessControlCache
             );
 
         } catch (Exception e) {
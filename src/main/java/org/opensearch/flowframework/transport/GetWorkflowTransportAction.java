@@ -29,6 +29,7 @@ import org.opensearch.flowframework.model.Template;
 import org.opensearch.flowframework.util.EncryptorUtils;
 import org.opensearch.flowframework.util.ParseUtils;
 import org.opensearch.flowframework.util.TenantAwareHelper;
+import org.opensearch.flowframework.util.WorkflowAccessControlCache;
 import org.opensearch.remote.metadata.client.SdkClient;
 import org.opensearch.tasks.Task;
 import org.opensearch.transport.TransportService;
@@ -54,6 +55,7 @@ public class GetWorkflowTransportAction extends HandledTransportAction<WorkflowR
     private volatile Boolean filterByEnabled;
     private final ClusterService clusterService;
     private final NamedXContentRegistry xContentRegistry;
+    private final WorkflowAccessControlCache accessControlCache;
 
     /**
      * Instantiates a new GetWorkflowTransportAction instance
@@ -65,6 +67,7 @@ public class GetWorkflowTransportAction extends HandledTransportAction<WorkflowR
      * @param client the Opensearch Client
      * @param sdkClient the Multitenant Client
      * @param xContentRegistry contentRegister to parse get response
+     * @param accessControlCache the cache of workflow access controls
      * @param clusterService the cluster service
      * @param settings the plugin settings
      */
@@ -79,6 +82,7 @@ public class GetWorkflowTransportAction extends HandledTransportAction<WorkflowR
         EncryptorUtils encryptorUtils,
         ClusterService clusterService,
         NamedXContentRegistry xContentRegistry,
+        WorkflowAccessControlCache accessControlCache,
         Settings settings
     ) {
         super(GetWorkflowAction.NAME, transportService, actionFilters, WorkflowRequest::new);
@@ -89,6 +93,7 @@ public class GetWorkflowTransportAction extends HandledTransportAction<WorkflowR
         this.encryptorUtils = encryptorUtils;
         filterByEnabled = FILTER_BY_BACKEND_ROLES.get(settings);
         this.xContentRegistry = xContentRegistry;
+        this.accessControlCache = accessControlCache;
         this.clusterService = clusterService;
         clusterService.getClusterSettings().addSettingsUpdateConsumer(FILTER_BY_BACKEND_ROLES, it -> filterByEnabled = it);
     }
@@ -118,7 +123,8 @@ public class GetWorkflowTransportAction extends HandledTransportAction<WorkflowR
                     client,
                     sdkClient,
                     clusterService,
-                    xContentRegistry
+                    xContentRegistry,
+                    accessControlCache
                 );
             } catch (Exception e) {
                 String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage(
@@ -161,7 +167,7 @@ public class GetWorkflowTransportAction extends HandledTransportAction<WorkflowR
             } else {
                 // Remove any secured field from response
                 User user = ParseUtils.getUserContext(client);
-                Template template = encryptorUtils.redactTemplateSecuredFields(user, Template.parse(response.getSourceAsString()));
+                Template template = encryptorUtils.redactTemplateSecuredFields(user, flowFrameworkIndicesHandler.parseTemplate(response));
                 listener.onResponse(new GetWorkflowResponse(template));
             }
         }, exception -> {
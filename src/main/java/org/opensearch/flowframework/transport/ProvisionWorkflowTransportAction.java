@@ -12,14 +12,20 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessageFactory;
 import org.opensearch.ExceptionsHelper;
+import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.support.ActionFilters;
 import org.opensearch.action.support.HandledTransportAction;
-import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.ClusterStateListener;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.routing.IndexRoutingTable;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.commons.InjectSecurity;
 import org.opensearch.commons.authuser.User;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
@@ -27,32 +33,48 @@ import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.flowframework.common.FlowFrameworkSettings;
 import org.opensearch.flowframework.exception.FlowFrameworkException;
 import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
+import org.opensearch.flowframework.model.ExecutionJournal;
+import org.opensearch.flowframework.model.ExecutionJournal.StepExecution;
 import org.opensearch.flowframework.model.ProvisioningProgress;
 import org.opensearch.flowframework.model.State;
 import org.opensearch.flowframework.model.Template;
 import org.opensearch.flowframework.model.Workflow;
+import org.opensearch.flowframework.model.WorkflowState;
 import org.opensearch.flowframework.util.EncryptorUtils;
+import org.opensearch.flowframework.util.FlowFrameworkExecutors;
 import org.opensearch.flowframework.util.TenantAwareHelper;
+import org.opensearch.flowframework.util.WorkflowAccessControlCache;
 import org.opensearch.flowframework.util.WorkflowTimeoutUtility;
 import org.opensearch.flowframework.workflow.ProcessNode;
+import org.opensearch.flowframework.workflow.StepDurationHistory;
+import org.opensearch.flowframework.workflow.StepExecutionListener;
+import org.opensearch.flowframework.workflow.WorkflowData;
+import org.opensearch.flowframework.workflow.WorkflowExecutor;
 import org.opensearch.flowframework.workflow.WorkflowProcessSorter;
+import org.opensearch.gateway.GatewayService;
+import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.plugins.PluginsService;
 import org.opensearch.remote.metadata.client.SdkClient;
+import org.opensearch.remote.metadata.client.SearchDataObjectRequest;
+import org.opensearch.remote.metadata.common.SdkClientUtils;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.tasks.Task;
 import org.opensearch.transport.TransportService;
 import org.opensearch.transport.client.Client;
 
 import java.time.Instant;
 import java.util.Collections;
-import java.util.LinkedHashMap;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 import static org.opensearch.flowframework.common.CommonValue.ERROR_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.EXECUTING_NODE_ID_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.EXECUTION_JOURNAL_FIELD;
 import static org.opensearch.flowframework.common.CommonValue.PROVISIONING_PROGRESS_FIELD;
 import static org.opensearch.flowframework.common.CommonValue.PROVISION_END_TIME_FIELD;
 import static org.opensearch.flowframework.common.CommonValue.PROVISION_START_TIME_FIELD;
@@ -60,6 +82,7 @@ import static org.opensearch.flowframework.common.CommonValue.PROVISION_WORKFLOW
 import static org.opensearch.flowframework.common.CommonValue.PROVISION_WORKFLOW_THREAD_POOL;
 import static org.opensearch.flowframework.common.CommonValue.RESOURCES_CREATED_FIELD;
 import static org.opensearch.flowframework.common.CommonValue.STATE_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_STATE_INDEX;
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.FILTER_BY_BACKEND_ROLES;
 import static org.opensearch.flowframework.util.ParseUtils.getUserContext;
 import static org.opensearch.flowframework.util.ParseUtils.resolveUserAndExecute;
@@ -76,11 +99,17 @@ public class ProvisionWorkflowTransportAction extends HandledTransportAction<Wor
     private final WorkflowProcessSorter workflowProcessSorter;
     private final FlowFrameworkIndicesHandler flowFrameworkIndicesHandler;
     private final FlowFrameworkSettings flowFrameworkSettings;
+    private final FlowFrameworkExecutors flowFrameworkExecutors;
+    private final StepDurationHistory stepDurationHistory;
     private final EncryptorUtils encryptorUtils;
     private final PluginsService pluginsService;
     private volatile Boolean filterByEnabled;
     private final ClusterService clusterService;
     private final NamedXContentRegistry xContentRegistry;
+    private final WorkflowAccessControlCache accessControlCache;
+    private final Settings settings;
+    private final AtomicBoolean resumeChecked = new AtomicBoolean(false);
+    private final ClusterStateListener resumeListener = this::resumeInterruptedWorkflowsOnStart;
 
     /**
      * Instantiates a new ProvisionWorkflowTransportAction
@@ -91,10 +120,13 @@ public class ProvisionWorkflowTransportAction extends HandledTransportAction<Wor
      * @param workflowProcessSorter Utility class to generate a togologically sorted list of Process nodes
      * @param flowFrameworkIndicesHandler Class to handle all internal system indices actions
      * @param flowFrameworkSettings The Flow Framework settings
+     * @param flowFrameworkExecutors The executors to run workflows on
+     * @param stepDurationHistory The durations of the steps executed on this node
      * @param encryptorUtils Utility class to handle encryption/decryption
      * @param pluginsService The Plugins Service
      * @param clusterService the cluster service
      * @param xContentRegistry the named content registry
+     * @param accessControlCache the cache of workflow access controls
      * @param settings the plugin settings
      */
     @Inject
@@ -106,10 +138,13 @@ public class ProvisionWorkflowTransportAction extends HandledTransportAction<Wor
         WorkflowProcessSorter workflowProcessSorter,
         FlowFrameworkIndicesHandler flowFrameworkIndicesHandler,
         FlowFrameworkSettings flowFrameworkSettings,
+        FlowFrameworkExecutors flowFrameworkExecutors,
+        StepDurationHistory stepDurationHistory,
         EncryptorUtils encryptorUtils,
         PluginsService pluginsService,
         ClusterService clusterService,
         NamedXContentRegistry xContentRegistry,
+        WorkflowAccessControlCache accessControlCache,
         Settings settings
     ) {
         super(ProvisionWorkflowAction.NAME, transportService, actionFilters, WorkflowRequest::new);
@@ -118,12 +153,18 @@ public class ProvisionWorkflowTransportAction extends HandledTransportAction<Wor
         this.workflowProcessSorter = workflowProcessSorter;
         this.flowFrameworkIndicesHandler = flowFrameworkIndicesHandler;
         this.flowFrameworkSettings = flowFrameworkSettings;
+        this.flowFrameworkExecutors = flowFrameworkExecutors;
+        this.stepDurationHistory = stepDurationHistory;
         this.encryptorUtils = encryptorUtils;
         this.pluginsService = pluginsService;
         filterByEnabled = FILTER_BY_BACKEND_ROLES.get(settings);
         this.xContentRegistry = xContentRegistry;
+        this.accessControlCache = accessControlCache;
         this.clusterService = clusterService;
+        this.settings = settings;
         clusterService.getClusterSettings().addSettingsUpdateConsumer(FILTER_BY_BACKEND_ROLES, it -> filterByEnabled = it);
+        // Workflows this node was provisioning before it restarted are resumed once the state index is available
+        clusterService.addListener(resumeListener);
     }
 
     @Override
@@ -155,7 +196,8 @@ public class ProvisionWorkflowTransportAction extends HandledTransportAction<Wor
                 client,
                 sdkClient,
                 clusterService,
-                xContentRegistry
+                xContentRegistry,
+                accessControlCache
             );
         } catch (Exception e) {
             String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage(
@@ -188,6 +230,19 @@ public class ProvisionWorkflowTransportAction extends HandledTransportAction<Wor
         ThreadContext.StoredContext context
     ) {
         String workflowId = request.getWorkflowId();
+        Consumer<Exception> onFailure = exception -> {
+            if (exception instanceof FlowFrameworkException) {
+                logger.error("Workflow validation failed for workflow {}", workflowId);
+                listener.onFailure(exception);
+            } else {
+                String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage(
+                    "Failed to retrieve template from global context for workflow {}",
+                    workflowId
+                ).getFormattedMessage();
+                logger.error(errorMessage, exception);
+                listener.onFailure(new FlowFrameworkException(errorMessage, ExceptionsHelper.status(exception)));
+            }
+        };
         logger.info("Querying workflow from global context: {}", workflowId);
         flowFrameworkIndicesHandler.getTemplate(workflowId, tenantId, ActionListener.wrap(response -> {
             context.restore();
@@ -203,104 +258,109 @@ public class ProvisionWorkflowTransportAction extends HandledTransportAction<Wor
             }
 
             // Parse template from document source
-            Template parsedTemplate = Template.parse(response.getSourceAsString());
+            Template parsedTemplate = flowFrameworkIndicesHandler.parseTemplate(response);
 
-            // Decrypt template
-            final Template template = encryptorUtils.decryptTemplateCredentials(parsedTemplate);
-
-            // Sort and validate graph
-            Workflow provisionWorkflow = template.workflows().get(PROVISION_WORKFLOW);
-            List<ProcessNode> provisionProcessSequence = workflowProcessSorter.sortProcessNodes(
-                provisionWorkflow,
-                workflowId,
-                request.getParams(),
-                tenantId
+            // Decrypt template on the crypto thread pool, off the transport thread
+            encryptorUtils.decryptTemplateCredentials(
+                parsedTemplate,
+                ActionListener.wrap(template -> provisionTemplate(request, tenantId, template, listener), onFailure)
             );
-            workflowProcessSorter.validate(provisionProcessSequence, pluginsService);
+        }, onFailure), context);
+    }
 
-            flowFrameworkIndicesHandler.getProvisioningProgress(workflowId, tenantId, progress -> {
-                if (ProvisioningProgress.NOT_STARTED.equals(progress.orElse(null))) {
-                    // update state index
-                    flowFrameworkIndicesHandler.updateFlowFrameworkSystemIndexDoc(
-                        workflowId,
-                        tenantId,
-                        Map.ofEntries(
-                            Map.entry(STATE_FIELD, State.PROVISIONING),
-                            Map.entry(PROVISIONING_PROGRESS_FIELD, ProvisioningProgress.IN_PROGRESS),
-                            Map.entry(PROVISION_START_TIME_FIELD, Instant.now().toEpochMilli()),
-                            Map.entry(RESOURCES_CREATED_FIELD, Collections.emptyList())
-                        ),
-                        ActionListener.wrap(updateResponse -> {
-                            logger.info("updated workflow {} state to {}", request.getWorkflowId(), State.PROVISIONING);
-                            if (request.getWaitForCompletionTimeout() == TimeValue.MINUS_ONE) {
-                                executeWorkflowAsync(workflowId, tenantId, provisionProcessSequence, listener);
-                            } else {
-                                executeWorkflowSync(
-                                    workflowId,
-                                    tenantId,
-                                    provisionProcessSequence,
-                                    listener,
-                                    request.getWaitForCompletionTimeout().getMillis()
-                                );
-                            }
-                            // update last provisioned field in template
-                            Template newTemplate = Template.builder(template).lastProvisionedTime(Instant.now()).build();
-                            flowFrameworkIndicesHandler.updateTemplateInGlobalContext(
-                                request.getWorkflowId(),
-                                newTemplate,
-                                ActionListener.wrap(templateResponse -> {
-                                    if (request.getWaitForCompletionTimeout() == TimeValue.MINUS_ONE) {
-                                        listener.onResponse(new WorkflowResponse(request.getWorkflowId()));
-                                    } else {
-                                        logger.info("Waiting for workflow completion");
-                                    }
-                                }, exception -> {
-                                    String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage(
-                                        "Failed to update use case template {}",
-                                        request.getWorkflowId()
-                                    ).getFormattedMessage();
-                                    logger.error(errorMessage, exception);
-                                    if (exception instanceof FlowFrameworkException) {
-                                        listener.onFailure(exception);
-                                    } else {
-                                        listener.onFailure(new FlowFrameworkException(errorMessage, ExceptionsHelper.status(exception)));
-                                    }
-                                }),
-                                // We've already checked workflow is not started, ignore second check
-                                true
+    /**
+     * Sorts, validates and provisions a decrypted template
+     * @param request the workflow request
+     * @param tenantId the tenant id
+     * @param template the decrypted template
+     * @param listener the action listener
+     */
+    private void provisionTemplate(WorkflowRequest request, String tenantId, Template template, ActionListener<WorkflowResponse> listener) {
+        String workflowId = request.getWorkflowId();
+        // Sort and validate graph
+        Workflow provisionWorkflow = template.workflows().get(PROVISION_WORKFLOW);
+        List<ProcessNode> provisionProcessSequence = workflowProcessSorter.sortProcessNodes(
+            provisionWorkflow,
+            workflowId,
+            request.getParams(),
+            tenantId
+        );
+        workflowProcessSorter.validate(provisionProcessSequence, pluginsService);
+
+        flowFrameworkIndicesHandler.getProvisioningProgress(workflowId, tenantId, progress -> {
+            if (ProvisioningProgress.NOT_STARTED.equals(progress.orElse(null))) {
+                Map<String, Object> stateUpdate = new HashMap<>(
+                    Map.ofEntries(
+                        Map.entry(STATE_FIELD, State.PROVISIONING),
+                        Map.entry(PROVISIONING_PROGRESS_FIELD, ProvisioningProgress.IN_PROGRESS),
+                        Map.entry(PROVISION_START_TIME_FIELD, Instant.now().toEpochMilli()),
+                        Map.entry(RESOURCES_CREATED_FIELD, Collections.emptyList())
+                    )
+                );
+                stateUpdate.putAll(ExecutionJournal.executingNodeUpdate(localNodeId(), request.getParams()));
+                // update state index
+                flowFrameworkIndicesHandler.updateFlowFrameworkSystemIndexDoc(
+                    workflowId,
+                    tenantId,
+                    stateUpdate,
+                    ActionListener.wrap(updateResponse -> {
+                        logger.info("updated workflow {} state to {}", request.getWorkflowId(), State.PROVISIONING);
+                        if (request.getWaitForCompletionTimeout() == TimeValue.MINUS_ONE) {
+                            executeWorkflowAsync(workflowId, tenantId, provisionProcessSequence, listener);
+                        } else {
+                            executeWorkflowSync(
+                                workflowId,
+                                tenantId,
+                                provisionProcessSequence,
+                                listener,
+                                request.getWaitForCompletionTimeout().getMillis()
                             );
-                        }, exception -> {
-                            String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage(
-                                "Failed to update workflow state: {}",
-                                workflowId
-                            ).getFormattedMessage();
-                            logger.error(errorMessage, exception);
-                            listener.onFailure(new FlowFrameworkException(errorMessage, ExceptionsHelper.status(exception)));
-                        })
-                    );
-                } else {
-                    String errorMessage = "The workflow provisioning state is "
-                        + (progress.isPresent() ? progress.get().toString() : "unknown")
-                        + " and can not be provisioned unless its state is NOT_STARTED: "
-                        + workflowId
-                        + ". Deprovision the workflow to reset the state.";
-                    logger.info(errorMessage);
-                    listener.onFailure(new FlowFrameworkException(errorMessage, RestStatus.BAD_REQUEST));
-                }
-            }, listener);
-        }, exception -> {
-            if (exception instanceof FlowFrameworkException) {
-                logger.error("Workflow validation failed for workflow {}", workflowId);
-                listener.onFailure(exception);
+                        }
+                        // update last provisioned field in template
+                        Template newTemplate = Template.builder(template).lastProvisionedTime(Instant.now()).build();
+                        flowFrameworkIndicesHandler.updateTemplateInGlobalContext(
+                            request.getWorkflowId(),
+                            newTemplate,
+                            ActionListener.wrap(templateResponse -> {
+                                if (request.getWaitForCompletionTimeout() == TimeValue.MINUS_ONE) {
+                                    listener.onResponse(new WorkflowResponse(request.getWorkflowId()));
+                                } else {
+                                    logger.info("Waiting for workflow completion");
+                                }
+                            }, exception -> {
+                                String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage(
+                                    "Failed to update use case template {}",
+                                    request.getWorkflowId()
+                                ).getFormattedMessage();
+                                logger.error(errorMessage, exception);
+                                if (exception instanceof FlowFrameworkException) {
+                                    listener.onFailure(exception);
+                                } else {
+                                    listener.onFailure(new FlowFrameworkException(errorMessage, ExceptionsHelper.status(exception)));
+                                }
+                            }),
+                            // We've already checked workflow is not started, ignore second check
+                            true
+                        );
+                    }, exception -> {
+                        String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage(
+                            "Failed to update workflow state: {}",
+                            workflowId
+                        ).getFormattedMessage();
+                        logger.error(errorMessage, exception);
+                        listener.onFailure(new FlowFrameworkException(errorMessage, ExceptionsHelper.status(exception)));
+                    })
+                );
             } else {
-                String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage(
-                    "Failed to retrieve template from global context for workflow {}",
-                    workflowId
-                ).getFormattedMessage();
-                logger.error(errorMessage, exception);
-                listener.onFailure(new FlowFrameworkException(errorMessage, ExceptionsHelper.status(exception)));
+                String errorMessage = "The workflow provisioning state is "
+                    + (progress.isPresent() ? progress.get().toString() : "unknown")
+                    + " and can not be provisioned unless its state is NOT_STARTED: "
+                    + workflowId
+                    + ". Deprovision the workflow to reset the state.";
+                logger.info(errorMessage);
+                listener.onFailure(new FlowFrameworkException(errorMessage, RestStatus.BAD_REQUEST));
             }
-        }), context);
+        }, listener);
     }
 
     /**
@@ -316,7 +376,7 @@ public class ProvisionWorkflowTransportAction extends HandledTransportAction<Wor
         ActionListener<WorkflowResponse> listener
     ) {
         try {
-            client.threadPool().executor(PROVISION_WORKFLOW_THREAD_POOL).execute(() -> {
+            flowFrameworkExecutors.executor(PROVISION_WORKFLOW_THREAD_POOL).execute(() -> {
                 executeWorkflow(workflowSequence, workflowId, tenantId, listener, false);
             });
         } catch (Exception exception) {
@@ -358,7 +418,7 @@ public class ProvisionWorkflowTransportAction extends HandledTransportAction<Wor
             } catch (Exception ex) {
                 WorkflowTimeoutUtility.handleFailure(workflowId, ex, listener);
             }
-        }, client.threadPool().executor(PROVISION_WORKFLOW_THREAD_POOL));
+        }, flowFrameworkExecutors.executor(PROVISION_WORKFLOW_THREAD_POOL));
 
         WorkflowTimeoutUtility.scheduleTimeoutHandler(client, client.threadPool(), workflowId, tenantId, listener, timeout, isResponseSent);
     }
@@ -378,121 +438,340 @@ public class ProvisionWorkflowTransportAction extends HandledTransportAction<Wor
         ActionListener<WorkflowResponse> listener,
         boolean isSyncExecution
     ) {
-        String currentStepId = "";
+        WorkflowExecutor workflowExecutor = new WorkflowExecutor(
+            workflowId,
+            workflowSequence,
+            flowFrameworkExecutors.executor(PROVISION_WORKFLOW_THREAD_POOL),
+            flowFrameworkSettings.getMaxConcurrentStepsPerWorkflow(),
+            new StepExecutionListener() {
+                @Override
+                public void onStepStarted(ProcessNode node) {
+                    recordStep(workflowId, tenantId, node.id(), StepExecution.started(Instant.now()));
+                }
+
+                @Override
+                public void onStepCompleted(ProcessNode node, WorkflowData output) {
+                    recordStep(workflowId, tenantId, node.id(), StepExecution.completed(Instant.now(), output.getContent()));
+                }
+            },
+            stepDurationHistory
+        );
+        workflowExecutor.execute(
+            ActionListener.wrap(
+                results -> handleWorkflowSuccess(workflowId, tenantId, listener, isSyncExecution),
+                ex -> handleWorkflowFailure(ex, workflowExecutor.failedNodeId(), workflowId, tenantId, listener, isSyncExecution)
+            )
+        );
+    }
+
+    /**
+     * Records the start or completion of a step in the execution journal of the workflow state. Failing to record it does not fail the
+     * workflow, it only prevents the step from being reused if the workflow is resumed.
+     * @param workflowId The workflowId associated with the workflow that is executing
+     * @param tenantId The tenant id
+     * @param stepId The id of the step
+     * @param step The start or completion of the step
+     */
+    private void recordStep(String workflowId, String tenantId, String stepId, StepExecution step) {
+        flowFrameworkIndicesHandler.recordStepInExecutionJournal(
+            workflowId,
+            tenantId,
+            stepId,
+            step,
+            ActionListener.wrap(
+                r -> logger.debug("Recorded step {} of workflow {} in the execution journal", stepId, workflowId),
+                e -> logger.warn("Failed to record step {} of workflow {} in the execution journal", stepId, workflowId, e)
+            )
+        );
+    }
+
+    /**
+     * Gets the id of this node, recorded in the execution journal of the workflows it provisions
+     * @return the local node id, or null if this node has not joined a cluster
+     */
+    private String localNodeId() {
+        DiscoveryNode localNode = clusterService.localNode();
+        return localNode == null ? null : localNode.getId();
+    }
+
+    /**
+     * Resumes the workflows this node was provisioning before it restarted, once the cluster state is recovered and the state index is
+     * available. Runs once after the node starts.
+     * @param event the cluster changed event
+     */
+    private void resumeInterruptedWorkflowsOnStart(ClusterChangedEvent event) {
+        ClusterState state = event.state();
+        if (state.blocks().hasGlobalBlock(GatewayService.STATE_NOT_RECOVERED_BLOCK)) {
+            return;
+        }
+        IndexRoutingTable stateIndexRouting = state.routingTable().index(WORKFLOW_STATE_INDEX);
+        if (stateIndexRouting != null && !stateIndexRouting.allPrimaryShardsActive()) {
+            return;
+        }
+        if (!resumeChecked.compareAndSet(false, true)) {
+            return;
+        }
+        clusterService.removeListener(resumeListener);
+        if (stateIndexRouting == null) {
+            // No workflow has been provisioned
+            return;
+        }
         try {
-            Map<String, PlainActionFuture<?>> workflowFutureMap = new LinkedHashMap<>();
-            for (ProcessNode processNode : workflowSequence) {
-                List<ProcessNode> predecessors = processNode.predecessors();
+            flowFrameworkExecutors.executor(PROVISION_WORKFLOW_THREAD_POOL).execute(this::resumeInterruptedWorkflows);
+        } catch (Exception e) {
+            logger.error("Failed to resume interrupted workflows", e);
+        }
+    }
 
-                logger.info(
-                    "Queueing process [{}].{}",
-                    processNode.id(),
-                    predecessors.isEmpty()
-                        ? " Can start immediately!"
-                        : String.format(
-                            Locale.getDefault(),
-                            " Must wait for [%s] to complete first.",
-                            predecessors.stream().map(p -> p.id()).collect(Collectors.joining(", "))
-                        )
-                );
+    /**
+     * Searches the workflows left in progress by this node and resumes them. The search is not restricted to a tenant, as this node
+     * resumes the workflows of every tenant; each workflow is then resumed with the tenant recorded in its state.
+     */
+    private void resumeInterruptedWorkflows() {
+        String localNodeId = localNodeId();
+        if (localNodeId == null) {
+            return;
+        }
+        SearchSourceBuilder searchSource = new SearchSourceBuilder().query(
+            QueryBuilders.boolQuery()
+                .filter(QueryBuilders.termQuery(STATE_FIELD, State.PROVISIONING.name()))
+                .filter(QueryBuilders.termQuery(PROVISIONING_PROGRESS_FIELD, ProvisioningProgress.IN_PROGRESS.name()))
+                .filter(QueryBuilders.termQuery(EXECUTION_JOURNAL_FIELD + "." + EXECUTING_NODE_ID_FIELD, localNodeId))
+        ).size(flowFrameworkSettings.getMaxWorkflows()).timeout(flowFrameworkSettings.getRequestTimeout());
+        SearchDataObjectRequest searchRequest = SearchDataObjectRequest.builder()
+            .indices(WORKFLOW_STATE_INDEX)
+            .searchSourceBuilder(searchSource)
+            .build();
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            sdkClient.searchDataObjectAsync(searchRequest).whenComplete((r, throwable) -> {
+                context.restore();
+                if (throwable != null) {
+                    Exception exception = SdkClientUtils.unwrapAndConvertToException(throwable);
+                    logger.error("Failed to search for workflows interrupted while provisioning", exception);
+                    return;
+                }
+                SearchResponse searchResponse;
+                try {
+                    searchResponse = SearchResponse.fromXContent(r.parser());
+                } catch (Exception e) {
+                    logger.error("Failed to parse workflow state searchResponse", e);
+                    return;
+                }
+                for (SearchHit hit : searchResponse.getHits()) {
+                    try {
+                        resumeWorkflow(hit.getId(), WorkflowState.parse(hit.getSourceAsString()));
+                    } catch (Exception e) {
+                        logger.error("Failed to resume provisioning of workflow {}", hit.getId(), e);
+                    }
+                }
+            });
+        } catch (Exception e) {
+            logger.error("Failed to search for workflows interrupted while provisioning", e);
+        }
+    }
 
-                workflowFutureMap.put(processNode.id(), processNode.execute());
+    /**
+     * Resumes provisioning a workflow interrupted by a restart of this node. Steps which completed are not executed again; their
+     * recorded outputs are passed to the remaining steps.
+     * @param workflowId The id of the workflow
+     * @param workflowState The state of the workflow, including its execution journal
+     */
+    private void resumeWorkflow(String workflowId, WorkflowState workflowState) {
+        String tenantId = workflowState.getTenantId();
+        ActionListener<WorkflowResponse> listener = ActionListener.wrap(
+            r -> logger.info("Resumed provisioning of workflow {}", workflowId),
+            e -> logger.error("Failed to resume provisioning of workflow {}", workflowId, e)
+        );
+        // Resumed workflows are not throttled, but hold a slot which is released when they complete
+        if (!TenantAwareHelper.tryAcquireProvision(Integer.MAX_VALUE, tenantId, listener)) {
+            return;
+        }
+        Consumer<Exception> onFailure = e -> handleWorkflowFailure(e, null, workflowId, tenantId, listener, false);
+        ExecutionJournal executionJournal = workflowState.executionJournal();
+        Map<String, String> params = executionJournal.getParams();
+        Map<String, Map<String, String>> completedOutputs = executionJournal.completedOutputs(
+            workflowState.getProvisionStartTime(),
+            workflowState.resourcesCreated()
+        );
+        logger.info("Resuming provisioning of workflow {}, reusing the outputs of {} completed steps", workflowId, completedOutputs.size());
+        ThreadContext threadContext = client.threadPool().getThreadContext();
+        // The remaining steps run with the roles of the user who started provisioning, as they would have before the restart
+        try (InjectSecurity injectSecurity = new InjectSecurity(workflowId, settings, threadContext)) {
+            User user = workflowState.getUser();
+            if (user != null) {
+                injectSecurity.injectRoles(user.getRoles());
+                injectSecurity.injectUserInfo(user);
+            }
+            ThreadContext.StoredContext userContext = threadContext.newStoredContext(true);
+            try (ThreadContext.StoredContext context = threadContext.stashContext()) {
+                executeRemainingSteps(workflowId, tenantId, params, completedOutputs, listener, onFailure, userContext);
             }
+        }
+    }
 
-            // Attempt to complete each workflow step future, may throw a ExecutionException if any step completes exceptionally
-            for (Map.Entry<String, PlainActionFuture<?>> e : workflowFutureMap.entrySet()) {
-                currentStepId = e.getKey();
-                e.getValue().actionGet();
+    /**
+     * Gets the template of an interrupted workflow and executes its steps which did not complete
+     * @param workflowId The id of the workflow
+     * @param tenantId The tenant id
+     * @param params The substitution params the workflow was provisioned with
+     * @param completedOutputs The outputs of the completed steps, by step id
+     * @param listener The listener notified once the workflow completes
+     * @param onFailure Fails the workflow
+     * @param userContext The thread context to execute the steps in
+     */
+    private void executeRemainingSteps(
+        String workflowId,
+        String tenantId,
+        Map<String, String> params,
+        Map<String, Map<String, String>> completedOutputs,
+        ActionListener<WorkflowResponse> listener,
+        Consumer<Exception> onFailure,
+        ThreadContext.StoredContext userContext
+    ) {
+        flowFrameworkIndicesHandler.getTemplate(workflowId, tenantId, ActionListener.wrap(response -> {
+            if (!response.isExists()) {
+                onFailure.accept(new FlowFrameworkException("Failed to retrieve template (" + workflowId + ")", RestStatus.NOT_FOUND));
+                return;
             }
+            Template parsedTemplate = flowFrameworkIndicesHandler.parseTemplate(response);
+            encryptorUtils.decryptTemplateCredentials(parsedTemplate, ActionListener.wrap(template -> {
+                Workflow provisionWorkflow = template.workflows().get(PROVISION_WORKFLOW);
+                // Validate the complete workflow, as the completed steps are replaced by steps passing their outputs
+                workflowProcessSorter.validate(
+                    workflowProcessSorter.sortProcessNodes(provisionWorkflow, workflowId, params, tenantId),
+                    pluginsService
+                );
+                List<ProcessNode> resumedSequence = workflowProcessSorter.sortProcessNodes(
+                    provisionWorkflow,
+                    workflowId,
+                    params,
+                    tenantId,
+                    completedOutputs
+                );
+                executeWorkflow(resumedSequence, workflowId, tenantId, listener, false);
+            }, onFailure));
+        }, onFailure), userContext);
+    }
 
-            logger.info("Provisioning completed successfully for workflow {}", workflowId);
-            // Need to call TenantAwareHelper.releaseProvision in cases listener.onFailure is not called
-            flowFrameworkIndicesHandler.updateFlowFrameworkSystemIndexDoc(
-                workflowId,
-                tenantId,
-                Map.ofEntries(
-                    Map.entry(STATE_FIELD, State.COMPLETED),
-                    Map.entry(PROVISIONING_PROGRESS_FIELD, ProvisioningProgress.DONE),
-                    Map.entry(PROVISION_END_TIME_FIELD, Instant.now().toEpochMilli())
-                ),
-                ActionListener.wrap(updateResponse -> {
-                    logger.info("updated workflow {} state to {}", workflowId, State.COMPLETED);
-                    if (isSyncExecution) {
-                        client.execute(
-                            GetWorkflowStateAction.INSTANCE,
-                            new GetWorkflowStateRequest(workflowId, false, tenantId),
-                            ActionListener.wrap(response -> {
-                                // We've completed provisioning and responding synchronously
-                                TenantAwareHelper.releaseProvision(tenantId);
-                                listener.onResponse(new WorkflowResponse(workflowId, response.getWorkflowState()));
-                            }, exception -> {
-                                String errorMessage = "Failed to get workflow state.";
-                                logger.error(errorMessage, exception);
-                                if (exception instanceof FlowFrameworkException) {
-                                    listener.onFailure(exception);
-                                } else {
-                                    listener.onFailure(new FlowFrameworkException(errorMessage, ExceptionsHelper.status(exception)));
-                                }
-                            })
-                        );
-                    } else {
-                        // We've completed provisioning asynchronously
-                        TenantAwareHelper.releaseProvision(tenantId);
-                    }
-                }, exception -> {
-                    // We've completed provisioning asynchronously but failed state update
+    /**
+     * Updates the workflow state after all steps of the workflow have completed
+     * @param workflowId The workflowId associated with the workflow that executed
+     * @param tenantId The tenant id
+     * @param listener The ActionListener to handle the workflow response or failure
+     * @param isSyncExecution Flag indicating whether the workflow was executed synchronously (true) or asynchronously (false)
+     */
+    private void handleWorkflowSuccess(
+        String workflowId,
+        String tenantId,
+        ActionListener<WorkflowResponse> listener,
+        boolean isSyncExecution
+    ) {
+        logger.info("Provisioning completed successfully for workflow {}", workflowId);
+        // Need to call TenantAwareHelper.releaseProvision in cases listener.onFailure is not called
+        flowFrameworkIndicesHandler.updateFlowFrameworkSystemIndexDoc(
+            workflowId,
+            tenantId,
+            Map.ofEntries(
+                Map.entry(STATE_FIELD, State.COMPLETED),
+                Map.entry(PROVISIONING_PROGRESS_FIELD, ProvisioningProgress.DONE),
+                Map.entry(PROVISION_END_TIME_FIELD, Instant.now().toEpochMilli())
+            ),
+            ActionListener.wrap(updateResponse -> {
+                logger.info("updated workflow {} state to {}", workflowId, State.COMPLETED);
+                if (isSyncExecution) {
+                    client.execute(
+                        GetWorkflowStateAction.INSTANCE,
+                        new GetWorkflowStateRequest(workflowId, false, tenantId),
+                        ActionListener.wrap(response -> {
+                            // We've completed provisioning and responding synchronously
+                            TenantAwareHelper.releaseProvision(tenantId);
+                            listener.onResponse(new WorkflowResponse(workflowId, response.getWorkflowState()));
+                        }, exception -> {
+                            String errorMessage = "Failed to get workflow state.";
+                            logger.error(errorMessage, exception);
+                            if (exception instanceof FlowFrameworkException) {
+                                listener.onFailure(exception);
+                            } else {
+                                listener.onFailure(new FlowFrameworkException(errorMessage, ExceptionsHelper.status(exception)));
+                            }
+                        })
+                    );
+                } else {
+                    // We've completed provisioning asynchronously
                     TenantAwareHelper.releaseProvision(tenantId);
-                    logger.error("Failed to update workflow state for workflow {}", workflowId, exception);
-                })
-            );
-        } catch (Exception ex) {
-            RestStatus status;
-            String message;
-            if (ex instanceof FlowFrameworkException) {
-                status = ((FlowFrameworkException) ex).getRestStatus();
-                message = ", " + ex.getMessage();
-            } else {
-                status = ExceptionsHelper.status(ex);
-                message = "";
-            }
-            logger.error("Provisioning failed for workflow {} during step {}.", workflowId, currentStepId, ex);
-            Throwable cause = ex.getCause() == null ? ex : ex.getCause();
-            String errorMessage = cause.getClass().getSimpleName()
-                + " during step "
-                + currentStepId
-                + message
-                + ", restStatus: "
-                + status.toString();
-            flowFrameworkIndicesHandler.updateFlowFrameworkSystemIndexDoc(
-                workflowId,
-                tenantId,
-                Map.ofEntries(
-                    Map.entry(STATE_FIELD, State.FAILED),
-                    Map.entry(ERROR_FIELD, errorMessage),
-                    Map.entry(PROVISIONING_PROGRESS_FIELD, ProvisioningProgress.FAILED),
-                    Map.entry(PROVISION_END_TIME_FIELD, Instant.now().toEpochMilli())
-                ),
-                ActionListener.wrap(updateResponse -> {
-                    logger.info("updated workflow {} state to {}", workflowId, State.FAILED);
-                    if (isSyncExecution) {
-                        listener.onFailure(new FlowFrameworkException(errorMessage, status));
-                    } else {
-                        TenantAwareHelper.releaseProvision(tenantId);
-                    }
-                }, exceptionState -> {
-                    logger.error("Failed to update workflow state for workflow {}", workflowId, exceptionState);
-                    if (isSyncExecution) {
-                        listener.onFailure(
-                            new FlowFrameworkException(
-                                errorMessage + ". Failed to update workflow state after execution failure.",
-                                RestStatus.INTERNAL_SERVER_ERROR
-                            )
-                        );
-                    } else {
-                        TenantAwareHelper.releaseProvision(tenantId);
-                    }
-                })
-            );
+                }
+            }, exception -> {
+                // We've completed provisioning asynchronously but failed state update
+                TenantAwareHelper.releaseProvision(tenantId);
+                logger.error("Failed to update workflow state for workflow {}", workflowId, exception);
+            })
+        );
+    }
+
+    /**
+     * Updates the workflow state after a step of the workflow has failed
+     * @param ex The exception which caused the failure
+     * @param failedStepId The id of the step which failed
+     * @param workflowId The workflowId associated with the workflow that executed
+     * @param tenantId The tenant id
+     * @param listener The ActionListener to handle the workflow response or failure
+     * @param isSyncExecution Flag indicating whether the workflow was executed synchronously (true) or asynchronously (false)
+     */
+    private void handleWorkflowFailure(
+        Exception ex,
+        String failedStepId,
+        String workflowId,
+        String tenantId,
+        ActionListener<WorkflowResponse> listener,
+        boolean isSyncExecution
+    ) {
+        String currentStepId = failedStepId == null ? "" : failedStepId;
+        RestStatus status;
+        String message;
+        if (ex instanceof FlowFrameworkException) {
+            status = ((FlowFrameworkException) ex).getRestStatus();
+            message = ", " + ex.getMessage();
+        } else {
+            status = ExceptionsHelper.status(ex);
+            message = "";
         }
+        logger.error("Provisioning failed for workflow {} during step {}.", workflowId, currentStepId, ex);
+        Throwable cause = ex.getCause() == null ? ex : ex.getCause();
+        String errorMessage = cause.getClass().getSimpleName()
+            + " during step "
+            + currentStepId
+            + message
+            + ", restStatus: "
+            + status.toString();
+        flowFrameworkIndicesHandler.updateFlowFrameworkSystemIndexDoc(
+            workflowId,
+            tenantId,
+            Map.ofEntries(
+                Map.entry(STATE_FIELD, State.FAILED),
+                Map.entry(ERROR_FIELD, errorMessage),
+                Map.entry(PROVISIONING_PROGRESS_FIELD, ProvisioningProgress.FAILED),
+                Map.entry(PROVISION_END_TIME_FIELD, Instant.now().toEpochMilli())
+            ),
+            ActionListener.wrap(updateResponse -> {
+                logger.info("updated workflow {} state to {}", workflowId, State.FAILED);
+                if (isSyncExecution) {
+                    listener.onFailure(new FlowFrameworkException(errorMessage, status));
+                } else {
+                    TenantAwareHelper.releaseProvision(tenantId);
+                }
+            }, exceptionState -> {
+                logger.error("Failed to update workflow state for workflow {}", workflowId, exceptionState);
+                if (isSyncExecution) {
+                    listener.onFailure(
+                        new FlowFrameworkException(
+                            errorMessage + ". Failed to update workflow state after execution failure.",
+                            RestStatus.INTERNAL_SERVER_ERROR
+                        )
+                    );
+                } else {
+                    TenantAwareHelper.releaseProvision(tenantId);
+                }
+            })
+        );
     }
 }
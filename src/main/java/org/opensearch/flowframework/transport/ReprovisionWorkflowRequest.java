@@ -68,8 +68,8 @@ public class ReprovisionWorkflowRequest extends ActionRequest {
     public ReprovisionWorkflowRequest(StreamInput in) throws IOException {
         super(in);
         this.workflowId = in.readString();
-        this.originalTemplate = Template.parse(in.readString());
-        this.updatedTemplate = Template.parse(in.readString());
+        this.originalTemplate = Template.readFrom(in);
+        this.updatedTemplate = Template.readFrom(in);
         if (in.getVersion().onOrAfter(CommonValue.VERSION_2_19_0)) {
             this.waitForCompletionTimeout = in.readTimeValue();
         }
@@ -80,8 +80,8 @@ public class ReprovisionWorkflowRequest extends ActionRequest {
     public void writeTo(StreamOutput out) throws IOException {
         super.writeTo(out);
         out.writeString(workflowId);
-        out.writeString(originalTemplate.toJson());
-        out.writeString(updatedTemplate.toJson());
+        originalTemplate.writeTo(out);
+        updatedTemplate.writeTo(out);
         if (out.getVersion().onOrAfter(CommonValue.VERSION_2_19_0)) {
             out.writeTimeValue(waitForCompletionTimeout);
         }
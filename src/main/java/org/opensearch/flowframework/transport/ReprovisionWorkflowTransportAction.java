@@ -12,9 +12,9 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessageFactory;
 import org.opensearch.ExceptionsHelper;
+import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.support.ActionFilters;
 import org.opensearch.action.support.HandledTransportAction;
-import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.settings.Settings;
@@ -27,6 +27,7 @@ import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.flowframework.common.FlowFrameworkSettings;
 import org.opensearch.flowframework.exception.FlowFrameworkException;
 import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
+import org.opensearch.flowframework.model.ExecutionJournal;
 import org.opensearch.flowframework.model.ProvisioningProgress;
 import org.opensearch.flowframework.model.ResourceCreated;
 import org.opensearch.flowframework.model.State;
@@ -34,9 +35,13 @@ import org.opensearch.flowframework.model.Template;
 import org.opensearch.flowframework.model.Workflow;
 import org.opensearch.flowframework.model.WorkflowState;
 import org.opensearch.flowframework.util.EncryptorUtils;
+import org.opensearch.flowframework.util.FlowFrameworkExecutors;
 import org.opensearch.flowframework.util.TenantAwareHelper;
+import org.opensearch.flowframework.util.WorkflowAccessControlCache;
 import org.opensearch.flowframework.util.WorkflowTimeoutUtility;
 import org.opensearch.flowframework.workflow.ProcessNode;
+import org.opensearch.flowframework.workflow.StepDurationHistory;
+import org.opensearch.flowframework.workflow.WorkflowExecutor;
 import org.opensearch.flowframework.workflow.WorkflowProcessSorter;
 import org.opensearch.flowframework.workflow.WorkflowStepFactory;
 import org.opensearch.plugins.PluginsService;
@@ -48,13 +53,12 @@ import org.opensearch.transport.client.Client;
 
 import java.time.Instant;
 import java.util.Collections;
-import java.util.LinkedHashMap;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 import static org.opensearch.flowframework.common.CommonValue.ERROR_FIELD;
 import static org.opensearch.flowframework.common.CommonValue.PROVISIONING_PROGRESS_FIELD;
@@ -81,11 +85,14 @@ public class ReprovisionWorkflowTransportAction extends HandledTransportAction<R
     private final WorkflowProcessSorter workflowProcessSorter;
     private final FlowFrameworkIndicesHandler flowFrameworkIndicesHandler;
     private final FlowFrameworkSettings flowFrameworkSettings;
+    private final FlowFrameworkExecutors flowFrameworkExecutors;
+    private final StepDurationHistory stepDurationHistory;
     private final PluginsService pluginsService;
     private final EncryptorUtils encryptorUtils;
     private volatile Boolean filterByEnabled;
     private final ClusterService clusterService;
     private final NamedXContentRegistry xContentRegistry;
+    private final WorkflowAccessControlCache accessControlCache;
 
     /**
      * Instantiates a new ReprovisionWorkflowTransportAction
@@ -98,10 +105,13 @@ public class ReprovisionWorkflowTransportAction extends HandledTransportAction<R
      * @param workflowProcessSorter Utility class to generate a togologically sorted list of Process nodes
      * @param flowFrameworkIndicesHandler Class to handle all internal system indices actions
      * @param flowFrameworkSettings Whether this API is enabled
+     * @param flowFrameworkExecutors The executors to run workflows on
+     * @param stepDurationHistory The durations of the steps executed on this node
      * @param encryptorUtils Utility class to handle encryption/decryption
      * @param pluginsService The Plugins Service
      * @param clusterService The Cluster Service
      * @param xContentRegistry The XContent Registry
+     * @param accessControlCache the cache of workflow access controls
      * @param settings  The plugin settings
      */
     @Inject
@@ -115,10 +125,13 @@ public class ReprovisionWorkflowTransportAction extends HandledTransportAction<R
         WorkflowProcessSorter workflowProcessSorter,
         FlowFrameworkIndicesHandler flowFrameworkIndicesHandler,
         FlowFrameworkSettings flowFrameworkSettings,
+        FlowFrameworkExecutors flowFrameworkExecutors,
+        StepDurationHistory stepDurationHistory,
         EncryptorUtils encryptorUtils,
         PluginsService pluginsService,
         ClusterService clusterService,
         NamedXContentRegistry xContentRegistry,
+        WorkflowAccessControlCache accessControlCache,
         Settings settings
     ) {
         super(ReprovisionWorkflowAction.NAME, transportService, actionFilters, ReprovisionWorkflowRequest::new);
@@ -128,10 +141,13 @@ public class ReprovisionWorkflowTransportAction extends HandledTransportAction<R
         this.workflowProcessSorter = workflowProcessSorter;
         this.flowFrameworkIndicesHandler = flowFrameworkIndicesHandler;
         this.flowFrameworkSettings = flowFrameworkSettings;
+        this.flowFrameworkExecutors = flowFrameworkExecutors;
+        this.stepDurationHistory = stepDurationHistory;
         this.encryptorUtils = encryptorUtils;
         this.pluginsService = pluginsService;
         filterByEnabled = FILTER_BY_BACKEND_ROLES.get(settings);
         this.xContentRegistry = xContentRegistry;
+        this.accessControlCache = accessControlCache;
         this.clusterService = clusterService;
         clusterService.getClusterSettings().addSettingsUpdateConsumer(FILTER_BY_BACKEND_ROLES, it -> filterByEnabled = it);
     }
@@ -162,7 +178,8 @@ public class ReprovisionWorkflowTransportAction extends HandledTransportAction<R
                 client,
                 sdkClient,
                 clusterService,
-                xContentRegistry
+                xContentRegistry,
+                accessControlCache
             );
         } catch (Exception e) {
             String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage(
@@ -189,6 +206,18 @@ public class ReprovisionWorkflowTransportAction extends HandledTransportAction<R
         ThreadContext.StoredContext context
     ) {
         String workflowId = request.getWorkflowId();
+        Consumer<Exception> onFailure = exception -> {
+            if (exception instanceof FlowFrameworkException) {
+                listener.onFailure(exception);
+            } else {
+                String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage(
+                    "Failed to get workflow state for workflow {}",
+                    workflowId
+                ).getFormattedMessage();
+                logger.error(errorMessage, exception);
+                listener.onFailure(new FlowFrameworkException(errorMessage, ExceptionsHelper.status(exception)));
+            }
+        };
         logger.info("Querying state for workflow: {}", workflowId);
         // Retrieve state and resources created
         GetWorkflowStateRequest getStateRequest = new GetWorkflowStateRequest(workflowId, true, tenantId);
@@ -202,115 +231,131 @@ public class ReprovisionWorkflowTransportAction extends HandledTransportAction<R
                 throw new FlowFrameworkException(errorMessage, RestStatus.BAD_REQUEST);
             }
 
-            // Generate reprovision sequence
-            List<ResourceCreated> resourceCreated = response.getWorkflowState().resourcesCreated();
-
-            // Original template is retrieved from index, attempt to decrypt any exisiting credentials before processing
-            Template originalTemplate = encryptorUtils.decryptTemplateCredentials(request.getOriginalTemplate());
-            Template updatedTemplate = request.getUpdatedTemplate();
-
-            // Validate updated template prior to execution
-            Workflow provisionWorkflow = updatedTemplate.workflows().get(PROVISION_WORKFLOW);
-            List<ProcessNode> updatedProcessSequence = workflowProcessSorter.sortProcessNodes(
-                provisionWorkflow,
-                request.getWorkflowId(),
-                Collections.emptyMap(), // TODO : Add suport to reprovision substitution templates
-                tenantId
+            // Original template is retrieved from index, attempt to decrypt any exisiting credentials on the crypto thread pool
+            encryptorUtils.decryptTemplateCredentials(
+                request.getOriginalTemplate(),
+                ActionListener.wrap(
+                    originalTemplate -> reprovisionTemplate(request, tenantId, response.getWorkflowState(), originalTemplate, listener),
+                    onFailure
+                )
             );
+        }, onFailure));
+    }
 
-            try {
-                workflowProcessSorter.validate(updatedProcessSequence, pluginsService);
-            } catch (Exception e) {
-                String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage(
-                    "Workflow validation failed for workflow {}",
-                    request.getWorkflowId()
-                ).getFormattedMessage();
-                logger.error(errorMessage, e);
-                listener.onFailure(new FlowFrameworkException(errorMessage, RestStatus.BAD_REQUEST));
-            }
-            List<ProcessNode> reprovisionProcessSequence = workflowProcessSorter.createReprovisionSequence(
-                workflowId,
-                originalTemplate,
-                updatedTemplate,
-                resourceCreated,
-                tenantId
-            );
+    /**
+     * Generates and executes the reprovision sequence of a template
+     * @param request the reprovision request
+     * @param tenantId the tenant id
+     * @param workflowState the current workflow state
+     * @param originalTemplate the original template with decrypted credentials
+     * @param listener the action listener
+     */
+    private void reprovisionTemplate(
+        ReprovisionWorkflowRequest request,
+        String tenantId,
+        WorkflowState workflowState,
+        Template originalTemplate,
+        ActionListener<WorkflowResponse> listener
+    ) {
+        String workflowId = request.getWorkflowId();
+        // Generate reprovision sequence
+        List<ResourceCreated> resourceCreated = workflowState.resourcesCreated();
+
+        Template updatedTemplate = request.getUpdatedTemplate();
+
+        // Validate updated template prior to execution
+        Workflow provisionWorkflow = updatedTemplate.workflows().get(PROVISION_WORKFLOW);
+        List<ProcessNode> updatedProcessSequence = workflowProcessSorter.sortProcessNodes(
+            provisionWorkflow,
+            request.getWorkflowId(),
+            Collections.emptyMap(), // TODO : Add suport to reprovision substitution templates
+            tenantId
+        );
 
-            // Remove error field if any prior to subsequent execution
-            if (response.getWorkflowState().getError() != null) {
-                WorkflowState newState = WorkflowState.builder(response.getWorkflowState()).error(null).build();
-                flowFrameworkIndicesHandler.updateFlowFrameworkSystemIndexDoc(
-                    workflowId,
-                    tenantId,
-                    newState,
-                    ActionListener.wrap(updateResponse -> {
-
-                    }, exception -> {
-                        String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage(
-                            "Failed to update workflow state: {}",
-                            workflowId
-                        ).getFormattedMessage();
-                        logger.error(errorMessage, exception);
-                        listener.onFailure(new FlowFrameworkException(errorMessage, ExceptionsHelper.status(exception)));
-                    })
-                );
-            }
+        try {
+            workflowProcessSorter.validate(updatedProcessSequence, pluginsService);
+        } catch (Exception e) {
+            String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage(
+                "Workflow validation failed for workflow {}",
+                request.getWorkflowId()
+            ).getFormattedMessage();
+            logger.error(errorMessage, e);
+            listener.onFailure(new FlowFrameworkException(errorMessage, RestStatus.BAD_REQUEST));
+        }
+        List<ProcessNode> reprovisionProcessSequence = workflowProcessSorter.createReprovisionSequence(
+            workflowId,
+            originalTemplate,
+            updatedTemplate,
+            resourceCreated,
+            tenantId
+        );
 
-            // Update State Index, maintain resources created for subsequent execution
+        // Remove error field if any prior to subsequent execution
+        if (workflowState.getError() != null) {
+            WorkflowState newState = WorkflowState.builder(workflowState).error(null).build();
             flowFrameworkIndicesHandler.updateFlowFrameworkSystemIndexDoc(
                 workflowId,
                 tenantId,
-                Map.ofEntries(
-                    Map.entry(STATE_FIELD, State.PROVISIONING),
-                    Map.entry(PROVISIONING_PROGRESS_FIELD, ProvisioningProgress.IN_PROGRESS),
-                    Map.entry(PROVISION_START_TIME_FIELD, Instant.now().toEpochMilli()),
-                    Map.entry(RESOURCES_CREATED_FIELD, resourceCreated)
-                ),
+                newState,
                 ActionListener.wrap(updateResponse -> {
 
-                    logger.info("Updated workflow {} state to {}", request.getWorkflowId(), State.PROVISIONING);
-
-                    // Attach last provisioned time to updated template and execute reprovisioning
-                    Template updatedTemplateWithProvisionedTime = Template.builder(updatedTemplate)
-                        .lastProvisionedTime(Instant.now())
-                        .build();
-                    if (request.getWaitForCompletionTimeout() == TimeValue.MINUS_ONE) {
-                        executeWorkflowAsync(workflowId, updatedTemplateWithProvisionedTime, reprovisionProcessSequence, listener);
-                    } else {
-                        executeWorkflowSync(
-                            workflowId,
-                            updatedTemplate,
-                            reprovisionProcessSequence,
-                            listener,
-                            request.getWaitForCompletionTimeout().getMillis()
-                        );
-                    }
-
-                    if (request.getWaitForCompletionTimeout() == TimeValue.MINUS_ONE) {
-                        listener.onResponse(new WorkflowResponse(workflowId));
-                    } else {
-                        logger.info("Waiting for workflow completion");
-                    }
-
                 }, exception -> {
-                    String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage("Failed to update workflow state: {}", workflowId)
-                        .getFormattedMessage();
+                    String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage(
+                        "Failed to update workflow state: {}",
+                        workflowId
+                    ).getFormattedMessage();
                     logger.error(errorMessage, exception);
                     listener.onFailure(new FlowFrameworkException(errorMessage, ExceptionsHelper.status(exception)));
                 })
             );
-        }, exception -> {
-            if (exception instanceof FlowFrameworkException) {
-                listener.onFailure(exception);
-            } else {
-                String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage(
-                    "Failed to get workflow state for workflow {}",
-                    workflowId
-                ).getFormattedMessage();
+        }
+
+        // Update State Index, maintain resources created for subsequent execution
+        Map<String, Object> stateUpdate = new HashMap<>(
+            Map.ofEntries(
+                Map.entry(STATE_FIELD, State.PROVISIONING),
+                Map.entry(PROVISIONING_PROGRESS_FIELD, ProvisioningProgress.IN_PROGRESS),
+                Map.entry(PROVISION_START_TIME_FIELD, Instant.now().toEpochMilli()),
+                Map.entry(RESOURCES_CREATED_FIELD, resourceCreated)
+            )
+        );
+        // Reprovisioning is not journaled, so it is not resumed as a provisioning after a restart
+        stateUpdate.putAll(ExecutionJournal.executingNodeUpdate(null, Collections.emptyMap()));
+        flowFrameworkIndicesHandler.updateFlowFrameworkSystemIndexDoc(
+            workflowId,
+            tenantId,
+            stateUpdate,
+            ActionListener.wrap(updateResponse -> {
+
+                logger.info("Updated workflow {} state to {}", request.getWorkflowId(), State.PROVISIONING);
+
+                // Attach last provisioned time to updated template and execute reprovisioning
+                Template updatedTemplateWithProvisionedTime = Template.builder(updatedTemplate).lastProvisionedTime(Instant.now()).build();
+                if (request.getWaitForCompletionTimeout() == TimeValue.MINUS_ONE) {
+                    executeWorkflowAsync(workflowId, updatedTemplateWithProvisionedTime, reprovisionProcessSequence, listener);
+                } else {
+                    executeWorkflowSync(
+                        workflowId,
+                        updatedTemplate,
+                        reprovisionProcessSequence,
+                        listener,
+                        request.getWaitForCompletionTimeout().getMillis()
+                    );
+                }
+
+                if (request.getWaitForCompletionTimeout() == TimeValue.MINUS_ONE) {
+                    listener.onResponse(new WorkflowResponse(workflowId));
+                } else {
+                    logger.info("Waiting for workflow completion");
+                }
+
+            }, exception -> {
+                String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage("Failed to update workflow state: {}", workflowId)
+                    .getFormattedMessage();
                 logger.error(errorMessage, exception);
                 listener.onFailure(new FlowFrameworkException(errorMessage, ExceptionsHelper.status(exception)));
-            }
-        }));
+            })
+        );
     }
 
     /**
@@ -327,7 +372,7 @@ public class ReprovisionWorkflowTransportAction extends HandledTransportAction<R
         ActionListener<WorkflowResponse> listener
     ) {
         try {
-            threadPool.executor(PROVISION_WORKFLOW_THREAD_POOL).execute(() -> {
+            flowFrameworkExecutors.executor(PROVISION_WORKFLOW_THREAD_POOL).execute(() -> {
                 updateTemplate(template, workflowId);
                 executeWorkflow(template, workflowSequence, workflowId, listener, false);
             });
@@ -361,7 +406,7 @@ public class ReprovisionWorkflowTransportAction extends HandledTransportAction<R
             } catch (Exception ex) {
                 WorkflowTimeoutUtility.handleFailure(workflowId, ex, listener);
             }
-        }, threadPool.executor(PROVISION_WORKFLOW_THREAD_POOL));
+        }, flowFrameworkExecutors.executor(PROVISION_WORKFLOW_THREAD_POOL));
         WorkflowTimeoutUtility.scheduleTimeoutHandler(
             client,
             threadPool,
@@ -379,9 +424,13 @@ public class ReprovisionWorkflowTransportAction extends HandledTransportAction<R
      * @param workflowId The workflowId associated with the workflow that is executing
      */
     private void updateTemplate(Template template, String workflowId) {
-        flowFrameworkIndicesHandler.updateTemplateInGlobalContext(workflowId, template, ActionListener.wrap(templateResponse -> {
+        ActionListener<IndexResponse> updateListener = ActionListener.wrap(templateResponse -> {
             logger.info("Updated template for {}", workflowId);
-        }, exception -> { logger.error("Failed to update use case template for {}", workflowId, exception); }),
+        }, exception -> { logger.error("Failed to update use case template for {}", workflowId, exception); });
+        flowFrameworkIndicesHandler.updateTemplateInGlobalContext(
+            workflowId,
+            template,
+            ActionListener.runBefore(updateListener, () -> accessControlCache.invalidate(workflowId)),
             true  // ignores NOT_STARTED state if request is to reprovision
         );
     }
@@ -399,119 +448,139 @@ public class ReprovisionWorkflowTransportAction extends HandledTransportAction<R
         ActionListener<WorkflowResponse> listener,
         boolean isSyncExecution
     ) {
-        String currentStepId = "";
-        try {
-            Map<String, PlainActionFuture<?>> workflowFutureMap = new LinkedHashMap<>();
-            for (ProcessNode processNode : workflowSequence) {
-                List<ProcessNode> predecessors = processNode.predecessors();
-                logger.info(
-                    "Queueing Process [{} (type: {})].{}",
-                    processNode.id(),
-                    processNode.workflowStep().getName(),
-                    predecessors.isEmpty()
-                        ? " Can start immediately!"
-                        : String.format(
-                            Locale.getDefault(),
-                            " Must wait for [%s] to complete first.",
-                            predecessors.stream().map(p -> p.id()).collect(Collectors.joining(", "))
-                        )
-                );
-
-                workflowFutureMap.put(processNode.id(), processNode.execute());
-            }
-
-            // Attempt to complete each workflow step future, may throw a ExecutionException if any step completes exceptionally
-            for (Map.Entry<String, PlainActionFuture<?>> e : workflowFutureMap.entrySet()) {
-                currentStepId = e.getKey();
-                e.getValue().actionGet();
-            }
-
-            logger.info("Reprovisioning completed successfully for workflow {}", workflowId);
-            // Need to call TenantAwareHelper.releaseProvision in cases listener.onFailure is not called
-            String tenantId = template.getTenantId();
-            flowFrameworkIndicesHandler.updateFlowFrameworkSystemIndexDoc(
-                workflowId,
-                tenantId,
-                Map.ofEntries(
-                    Map.entry(STATE_FIELD, State.COMPLETED),
-                    Map.entry(PROVISIONING_PROGRESS_FIELD, ProvisioningProgress.DONE),
-                    Map.entry(PROVISION_END_TIME_FIELD, Instant.now().toEpochMilli())
-                ),
-                ActionListener.wrap(updateResponse -> {
+        WorkflowExecutor workflowExecutor = new WorkflowExecutor(
+            workflowId,
+            workflowSequence,
+            flowFrameworkExecutors.executor(PROVISION_WORKFLOW_THREAD_POOL),
+            flowFrameworkSettings.getMaxConcurrentStepsPerWorkflow(),
+            null,
+            stepDurationHistory
+        );
+        workflowExecutor.execute(
+            ActionListener.wrap(
+                results -> handleWorkflowSuccess(template, workflowId, listener, isSyncExecution),
+                ex -> handleWorkflowFailure(ex, workflowExecutor.failedNodeId(), template, workflowId, listener, isSyncExecution)
+            )
+        );
+    }
 
-                    logger.info("updated workflow {} state to {}", workflowId, State.COMPLETED);
-                    if (isSyncExecution) {
-                        client.execute(
-                            GetWorkflowStateAction.INSTANCE,
-                            new GetWorkflowStateRequest(workflowId, false, template.getTenantId()),
-                            ActionListener.wrap(response -> {
-                                // We've completed provisioning and responding synchronously
-                                TenantAwareHelper.releaseProvision(tenantId);
-                                listener.onResponse(new WorkflowResponse(workflowId, response.getWorkflowState()));
-                            }, exception -> {
-                                String errorMessage = "Failed to get workflow state.";
-                                logger.error(errorMessage, exception);
-                                if (exception instanceof FlowFrameworkException) {
-                                    listener.onFailure(exception);
-                                } else {
-                                    listener.onFailure(new FlowFrameworkException(errorMessage, ExceptionsHelper.status(exception)));
-                                }
-                            })
-                        );
-                    } else {
-                        // We've completed provisioning asynchronously
-                        TenantAwareHelper.releaseProvision(tenantId);
-                    }
-                }, exception -> {
-                    // We've completed provisioning asynchronously but failed state update
+    /**
+     * Updates the workflow state after all steps of the workflow have completed
+     * @param template The template to store after reprovisioning completes successfully
+     * @param workflowId The workflowId associated with the workflow that executed
+     * @param listener The ActionListener to handle the workflow response or failure
+     * @param isSyncExecution Flag indicating whether the workflow was executed synchronously (true) or asynchronously (false)
+     */
+    private void handleWorkflowSuccess(
+        Template template,
+        String workflowId,
+        ActionListener<WorkflowResponse> listener,
+        boolean isSyncExecution
+    ) {
+        logger.info("Reprovisioning completed successfully for workflow {}", workflowId);
+        // Need to call TenantAwareHelper.releaseProvision in cases listener.onFailure is not called
+        String tenantId = template.getTenantId();
+        flowFrameworkIndicesHandler.updateFlowFrameworkSystemIndexDoc(
+            workflowId,
+            tenantId,
+            Map.ofEntries(
+                Map.entry(STATE_FIELD, State.COMPLETED),
+                Map.entry(PROVISIONING_PROGRESS_FIELD, ProvisioningProgress.DONE),
+                Map.entry(PROVISION_END_TIME_FIELD, Instant.now().toEpochMilli())
+            ),
+            ActionListener.wrap(updateResponse -> {
+
+                logger.info("updated workflow {} state to {}", workflowId, State.COMPLETED);
+                if (isSyncExecution) {
+                    client.execute(
+                        GetWorkflowStateAction.INSTANCE,
+                        new GetWorkflowStateRequest(workflowId, false, template.getTenantId()),
+                        ActionListener.wrap(response -> {
+                            // We've completed provisioning and responding synchronously
+                            TenantAwareHelper.releaseProvision(tenantId);
+                            listener.onResponse(new WorkflowResponse(workflowId, response.getWorkflowState()));
+                        }, exception -> {
+                            String errorMessage = "Failed to get workflow state.";
+                            logger.error(errorMessage, exception);
+                            if (exception instanceof FlowFrameworkException) {
+                                listener.onFailure(exception);
+                            } else {
+                                listener.onFailure(new FlowFrameworkException(errorMessage, ExceptionsHelper.status(exception)));
+                            }
+                        })
+                    );
+                } else {
+                    // We've completed provisioning asynchronously
                     TenantAwareHelper.releaseProvision(tenantId);
-                    logger.error("Failed to update workflow state for workflow {}", workflowId, exception);
-                })
-            );
-        } catch (Exception ex) {
-            RestStatus status;
-            if (ex instanceof FlowFrameworkException) {
-                status = ((FlowFrameworkException) ex).getRestStatus();
-            } else {
-                status = ExceptionsHelper.status(ex);
-            }
-            logger.error("Reprovisioning failed for workflow {} during step {}.", workflowId, currentStepId, ex);
-            String errorMessage = (ex.getCause() == null ? ex.getMessage() : ex.getCause().getClass().getName())
-                + " during step "
-                + currentStepId
-                + ", restStatus: "
-                + status.toString();
-            flowFrameworkIndicesHandler.updateFlowFrameworkSystemIndexDoc(
-                workflowId,
-                template.getTenantId(),
-                Map.ofEntries(
-                    Map.entry(STATE_FIELD, State.FAILED),
-                    Map.entry(ERROR_FIELD, errorMessage),
-                    Map.entry(PROVISIONING_PROGRESS_FIELD, ProvisioningProgress.FAILED),
-                    Map.entry(PROVISION_END_TIME_FIELD, Instant.now().toEpochMilli())
-                ),
-                ActionListener.wrap(updateResponse -> {
-                    logger.info("updated workflow {} state to {}", workflowId, State.FAILED);
-                    if (isSyncExecution) {
-                        listener.onFailure(new FlowFrameworkException(errorMessage, status));
-                    } else {
-                        TenantAwareHelper.releaseProvision(template.getTenantId());
-                    }
-                }, exceptionState -> {
-                    logger.error("Failed to update workflow state for workflow {}", workflowId, exceptionState);
-                    if (isSyncExecution) {
-                        listener.onFailure(
-                            new FlowFrameworkException(
-                                errorMessage + ". Failed to update workflow state after execution failure.",
-                                RestStatus.INTERNAL_SERVER_ERROR
-                            )
-                        );
-                    } else {
-                        TenantAwareHelper.releaseProvision(template.getTenantId());
-                    }
-                })
-            );
+                }
+            }, exception -> {
+                // We've completed provisioning asynchronously but failed state update
+                TenantAwareHelper.releaseProvision(tenantId);
+                logger.error("Failed to update workflow state for workflow {}", workflowId, exception);
+            })
+        );
+    }
+
+    /**
+     * Updates the workflow state after a step of the workflow has failed
+     * @param ex The exception which caused the failure
+     * @param failedStepId The id of the step which failed
+     * @param template The template being reprovisioned
+     * @param workflowId The workflowId associated with the workflow that executed
+     * @param listener The ActionListener to handle the workflow response or failure
+     * @param isSyncExecution Flag indicating whether the workflow was executed synchronously (true) or asynchronously (false)
+     */
+    private void handleWorkflowFailure(
+        Exception ex,
+        String failedStepId,
+        Template template,
+        String workflowId,
+        ActionListener<WorkflowResponse> listener,
+        boolean isSyncExecution
+    ) {
+        String currentStepId = failedStepId == null ? "" : failedStepId;
+        RestStatus status;
+        if (ex instanceof FlowFrameworkException) {
+            status = ((FlowFrameworkException) ex).getRestStatus();
+        } else {
+            status = ExceptionsHelper.status(ex);
         }
+        logger.error("Reprovisioning failed for workflow {} during step {}.", workflowId, currentStepId, ex);
+        String errorMessage = (ex.getCause() == null ? ex.getMessage() : ex.getCause().getClass().getName())
+            + " during step "
+            + currentStepId
+            + ", restStatus: "
+            + status.toString();
+        flowFrameworkIndicesHandler.updateFlowFrameworkSystemIndexDoc(
+            workflowId,
+            template.getTenantId(),
+            Map.ofEntries(
+                Map.entry(STATE_FIELD, State.FAILED),
+                Map.entry(ERROR_FIELD, errorMessage),
+                Map.entry(PROVISIONING_PROGRESS_FIELD, ProvisioningProgress.FAILED),
+                Map.entry(PROVISION_END_TIME_FIELD, Instant.now().toEpochMilli())
+            ),
+            ActionListener.wrap(updateResponse -> {
+                logger.info("updated workflow {} state to {}", workflowId, State.FAILED);
+                if (isSyncExecution) {
+                    listener.onFailure(new FlowFrameworkException(errorMessage, status));
+                } else {
+                    TenantAwareHelper.releaseProvision(template.getTenantId());
+                }
+            }, exceptionState -> {
+                logger.error("Failed to update workflow state for workflow {}", workflowId, exceptionState);
+                if (isSyncExecution) {
+                    listener.onFailure(
+                        new FlowFrameworkException(
+                            errorMessage + ". Failed to update workflow state after execution failure.",
+                            RestStatus.INTERNAL_SERVER_ERROR
+                        )
+                    );
+                } else {
+                    TenantAwareHelper.releaseProvision(template.getTenantId());
+                }
+            })
+        );
     }
 
 }
@@ -44,23 +44,33 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 
 import com.amazonaws.encryptionsdk.AwsCrypto;
 import com.amazonaws.encryptionsdk.CommitmentPolicy;
+import com.amazonaws.encryptionsdk.CryptoMaterialsManager;
 import com.amazonaws.encryptionsdk.CryptoResult;
+import com.amazonaws.encryptionsdk.DefaultCryptoMaterialsManager;
+import com.amazonaws.encryptionsdk.caching.CachingCryptoMaterialsManager;
+import com.amazonaws.encryptionsdk.caching.LocalCryptoMaterialsCache;
 import com.amazonaws.encryptionsdk.jce.JceMasterKey;
 
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
 import static org.opensearch.flowframework.common.CommonValue.CONFIG_INDEX;
 import static org.opensearch.flowframework.common.CommonValue.CREDENTIAL_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.CRYPTO_WORKFLOW_THREAD_POOL;
 import static org.opensearch.flowframework.common.CommonValue.MASTER_KEY;
 
 /**
@@ -79,11 +89,21 @@ public class EncryptorUtils {
     // concurrent map can't have null as a key. This key is to support single tenancy
     private static final String DEFAULT_TENANT_ID = "";
 
+    // Thread safe, and shared as building it is expensive
+    private static final AwsCrypto CRYPTO = AwsCrypto.builder().withCommitmentPolicy(CommitmentPolicy.RequireEncryptRequireDecrypt).build();
+    // Bounds on the reuse of data keys when they are cached
+    private static final int DATA_KEY_CACHE_CAPACITY = 100;
+    private static final long DATA_KEY_MAX_AGE_MINUTES = 5;
+    private static final long DATA_KEY_MESSAGE_USE_LIMIT = 1000;
+    // The maximum number of tasks processing the credentials of a template in parallel
+    static final int MAX_PARALLEL_CIPHER_TASKS = 4;
+
     private final ClusterService clusterService;
     private final Client client;
     private final SdkClient sdkClient;
-    private final Map<String, String> tenantMasterKeys;
+    private final Map<String, TenantCryptoContext> tenantCryptoContexts;
     private final NamedXContentRegistry xContentRegistry;
+    private final boolean cacheDataKeys;
 
     /**
      * Instantiates a new EncryptorUtils object
@@ -93,20 +113,44 @@ public class EncryptorUtils {
      * @param xContentRegistry the OpenSearch XContent Registry
      */
     public EncryptorUtils(ClusterService clusterService, Client client, SdkClient sdkClient, NamedXContentRegistry xContentRegistry) {
-        this.tenantMasterKeys = new ConcurrentHashMap<>();
+        this(clusterService, client, sdkClient, xContentRegistry, false);
+    }
+
+    /**
+     * Instantiates a new EncryptorUtils object
+     * @param clusterService the cluster service
+     * @param client the node client
+     * @param sdkClient the Multitenant Client
+     * @param xContentRegistry the OpenSearch XContent Registry
+     * @param cacheDataKeys whether data keys are cached and reused for a bounded number of credentials
+     */
+    public EncryptorUtils(
+        ClusterService clusterService,
+        Client client,
+        SdkClient sdkClient,
+        NamedXContentRegistry xContentRegistry,
+        boolean cacheDataKeys
+    ) {
+        this.tenantCryptoContexts = new ConcurrentHashMap<>();
         this.clusterService = clusterService;
         this.client = client;
         this.sdkClient = sdkClient;
         this.xContentRegistry = xContentRegistry;
+        this.cacheDataKeys = cacheDataKeys;
     }
 
     /**
-     * Sets the master key
+     * Sets the master key. If the key has changed, the cached master key provider and data keys of the tenant are discarded.
      * @param tenantId The tenant id. If null, sets the key for the default id.
      * @param masterKey the master key
      */
     void setMasterKey(@Nullable String tenantId, String masterKey) {
-        this.tenantMasterKeys.put(Objects.requireNonNullElse(tenantId, DEFAULT_TENANT_ID), masterKey);
+        this.tenantCryptoContexts.compute(
+            Objects.requireNonNullElse(tenantId, DEFAULT_TENANT_ID),
+            (id, context) -> context != null && context.masterKey.equals(masterKey)
+                ? context
+                : new TenantCryptoContext(masterKey, cacheDataKeys)
+        );
     }
 
     /**
@@ -115,7 +159,8 @@ public class EncryptorUtils {
      * @return the master key
      */
     String getMasterKey(@Nullable String tenantId) {
-        return tenantMasterKeys.get(Objects.requireNonNullElse(tenantId, DEFAULT_TENANT_ID));
+        TenantCryptoContext context = tenantCryptoContexts.get(Objects.requireNonNullElse(tenantId, DEFAULT_TENANT_ID));
+        return context == null ? null : context.masterKey;
     }
 
     /**
@@ -146,6 +191,44 @@ public class EncryptorUtils {
         return processTemplateCredentials(template, this::decrypt);
     }
 
+    /**
+     * Encrypts template credentials on the crypto thread pool, without blocking the calling thread
+     * @param template the template to encrypt
+     * @param listener notified with the template with encrypted credentials
+     */
+    public void encryptTemplateCredentials(Template template, ActionListener<Template> listener) {
+        encryptTemplateCredentials(template, client.threadPool().executor(CRYPTO_WORKFLOW_THREAD_POOL), listener);
+    }
+
+    /**
+     * Decrypts template credentials on the crypto thread pool, without blocking the calling thread
+     * @param template the template to decrypt
+     * @param listener notified with the template with decrypted credentials
+     */
+    public void decryptTemplateCredentials(Template template, ActionListener<Template> listener) {
+        decryptTemplateCredentials(template, client.threadPool().executor(CRYPTO_WORKFLOW_THREAD_POOL), listener);
+    }
+
+    /**
+     * Encrypts template credentials without blocking the calling thread
+     * @param template the template to encrypt
+     * @param executor the executor to encrypt credentials on
+     * @param listener notified with the template with encrypted credentials
+     */
+    void encryptTemplateCredentials(Template template, Executor executor, ActionListener<Template> listener) {
+        processTemplateCredentialsAsync(template, this::encrypt, executor, listener);
+    }
+
+    /**
+     * Decrypts template credentials without blocking the calling thread
+     * @param template the template to decrypt
+     * @param executor the executor to decrypt credentials on
+     * @param listener notified with the template with decrypted credentials
+     */
+    void decryptTemplateCredentials(Template template, Executor executor, ActionListener<Template> listener) {
+        processTemplateCredentialsAsync(template, this::decrypt, executor, listener);
+    }
+
     // TODO : Improve processTemplateCredentials to encrypt different fields based on the WorkflowStep type
     /**
      * Applies the given cipher function on template credentials
@@ -190,6 +273,90 @@ public class EncryptorUtils {
         return Template.builder(template).workflows(processedWorkflows).build();
     }
 
+    /**
+     * Applies the given cipher function on template credentials. The master key is initialized once without blocking, then distinct
+     * credential values are processed in parallel on the executor.
+     * @param template the template to process
+     * @param cipherFunction the encryption/decryption function to apply on credential values
+     * @param executor the executor to apply the cipher function on
+     * @param listener notified with the template with processed credentials
+     */
+    private void processTemplateCredentialsAsync(
+        Template template,
+        BiFunction<String, String, String> cipherFunction,
+        Executor executor,
+        ActionListener<Template> listener
+    ) {
+        List<String> credentialValues = new ArrayList<>(getCredentialValues(template));
+        if (credentialValues.isEmpty()) {
+            listener.onResponse(template);
+            return;
+        }
+        String tenantId = template.getTenantId();
+        initializeMasterKeyIfAbsent(tenantId).whenComplete((v, throwable) -> {
+            if (throwable != null) {
+                listener.onFailure(SdkClientUtils.unwrapAndConvertToException(throwable));
+                return;
+            }
+            Map<String, String> processedValues = new ConcurrentHashMap<>();
+            int taskCount = Math.min(MAX_PARALLEL_CIPHER_TASKS, credentialValues.size());
+            AtomicInteger pendingTasks = new AtomicInteger(taskCount);
+            AtomicBoolean failed = new AtomicBoolean(false);
+            for (int t = 0; t < taskCount; t++) {
+                int task = t;
+                Runnable processValues = () -> {
+                    try {
+                        for (int i = task; i < credentialValues.size() && !failed.get(); i += taskCount) {
+                            String value = credentialValues.get(i);
+                            processedValues.put(value, cipherFunction.apply(value, tenantId));
+                        }
+                    } catch (Exception e) {
+                        if (failed.compareAndSet(false, true)) {
+                            logger.error("Failed to process template credentials", e);
+                            listener.onFailure(
+                                e instanceof FlowFrameworkException
+                                    ? e
+                                    : new FlowFrameworkException("Failed to process template credentials", ExceptionsHelper.status(e))
+                            );
+                        }
+                        return;
+                    }
+                    if (pendingTasks.decrementAndGet() == 0 && !failed.get()) {
+                        listener.onResponse(processTemplateCredentials(template, (value, id) -> processedValues.get(value)));
+                    }
+                };
+                try {
+                    executor.execute(processValues);
+                } catch (Exception e) {
+                    // Rejected execution
+                    if (failed.compareAndSet(false, true)) {
+                        listener.onFailure(e);
+                    }
+                    return;
+                }
+            }
+        });
+    }
+
+    /**
+     * Gets the distinct credential values of a template
+     * @param template the template
+     * @return the credential values
+     */
+    private static Set<String> getCredentialValues(Template template) {
+        Set<String> credentialValues = new HashSet<>();
+        for (Workflow workflow : template.workflows().values()) {
+            for (WorkflowNode node : workflow.nodes()) {
+                if (node.userInputs().containsKey(CREDENTIAL_FIELD)) {
+                    @SuppressWarnings("unchecked")
+                    Map<String, String> credentials = (Map<String, String>) node.userInputs().get(CREDENTIAL_FIELD);
+                    credentialValues.addAll(credentials.values());
+                }
+            }
+        }
+        return credentialValues;
+    }
+
     /**
      * Encrypts the given credential
      * @param credential the credential to encrypt
@@ -197,22 +364,9 @@ public class EncryptorUtils {
      * @return the encrypted credential
      */
     String encrypt(final String credential, @Nullable String tenantId) {
-        CountDownLatch latch = new CountDownLatch(1);
-        initializeMasterKeyIfAbsent(tenantId).whenComplete((v, throwable) -> latch.countDown());
-        try {
-            if (!latch.await(5, TimeUnit.SECONDS)) {
-                throw new FlowFrameworkException("Timeout while initializing master key", RestStatus.INTERNAL_SERVER_ERROR);
-            }
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new FlowFrameworkException("Interrupted while initializing master key", RestStatus.REQUEST_TIMEOUT);
-        }
-
-        final AwsCrypto crypto = AwsCrypto.builder().withCommitmentPolicy(CommitmentPolicy.RequireEncryptRequireDecrypt).build();
-        byte[] bytes = Base64.getDecoder().decode(getMasterKey(tenantId));
-        JceMasterKey jceMasterKey = JceMasterKey.getInstance(new SecretKeySpec(bytes, ALGORITHM), PROVIDER, "", WRAPPING_ALGORITHM);
-        final CryptoResult<byte[], JceMasterKey> encryptResult = crypto.encryptData(
-            jceMasterKey,
+        TenantCryptoContext context = getCryptoContext(tenantId);
+        final CryptoResult<byte[], ?> encryptResult = CRYPTO.encryptData(
+            context.materialsManager,
             credential.getBytes(StandardCharsets.UTF_8)
         );
         return Base64.getEncoder().encodeToString(encryptResult.getResult());
@@ -225,6 +379,24 @@ public class EncryptorUtils {
      * @return the decrypted credential
      */
     String decrypt(final String encryptedCredential, @Nullable String tenantId) {
+        TenantCryptoContext context = getCryptoContext(tenantId);
+        final CryptoResult<byte[], ?> decryptedResult = CRYPTO.decryptData(
+            context.materialsManager,
+            Base64.getDecoder().decode(encryptedCredential)
+        );
+        return new String(decryptedResult.getResult(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gets the crypto context of a tenant, waiting for its master key to be initialized if needed
+     * @param tenantId The tenant id. If null, gets the context for the default tenant id.
+     * @return the crypto context
+     */
+    private TenantCryptoContext getCryptoContext(@Nullable String tenantId) {
+        TenantCryptoContext context = tenantCryptoContexts.get(Objects.requireNonNullElse(tenantId, DEFAULT_TENANT_ID));
+        if (context != null) {
+            return context;
+        }
         CountDownLatch latch = new CountDownLatch(1);
         initializeMasterKeyIfAbsent(tenantId).whenComplete((v, throwable) -> latch.countDown());
         try {
@@ -235,15 +407,11 @@ public class EncryptorUtils {
             Thread.currentThread().interrupt();
             throw new FlowFrameworkException("Interrupted while initializing master key", RestStatus.REQUEST_TIMEOUT);
         }
-        final AwsCrypto crypto = AwsCrypto.builder().withCommitmentPolicy(CommitmentPolicy.RequireEncryptRequireDecrypt).build();
-        byte[] bytes = Base64.getDecoder().decode(getMasterKey(tenantId));
-        JceMasterKey jceMasterKey = JceMasterKey.getInstance(new SecretKeySpec(bytes, ALGORITHM), PROVIDER, "", WRAPPING_ALGORITHM);
-
-        final CryptoResult<byte[], JceMasterKey> decryptedResult = crypto.decryptData(
-            jceMasterKey,
-            Base64.getDecoder().decode(encryptedCredential)
-        );
-        return new String(decryptedResult.getResult(), StandardCharsets.UTF_8);
+        context = tenantCryptoContexts.get(Objects.requireNonNullElse(tenantId, DEFAULT_TENANT_ID));
+        if (context == null) {
+            throw new FlowFrameworkException("Master key has not been initialized", RestStatus.INTERNAL_SERVER_ERROR);
+        }
+        return context;
     }
 
     // TODO : Improve redactTemplateCredentials to redact different fields
@@ -357,13 +525,13 @@ public class EncryptorUtils {
     }
 
     /**
-     * Called by encrypt and decrypt functions to retrieve master key from tenantMasterKeys map if set. If not, checks config system index (which must exist), fetches key and puts in tenantMasterKeys map.
+     * Called by encrypt and decrypt functions to retrieve master key from tenantCryptoContexts map if set. If not, checks config system index (which must exist), fetches key and puts in tenantCryptoContexts map.
      * @param tenantId The tenant id. If null, initializes the key for the default id.
      * @return a future that will complete when the key is initialized (or throws an exception)
      */
     CompletableFuture<Void> initializeMasterKeyIfAbsent(@Nullable String tenantId) {
         // Happy case, key already in map
-        if (this.tenantMasterKeys.containsKey(Objects.requireNonNullElse(tenantId, DEFAULT_TENANT_ID))) {
+        if (this.tenantCryptoContexts.containsKey(Objects.requireNonNullElse(tenantId, DEFAULT_TENANT_ID))) {
             return CompletableFuture.completedFuture(null);
         }
         // Key not in map
@@ -445,4 +613,25 @@ public class EncryptorUtils {
         }
     }
 
+    /**
+     * The master key of a tenant with the master key provider built from it
+     */
+    private static final class TenantCryptoContext {
+        private final String masterKey;
+        private final CryptoMaterialsManager materialsManager;
+
+        TenantCryptoContext(String masterKey, boolean cacheDataKeys) {
+            this.masterKey = masterKey;
+            byte[] bytes = Base64.getDecoder().decode(masterKey);
+            JceMasterKey jceMasterKey = JceMasterKey.getInstance(new SecretKeySpec(bytes, ALGORITHM), PROVIDER, "", WRAPPING_ALGORITHM);
+            this.materialsManager = cacheDataKeys
+                ? CachingCryptoMaterialsManager.newBuilder()
+                    .withMasterKeyProvider(jceMasterKey)
+                    .withCache(new LocalCryptoMaterialsCache(DATA_KEY_CACHE_CAPACITY))
+                    .withMaxAge(DATA_KEY_MAX_AGE_MINUTES, TimeUnit.MINUTES)
+                    .withMessageUseLimit(DATA_KEY_MESSAGE_USE_LIMIT)
+                    .build()
+                : new DefaultCryptoMaterialsManager(jceMasterKey);
+        }
+    }
 }
@@ -0,0 +1,308 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.util;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.opensearch.flowframework.common.CommonValue.DEPROVISION_WORKFLOW_THREAD_POOL;
+import static org.opensearch.flowframework.common.CommonValue.FLOW_FRAMEWORK_THREAD_POOL_PREFIX;
+import static org.opensearch.flowframework.common.CommonValue.PROVISION_WORKFLOW_THREAD_POOL;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_THREAD_POOL;
+
+/**
+ * Provides the executors for the flow framework thread pools.
+ * <p>
+ * By default these delegate to the sized thread pools registered with the {@link ThreadPool}. When virtual threads are enabled, each pool
+ * is instead backed by a thread-per-task executor of virtual threads, so blocking waits do not exhaust a fixed number of platform threads.
+ * In both modes the executors record per-pool metrics so the two modes can be compared.
+ */
+public class FlowFrameworkExecutors implements Closeable {
+
+    private static final Logger logger = LogManager.getLogger(FlowFrameworkExecutors.class);
+
+    /** The names of the thread pools managed by this class */
+    public static final List<String> THREAD_POOL_NAMES = List.of(
+        WORKFLOW_THREAD_POOL,
+        PROVISION_WORKFLOW_THREAD_POOL,
+        DEPROVISION_WORKFLOW_THREAD_POOL
+    );
+
+    private final ThreadPool threadPool;
+    private final boolean virtualThreadsEnabled;
+    private final Map<String, InstrumentedExecutor> executors;
+    private volatile Scheduler.Cancellable statsLogging;
+
+    /**
+     * Instantiate this class
+     * @param threadPool The OpenSearch thread pool
+     * @param virtualThreadsEnabled Whether the executors should use virtual threads
+     */
+    public FlowFrameworkExecutors(ThreadPool threadPool, boolean virtualThreadsEnabled) {
+        this.threadPool = threadPool;
+        this.virtualThreadsEnabled = virtualThreadsEnabled;
+        Map<String, InstrumentedExecutor> executorMap = new LinkedHashMap<>();
+        for (String name : THREAD_POOL_NAMES) {
+            ExecutorService virtualExecutor = null;
+            if (virtualThreadsEnabled) {
+                ThreadFactory threadFactory = Thread.ofVirtual().name(FLOW_FRAMEWORK_THREAD_POOL_PREFIX + name + "-", 0).factory();
+                virtualExecutor = Executors.newThreadPerTaskExecutor(threadFactory);
+            }
+            executorMap.put(name, new InstrumentedExecutor(name, virtualExecutor));
+        }
+        this.executors = Collections.unmodifiableMap(executorMap);
+        if (virtualThreadsEnabled) {
+            logger.info("Flow framework executors {} are using virtual threads", THREAD_POOL_NAMES);
+        }
+    }
+
+    /**
+     * Whether the executors use virtual threads
+     * @return true if virtual threads are enabled
+     */
+    public boolean isVirtualThreadsEnabled() {
+        return virtualThreadsEnabled;
+    }
+
+    /**
+     * Gets the executor for a flow framework thread pool
+     * @param name the thread pool name
+     * @return the executor
+     */
+    public Executor executor(String name) {
+        InstrumentedExecutor executor = executors.get(name);
+        if (executor == null) {
+            throw new IllegalArgumentException("No flow framework executor for thread pool " + name);
+        }
+        return executor;
+    }
+
+    /**
+     * Gets the metrics of each flow framework executor
+     * @return a map of thread pool name to its metrics
+     */
+    public Map<String, ExecutorStats> stats() {
+        Map<String, ExecutorStats> stats = new LinkedHashMap<>();
+        executors.forEach((name, executor) -> stats.put(name, executor.stats()));
+        return stats;
+    }
+
+    /**
+     * Periodically logs the metrics of each flow framework executor at debug level
+     * @param interval the interval between two logs
+     */
+    public void startStatsLogging(TimeValue interval) {
+        if (statsLogging == null) {
+            statsLogging = threadPool.scheduleWithFixedDelay(this::logStats, interval, ThreadPool.Names.GENERIC);
+        }
+    }
+
+    /**
+     * Logs the metrics of each flow framework executor at debug level
+     */
+    void logStats() {
+        if (logger.isDebugEnabled()) {
+            stats().forEach((name, stats) -> logger.debug("Flow framework executor {} stats: {}", name, stats));
+        }
+    }
+
+    @Override
+    public void close() {
+        if (statsLogging != null) {
+            statsLogging.cancel();
+        }
+        for (InstrumentedExecutor executor : executors.values()) {
+            if (executor.virtualExecutor != null) {
+                executor.virtualExecutor.shutdown();
+                try {
+                    if (!executor.virtualExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+                        executor.virtualExecutor.shutdownNow();
+                    }
+                } catch (InterruptedException e) {
+                    executor.virtualExecutor.shutdownNow();
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    /**
+     * An executor which records metrics while delegating to either a virtual thread executor or the named OpenSearch thread pool
+     */
+    private class InstrumentedExecutor implements Executor {
+        private final String name;
+        private final ExecutorService virtualExecutor;
+        private final LongAdder active = new LongAdder();
+        private final LongAdder completed = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder totalQueueNanos = new LongAdder();
+
+        InstrumentedExecutor(String name, ExecutorService virtualExecutor) {
+            this.name = name;
+            this.virtualExecutor = virtualExecutor;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            long submitTime = System.nanoTime();
+            Runnable task = () -> {
+                totalQueueNanos.add(System.nanoTime() - submitTime);
+                active.increment();
+                try {
+                    command.run();
+                } catch (RuntimeException e) {
+                    failed.increment();
+                    throw e;
+                } finally {
+                    active.decrement();
+                    completed.increment();
+                }
+            };
+            try {
+                if (virtualExecutor == null) {
+                    // OpenSearch executors preserve the thread context themselves
+                    threadPool.executor(name).execute(task);
+                } else {
+                    virtualExecutor.execute(threadPool.getThreadContext().preserveContext(task));
+                }
+            } catch (RejectedExecutionException e) {
+                rejected.increment();
+                throw e;
+            }
+        }
+
+        ExecutorStats stats() {
+            return new ExecutorStats(
+                virtualExecutor == null ? "platform" : "virtual",
+                active.sum(),
+                completed.sum(),
+                failed.sum(),
+                rejected.sum(),
+                TimeUnit.NANOSECONDS.toMillis(totalQueueNanos.sum())
+            );
+        }
+    }
+
+    /**
+     * Point-in-time metrics of a flow framework executor
+     */
+    public static class ExecutorStats implements ToXContentObject {
+        private final String mode;
+        private final long active;
+        private final long completed;
+        private final long failed;
+        private final long rejected;
+        private final long totalQueueTimeMillis;
+
+        /**
+         * Instantiate this class
+         * @param mode the thread mode, either platform or virtual
+         * @param active the number of tasks currently running
+         * @param completed the number of tasks which have finished running
+         * @param failed the number of tasks which threw an exception
+         * @param rejected the number of tasks rejected by the executor
+         * @param totalQueueTimeMillis the total time tasks spent waiting to start running
+         */
+        public ExecutorStats(String mode, long active, long completed, long failed, long rejected, long totalQueueTimeMillis) {
+            this.mode = mode;
+            this.active = active;
+            this.completed = completed;
+            this.failed = failed;
+            this.rejected = rejected;
+            this.totalQueueTimeMillis = totalQueueTimeMillis;
+        }
+
+        /**
+         * Gets the thread mode
+         * @return platform or virtual
+         */
+        public String getMode() {
+            return mode;
+        }
+
+        /**
+         * Gets the number of tasks currently running
+         * @return the active count
+         */
+        public long getActive() {
+            return active;
+        }
+
+        /**
+         * Gets the number of tasks which have finished running
+         * @return the completed count
+         */
+        public long getCompleted() {
+            return completed;
+        }
+
+        /**
+         * Gets the number of tasks which threw an exception
+         * @return the failed count
+         */
+        public long getFailed() {
+            return failed;
+        }
+
+        /**
+         * Gets the number of tasks rejected by the executor
+         * @return the rejected count
+         */
+        public long getRejected() {
+            return rejected;
+        }
+
+        /**
+         * Gets the total time tasks spent waiting to start running
+         * @return the total queue time in milliseconds
+         */
+        public long getTotalQueueTimeMillis() {
+            return totalQueueTimeMillis;
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            return builder.startObject()
+                .field("mode", mode)
+                .field("active", active)
+                .field("completed", completed)
+                .field("failed", failed)
+                .field("rejected", rejected)
+                .field("total_queue_time_millis", totalQueueTimeMillis)
+                .endObject();
+        }
+
+        @Override
+        public String toString() {
+            return Strings.toString(MediaTypeRegistry.JSON, this);
+        }
+    }
+}
@@ -17,12 +17,11 @@ import org.opensearch.flowframework.common.CommonValue;
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Utility class for analyzing and mapping relationships between input and
@@ -31,7 +30,9 @@ import java.util.stream.Collectors;
  * Builds an inverted index from input JSON values to their paths, then uses
  * output JSON values
  * to find matching input paths, producing a mapping from input paths to output
- * fields.
+ * fields. Paths are held in a trie and rendered as strings only when matched,
+ * and array elements are compared by a signature of their generalized mappings,
+ * so recommendations take time linear in the size of both documents.
  *
  * Supports nested objects and arrays, and generates both detailed field
  * mappings and generalized
@@ -125,8 +126,8 @@ public class JsonToJsonRecommender {
             validateInputJsonNode(outputNode, "Output JSON Node");
         }
 
-        Map<String, String> inputIndex = createInvertedIndex(inputNode);
-        return generateMappings(outputNode, inputIndex, "$");
+        Map<String, PathNode> inputIndex = createInvertedIndex(inputNode);
+        return generateMappings(outputNode, inputIndex);
     }
 
     /**
@@ -318,13 +319,14 @@ public class JsonToJsonRecommender {
      * Builds an inverted index for a given JSON node.
      * Each unique value is mapped to a single JSON path where it appears.
      * For duplicate values, only the first occurrence path is stored.
+     * Paths are nodes of a path trie and are only rendered as strings when an output value matches them.
      *
      * @param node The JSON node to process
      * @return A map of values to their JSON paths
      */
-    private static Map<String, String> createInvertedIndex(JsonNode node) {
-        Map<String, String> invertedIndex = new HashMap<>();
-        createIndexRecursive(node, "$", invertedIndex);
+    private static Map<String, PathNode> createInvertedIndex(JsonNode node) {
+        Map<String, PathNode> invertedIndex = new HashMap<>();
+        createIndexRecursive(node, PathNode.root(), invertedIndex);
         return invertedIndex;
     }
 
@@ -338,24 +340,22 @@ public class JsonToJsonRecommender {
      * @param invertedIndex The inverted index to populate with value-to-path
      *                      mappings
      */
-    private static void createIndexRecursive(JsonNode node, String path, Map<String, String> invertedIndex) {
+    private static void createIndexRecursive(JsonNode node, PathNode path, Map<String, PathNode> invertedIndex) {
         if (node.isObject()) {
             // Process object properties recursively
             var fields = node.fields();
             while (fields.hasNext()) {
                 var entry = fields.next();
-                String newPath = path.isEmpty() ? entry.getKey() : path + "." + entry.getKey();
-                createIndexRecursive(entry.getValue(), newPath, invertedIndex);
+                createIndexRecursive(entry.getValue(), path.child(entry.getKey()), invertedIndex);
             }
         } else if (node.isArray()) {
             // Process each array element with indexed path
             for (int i = 0; i < node.size(); i++) {
-                createIndexRecursive(node.get(i), path + "[" + i + "]", invertedIndex);
+                createIndexRecursive(node.get(i), path.child(i), invertedIndex);
             }
         } else {
             // Store primitive values with their paths
-            String value = node.asText();
-            invertedIndex.putIfAbsent(value, path); // Only store the first occurrence of a value
+            invertedIndex.putIfAbsent(node.asText(), path); // Only store the first occurrence of a value
         }
     }
 
@@ -367,15 +367,13 @@ public class JsonToJsonRecommender {
      *
      * @param outputNode The output JSON node to traverse
      * @param inputIndex The inverted index of input JSON values to paths
-     * @param path       The current JSON path being processed (typically starts
-     *                   with "$")
      * @return MapFormatResult containing detailed and generalized mappings as nested objects
      */
-    private static MapFormatResult generateMappings(JsonNode outputNode, Map<String, String> inputIndex, String path) {
+    private static MapFormatResult generateMappings(JsonNode outputNode, Map<String, PathNode> inputIndex) {
         Map<String, String> detailed = new LinkedHashMap<>();
         Map<String, String> generalized = new LinkedHashMap<>();
 
-        generateMappingsRecursive(outputNode, inputIndex, path, detailed, generalized);
+        generateMappingsRecursive(outputNode, inputIndex, PathNode.root(), detailed, generalized);
 
         return new MapFormatResult(toNestedMapping(detailed), toNestedMapping(generalized));
     }
@@ -385,6 +383,10 @@ public class JsonToJsonRecommender {
      * Handles special array processing logic where array indices are generalized
      * when elements have similar structures.
      *
+     * Detailed mappings keep every matched value in document order, so they are
+     * written directly to the accumulator. Generalized mappings are collected per
+     * array element and merged once the whole array is processed.
+     *
      * @param node        The current JSON node being processed
      * @param inputIndex  The inverted index of input JSON values to paths
      * @param path        The current JSON path
@@ -393,8 +395,8 @@ public class JsonToJsonRecommender {
      */
     private static void generateMappingsRecursive(
         JsonNode node,
-        Map<String, String> inputIndex,
-        String path,
+        Map<String, PathNode> inputIndex,
+        PathNode path,
         Map<String, String> detailed,
         Map<String, String> generalized
     ) {
@@ -404,126 +406,175 @@ public class JsonToJsonRecommender {
             var fields = node.fields();
             while (fields.hasNext()) {
                 var entry = fields.next();
-                String newPath = path.equals("$") ? "$." + entry.getKey() : path + "." + entry.getKey();
-                generateMappingsRecursive(entry.getValue(), inputIndex, newPath, detailed, generalized);
+                generateMappingsRecursive(entry.getValue(), inputIndex, path.child(entry.getKey()), detailed, generalized);
             }
 
         } else if (node.isArray()) {
             // Process array nodes with special logic for generalization
-            List<Map<String, String>> arrayDetailedMappings = new ArrayList<>();
-            List<Map<String, String>> arrayGeneralizedMappings = new ArrayList<>();
+            List<Map<String, String>> arrayGeneralizedMappings = new ArrayList<>(node.size());
 
             // Collect mappings for each array element
             for (int i = 0; i < node.size(); i++) {
-                String arrayElementPath = path + "[" + i + "]";
-                Map<String, String> elementDetailed = new LinkedHashMap<>();
                 Map<String, String> elementGeneralized = new LinkedHashMap<>();
-
-                generateMappingsRecursive(node.get(i), inputIndex, arrayElementPath, elementDetailed, elementGeneralized);
-
-                arrayDetailedMappings.add(elementDetailed);
+                generateMappingsRecursive(node.get(i), inputIndex, path.child(i), detailed, elementGeneralized);
                 arrayGeneralizedMappings.add(elementGeneralized);
             }
 
             // Check if array elements have similar structure (only array indices differ)
-            if (arrayGeneralizedMappings.size() > 1 && areArrayMappingsSimilar(arrayGeneralizedMappings)) {
-                // Add all detailed mappings
-                for (Map<String, String> elementMapping : arrayDetailedMappings) {
-                    detailed.putAll(elementMapping);
-                }
-
+            Map<String, ArrayMappingGroup> groups = arrayGeneralizedMappings.size() > 1
+                ? groupSimilarArrayMappings(arrayGeneralizedMappings)
+                : null;
+            if (groups != null) {
                 // Add generalized mapping with smart array index replacement
-                Map<String, String> firstElementGeneralized = arrayGeneralizedMappings.get(0);
-                for (Map.Entry<String, String> entry : firstElementGeneralized.entrySet()) {
-                    // Collect all corresponding keys for this entry across array elements
-                    Set<String> allKeys = new HashSet<>();
-                    Set<String> allValues = new HashSet<>();
-
-                    for (Map<String, String> mapping : arrayGeneralizedMappings) {
-                        for (Map.Entry<String, String> e : mapping.entrySet()) {
-                            if (e.getKey().replaceAll("\\[\\d+\\]", "[*]").equals(entry.getKey().replaceAll("\\[\\d+\\]", "[*]"))) {
-                                allKeys.add(e.getKey());
-                                allValues.add(e.getValue());
-                            }
-                        }
-                    }
-
-                    String generalizedKey = generalizeVaryingArrayIndices(allKeys);
-                    String generalizedValue = generalizeVaryingArrayIndices(allValues);
-                    generalized.put(generalizedKey, generalizedValue);
+                Map<String, String[]> generalizedEntries = new HashMap<>();
+                for (String key : arrayGeneralizedMappings.get(0).keySet()) {
+                    String[] generalizedEntry = generalizedEntries.computeIfAbsent(generalizeArrayIndices(key), generalizedKey -> {
+                        // All corresponding keys and values for this entry across array elements
+                        ArrayMappingGroup group = groups.get(generalizedKey);
+                        return new String[] { generalizeVaryingArrayIndices(group.keys), generalizeVaryingArrayIndices(group.values) };
+                    });
+                    generalized.put(generalizedEntry[0], generalizedEntry[1]);
                 }
             } else {
-                // Array elements have different structures, add all mappings to both detailed
-                // and generalized
-                for (int i = 0; i < arrayDetailedMappings.size(); i++) {
-                    detailed.putAll(arrayDetailedMappings.get(i));
-                    generalized.putAll(arrayGeneralizedMappings.get(i));
+                // Array elements have different structures, add all mappings to generalized
+                for (Map<String, String> elementMapping : arrayGeneralizedMappings) {
+                    generalized.putAll(elementMapping);
                 }
             }
 
         } else {
             // Process leaf values by finding matching input paths
-            String value = node.asText();
-            String matchingInputPath = inputIndex.get(value);
+            PathNode matchingInputPath = inputIndex.get(node.asText());
 
-            if (matchingInputPath != null && !matchingInputPath.isEmpty()) {
-                detailed.put(path, matchingInputPath);
-                generalized.put(path, matchingInputPath);
+            if (matchingInputPath != null) {
+                String outputPath = path.toString();
+                detailed.put(outputPath, matchingInputPath.toString());
+                generalized.put(outputPath, matchingInputPath.toString());
             }
         }
     }
 
     /**
-     * Checks if array mappings are similar (only differing in array indices).
+     * Checks if array mappings are similar (only differing in array indices), and
+     * if so groups their entries by key with array indices generalized.
      * This determines whether to use generalized array notation or treat each
      * element separately, which is crucial for creating useful transformation
      * patterns.
      *
+     * Mappings are similar when they have the same generalized keys, and the
+     * first value of each generalized key is the same once generalized. Each
+     * mapping is reduced to this signature once, so the check is linear in the
+     * number of entries.
+     *
      * @param arrayMappings List of generalized mappings for array elements
-     * @return true if mappings have similar structure with only index differences
+     * @return the keys and values of each generalized key, in encounter order, or null if the mappings are not similar
      */
-    private static boolean areArrayMappingsSimilar(List<Map<String, String>> arrayMappings) {
-        if (arrayMappings.size() <= 1) return true;
-
-        Map<String, String> firstMapping = arrayMappings.get(0);
-        Set<String> firstKeys = firstMapping.keySet().stream().map(key -> key.replaceAll("\\[\\d+\\]", "[*]")).collect(Collectors.toSet());
-
-        for (int i = 1; i < arrayMappings.size(); i++) {
-            Map<String, String> currentMapping = arrayMappings.get(i);
-            Set<String> currentKeys = currentMapping.keySet()
-                .stream()
-                .map(key -> key.replaceAll("\\[\\d+\\]", "[*]"))
-                .collect(Collectors.toSet());
+    private static Map<String, ArrayMappingGroup> groupSimilarArrayMappings(List<Map<String, String>> arrayMappings) {
+        Map<String, ArrayMappingGroup> groups = new HashMap<>();
+        Map<String, String> firstSignature = null;
+        for (Map<String, String> mapping : arrayMappings) {
+            Map<String, String> signature = new HashMap<>();
+            for (Map.Entry<String, String> entry : mapping.entrySet()) {
+                String generalizedKey = generalizeArrayIndices(entry.getKey());
+                if (!signature.containsKey(generalizedKey)) {
+                    signature.put(generalizedKey, generalizeArrayIndices(entry.getValue()));
+                }
+                groups.computeIfAbsent(generalizedKey, k -> new ArrayMappingGroup()).add(entry.getKey(), entry.getValue());
+            }
+            if (firstSignature == null) {
+                firstSignature = signature;
+            } else if (!firstSignature.equals(signature)) {
+                return null;
+            }
+        }
+        return groups;
+    }
 
-            if (!firstKeys.equals(currentKeys)) {
-                return false;
+    /**
+     * Replaces every array index of a path with [*], as {@code path.replaceAll("\\[\\d+\\]", "[*]")} does.
+     *
+     * @param path The path to generalize
+     * @return The path with all array indices replaced
+     */
+    private static String generalizeArrayIndices(String path) {
+        StringBuilder sb = null;
+        int copied = 0;
+        for (int open = path.indexOf('['); open >= 0; open = path.indexOf('[', open + 1)) {
+            int end = open + 1;
+            while (end < path.length() && isDigit(path.charAt(end))) {
+                end++;
+            }
+            if (end > open + 1 && end < path.length() && path.charAt(end) == ']') {
+                if (sb == null) {
+                    sb = new StringBuilder(path.length());
+                }
+                sb.append(path, copied, open).append("[*]");
+                copied = end + 1;
+                open = end;
             }
+        }
+        return sb == null ? path : sb.append(path, copied, path.length()).toString();
+    }
 
-            // Check if the values also have similar structure when generalized
-            for (String generalizedKey : firstKeys) {
-                String firstValue = firstMapping.entrySet()
-                    .stream()
-                    .filter(e -> e.getKey().replaceAll("\\[\\d+\\]", "[*]").equals(generalizedKey))
-                    .map(e -> e.getValue().replaceAll("\\[\\d+\\]", "[*]"))
-                    .findFirst()
-                    .orElse("");
-
-                String currentValue = currentMapping.entrySet()
-                    .stream()
-                    .filter(e -> e.getKey().replaceAll("\\[\\d+\\]", "[*]").equals(generalizedKey))
-                    .map(e -> e.getValue().replaceAll("\\[\\d+\\]", "[*]"))
-                    .findFirst()
-                    .orElse("");
-
-                if (!firstValue.equals(currentValue)) {
-                    return false;
+    /**
+     * Splits a path into its properties and array indices, as {@code path.split("(?<=]\\.)|(?=\\[)|\\.")} does.
+     * A path is split at each dot, before each [ and after each ]. sequence, so an index followed by a property
+     * leaves an empty part.
+     *
+     * @param path The path to split
+     * @return The parts of the path
+     */
+    private static String[] splitPath(String path) {
+        List<String> parts = new ArrayList<>();
+        int partStart = 0;
+        for (int position = 0; position <= path.length(); position++) {
+            boolean afterIndex = position >= 2 && path.charAt(position - 2) == ']' && path.charAt(position - 1) == '.';
+            boolean beforeIndex = position < path.length() && path.charAt(position) == '[';
+            if (afterIndex || beforeIndex) {
+                // Zero-width split, except at the start of the path
+                if (position > 0) {
+                    parts.add(path.substring(partStart, position));
+                    partStart = position;
                 }
+            } else if (position < path.length() && path.charAt(position) == '.') {
+                parts.add(path.substring(partStart, position));
+                partStart = position + 1;
             }
         }
+        if (parts.isEmpty()) {
+            return new String[] { path };
+        }
+        parts.add(path.substring(partStart));
+        // Trailing empty parts are removed
+        int size = parts.size();
+        while (size > 0 && parts.get(size - 1).isEmpty()) {
+            size--;
+        }
+        return parts.subList(0, size).toArray(new String[0]);
+    }
 
+    /**
+     * Checks whether a path part is an array index, such as [0].
+     *
+     * @param part The path part
+     * @return true if the part is an array index
+     */
+    private static boolean isArrayIndex(String part) {
+        if (part.length() < 3 || part.charAt(0) != '[' || part.charAt(part.length() - 1) != ']') {
+            return false;
+        }
+        for (int i = 1; i < part.length() - 1; i++) {
+            if (!isDigit(part.charAt(i))) {
+                return false;
+            }
+        }
         return true;
     }
 
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
     /**
      * Generalizes array indices by replacing only varying indices with [*].
      * This method intelligently identifies which array indices are varying
@@ -536,29 +587,36 @@ public class JsonToJsonRecommender {
         if (paths.isEmpty()) return "";
         if (paths.size() == 1) return paths.iterator().next();
 
-        List<String[]> split = paths.stream().map(p -> p.split("(?<=]\\.)|(?=\\[)|\\.")).collect(Collectors.toList());
+        List<String[]> split = new ArrayList<>(paths.size());
+        int max = 0;
+        for (String path : paths) {
+            String[] parts = splitPath(path);
+            split.add(parts);
+            max = Math.max(max, parts.length);
+        }
 
         StringBuilder sb = new StringBuilder();
-        int max = split.stream().mapToInt(a -> a.length).max().orElse(0);
-
         for (int i = 0; i < max; i++) {
-            int index = i;
-            Set<String> parts = split.stream().map(arr -> index < arr.length ? arr[index] : "").collect(Collectors.toSet());
+            Set<String> parts = new LinkedHashSet<>();
+            for (String[] arr : split) {
+                parts.add(i < arr.length ? arr[i] : "");
+            }
+            String firstPart = parts.iterator().next();
 
             // Add separator if needed
-            if (i > 0 && sb.length() > 0 && !sb.toString().endsWith(".") && !parts.iterator().next().startsWith("[")) {
+            if (i > 0 && sb.length() > 0 && sb.charAt(sb.length() - 1) != '.' && !firstPart.startsWith("[")) {
                 sb.append('.');
             }
 
             if (parts.size() == 1) {
                 // All paths have the same part at this position, keep it unchanged
-                sb.append(parts.iterator().next());
-            } else if (parts.stream().anyMatch(p -> p.matches("\\[\\d+]"))) {
+                sb.append(firstPart);
+            } else if (parts.stream().anyMatch(JsonToJsonRecommender::isArrayIndex)) {
                 // Array indices vary at this position, replace with [*]
                 sb.append("[*]");
             } else {
                 // Other variations, keep the first one
-                sb.append(parts.iterator().next());
+                sb.append(firstPart);
             }
         }
         return sb.toString();
@@ -644,6 +702,60 @@ public class JsonToJsonRecommender {
         return result;
     }
 
+    /**
+     * A node of a path trie. Paths of sibling values share their parent's node, and
+     * each node's path string is built at most once, when it is first needed.
+     */
+    private static final class PathNode {
+        private final PathNode parent;
+        // The property name, or null for an array element
+        private final String name;
+        private final int index;
+        private String path;
+
+        private PathNode(PathNode parent, String name, int index) {
+            this.parent = parent;
+            this.name = name;
+            this.index = index;
+        }
+
+        static PathNode root() {
+            PathNode root = new PathNode(null, null, -1);
+            root.path = "$";
+            return root;
+        }
+
+        PathNode child(String name) {
+            return new PathNode(this, name, -1);
+        }
+
+        PathNode child(int index) {
+            return new PathNode(this, null, index);
+        }
+
+        @Override
+        public String toString() {
+            if (path == null) {
+                path = name != null ? parent + "." + name : parent + "[" + index + "]";
+            }
+            return path;
+        }
+    }
+
+    /**
+     * The keys and values of array element mappings which are the same once array indices are generalized.
+     * Sets are filled in encounter order.
+     */
+    private static final class ArrayMappingGroup {
+        final Set<String> keys = new LinkedHashSet<>();
+        final Set<String> values = new LinkedHashSet<>();
+
+        void add(String key, String value) {
+            keys.add(key);
+            values.add(value);
+        }
+    }
+
     /**
      * Class representing the mapping result, containing detailed mappings and
      * JSONPath suggestions. This provides both granular field-to-field mappings
@@ -8,6 +8,8 @@
  */
 package org.opensearch.flowframework.util;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.StreamReadConstraints;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -15,15 +17,34 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.Strings;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.flowframework.common.CommonValue;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
 import java.util.regex.Pattern;
 
 import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.InvalidPathException;
 import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.Option;
 import com.jayway.jsonpath.spi.json.JacksonJsonProvider;
@@ -64,16 +85,28 @@ import com.jayway.jsonpath.spi.mapper.JacksonMappingProvider;
  * - Only [*] wildcards are supported (nested wildcards are
  *   allowed). Explicit numeric indices (e.g. [0]) are honoured
  *   verbatim.
- * - Thread-safe and stateless: all public APIs are static and use local
- *   variables only.
+ * - Mapping rules are compiled once into a {@link CompiledMapping} and cached
+ *   by mapping string. The input is parsed once per transform and every path
+ *   is read from the same parsed document.
+ * - Mappings of simple paths without wildcard arrays are applied in one forward
+ *   pass of the input (see {@link StreamingPathMatcher}). Only the matched values
+ *   are kept in memory and the output is written as it is built, so the
+ *   {@link InputStream} and {@link BytesReference} variants handle large inputs
+ *   in bounded memory. Other mappings need random access to the input and fall
+ *   back to reading it into a parsed document.
+ * - Thread-safe: compiled mappings are immutable and all other state is local.
  *
  * Call Flow Architecture:
  * transform()
- *   └── buildOutputFromMapping() [validates object type and processes properties]
- *       ├── processSimpleProperty() [handles JsonPath leaf nodes]
- *       ├── [nested objects] → buildOutputFromMapping() [direct recursion]
- *       └── processArrayProperty() [handles array syntax and builds elements]
- *           └── buildOutputFromMapping() [direct recursion for array elements]
+ *   ├── compile() [parses, validates and caches the mapping rules]
+ *   │   └── compileObject() [builds a plan for each property]
+ *   └── CompiledMapping.apply() [reads the input once]
+ *       ├── StreamingPathMatcher.match() → writeOutput() [one pass, when streamable]
+ *       └── buildOutput() [evaluates the plan against the parsed input]
+ *           ├── SimpleProperty [handles JsonPath leaf nodes]
+ *           ├── NestedProperty → buildOutput() [direct recursion]
+ *           └── ArrayProperty [builds elements]
+ *               └── buildOutput() [direct recursion for array elements]
  */
 public final class JsonToJsonTransformer {
     private static final ObjectMapper MAPPER;
@@ -81,7 +114,17 @@ public final class JsonToJsonTransformer {
 
     // Pre-compiled regex patterns for performance
     private static final Pattern EXPLICIT_INDEX_PATTERN = Pattern.compile("\\[\\d+\\]");
-    private static final Pattern WILDCARD_PATTERN = Pattern.compile("\\[\\*\\]");
+    private static final String WILDCARD = "[*]";
+
+    // Cached mappings are weighed by length, as their compiled paths and plan grow with it
+    private static final long CACHE_MAX_WEIGHT = new ByteSizeValue(1, ByteSizeUnit.MB).getBytes();
+
+    // The same mapping is usually applied to many inputs, such as every response of a connector
+    private static final Cache<String, CompiledMapping> CACHE = CacheBuilder.<String, CompiledMapping>builder()
+        .setMaximumWeight(CACHE_MAX_WEIGHT)
+        .weigher((mappingRules, mapping) -> mappingRules.length())
+        .setExpireAfterAccess(TimeValue.timeValueHours(1))
+        .build();
 
     static {
         StreamReadConstraints constraints = StreamReadConstraints.builder()
@@ -112,7 +155,7 @@ public final class JsonToJsonTransformer {
      * @return transformed JSON as a string
      * @throws IllegalArgumentException if input parameters are null/empty, input JSON
      *                                 cannot be parsed, or mapping is malformed
-     * @throws JsonProcessingException if the output JSON cannot be serialized
+     * @throws JsonProcessingException if the mapping rules cannot be parsed or the output JSON cannot be serialized
      */
     public static String transform(String inputJson, String mappingRules) throws IllegalArgumentException, JsonProcessingException {
         if (Strings.isNullOrEmpty(inputJson)) {
@@ -121,149 +164,192 @@ public final class JsonToJsonTransformer {
         if (Strings.isNullOrEmpty(mappingRules)) {
             throw new IllegalArgumentException("mappingRules must not be null or empty");
         }
+        return transform(inputJson, compile(mappingRules));
+    }
 
-        JsonNode mappingNode = MAPPER.readTree(mappingRules);
+    /**
+     * Transforms {@code inputJson} into a new JSON document according to a compiled mapping.
+     *
+     * @param inputJson source document (string)
+     * @param mapping the compiled mapping rules
+     * @return transformed JSON as a string
+     * @throws IllegalArgumentException if the input JSON is null/empty or cannot be parsed
+     * @throws JsonProcessingException if the output JSON cannot be serialized
+     */
+    public static String transform(String inputJson, CompiledMapping mapping) throws IllegalArgumentException, JsonProcessingException {
+        if (Strings.isNullOrEmpty(inputJson)) {
+            throw new IllegalArgumentException("inputJson must not be null or empty");
+        }
+        StringWriter writer = new StringWriter();
+        try (
+            JsonParser parser = MAPPER.getFactory().createParser(inputJson);
+            JsonGenerator generator = MAPPER.getFactory().createGenerator(writer)
+        ) {
+            mapping.apply(parser, generator);
+        } catch (JsonProcessingException e) {
+            throw e;
+        } catch (IOException e) {
+            // Reading and writing strings does no I/O
+            throw new UncheckedIOException(e);
+        }
+        return writer.toString();
+    }
 
-        String document;
-        try {
-            document = JsonPath.using(JSON_PATH_CFG).parse(inputJson).jsonString();
-        } catch (Exception e) {
-            throw new IllegalArgumentException("Invalid input JSON for JsonPath parsing", e);
+    /**
+     * Transforms an input stream into a new JSON document written to an output stream, according to a compiled mapping.
+     * Neither stream is closed.
+     *
+     * @param input source document
+     * @param mapping the compiled mapping rules
+     * @param output the stream to write the transformed JSON to
+     * @throws IllegalArgumentException if the input JSON cannot be parsed
+     * @throws IOException if the streams cannot be read or written
+     */
+    public static void transform(InputStream input, CompiledMapping mapping, OutputStream output) throws IllegalArgumentException,
+        IOException {
+        try (
+            JsonParser parser = MAPPER.getFactory().createParser(input).disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            JsonGenerator generator = MAPPER.getFactory().createGenerator(output).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+        ) {
+            mapping.apply(parser, generator);
+        }
+    }
+
+    /**
+     * Transforms a source document into a new JSON document according to a compiled mapping.
+     *
+     * @param input source document
+     * @param mapping the compiled mapping rules
+     * @return transformed JSON
+     * @throws IllegalArgumentException if the input JSON is null or cannot be parsed
+     * @throws IOException if the output JSON cannot be written
+     */
+    public static BytesReference transform(BytesReference input, CompiledMapping mapping) throws IllegalArgumentException, IOException {
+        if (input == null || input.length() == 0) {
+            throw new IllegalArgumentException("input must not be null or empty");
+        }
+        BytesStreamOutput output = new BytesStreamOutput();
+        try (StreamInput in = input.streamInput()) {
+            transform(in, mapping, output);
         }
+        return output.bytes();
+    }
 
-        ObjectNode outputRoot = MAPPER.createObjectNode();
-        buildOutputFromMapping(outputRoot, mappingNode, document);
+    /**
+     * Compiles mapping rules, or gets them from the cache if they were compiled before.
+     *
+     * @param mappingRules mapping produced by JsonToJsonRecommender
+     * @return the compiled mapping
+     * @throws IllegalArgumentException if the mapping is null/empty or malformed
+     * @throws JsonProcessingException if the mapping rules cannot be parsed
+     */
+    public static CompiledMapping compile(String mappingRules) throws IllegalArgumentException, JsonProcessingException {
+        if (Strings.isNullOrEmpty(mappingRules)) {
+            throw new IllegalArgumentException("mappingRules must not be null or empty");
+        }
+        try {
+            return CACHE.computeIfAbsent(mappingRules, JsonToJsonTransformer::compileUncached);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof JsonProcessingException) {
+                throw (JsonProcessingException) e.getCause();
+            } else if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalArgumentException("Failed to compile mapping rules", e.getCause());
+        }
+    }
 
-        return MAPPER.writeValueAsString(outputRoot);
+    private static CompiledMapping compileUncached(String mappingRules) throws JsonProcessingException {
+        JsonNode mappingNode = MAPPER.readTree(mappingRules);
+        CompileContext context = new CompileContext();
+        ObjectPlan root = compileObject(mappingNode, 0, context);
+        StreamingPathMatcher matcher = context.streamable ? StreamingPathMatcher.compile(context.leafPaths) : null;
+        return new CompiledMapping(root, context.maxDepth, matcher);
     }
 
     /**
-     * Main processing engine that builds output from mapping rules.
-     * Processes object-type mapping nodes by delegating to specialized handlers.
+     * Compiles an object-type mapping node into a plan of its properties.
      *
      * TERMINATION CONDITIONS:
-     * - Only processes JsonNode.isObject() mappings
+     * - Only compiles JsonNode.isObject() mappings
      * - Throws exception for textual root mappings or unsupported node types
      * - Processes finite set of fields from input mapping
-     * - Recursion depth is naturally limited by input structure depth
+     * - Recursion depth is naturally limited by mapping depth
      *
-     * @param outputNode the node to populate
-     * @param mappingNode the mapping rules to apply (must be object type)
-     * @param inputDocument the source document as JSON string
+     * @param mappingNode the mapping rules to compile (must be object type)
+     * @param depth the number of enclosing wildcard arrays, whose indices are substituted for the first wildcards of each path
+     * @param context the state of the whole mapping's compilation
+     * @return the plan of the object
      */
-    private static void buildOutputFromMapping(ObjectNode outputNode, JsonNode mappingNode, String inputDocument) {
+    private static ObjectPlan compileObject(JsonNode mappingNode, int depth, CompileContext context) {
         // TERMINATION: Type validation - reject non-object mappings
         if (mappingNode.isTextual()) {
             throw new IllegalArgumentException("Root mapping cannot be a JsonPath string - it must be an object");
         } else if (!mappingNode.isObject()) {
             throw new IllegalArgumentException("Mapping contains unsupported node type: " + mappingNode.getNodeType());
         }
+        context.maxDepth = Math.max(context.maxDepth, depth);
 
-        // Process each property in the object mapping
+        List<PropertyPlan> properties = new ArrayList<>(mappingNode.size());
+        Set<String> outputNames = new HashSet<>();
         Iterator<Map.Entry<String, JsonNode>> fields = mappingNode.fields();
-
         while (fields.hasNext()) {
             Map.Entry<String, JsonNode> entry = fields.next();
             String propertyKey = entry.getKey();
             JsonNode propertyValue = entry.getValue();
 
-            // Determine property type and delegate to appropriate handler
+            // Determine property type and compile the appropriate plan
+            String outputName = propertyKey;
             if (isArrayProperty(propertyKey)) {
-                processArrayProperty(outputNode, propertyKey, propertyValue, inputDocument);
+                outputName = propertyKey.substring(0, propertyKey.indexOf('['));
+                properties.add(compileArrayProperty(propertyKey, propertyValue, depth, context));
             } else if (propertyValue.isTextual()) {
-                processSimpleProperty(outputNode, propertyKey, propertyValue, inputDocument);
+                String path = propertyValue.asText();
+                properties.add(new SimpleProperty(propertyKey, new PathTemplate(path, depth), context.leafPaths.size()));
+                context.leafPaths.add(path);
             } else if (propertyValue.isObject()) {
-                // Handle nested object - create nested node and recurse
-                ObjectNode nestedOutputNode = outputNode.withObject(propertyKey);
-                buildOutputFromMapping(nestedOutputNode, propertyValue, inputDocument);
+                properties.add(new NestedProperty(propertyKey, compileObject(propertyValue, depth, context)));
             } else {
                 // TERMINATION: Reject unsupported property value types
                 throw new IllegalArgumentException(
                     "Property '" + propertyKey + "' has unsupported value type: " + propertyValue.getNodeType()
                 );
             }
-        }
-    }
-
-    /**
-     * Handles simple properties with JsonPath expressions (leaf nodes).
-     *
-     * TERMINATION: No recursion - pure value extraction and assignment.
-     *
-     * @param outputNode the target object
-     * @param propertyKey the property name
-     * @param jsonPathNode the JsonPath expression node
-     * @param inputDocument the source document as JSON string
-     */
-    private static void processSimpleProperty(ObjectNode outputNode, String propertyKey, JsonNode jsonPathNode, String inputDocument) {
-        String jsonPath = jsonPathNode.asText();
-        List<?> extracted = JsonPath.using(JSON_PATH_CFG).parse(inputDocument).read(jsonPath);
-
-        if (extracted == null || extracted.isEmpty()) {
-            return; // No match - skip property
-        }
-
-        // If the JsonPath contains [*], always return an array even for single values
-        boolean shouldBeArray = jsonPath.endsWith("[*]");
-
-        if (shouldBeArray || extracted.size() > 1) {
-            ArrayNode arrayNode = MAPPER.createArrayNode();
-            for (Object value : extracted) {
-                arrayNode.add(MAPPER.valueToTree(value));
+            // Properties with the same output name are merged, which needs the whole output in memory
+            if (!outputNames.add(outputName)) {
+                context.streamable = false;
             }
-            outputNode.set(propertyKey, arrayNode);
-        } else {
-            outputNode.set(propertyKey, MAPPER.valueToTree(extracted.get(0)));
         }
+        return new ObjectPlan(properties);
     }
 
     /**
-     * Handles array properties (keys containing [*] or [index]).
-     *
-     * TERMINATION CONDITIONS:
-     * - Wildcard arrays: bounded by determineArraySize() result
-     * - Explicit index arrays: processes single specified index
-     * - Empty size results in no processing
+     * Compiles array properties (keys containing [*] or [index]).
      *
-     * @param outputNode the target object
      * @param arrayPropertyKey the array property key (e.g., "items[*]")
      * @param elementMapping the mapping for array elements
-     * @param inputDocument the source document as JSON string
+     * @param depth the number of enclosing wildcard arrays
+     * @param context the state of the whole mapping's compilation
+     * @return the plan of the array property
      */
-    private static void processArrayProperty(
-        ObjectNode outputNode,
-        String arrayPropertyKey,
-        JsonNode elementMapping,
-        String inputDocument
-    ) {
-        ArrayKeyInfo keyInfo = parseArrayKey(arrayPropertyKey);
-        ArrayNode arrayNode = outputNode.withArray(keyInfo.propertyName);
-
-        if (keyInfo.isWildcard) {
-            // Wildcard array - size determined by actual data
-            int arraySize = determineArraySize(elementMapping, inputDocument);
-
-            for (int i = 0; i < arraySize; i++) {
-                ObjectNode elementNode = MAPPER.createObjectNode();
-                arrayNode.add(elementNode);
-
-                // Build array element with wildcard substitution
-                JsonNode processedMapping = substituteWildcardsInMapping(elementMapping, i);
-                buildOutputFromMapping(elementNode, processedMapping, inputDocument);
-            }
+    private static PropertyPlan compileArrayProperty(String arrayPropertyKey, JsonNode elementMapping, int depth, CompileContext context) {
+        int bracketPos = arrayPropertyKey.indexOf('[');
+        String propertyName = arrayPropertyKey.substring(0, bracketPos);
+        String indexToken = arrayPropertyKey.substring(bracketPos);
+
+        if (WILDCARD.equals(indexToken)) {
+            // Elements substitute their index for the next wildcard of each path, which needs random access to the input
+            context.streamable = false;
+            ObjectPlan elementPlan = compileObject(elementMapping, depth + 1, context);
+            String samplePath = findFirstWildcardPath(elementMapping, depth);
+            PathTemplate sizePath = samplePath == null ? null : new PathTemplate(samplePath, depth);
+            return new ArrayProperty(propertyName, -1, depth, elementPlan, sizePath);
+        } else if (EXPLICIT_INDEX_PATTERN.matcher(indexToken).matches()) {
+            int index = Integer.parseInt(indexToken.substring(1, indexToken.length() - 1));
+            // Explicit index paths already have concrete indices
+            return new ArrayProperty(propertyName, index, depth, compileObject(elementMapping, depth, context), null);
         } else {
-            // Explicit index - process single element
-            int targetIndex = keyInfo.explicitIndex;
-
-            // Extend array to accommodate index
-            while (arrayNode.size() <= targetIndex) {
-                arrayNode.add(MAPPER.createObjectNode());
-            }
-
-            ObjectNode elementNode = (ObjectNode) arrayNode.get(targetIndex);
-
-            // Build array element without substitution (explicit index paths already have concrete indices)
-            buildOutputFromMapping(elementNode, elementMapping, inputDocument);
+            throw new IllegalArgumentException("Unsupported array index format: " + arrayPropertyKey);
         }
     }
 
@@ -277,108 +363,387 @@ public final class JsonToJsonTransformer {
     }
 
     /**
-     * Parses array key into components.
+     * Finds the first JsonPath in the mapping structure with a wildcard left once the enclosing arrays' indices are substituted.
+     * The number of matches of this path determines the size of a wildcard array.
      *
-     * TERMINATION: Simple parsing logic, no recursion.
+     * RECURSION: Tree traversal, naturally bounded by mapping depth.
+     * TERMINATION: Returns on first match or after exhausting structure.
+     *
+     * @param mapping the mapping node to search
+     * @param depth the number of enclosing wildcard arrays
+     * @return first wildcard path found, or null
      */
-    private static ArrayKeyInfo parseArrayKey(String arrayKey) {
-        int bracketPos = arrayKey.indexOf('[');
-        String propertyName = arrayKey.substring(0, bracketPos);
-        String indexToken = arrayKey.substring(bracketPos);
+    private static String findFirstWildcardPath(JsonNode mapping, int depth) {
+        if (mapping.isTextual()) {
+            String path = mapping.asText();
+            return countWildcards(path) > depth ? path : null;
+        } else if (mapping.isObject()) {
+            for (JsonNode element : mapping) {
+                String result = findFirstWildcardPath(element, depth);
+                if (result != null) {
+                    return result;
+                }
+            }
+        }
+        return null;
+    }
 
-        if ("[*]".equals(indexToken)) {
-            return new ArrayKeyInfo(propertyName, true, -1);
-        } else if (EXPLICIT_INDEX_PATTERN.matcher(indexToken).matches()) {
-            int index = Integer.parseInt(indexToken.substring(1, indexToken.length() - 1));
-            return new ArrayKeyInfo(propertyName, false, index);
-        } else {
-            throw new IllegalArgumentException("Unsupported array index format: " + arrayKey);
+    private static int countWildcards(String path) {
+        int count = 0;
+        for (int i = path.indexOf(WILDCARD); i >= 0; i = path.indexOf(WILDCARD, i + WILDCARD.length())) {
+            count++;
         }
+        return count;
     }
 
     /**
-     * Recursively substitutes [*] wildcards with specific indices.
+     * Builds output by evaluating an object plan against the parsed input.
      *
-     * RECURSION: Only on object node structure, naturally bounded by input depth.
-     * TERMINATION: Processes only text and object nodes, finite structure.
+     * RECURSION: Bounded by the depth of the compiled mapping.
      *
-     * @param mapping the mapping node to process
-     * @param index the index to substitute
-     * @return new mapping with substituted indices
+     * @param outputNode the node to populate
+     * @param plan the compiled object mapping
+     * @param document the parsed input document
+     * @param indices the indices of the enclosing wildcard array elements, outermost first
      */
-    private static JsonNode substituteWildcardsInMapping(JsonNode mapping, int index) {
-        if (mapping.isTextual()) {
-            String jsonPath = mapping.asText();
-            String substituted = WILDCARD_PATTERN.matcher(jsonPath).replaceFirst("[" + index + "]");
-
-            return MAPPER.getNodeFactory().textNode(substituted);
-        } else if (mapping.isObject()) {
-            ObjectNode result = MAPPER.createObjectNode();
-            Iterator<Map.Entry<String, JsonNode>> fields = mapping.fields();
-            while (fields.hasNext()) {
-                Map.Entry<String, JsonNode> entry = fields.next();
-                result.set(entry.getKey(), substituteWildcardsInMapping(entry.getValue(), index));
-            }
-            return result;
+    private static void buildOutput(ObjectNode outputNode, ObjectPlan plan, DocumentContext document, int[] indices) {
+        for (PropertyPlan property : plan.properties) {
+            property.apply(outputNode, document, indices);
         }
-        // TERMINATION: Return unchanged for other node types
-        return mapping;
     }
 
     /**
-     * Determines array size by finding first wildcard JsonPath and evaluating it.
+     * Writes output by evaluating an object plan against the matches of a streaming pass.
      *
-     * TERMINATION: Searches finite mapping structure, returns definite size.
+     * RECURSION: Bounded by the depth of the compiled mapping.
      *
-     * @param elementMapping mapping to analyze
-     * @param inputDocument source document as JSON string
-     * @return determined array size
+     * @param generator the generator, positioned inside the object to populate
+     * @param plan the compiled object mapping
+     * @param matches the matches of each leaf path, by slot
+     * @throws IOException if the output cannot be written
      */
-    private static int determineArraySize(JsonNode elementMapping, String inputDocument) {
-        String samplePath = findFirstWildcardPath(elementMapping);
-        if (samplePath != null) {
-            List<?> matches = JsonPath.using(JSON_PATH_CFG).parse(inputDocument).read(samplePath);
-            return matches != null ? matches.size() : 0;
+    private static void writeOutput(JsonGenerator generator, ObjectPlan plan, List<List<JsonNode>> matches) throws IOException {
+        for (PropertyPlan property : plan.properties) {
+            property.write(generator, matches);
         }
-        return 0;
     }
 
     /**
-     * Finds first JsonPath containing wildcard in mapping structure.
-     *
-     * RECURSION: Tree traversal, naturally bounded by mapping depth.
-     * TERMINATION: Returns on first match or after exhausting structure.
+     * The state of compiling a whole mapping.
+     */
+    private static final class CompileContext {
+        // The deepest wildcard array nesting found
+        int maxDepth;
+        // The JsonPath of each leaf, indexed by the slot of its property
+        final List<String> leafPaths = new ArrayList<>();
+        // Whether the output can be written in one forward pass of the input
+        boolean streamable = true;
+    }
+
+    /**
+     * Mapping rules compiled into a plan, which is applied to many inputs without parsing the rules again.
+     * Instances are immutable and may be shared between threads.
+     */
+    public static final class CompiledMapping {
+        private final ObjectPlan root;
+        private final int maxDepth;
+        // Matches the leaf paths in one forward pass, or null if the mapping needs random access to the input
+        private final StreamingPathMatcher matcher;
+
+        private CompiledMapping(ObjectPlan root, int maxDepth, StreamingPathMatcher matcher) {
+            this.root = root;
+            this.maxDepth = maxDepth;
+            this.matcher = matcher;
+        }
+
+        /**
+         * Checks whether the mapping is applied in one forward pass of the input, keeping only the matched values in memory
+         * @return true if the input is streamed, false if it is read into a parsed document
+         */
+        public boolean isStreamable() {
+            return matcher != null;
+        }
+
+        /**
+         * Applies the mapping to an input document, which is read once
+         *
+         * @param parser the parser of the source document
+         * @param generator the generator to write the output document to
+         * @throws IllegalArgumentException if the input JSON cannot be parsed
+         * @throws IOException if the input cannot be read or the output cannot be written
+         */
+        void apply(JsonParser parser, JsonGenerator generator) throws IOException {
+            if (matcher != null) {
+                List<List<JsonNode>> matches;
+                try {
+                    nextValue(parser);
+                    matches = matcher.match(parser, MAPPER);
+                } catch (JsonProcessingException e) {
+                    throw new IllegalArgumentException("Invalid input JSON for JsonPath parsing", e);
+                }
+                generator.writeStartObject();
+                writeOutput(generator, root, matches);
+                generator.writeEndObject();
+            } else {
+                DocumentContext document;
+                try {
+                    nextValue(parser);
+                    document = JsonPath.using(JSON_PATH_CFG).parse(MAPPER.readValue(parser, Object.class));
+                } catch (JsonProcessingException e) {
+                    throw new IllegalArgumentException("Invalid input JSON for JsonPath parsing", e);
+                }
+                ObjectNode outputRoot = MAPPER.createObjectNode();
+                buildOutput(outputRoot, root, document, new int[maxDepth]);
+                generator.writeTree(outputRoot);
+            }
+            generator.flush();
+        }
+
+        private static void nextValue(JsonParser parser) throws IOException {
+            if (parser.nextToken() == null) {
+                throw new IllegalArgumentException("Invalid input JSON for JsonPath parsing: no content");
+            }
+        }
+    }
+
+    /**
+     * The compiled properties of an object mapping, in mapping order.
+     */
+    private static final class ObjectPlan {
+        final List<PropertyPlan> properties;
+
+        ObjectPlan(List<PropertyPlan> properties) {
+            this.properties = properties;
+        }
+    }
+
+    /**
+     * A compiled mapping property.
+     */
+    private interface PropertyPlan {
+        /**
+         * Evaluates the property and sets it on the output node
+         * @param outputNode the target object
+         * @param document the parsed input document
+         * @param indices the indices of the enclosing wildcard array elements, outermost first
+         */
+        void apply(ObjectNode outputNode, DocumentContext document, int[] indices);
+
+        /**
+         * Writes the property from the matches of a streaming pass
+         * @param generator the generator, positioned inside the target object
+         * @param matches the matches of each leaf path, by slot
+         * @throws IOException if the output cannot be written
+         */
+        void write(JsonGenerator generator, List<List<JsonNode>> matches) throws IOException;
+    }
+
+    /**
+     * A property with a JsonPath expression (leaf node).
      *
-     * @param mapping the mapping node to search
-     * @return first wildcard path found, or null
+     * TERMINATION: No recursion - pure value extraction and assignment.
      */
-    private static String findFirstWildcardPath(JsonNode mapping) {
-        if (mapping.isTextual()) {
-            String path = mapping.asText();
-            return path.contains("[*]") ? path : null;
-        } else if (mapping.isObject()) {
-            for (JsonNode element : mapping) {
-                String result = findFirstWildcardPath(element);
-                if (result != null) {
-                    return result;
+    private static final class SimpleProperty implements PropertyPlan {
+        final String propertyKey;
+        final PathTemplate path;
+        // The index of the path's matches in a streaming pass
+        final int slot;
+
+        SimpleProperty(String propertyKey, PathTemplate path, int slot) {
+            this.propertyKey = propertyKey;
+            this.path = path;
+            this.slot = slot;
+        }
+
+        @Override
+        public void apply(ObjectNode outputNode, DocumentContext document, int[] indices) {
+            List<?> extracted = path.read(document, indices);
+
+            if (extracted == null || extracted.isEmpty()) {
+                return; // No match - skip property
+            }
+
+            // If the JsonPath ends with [*], always return an array even for single values
+            if (path.endsWithWildcard || extracted.size() > 1) {
+                ArrayNode arrayNode = MAPPER.createArrayNode();
+                for (Object value : extracted) {
+                    arrayNode.add(MAPPER.valueToTree(value));
                 }
+                outputNode.set(propertyKey, arrayNode);
+            } else {
+                outputNode.set(propertyKey, MAPPER.valueToTree(extracted.get(0)));
+            }
+        }
+
+        @Override
+        public void write(JsonGenerator generator, List<List<JsonNode>> matches) throws IOException {
+            List<JsonNode> extracted = matches.get(slot);
+            if (extracted.isEmpty()) {
+                return; // No match - skip property
+            }
+
+            generator.writeFieldName(propertyKey);
+            if (path.endsWithWildcard || extracted.size() > 1) {
+                generator.writeStartArray();
+                for (JsonNode value : extracted) {
+                    generator.writeTree(value);
+                }
+                generator.writeEndArray();
+            } else {
+                generator.writeTree(extracted.get(0));
             }
         }
-        return null;
     }
 
     /**
-     * Encapsulates parsed array key information.
+     * A nested object property.
      */
-    private static class ArrayKeyInfo {
+    private static final class NestedProperty implements PropertyPlan {
+        final String propertyKey;
+        final ObjectPlan plan;
+
+        NestedProperty(String propertyKey, ObjectPlan plan) {
+            this.propertyKey = propertyKey;
+            this.plan = plan;
+        }
+
+        @Override
+        public void apply(ObjectNode outputNode, DocumentContext document, int[] indices) {
+            buildOutput(outputNode.withObject(propertyKey), plan, document, indices);
+        }
+
+        @Override
+        public void write(JsonGenerator generator, List<List<JsonNode>> matches) throws IOException {
+            generator.writeObjectFieldStart(propertyKey);
+            writeOutput(generator, plan, matches);
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * An array property, with a [*] wildcard or an explicit index.
+     *
+     * TERMINATION CONDITIONS:
+     * - Wildcard arrays: bounded by the number of matches of the size path
+     * - Explicit index arrays: processes single specified index
+     * - Empty size results in no processing
+     */
+    private static final class ArrayProperty implements PropertyPlan {
         final String propertyName;
-        final boolean isWildcard;
+        // The explicit index, or -1 for a wildcard array
         final int explicitIndex;
+        // The number of enclosing wildcard arrays
+        final int depth;
+        final ObjectPlan elementPlan;
+        // The path whose matches determine the size of a wildcard array, or null
+        final PathTemplate sizePath;
 
-        ArrayKeyInfo(String propertyName, boolean isWildcard, int explicitIndex) {
+        ArrayProperty(String propertyName, int explicitIndex, int depth, ObjectPlan elementPlan, PathTemplate sizePath) {
             this.propertyName = propertyName;
-            this.isWildcard = isWildcard;
             this.explicitIndex = explicitIndex;
+            this.depth = depth;
+            this.elementPlan = elementPlan;
+            this.sizePath = sizePath;
+        }
+
+        @Override
+        public void apply(ObjectNode outputNode, DocumentContext document, int[] indices) {
+            ArrayNode arrayNode = outputNode.withArray(propertyName);
+
+            if (explicitIndex < 0) {
+                // Wildcard array - size determined by actual data
+                List<?> matches = sizePath == null ? null : sizePath.read(document, indices);
+                int arraySize = matches != null ? matches.size() : 0;
+
+                for (int i = 0; i < arraySize; i++) {
+                    ObjectNode elementNode = MAPPER.createObjectNode();
+                    arrayNode.add(elementNode);
+                    // Element paths substitute this index for their next wildcard
+                    indices[depth] = i;
+                    buildOutput(elementNode, elementPlan, document, indices);
+                }
+            } else {
+                // Extend array to accommodate index
+                while (arrayNode.size() <= explicitIndex) {
+                    arrayNode.add(MAPPER.createObjectNode());
+                }
+                buildOutput((ObjectNode) arrayNode.get(explicitIndex), elementPlan, document, indices);
+            }
+        }
+
+        @Override
+        public void write(JsonGenerator generator, List<List<JsonNode>> matches) throws IOException {
+            if (explicitIndex < 0) {
+                throw new IllegalStateException("Wildcard array [" + propertyName + "] cannot be written in one pass");
+            }
+            generator.writeArrayFieldStart(propertyName);
+            // Pad the array to the index, as when it is built in memory
+            for (int i = 0; i < explicitIndex; i++) {
+                generator.writeStartObject();
+                generator.writeEndObject();
+            }
+            generator.writeStartObject();
+            writeOutput(generator, elementPlan, matches);
+            generator.writeEndObject();
+            generator.writeEndArray();
+        }
+    }
+
+    /**
+     * A JsonPath expression whose first wildcards are substituted with the indices of the enclosing wildcard array elements.
+     * Expressions without substitutions are compiled once, others are resolved from their pre-split segments for each element.
+     */
+    private static final class PathTemplate {
+        // The text between wildcards, one more than the number of wildcards
+        final String[] segments;
+        // The number of enclosing wildcard arrays
+        final int depth;
+        final boolean endsWithWildcard;
+        // The compiled expression, or null if it has substitutions or is invalid
+        final JsonPath compiled;
+
+        PathTemplate(String path, int depth) {
+            List<String> split = new ArrayList<>();
+            int start = 0;
+            for (int i = path.indexOf(WILDCARD); i >= 0; i = path.indexOf(WILDCARD, start)) {
+                split.add(path.substring(start, i));
+                start = i + WILDCARD.length();
+            }
+            split.add(path.substring(start));
+            this.segments = split.toArray(new String[0]);
+            this.depth = depth;
+            int wildcards = segments.length - 1;
+            // The last wildcard remains unless an enclosing array substitutes it
+            this.endsWithWildcard = wildcards > depth && segments[wildcards].isEmpty();
+            JsonPath compiledPath = null;
+            if (depth == 0 || wildcards == 0) {
+                try {
+                    compiledPath = JsonPath.compile(path);
+                } catch (InvalidPathException e) {
+                    // Reported when read, as the path may never be evaluated
+                }
+            }
+            this.compiled = compiledPath;
+        }
+
+        List<?> read(DocumentContext document, int[] indices) {
+            if (compiled != null) {
+                return document.read(compiled);
+            }
+            return document.read(resolve(indices));
+        }
+
+        private String resolve(int[] indices) {
+            StringBuilder resolved = new StringBuilder(segments[0]);
+            for (int i = 1; i < segments.length; i++) {
+                if (i <= depth) {
+                    resolved.append('[').append(indices[i - 1]).append(']');
+                } else {
+                    resolved.append(WILDCARD);
+                }
+                resolved.append(segments[i]);
+            }
+            return resolved.toString();
         }
     }
 }
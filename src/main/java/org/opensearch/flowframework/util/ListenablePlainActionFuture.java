@@ -0,0 +1,112 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.util;
+
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.core.action.ActionListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * A {@link PlainActionFuture} which notifies registered listeners on completion, allowing callers to chain work on its result without
+ * blocking a thread waiting for it.
+ *
+ * @param <T> the type of the future result
+ */
+public class ListenablePlainActionFuture<T> extends PlainActionFuture<T> {
+
+    private final List<ActionListener<T>> listeners = new ArrayList<>();
+    private boolean completed = false;
+
+    /**
+     * Instantiate a new listenable future
+     */
+    public ListenablePlainActionFuture() {
+        super();
+    }
+
+    /**
+     * Create a new listenable future
+     * @param <T> the type of the future result
+     * @return a new listenable future
+     */
+    public static <T> ListenablePlainActionFuture<T> newListenableFuture() {
+        return new ListenablePlainActionFuture<>();
+    }
+
+    /**
+     * Adds a listener to be notified when this future completes. If the future has already completed the listener is notified
+     * immediately on the calling thread, otherwise it is notified on the thread completing the future.
+     * @param listener the listener to notify
+     */
+    public void addListener(ActionListener<T> listener) {
+        synchronized (this) {
+            if (!completed) {
+                listeners.add(listener);
+                return;
+            }
+        }
+        notifyListener(listener);
+    }
+
+    @Override
+    protected void done(boolean success) {
+        super.done(success);
+        List<ActionListener<T>> toNotify;
+        synchronized (this) {
+            completed = true;
+            toNotify = new ArrayList<>(listeners);
+            listeners.clear();
+        }
+        toNotify.forEach(this::notifyListener);
+    }
+
+    private void notifyListener(ActionListener<T> listener) {
+        T result;
+        try {
+            // The future is complete so this never blocks
+            result = actionGet();
+        } catch (Exception e) {
+            listener.onFailure(e);
+            return;
+        }
+        listener.onResponse(result);
+    }
+
+    /**
+     * Notifies a listener when a future completes. Listenable futures are chained without consuming a thread; completed futures notify
+     * the listener immediately. Any other pending future is waited on using a thread from the fallback executor.
+     * @param future the future to listen to
+     * @param listener the listener to notify on completion
+     * @param fallbackExecutor the executor used to wait on futures which do not support listeners
+     * @param <T> the type of the future result
+     */
+    public static <T> void addListener(PlainActionFuture<T> future, ActionListener<T> listener, Executor fallbackExecutor) {
+        if (future instanceof ListenablePlainActionFuture) {
+            ((ListenablePlainActionFuture<T>) future).addListener(listener);
+        } else if (future.isDone()) {
+            notifyCompleted(future, listener);
+        } else {
+            fallbackExecutor.execute(() -> notifyCompleted(future, listener));
+        }
+    }
+
+    private static <T> void notifyCompleted(PlainActionFuture<T> future, ActionListener<T> listener) {
+        T result;
+        try {
+            result = future.actionGet();
+        } catch (Exception e) {
+            listener.onFailure(e);
+            return;
+        }
+        listener.onResponse(result);
+    }
+}
@@ -8,8 +8,6 @@
  */
 package org.opensearch.flowframework.util;
 
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParser;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessageFactory;
@@ -27,14 +25,16 @@ import org.opensearch.commons.ConfigConstants;
 import org.opensearch.commons.authuser.User;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.common.Strings;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.flowframework.exception.FlowFrameworkException;
-import org.opensearch.flowframework.model.Template;
-import org.opensearch.flowframework.model.WorkflowState;
+import org.opensearch.flowframework.workflow.PreviousNodeInputs;
 import org.opensearch.flowframework.workflow.WorkflowData;
 import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.NestedQueryBuilder;
@@ -51,18 +51,18 @@ import org.opensearch.transport.client.Client;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.math.BigInteger;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Optional;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import jakarta.json.bind.Jsonb;
 import jakarta.json.bind.JsonbBuilder;
@@ -77,8 +77,7 @@ import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_STATE_IND
 public class ParseUtils {
     private static final Logger logger = LogManager.getLogger(ParseUtils.class);
 
-    // Matches ${{ foo.bar }} (whitespace optional) with capturing groups 1=foo, 2=bar
-    private static final Pattern SUBSTITUTION_PATTERN = Pattern.compile("\\$\\{\\{\\s*([\\w_]+)\\.([\\w_]+)\\s*\\}\\}");
+    // Matches a JSON array serialized as a string, "[...]", with capturing group 1 = the array content
     private static final Pattern JSON_ARRAY_DOUBLE_QUOTES_PATTERN = Pattern.compile("\"\\[(.*?)]\"");
 
     private ParseUtils() {}
@@ -296,6 +295,7 @@ public class ParseUtils {
      * @param sdkClient multitenant client
      * @param clusterService cluster service
      * @param xContentRegistry contentRegister to parse get response
+     * @param accessControlCache the cache of workflow access controls
      */
     public static void resolveUserAndExecute(
         User requestedUser,
@@ -309,7 +309,8 @@ public class ParseUtils {
         Client client,
         SdkClient sdkClient,
         ClusterService clusterService,
-        NamedXContentRegistry xContentRegistry
+        NamedXContentRegistry xContentRegistry,
+        WorkflowAccessControlCache accessControlCache
     ) {
         try {
             if (!isMultitenancyEnabled && (requestedUser == null || filterByEnabled == Boolean.FALSE)) {
@@ -331,7 +332,8 @@ public class ParseUtils {
                     client,
                     sdkClient,
                     clusterService,
-                    xContentRegistry
+                    xContentRegistry,
+                    accessControlCache
                 );
             }
         } catch (Exception e) {
@@ -402,6 +404,7 @@ public class ParseUtils {
      * @param sdkClient the tenant aware client
      * @param clusterService cluster service
      * @param xContentRegistry contentRegister to parse get response
+     * @param accessControlCache the cache of workflow access controls
      */
     public static void getWorkflow(
         User requestUser,
@@ -415,45 +418,71 @@ public class ParseUtils {
         Client client,
         SdkClient sdkClient,
         ClusterService clusterService,
-        NamedXContentRegistry xContentRegistry
+        NamedXContentRegistry xContentRegistry,
+        WorkflowAccessControlCache accessControlCache
     ) {
         String index = statePresent ? WORKFLOW_STATE_INDEX : GLOBAL_CONTEXT_INDEX;
-        if (clusterService.state().metadata().hasIndex(index)) {
-            try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
-                GetDataObjectRequest request = GetDataObjectRequest.builder().index(index).id(workflowId).tenantId(tenantId).build();
-                sdkClient.getDataObjectAsync(request).whenComplete((r, throwable) -> {
-                    if (throwable == null) {
-                        try {
-                            GetResponse getResponse = r.parser() == null ? null : GetResponse.fromXContent(r.parser());
-                            onGetWorkflowResponse(
-                                getResponse,
-                                requestUser,
-                                workflowId,
-                                tenantId,
-                                filterByEnabled,
-                                statePresent,
-                                isMultitenancyEnabled,
-                                listener,
-                                function,
-                                xContentRegistry,
-                                context
-                            );
-                        } catch (IOException e) {
-                            logger.error("Failed to parse workflow getResponse: {}", workflowId, e);
-                            listener.onFailure(e);
-                        }
-                    } else {
-                        Exception exception = SdkClientUtils.unwrapAndConvertToException(throwable);
-                        logger.error("Failed to get workflow: {}", workflowId, exception);
-                        listener.onFailure(exception);
-                    }
-                });
-            }
-        } else {
+        if (!clusterService.state().metadata().hasIndex(index)) {
             String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage("Failed to retrieve template ({}).", workflowId)
                 .getFormattedMessage();
             logger.error(errorMessage);
             listener.onFailure(new FlowFrameworkException(errorMessage, RestStatus.NOT_FOUND));
+            return;
+        }
+        WorkflowAccessControl cachedAccessControl = accessControlCache.get(index, workflowId, tenantId, requestUser);
+        if (cachedAccessControl != null) {
+            try {
+                checkAccessAndExecute(
+                    cachedAccessControl,
+                    requestUser,
+                    workflowId,
+                    tenantId,
+                    filterByEnabled,
+                    isMultitenancyEnabled,
+                    listener,
+                    function
+                );
+            } catch (Exception e) {
+                listener.onFailure(e);
+            }
+            return;
+        }
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            // Only the user and tenant id are needed to check access
+            GetDataObjectRequest request = GetDataObjectRequest.builder()
+                .index(index)
+                .id(workflowId)
+                .tenantId(tenantId)
+                .fetchSourceContext(WorkflowAccessControl.fetchSourceContext())
+                .build();
+            sdkClient.getDataObjectAsync(request).whenComplete((r, throwable) -> {
+                if (throwable == null) {
+                    try {
+                        GetResponse getResponse = r.parser() == null ? null : GetResponse.fromXContent(r.parser());
+                        onGetWorkflowResponse(
+                            getResponse,
+                            requestUser,
+                            workflowId,
+                            tenantId,
+                            filterByEnabled,
+                            statePresent,
+                            isMultitenancyEnabled,
+                            listener,
+                            function,
+                            xContentRegistry,
+                            context,
+                            accessControlCache
+                        );
+                    } catch (IOException e) {
+                        logger.error("Failed to parse workflow getResponse: {}", workflowId, e);
+                        listener.onFailure(e);
+                    }
+                } else {
+                    Exception exception = SdkClientUtils.unwrapAndConvertToException(throwable);
+                    logger.error("Failed to get workflow: {}", workflowId, exception);
+                    listener.onFailure(exception);
+                }
+            });
         }
     }
 
@@ -470,6 +499,7 @@ public class ParseUtils {
      * @param function workflow function
      * @param xContentRegistry contentRegister to parse get response
      * @param context thread context
+     * @param accessControlCache the cache of workflow access controls
      */
     public static void onGetWorkflowResponse(
         GetResponse response,
@@ -482,36 +512,33 @@ public class ParseUtils {
         ActionListener<? extends ActionResponse> listener,
         Runnable function,
         NamedXContentRegistry xContentRegistry,
-        ThreadContext.StoredContext context
+        ThreadContext.StoredContext context,
+        WorkflowAccessControlCache accessControlCache
     ) {
         if (response.isExists()) {
             try (
                 XContentParser parser = RestHandlerUtils.createXContentParserFromRegistry(xContentRegistry, response.getSourceAsBytesRef())
             ) {
                 context.restore();
-                ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
-                User resourceUser;
-                if (statePresent) {
-                    WorkflowState state = WorkflowState.parse(parser);
-                    resourceUser = state.getUser();
-                    if (!TenantAwareHelper.validateTenantResource(isMultitenancyEnabled, tenantId, state.getTenantId(), listener)) {
-                        return;
-                    }
-                } else {
-                    Template template = Template.parse(parser);
-                    resourceUser = template.getUser();
-                    if (!TenantAwareHelper.validateTenantResource(isMultitenancyEnabled, tenantId, template.getTenantId(), listener)) {
-                        return;
-                    }
-                }
-                if (!filterByEnabled || checkUserPermissions(requestUser, resourceUser, workflowId) || isAdmin(requestUser)) {
-                    function.run();
-                } else {
-                    logger.debug("User: " + requestUser.getName() + " does not have permissions to access workflow: " + workflowId);
-                    listener.onFailure(
-                        new FlowFrameworkException("User does not have permissions to access workflow: " + workflowId, RestStatus.FORBIDDEN)
-                    );
-                }
+                parser.nextToken();
+                WorkflowAccessControl accessControl = WorkflowAccessControl.parse(parser);
+                accessControlCache.put(
+                    statePresent ? WORKFLOW_STATE_INDEX : GLOBAL_CONTEXT_INDEX,
+                    workflowId,
+                    tenantId,
+                    requestUser,
+                    accessControl
+                );
+                checkAccessAndExecute(
+                    accessControl,
+                    requestUser,
+                    workflowId,
+                    tenantId,
+                    filterByEnabled,
+                    isMultitenancyEnabled,
+                    listener,
+                    function
+                );
             } catch (Exception e) {
                 logger.error("Failed to parse workflow: {}", workflowId, e);
                 listener.onFailure(e);
@@ -526,6 +553,29 @@ public class ParseUtils {
         }
     }
 
+    private static void checkAccessAndExecute(
+        WorkflowAccessControl accessControl,
+        User requestUser,
+        String workflowId,
+        String tenantId,
+        Boolean filterByEnabled,
+        boolean isMultitenancyEnabled,
+        ActionListener<? extends ActionResponse> listener,
+        Runnable function
+    ) throws Exception {
+        if (!TenantAwareHelper.validateTenantResource(isMultitenancyEnabled, tenantId, accessControl.getTenantId(), listener)) {
+            return;
+        }
+        if (!filterByEnabled || checkUserPermissions(requestUser, accessControl.getUser(), workflowId) || isAdmin(requestUser)) {
+            function.run();
+        } else {
+            logger.debug("User: " + requestUser.getName() + " does not have permissions to access workflow: " + workflowId);
+            listener.onFailure(
+                new FlowFrameworkException("User does not have permissions to access workflow: " + workflowId, RestStatus.FORBIDDEN)
+            );
+        }
+    }
+
     /**
      * Creates a XContentParser from a given Registry
      *
@@ -583,17 +633,17 @@ public class ParseUtils {
         keys.addAll(optionalInputKeys);
         // Initialize return map
         Map<String, Object> inputs = new HashMap<>();
+        // Predecessor node providing each key, indexed when the workflow was sorted
+        Map<String, String> sourceNodeByKey = PreviousNodeInputs.sourceNodeByKey(previousNodeInputs);
+        // Content of all outputs by key, only built if needed
+        Map<String, Object> outputsByKey = null;
         for (String key : keys) {
             Object value = null;
             // Priority 1: specifically named prior step inputs
-            // ... parse the previousNodeInputs map and fill in the specified keys
-            Optional<String> previousNodeForKey = previousNodeInputs.entrySet()
-                .stream()
-                .filter(e -> key.equals(e.getValue()))
-                .map(Map.Entry::getKey)
-                .findAny();
-            if (previousNodeForKey.isPresent()) {
-                WorkflowData previousNodeOutput = outputs.get(previousNodeForKey.get());
+            // ... use the previousNodeInputs index to fill in the specified keys
+            String previousNodeForKey = sourceNodeByKey.get(key);
+            if (previousNodeForKey != null) {
+                WorkflowData previousNodeOutput = outputs.get(previousNodeForKey);
                 if (previousNodeOutput != null) {
                     value = previousNodeOutput.getContent().get(key);
                 }
@@ -608,26 +658,35 @@ public class ParseUtils {
             }
             // Priority 3: other inputs
             if (value == null) {
-                Optional<Object> matchedValue = outputs.values()
-                    .stream()
-                    .map(WorkflowData::getContent)
-                    .filter(m -> m.containsKey(key))
-                    .map(m -> m.get(key))
-                    .findAny();
-                if (matchedValue.isPresent()) {
-                    value = matchedValue.get();
+                if (outputsByKey == null) {
+                    outputsByKey = new HashMap<>();
+                    for (WorkflowData output : outputs.values()) {
+                        for (Map.Entry<String, Object> e : output.getContent().entrySet()) {
+                            if (e.getValue() != null) {
+                                outputsByKey.putIfAbsent(e.getKey(), e.getValue());
+                            }
+                        }
+                    }
                 }
+                value = outputsByKey.get(key);
             }
             if (value != null) {
                 // Check for any substitution(s) in value, list, or map
                 if (value instanceof Map) {
                     @SuppressWarnings("unchecked")
                     Map<String, Object> valueMap = (Map<String, Object>) value;
-                    value = valueMap.entrySet()
-                        .stream()
-                        .collect(Collectors.toMap(Map.Entry::getKey, e -> conditionallySubstitute(e.getValue(), outputs, params)));
+                    Map<String, Object> substitutedMap = new HashMap<>(valueMap.size());
+                    for (Map.Entry<String, Object> e : valueMap.entrySet()) {
+                        substitutedMap.put(e.getKey(), conditionallySubstitute(e.getValue(), outputs, params));
+                    }
+                    value = substitutedMap;
                 } else if (value instanceof List) {
-                    value = ((List<?>) value).stream().map(v -> conditionallySubstitute(v, outputs, params)).collect(Collectors.toList());
+                    List<?> valueList = (List<?>) value;
+                    List<Object> substitutedList = new ArrayList<>(valueList.size());
+                    for (Object v : valueList) {
+                        substitutedList.add(conditionallySubstitute(v, outputs, params));
+                    }
+                    value = substitutedList;
                 } else {
                     value = conditionallySubstitute(value, outputs, params);
                 }
@@ -663,39 +722,7 @@ public class ParseUtils {
      */
     public static Object conditionallySubstitute(Object value, Map<String, WorkflowData> outputs, Map<String, String> params) {
         if (value instanceof String) {
-            Matcher m = SUBSTITUTION_PATTERN.matcher((String) value);
-            StringBuilder result = new StringBuilder();
-            while (m.find() && outputs != null) {
-                // outputs content map contains values for previous node input (e.g: deploy_openai_model.model_id)
-                // Check first if the substitution is looking for the same key, value pair and if yes
-                // then replace it with the key value pair in the inputs map
-                String replacement = m.group(0);
-                if (outputs.containsKey(m.group(1)) && outputs.get(m.group(1)).getContent().containsKey(m.group(2))) {
-                    // Extract the key for the inputs (e.g., "model_id" from ${{deploy_openai_model.model_id}})
-                    String key = m.group(2);
-                    if (outputs.get(m.group(1)).getContent().get(key) instanceof String) {
-                        replacement = (String) outputs.get(m.group(1)).getContent().get(key);
-                        // Replace the whole sequence with the value from the map
-                        m.appendReplacement(result, Matcher.quoteReplacement(replacement));
-                    }
-                }
-            }
-            m.appendTail(result);
-            value = result.toString();
-
-            if (params != null) {
-                for (Map.Entry<String, String> e : params.entrySet()) {
-                    String regex = "\\$\\{\\{\\s*" + Pattern.quote(e.getKey()) + "\\s*\\}\\}";
-                    String replacement = e.getValue();
-
-                    // Correctly escape backslashes, newlines, and quotes for JSON compatibility
-                    replacement = replacement.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
-
-                    // Use Matcher.quoteReplacement to handle special replacement characters like $ and \ that weren't previously handled
-                    replacement = Matcher.quoteReplacement(replacement);
-                    value = ((String) value).replaceAll(regex, replacement);
-                }
-            }
+            value = SubstitutionTemplate.substitute((String) value, outputs, params);
         }
         return value;
     }
@@ -799,18 +826,78 @@ public class ParseUtils {
     }
 
     /**
-     * Compares workflow node user inputs
+     * Compares workflow node user inputs structurally, as their JSON representations would compare: maps regardless of order, arrays
+     * and lists element by element, and integral and decimal numbers by value.
      * @param originalInputs the original node user inputs
      * @param updatedInputs the updated node user inputs
-     * @throws Exception for issues processing map
      * @return boolean if equivalent
      */
-    public static boolean userInputsEquals(Map<String, Object> originalInputs, Map<String, Object> updatedInputs) throws Exception {
-        String originalInputsJson = parseArbitraryStringToObjectMapToString(originalInputs);
-        String updatedInputsJson = parseArbitraryStringToObjectMapToString(updatedInputs);
-        JsonElement elem1 = JsonParser.parseString(originalInputsJson);
-        JsonElement elem2 = JsonParser.parseString(updatedInputsJson);
-        return elem1.equals(elem2);
+    public static boolean userInputsEquals(Map<String, Object> originalInputs, Map<String, Object> updatedInputs) {
+        return structurallyEquals(originalInputs, updatedInputs);
+    }
+
+    private static boolean structurallyEquals(Object original, Object updated) {
+        if (original == updated) {
+            return true;
+        }
+        if (original == null || updated == null) {
+            return false;
+        }
+        if (original instanceof Map && updated instanceof Map) {
+            Map<?, ?> originalMap = (Map<?, ?>) original;
+            Map<?, ?> updatedMap = (Map<?, ?>) updated;
+            if (originalMap.size() != updatedMap.size()) {
+                return false;
+            }
+            for (Entry<?, ?> e : originalMap.entrySet()) {
+                if (!updatedMap.containsKey(e.getKey()) || !structurallyEquals(e.getValue(), updatedMap.get(e.getKey()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        List<?> originalList = asList(original);
+        List<?> updatedList = asList(updated);
+        if (originalList != null && updatedList != null) {
+            if (originalList.size() != updatedList.size()) {
+                return false;
+            }
+            for (int i = 0; i < originalList.size(); i++) {
+                if (!structurallyEquals(originalList.get(i), updatedList.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (original instanceof Number && updated instanceof Number) {
+            if (isIntegral(original) && isIntegral(updated)) {
+                return original.toString().equals(updated.toString());
+            }
+            return Double.compare(((Number) original).doubleValue(), ((Number) updated).doubleValue()) == 0;
+        }
+        if (original.equals(updated)) {
+            return true;
+        }
+        // Objects parsed from a template without an equals implementation compare by their content
+        return original instanceof ToXContent
+            && updated instanceof ToXContent
+            && Strings.toString(MediaTypeRegistry.JSON, (ToXContent) original)
+                .equals(Strings.toString(MediaTypeRegistry.JSON, (ToXContent) updated));
+    }
+
+    private static List<?> asList(Object value) {
+        if (value instanceof List) {
+            return (List<?>) value;
+        }
+        return value instanceof Object[] ? Arrays.asList((Object[]) value) : null;
+    }
+
+    private static boolean isIntegral(Object number) {
+        return number instanceof Integer
+            || number instanceof Long
+            || number instanceof Short
+            || number instanceof Byte
+            || number instanceof BigInteger;
     }
 
     /**
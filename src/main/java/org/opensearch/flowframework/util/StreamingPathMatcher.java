@@ -0,0 +1,262 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Matches simple JsonPath expressions against a JSON document in one forward pass of a {@link JsonParser}. Only the matched values
+ * are kept in memory; the rest of the document is skipped as it is read.
+ * <p>
+ * Expressions are made of the root {@code $} followed by child properties ({@code .name} or {@code ['name']}), array indices
+ * ({@code [0]}) and wildcards ({@code [*]} or {@code .*}). Matches are returned in document order, as JsonPath returns them when the
+ * same expressions are read from a parsed document with the ALWAYS_RETURN_LIST and SUPPRESS_EXCEPTIONS options. Expressions needing
+ * more than one pass, such as filters or deep scans, are not supported.
+ */
+final class StreamingPathMatcher {
+
+    private static final Step WILDCARD_STEP = new Step(null, -1);
+    private static final String UNSUPPORTED_NAME_CHARS = "*?@()'\",\\ \t\n\r";
+
+    private final Step[][] paths;
+
+    private StreamingPathMatcher(Step[][] paths) {
+        this.paths = paths;
+    }
+
+    /**
+     * Compiles JsonPath expressions for matching in one forward pass
+     * @param expressions the JsonPath expressions
+     * @return the matcher, or null if any expression is not supported
+     */
+    static StreamingPathMatcher compile(List<String> expressions) {
+        Step[][] paths = new Step[expressions.size()][];
+        for (int i = 0; i < paths.length; i++) {
+            paths[i] = parse(expressions.get(i));
+            if (paths[i] == null) {
+                return null;
+            }
+        }
+        return new StreamingPathMatcher(paths);
+    }
+
+    /**
+     * Reads a JSON value from a parser, matching every expression against it
+     * @param parser the parser, positioned on the first token of the value
+     * @param mapper the mapper used to read matched values
+     * @return the matches of each expression in document order, in the order of the expressions
+     * @throws IOException if the value cannot be read
+     */
+    List<List<JsonNode>> match(JsonParser parser, ObjectMapper mapper) throws IOException {
+        List<List<JsonNode>> matches = new ArrayList<>(paths.length);
+        int[] live = new int[paths.length];
+        for (int i = 0; i < paths.length; i++) {
+            matches.add(new ArrayList<>());
+            live[i] = i;
+        }
+        if (paths.length == 0) {
+            parser.skipChildren();
+        } else {
+            visit(parser, mapper, 0, live, paths.length, matches);
+        }
+        return matches;
+    }
+
+    /**
+     * Visits the value at the parser's current token. Its location matches the first {@code depth} steps of each live expression.
+     */
+    private void visit(JsonParser parser, ObjectMapper mapper, int depth, int[] live, int liveCount, List<List<JsonNode>> matches)
+        throws IOException {
+        boolean matched = false;
+        for (int i = 0; i < liveCount; i++) {
+            if (paths[live[i]].length == depth) {
+                matched = true;
+                break;
+            }
+        }
+        if (matched) {
+            // Read the matched value once, then match the longer expressions within it
+            JsonNode value = mapper.readTree(parser);
+            for (int i = 0; i < liveCount; i++) {
+                collect(value, paths[live[i]], depth, matches.get(live[i]));
+            }
+            return;
+        }
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                parser.nextToken();
+                visitChild(parser, mapper, depth, live, liveCount, name, -1, matches);
+            }
+        } else if (token == JsonToken.START_ARRAY) {
+            int index = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                visitChild(parser, mapper, depth, live, liveCount, null, index++, matches);
+            }
+        }
+    }
+
+    private void visitChild(
+        JsonParser parser,
+        ObjectMapper mapper,
+        int depth,
+        int[] live,
+        int liveCount,
+        String name,
+        int index,
+        List<List<JsonNode>> matches
+    ) throws IOException {
+        int[] childLive = new int[liveCount];
+        int childCount = 0;
+        for (int i = 0; i < liveCount; i++) {
+            if (paths[live[i]][depth].matches(name, index)) {
+                childLive[childCount++] = live[i];
+            }
+        }
+        if (childCount == 0) {
+            parser.skipChildren();
+        } else {
+            visit(parser, mapper, depth + 1, childLive, childCount, matches);
+        }
+    }
+
+    /**
+     * Matches the remaining steps of an expression within a value already read
+     */
+    private static void collect(JsonNode node, Step[] steps, int from, List<JsonNode> matches) {
+        if (from == steps.length) {
+            matches.add(node);
+            return;
+        }
+        Step step = steps[from];
+        if (step.field != null) {
+            JsonNode child = node.isObject() ? node.get(step.field) : null;
+            if (child != null) {
+                collect(child, steps, from + 1, matches);
+            }
+        } else if (step.index >= 0) {
+            if (node.isArray() && step.index < node.size()) {
+                collect(node.get(step.index), steps, from + 1, matches);
+            }
+        } else if (node.isArray() || node.isObject()) {
+            for (JsonNode child : node) {
+                collect(child, steps, from + 1, matches);
+            }
+        }
+    }
+
+    /**
+     * Parses a JsonPath expression into steps
+     * @param expression the expression
+     * @return the steps, or null if the expression is not supported
+     */
+    static Step[] parse(String expression) {
+        if (expression == null || !expression.startsWith("$")) {
+            return null;
+        }
+        List<Step> steps = new ArrayList<>();
+        int i = 1;
+        while (i < expression.length()) {
+            char c = expression.charAt(i);
+            if (c == '.') {
+                int end = i + 1;
+                while (end < expression.length() && expression.charAt(end) != '.' && expression.charAt(end) != '[') {
+                    end++;
+                }
+                String name = expression.substring(i + 1, end);
+                if ("*".equals(name)) {
+                    steps.add(WILDCARD_STEP);
+                } else if (name.isEmpty() || containsAny(name, UNSUPPORTED_NAME_CHARS)) {
+                    // Includes deep scans, functions and filters
+                    return null;
+                } else {
+                    steps.add(new Step(name, -1));
+                }
+                i = end;
+            } else if (c == '[') {
+                int end = expression.indexOf(']', i);
+                if (end < 0) {
+                    return null;
+                }
+                Step step = parseBracket(expression.substring(i + 1, end));
+                if (step == null) {
+                    return null;
+                }
+                steps.add(step);
+                i = end + 1;
+            } else {
+                return null;
+            }
+        }
+        return steps.toArray(new Step[0]);
+    }
+
+    private static Step parseBracket(String token) {
+        if ("*".equals(token)) {
+            return WILDCARD_STEP;
+        }
+        if (!token.isEmpty() && token.length() < 10 && token.chars().allMatch(Character::isDigit)) {
+            return new Step(null, Integer.parseInt(token));
+        }
+        char quote = token.isEmpty() ? 0 : token.charAt(0);
+        if (token.length() >= 2 && (quote == '\'' || quote == '"') && token.charAt(token.length() - 1) == quote) {
+            String name = token.substring(1, token.length() - 1);
+            // Excludes lists of properties and escaped quotes
+            if (!name.isEmpty() && !containsAny(name, "'\",\\")) {
+                return new Step(name, -1);
+            }
+        }
+        return null;
+    }
+
+    private static boolean containsAny(String value, String chars) {
+        for (int i = 0; i < value.length(); i++) {
+            if (chars.indexOf(value.charAt(i)) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A step of an expression: a child property, an array index or a wildcard
+     */
+    static final class Step {
+        // The property name, or null for an array index or a wildcard
+        final String field;
+        // The array index, or -1 for a property or a wildcard
+        final int index;
+
+        Step(String field, int index) {
+            this.field = field;
+            this.index = index;
+        }
+
+        /**
+         * Checks whether this step matches an object member or array element
+         * @param name the member name, or null for an array element
+         * @param arrayIndex the element index, if name is null
+         * @return true if the step matches
+         */
+        boolean matches(String name, int arrayIndex) {
+            if (field == null && index < 0) {
+                return true;
+            }
+            return name != null ? name.equals(field) : field == null && index == arrayIndex;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.util;
+
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.flowframework.workflow.WorkflowData;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A string split into literal text and {@code ${{node_id.key}}} or {@code ${{param}}} placeholders.
+ * <p>
+ * Strings are tokenized once and cached, so substituting a template's values for each step only copies the literals and looks up the
+ * placeholders, rather than matching a regular expression per placeholder and per parameter.
+ */
+public final class SubstitutionTemplate {
+
+    private static final String PLACEHOLDER_START = "${{";
+    private static final String PLACEHOLDER_END = "}}";
+
+    // Cached strings are weighed by length, a byte per character of a compact string. Templates hold about as much again in literals.
+    private static final long CACHE_MAX_WEIGHT = new ByteSizeValue(4, ByteSizeUnit.MB).getBytes();
+
+    // Templates are parsed on create and substituted for each step on provision, so the same strings recur across requests
+    private static final Cache<String, SubstitutionTemplate> CACHE = CacheBuilder.<String, SubstitutionTemplate>builder()
+        .setMaximumWeight(CACHE_MAX_WEIGHT)
+        .weigher((key, template) -> key.length())
+        .setExpireAfterAccess(TimeValue.timeValueHours(1))
+        .build();
+
+    // The text between placeholders, one more than the number of placeholders
+    private final String[] literals;
+    private final Placeholder[] placeholders;
+
+    private SubstitutionTemplate(String[] literals, Placeholder[] placeholders) {
+        this.literals = literals;
+        this.placeholders = placeholders;
+    }
+
+    /**
+     * Gets the compiled template of a string
+     * @param value the string
+     * @return the template, or null if the string has no placeholders
+     */
+    public static SubstitutionTemplate compile(String value) {
+        if (!value.contains(PLACEHOLDER_START)) {
+            return null;
+        }
+        try {
+            return CACHE.computeIfAbsent(value, SubstitutionTemplate::tokenize);
+        } catch (ExecutionException e) {
+            // Tokenizing does not throw checked exceptions
+            return tokenize(value);
+        }
+    }
+
+    /**
+     * Substitutes the placeholders of a string, returning it unchanged if it has none
+     * @param value the string
+     * @param outputs the outputs of previous nodes, substituted for {@code ${{node_id.key}}} placeholders if their value is a string
+     * @param params the parameters, substituted for {@code ${{param}}} placeholders and escaped for use in JSON
+     * @return the substituted string
+     */
+    public static String substitute(String value, Map<String, WorkflowData> outputs, Map<String, String> params) {
+        SubstitutionTemplate template = compile(value);
+        return template == null ? value : template.apply(outputs, params);
+    }
+
+    /**
+     * Substitutes the placeholders of this template. Placeholders without a value are left as they are.
+     * @param outputs the outputs of previous nodes, substituted for {@code ${{node_id.key}}} placeholders if their value is a string
+     * @param params the parameters, substituted for {@code ${{param}}} placeholders and escaped for use in JSON
+     * @return the substituted string
+     */
+    public String apply(Map<String, WorkflowData> outputs, Map<String, String> params) {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < placeholders.length; i++) {
+            result.append(literals[i]);
+            placeholders[i].appendTo(result, outputs, params);
+        }
+        return result.append(literals[placeholders.length]).toString();
+    }
+
+    private static SubstitutionTemplate tokenize(String value) {
+        List<String> literals = new ArrayList<>();
+        List<Placeholder> placeholders = new ArrayList<>();
+        int literalStart = 0;
+        int searchFrom = 0;
+        while (true) {
+            int start = value.indexOf(PLACEHOLDER_START, searchFrom);
+            if (start < 0) {
+                break;
+            }
+            int end = value.indexOf(PLACEHOLDER_END, start + PLACEHOLDER_START.length());
+            if (end < 0) {
+                break;
+            }
+            // For text such as ${{ ${{param}}, the placeholder is the innermost start
+            start = value.lastIndexOf(PLACEHOLDER_START, end - PLACEHOLDER_START.length());
+            String name = trimWhitespace(value.substring(start + PLACEHOLDER_START.length(), end));
+            searchFrom = end + PLACEHOLDER_END.length();
+            if (name.isEmpty()) {
+                continue;
+            }
+            literals.add(value.substring(literalStart, start));
+            placeholders.add(new Placeholder(value.substring(start, searchFrom), name));
+            literalStart = searchFrom;
+        }
+        literals.add(value.substring(literalStart));
+        return new SubstitutionTemplate(literals.toArray(new String[0]), placeholders.toArray(new Placeholder[0]));
+    }
+
+    /**
+     * Trims the characters matched by the regular expression {@code \s}
+     */
+    private static String trimWhitespace(String s) {
+        int start = 0;
+        int end = s.length();
+        while (start < end && isWhitespace(s.charAt(start))) {
+            start++;
+        }
+        while (end > start && isWhitespace(s.charAt(end - 1))) {
+            end--;
+        }
+        return s.substring(start, end);
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    /**
+     * A placeholder, which may refer to either a node output or a parameter
+     */
+    private static final class Placeholder {
+        private final String text;
+        private final String name;
+        // Set if the name has the form node_id.key
+        private final String nodeId;
+        private final String key;
+
+        Placeholder(String text, String name) {
+            this.text = text;
+            this.name = name;
+            int dot = name.indexOf('.');
+            if (dot > 0 && dot < name.length() - 1 && isWord(name, 0, dot) && isWord(name, dot + 1, name.length())) {
+                this.nodeId = name.substring(0, dot);
+                this.key = name.substring(dot + 1);
+            } else {
+                this.nodeId = null;
+                this.key = null;
+            }
+        }
+
+        void appendTo(StringBuilder result, Map<String, WorkflowData> outputs, Map<String, String> params) {
+            // Previous node outputs take precedence over params
+            if (nodeId != null && outputs != null) {
+                WorkflowData output = outputs.get(nodeId);
+                Object value = output == null ? null : output.getContent().get(key);
+                if (value instanceof String) {
+                    result.append((String) value);
+                    return;
+                }
+            }
+            String param = params == null ? null : params.get(name);
+            if (param == null) {
+                result.append(text);
+                return;
+            }
+            // Correctly escape backslashes, newlines, and quotes for JSON compatibility
+            for (int i = 0; i < param.length(); i++) {
+                char c = param.charAt(i);
+                switch (c) {
+                    case '\\':
+                        result.append("\\\\");
+                        break;
+                    case '"':
+                        result.append("\\\"");
+                        break;
+                    case '\n':
+                        result.append("\\n");
+                        break;
+                    default:
+                        result.append(c);
+                }
+            }
+        }
+
+        private static boolean isWord(String s, int start, int end) {
+            for (int i = start; i < end; i++) {
+                if (!isWordChar(s.charAt(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
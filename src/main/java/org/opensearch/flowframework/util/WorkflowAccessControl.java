@@ -0,0 +1,98 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.util;
+
+import org.opensearch.commons.authuser.User;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
+
+import java.io.IOException;
+
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.flowframework.common.CommonValue.TENANT_ID_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.USER_FIELD;
+
+/**
+ * The fields of a template or workflow state document used to check access to it: the user who created it and its tenant id.
+ * <p>
+ * Access checks fetch and parse only these fields rather than the whole document, and cache them in a
+ * {@link WorkflowAccessControlCache}.
+ */
+public final class WorkflowAccessControl {
+
+    private static final String[] FIELDS = new String[] { USER_FIELD, TENANT_ID_FIELD };
+
+    private final User user;
+    private final String tenantId;
+
+    /**
+     * Instantiate the access control of a document
+     * @param user the user who created the document
+     * @param tenantId the tenant id of the document
+     */
+    public WorkflowAccessControl(User user, String tenantId) {
+        this.user = user;
+        this.tenantId = tenantId;
+    }
+
+    /**
+     * Gets the user who created the document
+     * @return the user, or null if security was disabled
+     */
+    public User getUser() {
+        return user;
+    }
+
+    /**
+     * Gets the tenant id of the document
+     * @return the tenant id, or null if multitenancy was disabled
+     */
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    /**
+     * Gets a source context fetching only the fields used to check access
+     * @return the fetch source context
+     */
+    public static FetchSourceContext fetchSourceContext() {
+        return new FetchSourceContext(true, FIELDS, Strings.EMPTY_ARRAY);
+    }
+
+    /**
+     * Parses the access control from a template or workflow state source, skipping all other fields
+     * @param parser a parser positioned on the start of the source object
+     * @return the access control
+     * @throws IOException if the source could not be parsed
+     */
+    public static WorkflowAccessControl parse(XContentParser parser) throws IOException {
+        User user = null;
+        String tenantId = null;
+        ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
+        while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+            if (parser.currentToken() == XContentParser.Token.VALUE_NULL) {
+                continue;
+            }
+            switch (fieldName) {
+                case USER_FIELD:
+                    user = User.parse(parser);
+                    break;
+                case TENANT_ID_FIELD:
+                    tenantId = parser.text();
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return new WorkflowAccessControl(user, tenantId);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.util;
+
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.commons.authuser.User;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Caches the {@link WorkflowAccessControl} fetched by access checks briefly, per workflow and requesting user, so consecutive calls for
+ * the same workflow do not fetch the document again.
+ * <p>
+ * The transport actions of this node invalidate a workflow's entries when they delete or update it. Changes made through other nodes
+ * are seen once the entries expire, after {@link #CACHE_TTL}.
+ * <p>
+ * One instance is shared by the transport actions of a node.
+ */
+public class WorkflowAccessControlCache {
+
+    /** How long a fetched access control is used before the document is fetched again */
+    public static final TimeValue CACHE_TTL = TimeValue.timeValueSeconds(5);
+
+    // The maximum number of cached access controls, beyond which the least recently used are fetched again on their next check
+    static final int MAX_CACHED_ACCESS_CONTROLS = 10_000;
+
+    private final Cache<CacheKey, WorkflowAccessControl> cache = CacheBuilder.<CacheKey, WorkflowAccessControl>builder()
+        .setMaximumWeight(MAX_CACHED_ACCESS_CONTROLS)
+        .setExpireAfterWrite(CACHE_TTL)
+        .build();
+
+    /**
+     * Instantiate this class
+     */
+    public WorkflowAccessControlCache() {}
+
+    /**
+     * Gets a cached access control
+     * @param index the index of the document
+     * @param workflowId the workflow id
+     * @param tenantId the requesting tenant id
+     * @param requestUser the requesting user
+     * @return the access control, or null if it is not cached
+     */
+    public WorkflowAccessControl get(String index, String workflowId, String tenantId, User requestUser) {
+        return cache.get(new CacheKey(index, workflowId, tenantId, requestUser));
+    }
+
+    /**
+     * Caches an access control
+     * @param index the index of the document
+     * @param workflowId the workflow id
+     * @param tenantId the requesting tenant id
+     * @param requestUser the requesting user
+     * @param accessControl the access control of the document
+     */
+    public void put(String index, String workflowId, String tenantId, User requestUser, WorkflowAccessControl accessControl) {
+        cache.put(new CacheKey(index, workflowId, tenantId, requestUser), accessControl);
+    }
+
+    /**
+     * Removes the cached access controls of a workflow, for every index and user
+     * @param workflowId the workflow id
+     */
+    public void invalidate(String workflowId) {
+        for (Iterator<CacheKey> keys = cache.keys().iterator(); keys.hasNext();) {
+            if (keys.next().workflowId.equals(workflowId)) {
+                keys.remove();
+            }
+        }
+    }
+
+    /**
+     * Keys the cache by the user's roles as well as name, so a change of roles is not hidden by the cache
+     */
+    private static final class CacheKey {
+        private final String index;
+        private final String workflowId;
+        private final String tenantId;
+        private final String userName;
+        private final List<String> backendRoles;
+        private final List<String> roles;
+
+        CacheKey(String index, String workflowId, String tenantId, User requestUser) {
+            this.index = index;
+            this.workflowId = workflowId;
+            this.tenantId = tenantId;
+            this.userName = requestUser == null ? null : requestUser.getName();
+            this.backendRoles = requestUser == null ? null : requestUser.getBackendRoles();
+            this.roles = requestUser == null ? null : requestUser.getRoles();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CacheKey that = (CacheKey) o;
+            return index.equals(that.index)
+                && workflowId.equals(that.workflowId)
+                && Objects.equals(tenantId, that.tenantId)
+                && Objects.equals(userName, that.userName)
+                && Objects.equals(backendRoles, that.backendRoles)
+                && Objects.equals(roles, that.roles);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(index, workflowId, tenantId, userName, backendRoles, roles);
+        }
+    }
+}
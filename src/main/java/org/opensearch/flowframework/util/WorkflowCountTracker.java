@@ -0,0 +1,118 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.util;
+
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.unit.TimeValue;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks the number of workflow templates of each tenant, so the maximum workflows check of a create request is answered from memory
+ * rather than by counting the templates.
+ * <p>
+ * A tenant's count is seeded by counting its templates, then kept current by the creates and deletes of this node. It is reconciled
+ * by counting again once it is older than {@link #RECONCILE_INTERVAL}, when it expires. Tenants without templates are not tracked. Only
+ * admissions are answered from memory: a create which would exceed the maximum always counts the templates, so a create is never
+ * rejected because of a stale count.
+ * <p>
+ * The maximum may be exceeded by the templates created concurrently with the check, or created on other nodes since the count was
+ * last reconciled, which bounds the overshoot to the creates of one reconcile interval.
+ * <p>
+ * One instance is shared by the transport actions of a node.
+ */
+public class WorkflowCountTracker {
+
+    /** How long a count is used before the templates are counted again */
+    public static final TimeValue RECONCILE_INTERVAL = TimeValue.timeValueMinutes(1);
+
+    // The maximum number of tenants tracked, beyond which the least recently used are counted again on their next check
+    static final int MAX_TRACKED_TENANTS = 10_000;
+
+    // The cache does not permit null keys, used when multitenancy is disabled
+    private static final String NO_TENANT = "";
+
+    private final Cache<String, TenantCount> counts = CacheBuilder.<String, TenantCount>builder()
+        .setMaximumWeight(MAX_TRACKED_TENANTS)
+        .setExpireAfterWrite(RECONCILE_INTERVAL)
+        .build();
+
+    /**
+     * Instantiate this class
+     */
+    public WorkflowCountTracker() {}
+
+    /**
+     * Checks from memory whether a tenant has fewer templates than the maximum
+     * @param tenantId the tenant id, or null if multitenancy is disabled
+     * @param maxWorkflows the maximum number of templates
+     * @return true if the tenant's count is current and below the maximum, false if the templates must be counted to tell
+     */
+    public boolean isBelowMax(String tenantId, int maxWorkflows) {
+        TenantCount tenantCount = counts.get(key(tenantId));
+        return tenantCount != null && tenantCount.count.get() < maxWorkflows;
+    }
+
+    /**
+     * Sets a tenant's count to the number of its templates just counted. A tenant without templates is no longer tracked, as counting
+     * none is cheap.
+     * @param tenantId the tenant id, or null if multitenancy is disabled
+     * @param count the number of templates
+     */
+    public void reconcile(String tenantId, long count) {
+        if (count > 0) {
+            counts.put(key(tenantId), new TenantCount(count));
+        } else {
+            counts.invalidate(key(tenantId));
+        }
+    }
+
+    /**
+     * Records the creation of a template
+     * @param tenantId the tenant id, or null if multitenancy is disabled
+     */
+    public void onCreated(String tenantId) {
+        TenantCount tenantCount = counts.get(key(tenantId));
+        if (tenantCount != null) {
+            tenantCount.count.incrementAndGet();
+        }
+    }
+
+    /**
+     * Records the deletion of a template
+     * @param tenantId the tenant id, or null if multitenancy is disabled
+     */
+    public void onDeleted(String tenantId) {
+        TenantCount tenantCount = counts.get(key(tenantId));
+        if (tenantCount != null) {
+            tenantCount.count.updateAndGet(count -> Math.max(0, count - 1));
+        }
+    }
+
+    /**
+     * Removes a tenant's count, so its templates are counted on the next check. Used when the outcome of a create or delete is unknown.
+     * @param tenantId the tenant id, or null if multitenancy is disabled
+     */
+    public void invalidate(String tenantId) {
+        counts.invalidate(key(tenantId));
+    }
+
+    private static String key(String tenantId) {
+        return tenantId == null ? NO_TENANT : tenantId;
+    }
+
+    private static final class TenantCount {
+        private final AtomicLong count;
+
+        TenantCount(long count) {
+            this.count = new AtomicLong(count);
+        }
+    }
+}
@@ -13,56 +13,44 @@ import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessageFactory;
 import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.common.unit.TimeValue;
-import org.opensearch.common.util.concurrent.FutureUtils;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
-import org.opensearch.flowframework.common.FlowFrameworkSettings;
 import org.opensearch.flowframework.exception.FlowFrameworkException;
 import org.opensearch.flowframework.exception.WorkflowStepException;
 import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
-import org.opensearch.ml.client.MachineLearningNodeClient;
 import org.opensearch.ml.common.MLTask;
-import org.opensearch.threadpool.ThreadPool;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
+import java.util.Optional;
 
 import static org.opensearch.flowframework.common.CommonValue.REGISTER_MODEL_STATUS;
-import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_THREAD_POOL;
 import static org.opensearch.flowframework.common.WorkflowResources.getResourceByWorkflowStep;
+import static org.opensearch.flowframework.model.WorkflowNode.NODE_TIMEOUT_DEFAULT_VALUE;
+import static org.opensearch.flowframework.model.WorkflowNode.NODE_TIMEOUT_FIELD;
+import static org.opensearch.flowframework.workflow.WorkflowStepFactory.WorkflowSteps.getTimeoutByWorkflowType;
 
 /**
  * Abstract retryable workflow step
  */
 public abstract class AbstractRetryableWorkflowStep implements WorkflowStep {
     private static final Logger logger = LogManager.getLogger(AbstractRetryableWorkflowStep.class);
-    private TimeValue retryDuration;
-    private final MachineLearningNodeClient mlClient;
     private final FlowFrameworkIndicesHandler flowFrameworkIndicesHandler;
-    private ThreadPool threadPool;
+    private final MlTaskPoller mlTaskPoller;
 
     /**
      * Instantiates a new Retryable workflow step
-     * @param threadPool The OpenSearch thread pool
-     * @param mlClient machine learning client
      * @param flowFrameworkIndicesHandler FlowFrameworkIndicesHandler class to update system indices
-     * @param flowFrameworkSettings settings of flow framework
+     * @param mlTaskPoller the node level poller of ml task states
      */
-    protected AbstractRetryableWorkflowStep(
-        ThreadPool threadPool,
-        MachineLearningNodeClient mlClient,
-        FlowFrameworkIndicesHandler flowFrameworkIndicesHandler,
-        FlowFrameworkSettings flowFrameworkSettings
-    ) {
-        this.threadPool = threadPool;
-        this.retryDuration = flowFrameworkSettings.getRetryDuration();
-        this.mlClient = mlClient;
+    protected AbstractRetryableWorkflowStep(FlowFrameworkIndicesHandler flowFrameworkIndicesHandler, MlTaskPoller mlTaskPoller) {
         this.flowFrameworkIndicesHandler = flowFrameworkIndicesHandler;
+        this.mlTaskPoller = mlTaskPoller;
     }
 
     /**
-     * Retryable get ml task
+     * Waits for an ml task to reach a terminal state without blocking a thread, using the node level {@link MlTaskPoller}.
+     * Polling stops when the step future completes or the node timeout elapses.
      * @param currentNodeInputs the current Node Inputs
      * @param nodeId the workflow node id
      * @param future the workflow step future
@@ -80,60 +68,71 @@ public abstract class AbstractRetryableWorkflowStep implements WorkflowStep {
         String tenantId,
         ActionListener<WorkflowData> mlTaskListener
     ) {
-        CompletableFuture.runAsync(() -> {
-            do {
-                mlClient.getTask(taskId, tenantId, ActionListener.wrap(response -> {
-                    String resourceName = getResourceByWorkflowStep(getName());
-                    String id = getResourceId(response);
-                    switch (response.getState()) {
-                        case COMPLETED:
-                            logger.info("{} successful for {} and {} {}", workflowStep, currentNodeInputs, resourceName, id);
-                            ActionListener<WorkflowData> resourceListener = ActionListener.wrap(r -> {
-                                Map<String, Object> content = new HashMap<>(r.getContent());
-                                content.put(REGISTER_MODEL_STATUS, response.getState().toString());
-                                mlTaskListener.onResponse(new WorkflowData(content, r.getWorkflowId(), r.getNodeId()));
-                            }, mlTaskListener::onFailure);
-                            flowFrameworkIndicesHandler.addResourceToStateIndex(
-                                currentNodeInputs,
-                                nodeId,
-                                getName(),
-                                id,
-                                tenantId,
-                                resourceListener
-                            );
-                            break;
-                        case FAILED:
-                        case COMPLETED_WITH_ERROR:
-                            String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage(
-                                "{} failed with error : {}",
-                                workflowStep,
-                                response.getError()
-                            ).getFormattedMessage();
-                            logger.error(errorMessage);
-                            mlTaskListener.onFailure(new FlowFrameworkException(errorMessage, RestStatus.BAD_REQUEST));
-                            break;
-                        case CANCELLED:
-                            errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage("{} task was cancelled.", workflowStep)
-                                .getFormattedMessage();
-                            logger.error(errorMessage);
-                            mlTaskListener.onFailure(new FlowFrameworkException(errorMessage, RestStatus.REQUEST_TIMEOUT));
-                            break;
-                        default:
-                            // Task started or running, do nothing
-                    }
-                }, exception -> {
-                    String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage("{} failed", workflowStep).getFormattedMessage();
-                    logger.error(errorMessage, exception);
-                    mlTaskListener.onFailure(new WorkflowStepException(errorMessage, RestStatus.BAD_REQUEST));
-                }));
-                try {
-                    Thread.sleep(this.retryDuration.getMillis());
-                } catch (InterruptedException e) {
-                    FutureUtils.cancel(future);
-                    Thread.currentThread().interrupt();
-                }
-            } while (!future.isDone());
-        }, threadPool.executor(WORKFLOW_THREAD_POOL));
+        mlTaskPoller.poll(taskId, tenantId, future, getPollingTimeout(currentNodeInputs), ActionListener.wrap(response -> {
+            String resourceName = getResourceByWorkflowStep(getName());
+            String id = getResourceId(response);
+            switch (response.getState()) {
+                case COMPLETED:
+                    logger.info("{} successful for {} and {} {}", workflowStep, currentNodeInputs, resourceName, id);
+                    ActionListener<WorkflowData> resourceListener = ActionListener.wrap(r -> {
+                        Map<String, Object> content = new HashMap<>(r.getContent());
+                        content.put(REGISTER_MODEL_STATUS, response.getState().toString());
+                        mlTaskListener.onResponse(new WorkflowData(content, r.getWorkflowId(), r.getNodeId()));
+                    }, mlTaskListener::onFailure);
+                    flowFrameworkIndicesHandler.addResourceToStateIndex(
+                        currentNodeInputs,
+                        nodeId,
+                        getName(),
+                        id,
+                        tenantId,
+                        resourceListener
+                    );
+                    break;
+                case CANCELLED:
+                    String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage("{} task was cancelled.", workflowStep)
+                        .getFormattedMessage();
+                    logger.error(errorMessage);
+                    mlTaskListener.onFailure(new FlowFrameworkException(errorMessage, RestStatus.REQUEST_TIMEOUT));
+                    break;
+                default:
+                    // Failed or completed with error
+                    errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage(
+                        "{} failed with error : {}",
+                        workflowStep,
+                        response.getError()
+                    ).getFormattedMessage();
+                    logger.error(errorMessage);
+                    mlTaskListener.onFailure(new FlowFrameworkException(errorMessage, RestStatus.BAD_REQUEST));
+            }
+        }, exception -> {
+            if (exception instanceof FlowFrameworkException) {
+                // The poller timed out
+                mlTaskListener.onFailure(exception);
+                return;
+            }
+            String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage("{} failed", workflowStep).getFormattedMessage();
+            logger.error(errorMessage, exception);
+            mlTaskListener.onFailure(new WorkflowStepException(errorMessage, RestStatus.BAD_REQUEST));
+        }));
+    }
+
+    /**
+     * Gets the time after which polling gives up, the timeout of the process node running this step
+     * @param currentNodeInputs the current Node Inputs, which may include a user provided node timeout
+     * @return the timeout
+     */
+    private TimeValue getPollingTimeout(WorkflowData currentNodeInputs) {
+        TimeValue defaultTimeout = Optional.ofNullable(getTimeoutByWorkflowType(getName())).orElse(NODE_TIMEOUT_DEFAULT_VALUE);
+        Object nodeTimeout = currentNodeInputs.getContent().get(NODE_TIMEOUT_FIELD);
+        if (nodeTimeout instanceof String) {
+            try {
+                return TimeValue.parseTimeValue((String) nodeTimeout, NODE_TIMEOUT_FIELD);
+            } catch (IllegalArgumentException e) {
+                // Already validated when the workflow was sorted
+                logger.debug("Invalid node timeout {}, using {}", nodeTimeout, defaultTimeout);
+            }
+        }
+        return defaultTimeout;
     }
 
     /**
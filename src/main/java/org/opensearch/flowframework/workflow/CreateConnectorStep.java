@@ -17,6 +17,7 @@ import org.opensearch.core.rest.RestStatus;
 import org.opensearch.flowframework.exception.FlowFrameworkException;
 import org.opensearch.flowframework.exception.WorkflowStepException;
 import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
+import org.opensearch.flowframework.util.ListenablePlainActionFuture;
 import org.opensearch.flowframework.util.ParseUtils;
 import org.opensearch.ml.client.MachineLearningNodeClient;
 import org.opensearch.ml.common.connector.ConnectorAction;
@@ -79,7 +80,7 @@ public class CreateConnectorStep implements WorkflowStep {
         Map<String, String> params,
         String tenantId
     ) {
-        PlainActionFuture<WorkflowData> createConnectorFuture = PlainActionFuture.newFuture();
+        PlainActionFuture<WorkflowData> createConnectorFuture = ListenablePlainActionFuture.newListenableFuture();
 
         ActionListener<MLCreateConnectorResponse> actionListener = new ActionListener<>() {
 
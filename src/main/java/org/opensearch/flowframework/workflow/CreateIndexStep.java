@@ -23,6 +23,7 @@ import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.MediaTypeRegistry;
 import org.opensearch.flowframework.exception.WorkflowStepException;
 import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
+import org.opensearch.flowframework.util.ListenablePlainActionFuture;
 import org.opensearch.flowframework.util.ParseUtils;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.transport.client.Client;
@@ -70,7 +71,7 @@ public class CreateIndexStep implements WorkflowStep {
         Map<String, String> params,
         String tenantId
     ) {
-        PlainActionFuture<WorkflowData> createIndexFuture = PlainActionFuture.newFuture();
+        PlainActionFuture<WorkflowData> createIndexFuture = ListenablePlainActionFuture.newListenableFuture();
 
         Set<String> requiredKeys = Set.of(INDEX_NAME, CONFIGURATIONS);
 
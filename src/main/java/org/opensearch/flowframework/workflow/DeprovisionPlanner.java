@@ -0,0 +1,242 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.workflow;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
+import org.opensearch.flowframework.model.ResourceCreated;
+import org.opensearch.flowframework.util.ListenablePlainActionFuture;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.opensearch.flowframework.common.CommonValue.DEPROVISION_WORKFLOW_THREAD_POOL;
+import static org.opensearch.flowframework.common.WorkflowResources.getDeprovisionOrderByWorkflowStep;
+import static org.opensearch.flowframework.common.WorkflowResources.getDeprovisionStepByWorkflowStep;
+import static org.opensearch.flowframework.common.WorkflowResources.getResourceByWorkflowStep;
+
+/**
+ * Deprovisions the resources created by a workflow without blocking a thread while waiting for them.
+ * <p>
+ * Resources are grouped by the deprovision order of their type in {@link org.opensearch.flowframework.common.WorkflowResources}, so that
+ * resources which may reference others are deleted first. Resources in the same group are independent and are deleted in parallel, with
+ * a bounded number in flight. If any resource fails, the failed resources are retried after a delay for as long as each pass deletes at
+ * least one resource.
+ */
+public class DeprovisionPlanner {
+
+    private static final Logger logger = LogManager.getLogger(DeprovisionPlanner.class);
+
+    /** The maximum number of resources deprovisioned at the same time */
+    static final int MAX_CONCURRENT_DEPROVISIONS = 4;
+    /** The delay before retrying resources which failed to deprovision */
+    static final TimeValue RETRY_DELAY = TimeValue.timeValueSeconds(1);
+
+    private final String workflowId;
+    private final String tenantId;
+    private final List<ResourceCreated> resources;
+    private final WorkflowStepFactory workflowStepFactory;
+    private final FlowFrameworkIndicesHandler flowFrameworkIndicesHandler;
+    private final ThreadPool threadPool;
+    private final Executor executor;
+    private final TimeValue nodeTimeout;
+
+    /**
+     * Instantiate this class
+     * @param workflowId the workflow id
+     * @param tenantId the tenant id
+     * @param resources the resources to deprovision, in reverse order of provisioning
+     * @param workflowStepFactory The factory instantiating deprovision steps
+     * @param flowFrameworkIndicesHandler Class to handle all internal system indices actions
+     * @param threadPool The OpenSearch thread pool
+     * @param executor the executor to run deprovision steps on
+     * @param nodeTimeout the timeout of each deprovision step
+     */
+    public DeprovisionPlanner(
+        String workflowId,
+        String tenantId,
+        List<ResourceCreated> resources,
+        WorkflowStepFactory workflowStepFactory,
+        FlowFrameworkIndicesHandler flowFrameworkIndicesHandler,
+        ThreadPool threadPool,
+        Executor executor,
+        TimeValue nodeTimeout
+    ) {
+        this.workflowId = workflowId;
+        this.tenantId = tenantId;
+        this.resources = resources;
+        this.workflowStepFactory = workflowStepFactory;
+        this.flowFrameworkIndicesHandler = flowFrameworkIndicesHandler;
+        this.threadPool = threadPool;
+        this.executor = executor;
+        this.nodeTimeout = nodeTimeout;
+    }
+
+    /**
+     * Gets the id of the process node deprovisioning a resource
+     * @param resource the resource
+     * @return the deprovision node id
+     */
+    public static String getDeprovisionNodeId(ResourceCreated resource) {
+        // New ID is old ID with (deprovision step type) prepended
+        return "(deprovision_" + resource.workflowStepName() + ") " + resource.workflowStepId();
+    }
+
+    /**
+     * Deprovisions the resources, returning immediately
+     * @param listener notified with the resources which could not be deprovisioned, in reverse order of provisioning
+     */
+    public void execute(ActionListener<List<ResourceCreated>> listener) {
+        logger.info(
+            "Deprovisioning steps: {}",
+            resources.stream().map(DeprovisionPlanner::getDeprovisionNodeId).collect(Collectors.joining(", "))
+        );
+        executePass(resources, listener);
+    }
+
+    /**
+     * Attempts to deprovision each remaining resource once, one group at a time
+     * @param remaining the resources to deprovision
+     * @param listener the listener to notify when deprovisioning is complete
+     */
+    private void executePass(List<ResourceCreated> remaining, ActionListener<List<ResourceCreated>> listener) {
+        Map<Integer, List<ResourceCreated>> groups = new TreeMap<>();
+        for (ResourceCreated resource : remaining) {
+            groups.computeIfAbsent(getDeprovisionOrderByWorkflowStep(resource.workflowStepName()), k -> new ArrayList<>()).add(resource);
+        }
+        List<ResourceCreated> failed = Collections.synchronizedList(new ArrayList<>());
+        executeGroups(groups.values().iterator(), failed, () -> {
+            List<ResourceCreated> failedInOrder = new ArrayList<>(failed);
+            failedInOrder.sort(Comparator.comparingInt(resources::indexOf));
+            if (failedInOrder.isEmpty() || failedInOrder.size() == remaining.size()) {
+                // Done, or nothing was deleted so retrying will not help
+                logger.info("Resources remaining: {}.", failedInOrder);
+                listener.onResponse(failedInOrder);
+                return;
+            }
+            logger.info("Retrying deprovision of {} resources after {}", failedInOrder.size(), RETRY_DELAY);
+            threadPool.schedule(() -> executePass(failedInOrder, listener), RETRY_DELAY, DEPROVISION_WORKFLOW_THREAD_POOL);
+        });
+    }
+
+    /**
+     * Deprovisions the resources of each group in turn
+     * @param groups the remaining groups of independent resources
+     * @param failed collects the resources which failed to deprovision
+     * @param onComplete run when every group has been attempted
+     */
+    private void executeGroups(Iterator<List<ResourceCreated>> groups, List<ResourceCreated> failed, Runnable onComplete) {
+        if (!groups.hasNext()) {
+            onComplete.run();
+            return;
+        }
+        List<ResourceCreated> group = groups.next();
+        Queue<ResourceCreated> queue = new ConcurrentLinkedQueue<>(group);
+        AtomicInteger pending = new AtomicInteger(group.size());
+        Runnable onDeprovisioned = () -> {
+            if (pending.decrementAndGet() == 0) {
+                executeGroups(groups, failed, onComplete);
+            }
+        };
+        for (int i = 0; i < Math.min(MAX_CONCURRENT_DEPROVISIONS, group.size()); i++) {
+            deprovisionNext(queue, failed, onDeprovisioned);
+        }
+    }
+
+    /**
+     * Deprovisions the next resource of a group, then the one after it until the group is exhausted
+     * @param queue the resources of the group which have not been started
+     * @param failed collects the resources which failed to deprovision
+     * @param onDeprovisioned run after each resource has been attempted
+     */
+    private void deprovisionNext(Queue<ResourceCreated> queue, List<ResourceCreated> failed, Runnable onDeprovisioned) {
+        ResourceCreated resource = queue.poll();
+        if (resource == null) {
+            return;
+        }
+        String resourceNameAndId = getResourceByWorkflowStep(resource.workflowStepName()) + " " + resource.resourceId();
+        ProcessNode deprovisionNode;
+        try {
+            deprovisionNode = createDeprovisionNode(resource);
+        } catch (Exception e) {
+            logger.error("Failed to create deprovision step for {}", resourceNameAndId, e);
+            failed.add(resource);
+            onDeprovisioned.run();
+            deprovisionNext(queue, failed, onDeprovisioned);
+            return;
+        }
+        ActionListener<WorkflowData> nodeListener = ActionListener.wrap(workflowData -> {
+            logger.info("Successful {} for {}", deprovisionNode.id(), resourceNameAndId);
+            // Remove from state index resource list, failures are caught up at the end with the remaining resources
+            flowFrameworkIndicesHandler.deleteResourceFromStateIndex(
+                workflowId,
+                tenantId,
+                resource,
+                ActionListener.wrap(r -> {}, e -> logger.debug("Failed to remove {} from workflow state", resourceNameAndId, e))
+            );
+            onDeprovisioned.run();
+            deprovisionNext(queue, failed, onDeprovisioned);
+        }, e -> {
+            // If any deprovision fails due to not found, it's a success
+            if (isNotFound(e)) {
+                logger.info("Successful (not found) {} for {}", deprovisionNode.id(), resourceNameAndId);
+            } else {
+                logger.info("Failed {} for {}", deprovisionNode.id(), resourceNameAndId);
+                failed.add(resource);
+            }
+            onDeprovisioned.run();
+            deprovisionNext(queue, failed, onDeprovisioned);
+        });
+        ListenablePlainActionFuture.addListener(deprovisionNode.execute(), nodeListener, executor);
+    }
+
+    /**
+     * Creates a process node with a new deprovision step for a resource, as steps may not be executed more than once
+     * @param resource the resource to deprovision
+     * @return the process node
+     */
+    private ProcessNode createDeprovisionNode(ResourceCreated resource) {
+        String stepName = resource.workflowStepName();
+        String deprovisionStepId = getDeprovisionNodeId(resource);
+        return new ProcessNode(
+            deprovisionStepId,
+            workflowStepFactory.createStep(getDeprovisionStepByWorkflowStep(stepName)),
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            new WorkflowData(Map.of(getResourceByWorkflowStep(stepName), resource.resourceId()), workflowId, deprovisionStepId),
+            Collections.emptyList(),
+            threadPool,
+            DEPROVISION_WORKFLOW_THREAD_POOL,
+            nodeTimeout,
+            tenantId,
+            executor
+        );
+    }
+
+    private static boolean isNotFound(Exception e) {
+        Throwable t = e instanceof OpenSearchStatusException ? e : e.getCause();
+        return t instanceof OpenSearchStatusException && ((OpenSearchStatusException) t).status() == RestStatus.NOT_FOUND;
+    }
+}
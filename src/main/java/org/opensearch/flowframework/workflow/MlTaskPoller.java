@@ -0,0 +1,314 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.workflow;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessageFactory;
+import org.opensearch.common.Randomness;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.flowframework.common.FlowFrameworkSettings;
+import org.opensearch.flowframework.exception.FlowFrameworkException;
+import org.opensearch.ml.client.MachineLearningNodeClient;
+import org.opensearch.ml.common.MLTask;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_THREAD_POOL;
+
+/**
+ * Polls the state of ML Commons tasks for all workflow steps on this node.
+ * <p>
+ * Steps register a task and a listener which is notified when the task reaches a terminal state. Rather than each step polling on its
+ * own schedule, the tasks due for a poll are polled together on a shared tick, with a bounded number of requests in flight. Each task
+ * keeps its own backoff: the interval between its polls starts short when it is registered and doubles with jitter up to the configured
+ * retry duration. The tick is scheduled for the earliest next poll of any task. Each task has at most one request in flight, its
+ * requests run in the thread context of the step which registered it, and no thread is blocked between ticks.
+ */
+public class MlTaskPoller {
+
+    private static final Logger logger = LogManager.getLogger(MlTaskPoller.class);
+
+    // The interval before the first poll of a task, doubled for each poll after it up to the retry duration
+    private static final TimeValue INITIAL_POLL_INTERVAL = TimeValue.timeValueMillis(100);
+    // The maximum number of task requests in flight to ML Commons at any time
+    static final int MAX_CONCURRENT_REQUESTS = 10;
+
+    private final ThreadPool threadPool;
+    private final MachineLearningNodeClient mlClient;
+    private final FlowFrameworkSettings flowFrameworkSettings;
+
+    // Guarded by this
+    private final List<PolledTask> tasks = new ArrayList<>();
+    // Whether the requests of a tick are in flight
+    private boolean polling = false;
+    private Scheduler.ScheduledCancellable scheduledTick = null;
+    private long scheduledTickNanos;
+
+    /**
+     * Instantiate this class
+     * @param threadPool The OpenSearch thread pool
+     * @param mlClient machine learning client
+     * @param flowFrameworkSettings settings of flow framework
+     */
+    public MlTaskPoller(ThreadPool threadPool, MachineLearningNodeClient mlClient, FlowFrameworkSettings flowFrameworkSettings) {
+        this.threadPool = threadPool;
+        this.mlClient = mlClient;
+        this.flowFrameworkSettings = flowFrameworkSettings;
+    }
+
+    /**
+     * Registers a task to poll until it reaches a terminal state
+     * @param taskId the ml task id
+     * @param tenantId the tenant id
+     * @param stepFuture the future of the workflow step waiting for the task. Polling stops silently if it completes.
+     * @param timeout the time after which polling fails with a timeout
+     * @param listener notified with the task once it is completed, failed or cancelled, or with the failure to get it
+     */
+    public void poll(String taskId, String tenantId, Future<?> stepFuture, TimeValue timeout, ActionListener<MLTask> listener) {
+        long now = System.nanoTime();
+        PolledTask task = new PolledTask(
+            taskId,
+            tenantId,
+            stepFuture,
+            timeout,
+            now + timeout.nanos(),
+            threadPool.getThreadContext().newRestorableContext(false),
+            listener
+        );
+        task.nextPollNanos = now + getPollInterval(0).nanos();
+        synchronized (this) {
+            tasks.add(task);
+            scheduleTick();
+        }
+    }
+
+    /**
+     * Gets the number of tasks being polled
+     * @return the number of tasks
+     */
+    public synchronized int size() {
+        return tasks.size();
+    }
+
+    /**
+     * Schedules the next tick for the earliest next poll or timeout of any task, unless the requests of a tick are in flight or a tick is
+     * already scheduled by then. Must be called holding the lock.
+     */
+    private void scheduleTick() {
+        if (polling || tasks.isEmpty()) {
+            return;
+        }
+        long tickNanos = tasks.get(0).nextTickNanos();
+        for (PolledTask task : tasks) {
+            if (task.nextTickNanos() - tickNanos < 0) {
+                tickNanos = task.nextTickNanos();
+            }
+        }
+        if (scheduledTick != null) {
+            // A tick which can not be cancelled has started, and schedules the next one once it has polled
+            if (scheduledTickNanos - tickNanos <= 0 || !scheduledTick.cancel()) {
+                return;
+            }
+        }
+        scheduledTickNanos = tickNanos;
+        // Round up, as ticks are scheduled in milliseconds and a tick which runs early polls nothing
+        long delayMillis = TimeUnit.NANOSECONDS.toMillis(Math.max(0, tickNanos - System.nanoTime()) + 999_999);
+        scheduledTick = threadPool.schedule(this::tick, TimeValue.timeValueMillis(delayMillis), WORKFLOW_THREAD_POOL);
+    }
+
+    /**
+     * Polls every task which is due once, then schedules the next tick when all responses have been handled
+     */
+    private void tick() {
+        List<PolledTask> batch = new ArrayList<>();
+        List<PolledTask> timedOut = new ArrayList<>();
+        synchronized (this) {
+            scheduledTick = null;
+            long now = System.nanoTime();
+            Iterator<PolledTask> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                PolledTask task = iterator.next();
+                if (task.stepFuture.isDone()) {
+                    // The step was cancelled or timed out
+                    iterator.remove();
+                } else if (now - task.deadlineNanos > 0) {
+                    iterator.remove();
+                    timedOut.add(task);
+                } else if (now - task.nextPollNanos >= 0) {
+                    batch.add(task);
+                }
+            }
+            if (batch.isEmpty()) {
+                scheduleTick();
+            } else {
+                polling = true;
+            }
+        }
+        for (PolledTask task : timedOut) {
+            String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage(
+                "Task {} did not complete within {}",
+                task.taskId,
+                task.timeout
+            ).getFormattedMessage();
+            logger.error(errorMessage);
+            notifyListener(task, () -> task.listener.onFailure(new FlowFrameworkException(errorMessage, RestStatus.REQUEST_TIMEOUT)));
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        logger.debug("Polling {} ml tasks", batch.size());
+        Queue<PolledTask> queue = new ConcurrentLinkedQueue<>(batch);
+        AtomicInteger remaining = new AtomicInteger(batch.size());
+        for (int i = 0; i < Math.min(MAX_CONCURRENT_REQUESTS, batch.size()); i++) {
+            pollNext(queue, remaining);
+        }
+    }
+
+    /**
+     * Sends the request for the next task of the current tick, if any
+     * @param queue the tasks of the current tick which have not been requested
+     * @param remaining the number of tasks of the current tick which have not been handled
+     */
+    private void pollNext(Queue<PolledTask> queue, AtomicInteger remaining) {
+        PolledTask task = queue.poll();
+        if (task == null) {
+            return;
+        }
+        // Request the task in the thread context of the step which registered it, rather than that of the tick
+        try (ThreadContext.StoredContext ignored = task.context.get()) {
+            getTask(task, queue, remaining);
+        }
+    }
+
+    private void getTask(PolledTask task, Queue<PolledTask> queue, AtomicInteger remaining) {
+        mlClient.getTask(task.taskId, task.tenantId, ActionListener.wrap(response -> {
+            switch (response.getState()) {
+                case COMPLETED:
+                case FAILED:
+                case COMPLETED_WITH_ERROR:
+                case CANCELLED:
+                    remove(task);
+                    if (!task.stepFuture.isDone()) {
+                        notifyListener(task, () -> task.listener.onResponse(response));
+                    } else {
+                        // The step was cancelled or timed out while this request was in flight
+                        logger.info("Task {} no longer pending, ignoring task state {}", task.taskId, response.getState());
+                    }
+                    break;
+                default:
+                    // Task started or running, poll again once its interval has elapsed
+                    synchronized (this) {
+                        task.nextPollNanos = System.nanoTime() + getPollInterval(++task.polls).nanos();
+                    }
+            }
+            onPolled(queue, remaining);
+        }, exception -> {
+            remove(task);
+            notifyListener(task, () -> task.listener.onFailure(exception));
+            onPolled(queue, remaining);
+        }));
+    }
+
+    private void onPolled(Queue<PolledTask> queue, AtomicInteger remaining) {
+        if (remaining.decrementAndGet() == 0) {
+            synchronized (this) {
+                polling = false;
+                scheduleTick();
+            }
+        } else {
+            pollNext(queue, remaining);
+        }
+    }
+
+    /**
+     * Notifies a step of the outcome of its task, isolating the other tasks of the tick from its failures
+     * @param task the task
+     * @param notification notifies the task listener
+     */
+    private static void notifyListener(PolledTask task, Runnable notification) {
+        try (ThreadContext.StoredContext ignored = task.context.get()) {
+            notification.run();
+        } catch (Exception e) {
+            logger.error("Failed to notify listener of task {}", task.taskId, e);
+        }
+    }
+
+    private synchronized void remove(PolledTask task) {
+        tasks.remove(task);
+    }
+
+    /**
+     * Gets the delay before the next poll of a task, doubling with each poll of the task up to the retry duration. Half of the delay is
+     * randomized so that tasks registered together do not poll together.
+     * @param polls the number of polls of the task
+     * @return the delay
+     */
+    private TimeValue getPollInterval(int polls) {
+        long maxDelayMillis = Math.max(1, flowFrameworkSettings.getRetryDuration().millis());
+        long delayMillis = Math.min(maxDelayMillis, INITIAL_POLL_INTERVAL.millis() << Math.min(polls, 20));
+        long halfDelayMillis = delayMillis / 2;
+        return TimeValue.timeValueMillis(delayMillis - halfDelayMillis + Randomness.get().nextInt((int) halfDelayMillis + 1));
+    }
+
+    /**
+     * An ml task registered for polling
+     */
+    private static class PolledTask {
+        private final String taskId;
+        private final String tenantId;
+        private final Future<?> stepFuture;
+        private final TimeValue timeout;
+        private final long deadlineNanos;
+        private final Supplier<ThreadContext.StoredContext> context;
+        private final ActionListener<MLTask> listener;
+        // Guarded by the poller
+        private int polls = 0;
+        private long nextPollNanos;
+
+        PolledTask(
+            String taskId,
+            String tenantId,
+            Future<?> stepFuture,
+            TimeValue timeout,
+            long deadlineNanos,
+            Supplier<ThreadContext.StoredContext> context,
+            ActionListener<MLTask> listener
+        ) {
+            this.taskId = taskId;
+            this.tenantId = tenantId;
+            this.stepFuture = stepFuture;
+            this.timeout = timeout;
+            this.deadlineNanos = deadlineNanos;
+            this.context = context;
+            this.listener = listener;
+        }
+
+        /**
+         * Gets the time the task should be polled or timed out
+         * @return the earliest of the next poll and the deadline, in nanoseconds
+         */
+        long nextTickNanos() {
+            return deadlineNanos - nextPollNanos < 0 ? deadlineNanos : nextPollNanos;
+        }
+    }
+}
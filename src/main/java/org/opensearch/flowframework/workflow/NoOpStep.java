@@ -13,6 +13,7 @@ import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.FutureUtils;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.flowframework.exception.WorkflowStepException;
+import org.opensearch.flowframework.util.ListenablePlainActionFuture;
 import org.opensearch.flowframework.util.ParseUtils;
 
 import java.util.Collections;
@@ -41,7 +42,7 @@ public class NoOpStep implements WorkflowStep {
         Map<String, String> params,
         String tenantId
     ) {
-        PlainActionFuture<WorkflowData> future = PlainActionFuture.newFuture();
+        PlainActionFuture<WorkflowData> future = ListenablePlainActionFuture.newListenableFuture();
 
         Set<String> requiredKeys = Collections.emptySet();
         Set<String> optionalKeys = Set.of(DELAY_FIELD);
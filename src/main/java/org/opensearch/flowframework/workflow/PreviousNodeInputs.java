@@ -0,0 +1,77 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.workflow;
+
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The inputs a node takes from its predecessors, mapping each predecessor node id to the key of its output used as an input.
+ * <p>
+ * The map is indexed by input key when the workflow is sorted, so that steps resolve the source of each input without searching it.
+ */
+public final class PreviousNodeInputs extends AbstractMap<String, String> {
+
+    private final Map<String, String> inputs;
+    private final Map<String, String> sourceNodeByKey;
+
+    private PreviousNodeInputs(Map<String, String> inputs) {
+        this.inputs = Map.copyOf(inputs);
+        this.sourceNodeByKey = invert(this.inputs);
+    }
+
+    /**
+     * Indexes the inputs a node takes from its predecessors
+     * @param previousNodeInputs a map of predecessor node id to output key
+     * @return the indexed inputs
+     */
+    public static PreviousNodeInputs of(Map<String, String> previousNodeInputs) {
+        if (previousNodeInputs instanceof PreviousNodeInputs) {
+            return (PreviousNodeInputs) previousNodeInputs;
+        }
+        return new PreviousNodeInputs(previousNodeInputs);
+    }
+
+    /**
+     * Gets a map of output key to the predecessor node id providing it
+     * @param previousNodeInputs a map of predecessor node id to output key, which is indexed if not already
+     * @return a map of output key to node id. If several predecessors provide the same key, one of them is used.
+     */
+    public static Map<String, String> sourceNodeByKey(Map<String, String> previousNodeInputs) {
+        if (previousNodeInputs instanceof PreviousNodeInputs) {
+            return ((PreviousNodeInputs) previousNodeInputs).sourceNodeByKey;
+        }
+        return invert(previousNodeInputs);
+    }
+
+    private static Map<String, String> invert(Map<String, String> previousNodeInputs) {
+        Map<String, String> sourceNodeByKey = new HashMap<>();
+        for (Map.Entry<String, String> e : previousNodeInputs.entrySet()) {
+            sourceNodeByKey.putIfAbsent(e.getValue(), e.getKey());
+        }
+        return Map.copyOf(sourceNodeByKey);
+    }
+
+    @Override
+    public String get(Object key) {
+        return inputs.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return inputs.containsKey(key);
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        return inputs.entrySet();
+    }
+}
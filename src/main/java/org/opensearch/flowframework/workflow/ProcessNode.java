@@ -10,14 +10,24 @@ package org.opensearch.flowframework.workflow;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.opensearch.OpenSearchTimeoutException;
 import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.flowframework.util.ListenablePlainActionFuture;
+import org.opensearch.threadpool.Scheduler;
 import org.opensearch.threadpool.ThreadPool;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * Representation of a process node in a workflow graph.
@@ -37,8 +47,10 @@ public class ProcessNode {
     private final String threadPoolName;
     private final TimeValue nodeTimeout;
     private final String tenantId;
+    private final Executor executor;
 
-    private final PlainActionFuture<WorkflowData> future = PlainActionFuture.newFuture();
+    private final ListenablePlainActionFuture<WorkflowData> future = ListenablePlainActionFuture.newListenableFuture();
+    private final AtomicBoolean executed = new AtomicBoolean(false);
 
     /**
      * Create this node linked to its executing process, including input data and any predecessor nodes.
@@ -65,6 +77,37 @@ public class ProcessNode {
         String threadPoolName,
         TimeValue nodeTimeout,
         String tenantId
+    ) {
+        this(id, workflowStep, previousNodeInputs, params, input, predecessors, threadPool, threadPoolName, nodeTimeout, tenantId, null);
+    }
+
+    /**
+     * Create this node linked to its executing process, including input data and any predecessor nodes.
+     *
+     * @param id A string identifying the workflow step
+     * @param workflowStep A java class implementing {@link WorkflowStep} to be executed when it's this node's turn.
+     * @param previousNodeInputs A map of expected inputs coming from predecessor nodes used in graph validation
+     * @param params Params passed on the REST path
+     * @param input Input required by the node encoded in a {@link WorkflowData} instance.
+     * @param predecessors Nodes preceding this one in the workflow
+     * @param threadPool The OpenSearch thread pool
+     * @param threadPoolName The thread pool to use
+     * @param nodeTimeout The timeout value for executing on this node
+     * @param tenantId The tenantId
+     * @param executor The executor to run the step on, or null to use the named thread pool
+     */
+    public ProcessNode(
+        String id,
+        WorkflowStep workflowStep,
+        Map<String, String> previousNodeInputs,
+        Map<String, String> params,
+        WorkflowData input,
+        List<ProcessNode> predecessors,
+        ThreadPool threadPool,
+        String threadPoolName,
+        TimeValue nodeTimeout,
+        String tenantId,
+        Executor executor
     ) {
         this.id = id;
         this.workflowStep = workflowStep;
@@ -76,6 +119,7 @@ public class ProcessNode {
         this.threadPoolName = threadPoolName;
         this.nodeTimeout = nodeTimeout;
         this.tenantId = tenantId;
+        this.executor = executor;
     }
 
     /**
@@ -119,7 +163,7 @@ public class ProcessNode {
     }
 
     /**
-     * Returns a {@link CompletableFuture} if this process is executing.
+     * Returns a {@link PlainActionFuture} if this process is executing.
      * Relies on the node having been sorted and executed in an order such that all predecessor nodes have begun execution first (and thus populated this value).
      *
      * @return A future indicating the processing state of this node.
@@ -158,44 +202,162 @@ public class ProcessNode {
 
     /**
      * Execute this node in the sequence.
-     * Initializes the node's {@link CompletableFuture} and completes it when the process completes.
+     * Registers listeners on the predecessor nodes' futures and starts the workflow step once the last of them completes, so no thread is
+     * consumed while waiting. The step's completion is chained to this node's future.
      *
      * @return this node's future.
      * This is returned immediately, while process execution continues asynchronously.
      */
     public PlainActionFuture<WorkflowData> execute() {
-        if (this.future.isDone()) {
+        return execute(new WorkflowCancellationToken());
+    }
+
+    /**
+     * Execute this node in the sequence, stopping if the workflow execution is cancelled.
+     * If the token is cancelled before the predecessors complete, the step never starts. If it is cancelled while the step is running,
+     * the step's future is completed exceptionally, which stops any retry loop polling on its behalf.
+     *
+     * @param cancellationToken the token shared by all nodes of this workflow execution
+     * @return this node's future.
+     * This is returned immediately, while process execution continues asynchronously.
+     */
+    public PlainActionFuture<WorkflowData> execute(WorkflowCancellationToken cancellationToken) {
+        return execute(cancellationToken, null);
+    }
+
+    /**
+     * Execute this node in the sequence, stopping if the workflow execution is cancelled.
+     * Once the predecessors complete, the step is started by the workflow's scheduler rather than immediately.
+     *
+     * @param cancellationToken the token shared by all nodes of this workflow execution
+     * @param scheduler the scheduler shared by all nodes of this workflow execution, or null to start the step immediately
+     * @return this node's future.
+     * This is returned immediately, while process execution continues asynchronously.
+     */
+    public PlainActionFuture<WorkflowData> execute(WorkflowCancellationToken cancellationToken, WorkflowScheduler scheduler) {
+        if (this.future.isDone() || !this.executed.compareAndSet(false, true)) {
             throw new IllegalStateException("Process Node [" + this.id + "] already executed.");
         }
+        // Steps should run with the thread context of the caller, not that of whichever thread completes the last predecessor
+        Supplier<ThreadContext.StoredContext> contextSupplier = threadPool.getThreadContext().newRestorableContext(false);
 
-        CompletableFuture.runAsync(() -> {
-            try {
-                // get the input data from predecessor(s)
-                Map<String, WorkflowData> inputMap = new HashMap<>();
-                for (ProcessNode node : predecessors) {
-                    WorkflowData wd = node.future().actionGet();
-                    inputMap.put(wd.getNodeId(), wd);
+        if (predecessors.isEmpty()) {
+            startStep(Collections.emptyMap(), contextSupplier, cancellationToken, scheduler);
+            return this.future;
+        }
+        // get the input data from predecessor(s)
+        Map<String, WorkflowData> inputMap = Collections.synchronizedMap(new HashMap<>());
+        AtomicInteger pendingPredecessors = new AtomicInteger(predecessors.size());
+        for (ProcessNode node : predecessors) {
+            ListenablePlainActionFuture.addListener(node.future(), ActionListener.wrap(wd -> {
+                inputMap.put(wd.getNodeId(), wd);
+                if (pendingPredecessors.decrementAndGet() == 0) {
+                    startStep(new HashMap<>(inputMap), contextSupplier, cancellationToken, scheduler);
                 }
+            }, this.future::onFailure), executor());
+        }
+        return this.future;
+    }
 
-                // record start time for this step.
-                logger.info("Starting {}.", this.id);
-                PlainActionFuture<WorkflowData> stepFuture = this.workflowStep.execute(
-                    this.id,
-                    this.input,
-                    inputMap,
-                    this.previousNodeInputs,
-                    this.params,
-                    this.tenantId
-                );
-                // If completed exceptionally, this is a no-op
-                future.onResponse(stepFuture.actionGet(this.nodeTimeout));
-                // record end time passing workflow steps
-                logger.info("Finished {}.", this.id);
+    /**
+     * Dispatches execution of the workflow step to this node's thread pool, through the scheduler if any
+     * @param inputMap the output of the predecessor nodes
+     * @param contextSupplier restores the thread context the node was executed with
+     * @param cancellationToken the token shared by all nodes of this workflow execution
+     * @param scheduler the scheduler shared by all nodes of this workflow execution, or null
+     */
+    private void startStep(
+        Map<String, WorkflowData> inputMap,
+        Supplier<ThreadContext.StoredContext> contextSupplier,
+        WorkflowCancellationToken cancellationToken,
+        WorkflowScheduler scheduler
+    ) {
+        if (cancellationToken.isCancelled()) {
+            this.future.onFailure(cancellationToken.cancellationException(this.id));
+            return;
+        }
+        Runnable dispatch = () -> {
+            try (ThreadContext.StoredContext context = contextSupplier.get()) {
+                executor().execute(() -> {
+                    try {
+                        executeStep(inputMap, cancellationToken);
+                    } catch (Exception e) {
+                        this.future.onFailure(e);
+                    }
+                });
             } catch (Exception e) {
+                // Rejected execution
                 this.future.onFailure(e);
             }
-        }, threadPool.executor(this.threadPoolName));
-        return this.future;
+        };
+        if (scheduler == null) {
+            dispatch.run();
+        } else {
+            scheduler.schedule(this, dispatch);
+        }
+    }
+
+    private void executeStep(Map<String, WorkflowData> inputMap, WorkflowCancellationToken cancellationToken) {
+        // The token may have been cancelled while this task was queued
+        if (cancellationToken.isCancelled()) {
+            this.future.onFailure(cancellationToken.cancellationException(this.id));
+            return;
+        }
+        // record start time for this step.
+        logger.info("Starting {}.", this.id);
+        PlainActionFuture<WorkflowData> stepFuture = this.workflowStep.execute(
+            this.id,
+            this.input,
+            inputMap,
+            this.previousNodeInputs,
+            this.params,
+            this.tenantId
+        );
+        // Completing the step future stops retry loops polling for its result; if already complete, this is a no-op
+        cancellationToken.addListener(() -> stepFuture.onFailure(cancellationToken.cancellationException(this.id)));
+        if (!(stepFuture instanceof ListenablePlainActionFuture)) {
+            // Steps which do not support listeners are waited on by this thread
+            // If completed exceptionally, this is a no-op
+            future.onResponse(stepFuture.actionGet(this.nodeTimeout));
+            // record end time passing workflow steps
+            logger.info("Finished {}.", this.id);
+            return;
+        }
+        Scheduler.ScheduledCancellable timeoutHandler = this.nodeTimeout.millis() > 0
+            ? threadPool.schedule(
+                () -> this.future.onFailure(
+                    new OpenSearchTimeoutException(
+                        new TimeoutException("Timeout waiting for step " + this.id + " to complete after " + this.nodeTimeout)
+                    )
+                ),
+                this.nodeTimeout,
+                this.threadPoolName
+            )
+            : null;
+        ((ListenablePlainActionFuture<WorkflowData>) stepFuture).addListener(ActionListener.wrap(workflowData -> {
+            cancelTimeout(timeoutHandler);
+            // If completed exceptionally, this is a no-op
+            this.future.onResponse(workflowData);
+            // record end time passing workflow steps
+            logger.info("Finished {}.", this.id);
+        }, e -> {
+            cancelTimeout(timeoutHandler);
+            this.future.onFailure(e);
+        }));
+    }
+
+    private static void cancelTimeout(Scheduler.ScheduledCancellable timeoutHandler) {
+        if (timeoutHandler != null) {
+            timeoutHandler.cancel();
+        }
+    }
+
+    /**
+     * Returns the executor the workflow step runs on
+     * @return the executor
+     */
+    private Executor executor() {
+        return this.executor == null ? threadPool.executor(this.threadPoolName) : this.executor;
     }
 
     @Override
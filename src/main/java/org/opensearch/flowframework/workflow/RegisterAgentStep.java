@@ -23,6 +23,7 @@ import org.opensearch.core.xcontent.MediaTypeRegistry;
 import org.opensearch.flowframework.exception.FlowFrameworkException;
 import org.opensearch.flowframework.exception.WorkflowStepException;
 import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
+import org.opensearch.flowframework.util.ListenablePlainActionFuture;
 import org.opensearch.flowframework.util.ParseUtils;
 import org.opensearch.ml.client.MachineLearningNodeClient;
 import org.opensearch.ml.common.agent.LLMSpec;
@@ -96,7 +97,7 @@ public class RegisterAgentStep implements WorkflowStep {
 
         String workflowId = currentNodeInputs.getWorkflowId();
 
-        PlainActionFuture<WorkflowData> registerAgentModelFuture = PlainActionFuture.newFuture();
+        PlainActionFuture<WorkflowData> registerAgentModelFuture = ListenablePlainActionFuture.newListenableFuture();
 
         ActionListener<MLRegisterAgentResponse> actionListener = new ActionListener<>() {
             @Override
@@ -0,0 +1,46 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.workflow;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records the durations of the workflow steps executed on this node, by step type, so a {@link WorkflowScheduler} can estimate how long
+ * the steps of a workflow will take. One instance is shared by the workflow executions of a node.
+ */
+public class StepDurationHistory {
+
+    /** Average observed duration in milliseconds, keyed by step name. Step names are a fixed set, so entries are never evicted. */
+    private final Map<String, Long> averageDurations = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiate this class
+     */
+    public StepDurationHistory() {}
+
+    /**
+     * Records the duration of a step which completed
+     * @param stepName the name of the step type
+     * @param millis the duration in milliseconds
+     */
+    public void record(String stepName, long millis) {
+        // An exponentially weighted average follows changes in a step's duration without being skewed by a single slow call
+        averageDurations.merge(stepName, Math.max(1, millis), (average, latest) -> (3 * average + latest) / 4);
+    }
+
+    /**
+     * Gets the average duration of the steps of a type
+     * @param stepName the name of the step type
+     * @return the average duration in milliseconds, or null if no step of this type has completed
+     */
+    public Long getAverageMillis(String stepName) {
+        return averageDurations.get(stepName);
+    }
+}
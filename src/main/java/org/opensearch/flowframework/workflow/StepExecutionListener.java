@@ -0,0 +1,29 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.workflow;
+
+/**
+ * Notified as the steps of a workflow execution start and complete, for example to record them in the workflow's execution journal.
+ * Methods are called on the thread starting or completing the step and should not block.
+ */
+public interface StepExecutionListener {
+
+    /**
+     * Called when a step is dispatched to its executor
+     * @param node the process node of the step
+     */
+    void onStepStarted(ProcessNode node);
+
+    /**
+     * Called when a step completes successfully
+     * @param node the process node of the step
+     * @param output the output of the step
+     */
+    void onStepCompleted(ProcessNode node, WorkflowData output);
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.workflow;
+
+import org.apache.logging.log4j.message.ParameterizedMessageFactory;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.flowframework.exception.FlowFrameworkException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A token shared by the process nodes of a single workflow execution, cancelled when the execution should stop.
+ * Nodes which have not started never start, and in-flight steps are completed exceptionally so their retry loops stop.
+ */
+public class WorkflowCancellationToken {
+
+    private final List<Runnable> listeners = new ArrayList<>();
+    private volatile String reason = null;
+
+    /**
+     * Instantiate a token which has not been cancelled
+     */
+    public WorkflowCancellationToken() {}
+
+    /**
+     * Cancels the workflow execution, notifying registered listeners. Only the first call has any effect.
+     * @param reason the reason for cancellation
+     * @return true if this call cancelled the token, false if it was already cancelled
+     */
+    public boolean cancel(String reason) {
+        List<Runnable> toNotify;
+        synchronized (this) {
+            if (this.reason != null) {
+                return false;
+            }
+            this.reason = reason;
+            toNotify = new ArrayList<>(listeners);
+            listeners.clear();
+        }
+        toNotify.forEach(Runnable::run);
+        return true;
+    }
+
+    /**
+     * Whether the workflow execution has been cancelled
+     * @return true if cancelled
+     */
+    public boolean isCancelled() {
+        return reason != null;
+    }
+
+    /**
+     * Gets the reason the workflow execution was cancelled
+     * @return the reason, or null if not cancelled
+     */
+    public String getReason() {
+        return reason;
+    }
+
+    /**
+     * Registers a listener to run on cancellation. If already cancelled, the listener runs immediately on the calling thread.
+     * @param listener the listener to run
+     */
+    public void addListener(Runnable listener) {
+        synchronized (this) {
+            if (reason == null) {
+                listeners.add(listener);
+                return;
+            }
+        }
+        listener.run();
+    }
+
+    /**
+     * Creates the exception a process node fails with after cancellation
+     * @param nodeId the id of the cancelled node
+     * @return the exception
+     */
+    public FlowFrameworkException cancellationException(String nodeId) {
+        String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage("Step {} was cancelled: {}", nodeId, reason)
+            .getFormattedMessage();
+        return new FlowFrameworkException(errorMessage, RestStatus.REQUEST_TIMEOUT);
+    }
+}
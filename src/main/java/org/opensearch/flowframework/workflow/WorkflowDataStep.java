@@ -12,16 +12,18 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.flowframework.model.ResourceCreated;
+import org.opensearch.flowframework.util.ListenablePlainActionFuture;
 
 import java.util.Map;
 
 /**
- * Internal step to pass created resources to dependent nodes. Only used in reprovisioning
+ * Internal step to pass created resources to dependent nodes. Only used in reprovisioning, and when resuming a workflow whose
+ * provisioning was interrupted
  */
 public class WorkflowDataStep implements WorkflowStep {
 
     private static final Logger logger = LogManager.getLogger(WorkflowDataStep.class);
-    private final ResourceCreated resourceCreated;
+    private final Map<String, Object> output;
 
     /** The name of this step */
     public static final String NAME = "workflow_data_step";
@@ -31,7 +33,15 @@ public class WorkflowDataStep implements WorkflowStep {
      * @param resourceCreated the created resource
      */
     public WorkflowDataStep(ResourceCreated resourceCreated) {
-        this.resourceCreated = resourceCreated;
+        this(Map.of(resourceCreated.resourceType(), resourceCreated.resourceId()));
+    }
+
+    /**
+     * Instantiate this class
+     * @param output the output previously recorded for the step
+     */
+    public WorkflowDataStep(Map<String, ?> output) {
+        this.output = Map.copyOf(output);
     }
 
     @Override
@@ -43,13 +53,9 @@ public class WorkflowDataStep implements WorkflowStep {
         Map<String, String> params,
         String tenantId
     ) {
-        PlainActionFuture<WorkflowData> workflowDataFuture = PlainActionFuture.newFuture();
+        PlainActionFuture<WorkflowData> workflowDataFuture = ListenablePlainActionFuture.newListenableFuture();
         workflowDataFuture.onResponse(
-            new WorkflowData(
-                Map.of(resourceCreated.resourceType(), resourceCreated.resourceId()),
-                currentNodeInputs.getWorkflowId(),
-                currentNodeId
-            )
+            new WorkflowData(output, currentNodeInputs.getWorkflowId(), currentNodeId)
         );
         return workflowDataFuture;
     }
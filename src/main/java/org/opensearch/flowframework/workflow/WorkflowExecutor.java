@@ -0,0 +1,172 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.workflow;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.flowframework.util.ListenablePlainActionFuture;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Executes a topologically sorted list of {@link ProcessNode}s without blocking a thread while waiting for them to complete.
+ * Each node starts when its predecessors complete, and the listener is notified when all nodes are done or on the first failure.
+ * The first failure cancels the execution, so pending nodes never start and in-flight steps stop.
+ * Steps are started by a {@link WorkflowScheduler}, which limits how many of them run at once.
+ */
+public class WorkflowExecutor {
+
+    private static final Logger logger = LogManager.getLogger(WorkflowExecutor.class);
+
+    private final String workflowId;
+    private final List<ProcessNode> processSequence;
+    private final Executor fallbackExecutor;
+    private final WorkflowScheduler scheduler;
+
+    private final WorkflowCancellationToken cancellationToken = new WorkflowCancellationToken();
+    private final AtomicBoolean notified = new AtomicBoolean(false);
+    private volatile String failedNodeId = null;
+
+    /**
+     * Instantiate this class
+     * @param workflowId the workflow id, used for logging
+     * @param processSequence the topologically sorted process nodes to execute
+     * @param fallbackExecutor the executor used to wait on step futures which do not support listeners
+     */
+    public WorkflowExecutor(String workflowId, List<ProcessNode> processSequence, Executor fallbackExecutor) {
+        this(workflowId, processSequence, fallbackExecutor, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Instantiate this class
+     * @param workflowId the workflow id, used for logging
+     * @param processSequence the topologically sorted process nodes to execute
+     * @param fallbackExecutor the executor used to wait on step futures which do not support listeners
+     * @param maxConcurrentSteps the maximum number of steps of this workflow running at once
+     */
+    public WorkflowExecutor(String workflowId, List<ProcessNode> processSequence, Executor fallbackExecutor, int maxConcurrentSteps) {
+        this(workflowId, processSequence, fallbackExecutor, maxConcurrentSteps, null, null);
+    }
+
+    /**
+     * Instantiate this class
+     * @param workflowId the workflow id, used for logging
+     * @param processSequence the topologically sorted process nodes to execute
+     * @param fallbackExecutor the executor used to wait on step futures which do not support listeners
+     * @param maxConcurrentSteps the maximum number of steps of this workflow running at once
+     * @param stepExecutionListener notified as steps start and complete, or null
+     * @param stepDurationHistory the durations of the steps executed on this node, used to start the critical path first, or null
+     */
+    public WorkflowExecutor(
+        String workflowId,
+        List<ProcessNode> processSequence,
+        Executor fallbackExecutor,
+        int maxConcurrentSteps,
+        StepExecutionListener stepExecutionListener,
+        StepDurationHistory stepDurationHistory
+    ) {
+        this.workflowId = workflowId;
+        this.processSequence = processSequence;
+        this.fallbackExecutor = fallbackExecutor;
+        this.scheduler = new WorkflowScheduler(processSequence, maxConcurrentSteps, stepExecutionListener, stepDurationHistory);
+    }
+
+    /**
+     * Executes all the process nodes, returning immediately
+     * @param listener notified with the output of each node keyed by node id, in sequence order, or with the first failure
+     */
+    public void execute(ActionListener<Map<String, WorkflowData>> listener) {
+        Map<String, WorkflowData> results = new LinkedHashMap<>();
+        AtomicInteger pendingNodes = new AtomicInteger(processSequence.size());
+        if (processSequence.isEmpty()) {
+            notifyOnce(listener, null, null, results);
+            return;
+        }
+        for (ProcessNode processNode : processSequence) {
+            List<ProcessNode> predecessors = processNode.predecessors();
+            logger.info(
+                "Queueing process [{}].{}",
+                processNode.id(),
+                predecessors.isEmpty()
+                    ? " Can start immediately!"
+                    : String.format(
+                        Locale.ROOT,
+                        " Must wait for [%s] to complete first.",
+                        predecessors.stream().map(p -> p.id()).collect(Collectors.joining(", "))
+                    )
+            );
+            // Initialize the results in sequence order
+            results.put(processNode.id(), null);
+        }
+        for (ProcessNode processNode : processSequence) {
+            try {
+                PlainActionFuture<WorkflowData> nodeFuture = processNode.execute(cancellationToken, scheduler);
+                ListenablePlainActionFuture.addListener(nodeFuture, ActionListener.wrap(workflowData -> {
+                    synchronized (results) {
+                        results.put(processNode.id(), workflowData);
+                    }
+                    if (pendingNodes.decrementAndGet() == 0) {
+                        notifyOnce(listener, null, null, results);
+                    }
+                }, e -> notifyOnce(listener, processNode.id(), e, null)), fallbackExecutor);
+            } catch (Exception e) {
+                notifyOnce(listener, processNode.id(), e, null);
+                break;
+            }
+        }
+        // All nodes which can start immediately are queued, so the scheduler can rank them
+        scheduler.start();
+    }
+
+    /**
+     * Cancels the execution. Nodes which have not started fail without starting, and running steps are completed exceptionally.
+     * @param reason the reason for cancellation
+     */
+    public void cancel(String reason) {
+        cancellationToken.cancel(reason);
+    }
+
+    /**
+     * Returns the id of the first node which failed, if any
+     * @return the failed node id, or null if no node has failed
+     */
+    public String failedNodeId() {
+        return failedNodeId;
+    }
+
+    private void notifyOnce(
+        ActionListener<Map<String, WorkflowData>> listener,
+        String nodeId,
+        Exception e,
+        Map<String, WorkflowData> results
+    ) {
+        if (!notified.compareAndSet(false, true)) {
+            return;
+        }
+        if (e != null) {
+            failedNodeId = nodeId;
+            logger.error("Workflow {} failed at step {}", workflowId, failedNodeId, e);
+            cancellationToken.cancel("step " + nodeId + " failed");
+            listener.onFailure(e);
+        } else {
+            synchronized (results) {
+                listener.onResponse(results);
+            }
+        }
+    }
+}
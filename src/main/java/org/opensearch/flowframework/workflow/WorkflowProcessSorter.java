@@ -20,6 +20,7 @@ import org.opensearch.flowframework.model.Template;
 import org.opensearch.flowframework.model.Workflow;
 import org.opensearch.flowframework.model.WorkflowEdge;
 import org.opensearch.flowframework.model.WorkflowNode;
+import org.opensearch.flowframework.util.FlowFrameworkExecutors;
 import org.opensearch.flowframework.util.ParseUtils;
 import org.opensearch.plugins.PluginInfo;
 import org.opensearch.plugins.PluginsService;
@@ -27,17 +28,16 @@ import org.opensearch.threadpool.ThreadPool;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import static org.opensearch.flowframework.common.CommonValue.PROVISION_WORKFLOW;
 import static org.opensearch.flowframework.common.CommonValue.PROVISION_WORKFLOW_THREAD_POOL;
@@ -66,6 +66,7 @@ public class WorkflowProcessSorter {
 
     private WorkflowStepFactory workflowStepFactory;
     private ThreadPool threadPool;
+    private FlowFrameworkExecutors flowFrameworkExecutors;
     private Integer maxWorkflowSteps;
 
     /**
@@ -73,15 +74,18 @@ public class WorkflowProcessSorter {
      *
      * @param workflowStepFactory The factory which matches template step types to instances.
      * @param threadPool The OpenSearch Thread pool to pass to process nodes.
+     * @param flowFrameworkExecutors The executors process nodes run their steps on.
      * @param flowFrameworkSettings settings of the plugin
      */
     public WorkflowProcessSorter(
         WorkflowStepFactory workflowStepFactory,
         ThreadPool threadPool,
+        FlowFrameworkExecutors flowFrameworkExecutors,
         FlowFrameworkSettings flowFrameworkSettings
     ) {
         this.workflowStepFactory = workflowStepFactory;
         this.threadPool = threadPool;
+        this.flowFrameworkExecutors = flowFrameworkExecutors;
         this.maxWorkflowSteps = flowFrameworkSettings.getMaxWorkflowSteps();
     }
 
@@ -94,6 +98,26 @@ public class WorkflowProcessSorter {
      * @return A list of Process Nodes sorted topologically.  All predecessors of any node will occur prior to it in the list.
      */
     public List<ProcessNode> sortProcessNodes(Workflow workflow, String workflowId, Map<String, String> params, String tenantId) {
+        return sortProcessNodes(workflow, workflowId, params, tenantId, Collections.emptyMap());
+    }
+
+    /**
+     * Sort a workflow into a topologically sorted list of process nodes, reusing the outputs of steps which already completed.
+     * @param workflow A workflow with (unsorted) nodes and edges which define predecessors and successors
+     * @param workflowId The workflowId associated with the step
+     * @param params Parameters passed on the REST path
+     * @param tenantId The tenantId associated with the step
+     * @param completedOutputs The outputs of steps which already completed, keyed by node id. These steps are not executed again, and
+     *          pass their recorded output to their successors.
+     * @return A list of Process Nodes sorted topologically.  All predecessors of any node will occur prior to it in the list.
+     */
+    public List<ProcessNode> sortProcessNodes(
+        Workflow workflow,
+        String workflowId,
+        Map<String, String> params,
+        String tenantId,
+        Map<String, Map<String, String>> completedOutputs
+    ) {
         if (workflow.nodes().size() > this.maxWorkflowSteps) {
             throw new FlowFrameworkException(
                 "Workflow "
@@ -117,32 +141,31 @@ public class WorkflowProcessSorter {
                 );
             }
         }
-        List<WorkflowNode> sortedNodes = topologicalSort(workflow.nodes(), workflow.edges());
+        SortedWorkflow sortedWorkflow = topologicalSort(workflow.nodes(), workflow.edges());
 
         List<ProcessNode> nodes = new ArrayList<>();
         Map<String, ProcessNode> idToNodeMap = new HashMap<>();
-        for (WorkflowNode node : sortedNodes) {
-            WorkflowStep step = workflowStepFactory.createStep(node.type());
+        for (WorkflowNode node : sortedWorkflow.nodes) {
+            Map<String, String> completedOutput = completedOutputs.get(node.id());
+            WorkflowStep step = completedOutput == null
+                ? workflowStepFactory.createStep(node.type())
+                : new WorkflowDataStep(completedOutput);
             WorkflowData data = new WorkflowData(node.userInputs(), workflow.userParams(), workflowId, node.id());
-            List<ProcessNode> predecessorNodes = workflow.edges()
-                .stream()
-                .filter(e -> e.destination().equals(node.id()))
-                // since we are iterating in topological order we know all predecessors will be in the map
-                .map(e -> idToNodeMap.get(e.source()))
-                .collect(Collectors.toList());
+            List<ProcessNode> predecessorNodes = sortedWorkflow.predecessors(node, idToNodeMap);
 
             TimeValue nodeTimeout = parseTimeout(node);
             ProcessNode processNode = new ProcessNode(
                 node.id(),
                 step,
-                node.previousNodeInputs(),
+                PreviousNodeInputs.of(node.previousNodeInputs()),
                 params,
                 data,
                 predecessorNodes,
                 threadPool,
                 PROVISION_WORKFLOW_THREAD_POOL,
                 nodeTimeout,
-                tenantId
+                tenantId,
+                flowFrameworkExecutors.executor(PROVISION_WORKFLOW_THREAD_POOL)
             );
             idToNodeMap.put(processNode.id(), processNode);
             nodes.add(processNode);
@@ -185,7 +208,7 @@ public class WorkflowProcessSorter {
         }
 
         // Topologically sort the updated workflow
-        List<WorkflowNode> sortedUpdatedNodes = topologicalSort(updatedWorkflow.nodes(), updatedWorkflow.edges());
+        SortedWorkflow sortedUpdatedWorkflow = topologicalSort(updatedWorkflow.nodes(), updatedWorkflow.edges());
 
         // Convert original template into node id map
         Map<String, WorkflowNode> originalTemplateMap = originalTemplate.workflows()
@@ -195,7 +218,7 @@ public class WorkflowProcessSorter {
             .collect(Collectors.toMap(WorkflowNode::id, node -> node));
 
         // Temporarily block node deletions until fine-grained deprovisioning is implemented
-        if (!originalTemplateMap.values().stream().allMatch(sortedUpdatedNodes::contains)) {
+        if (!sortedUpdatedWorkflow.nodeIds().containsAll(originalTemplateMap.keySet())) {
             throw new FlowFrameworkException(
                 "Workflow Step deletion is not supported when reprovisioning a template.",
                 RestStatus.BAD_REQUEST
@@ -205,14 +228,14 @@ public class WorkflowProcessSorter {
         List<ProcessNode> reprovisionSequence = createReprovisionSequence(
             workflowId,
             updatedWorkflow,
-            sortedUpdatedNodes,
+            sortedUpdatedWorkflow,
             originalTemplateMap,
             resourcesCreated,
             tenantId
         );
 
-        // If the reprovision sequence consists entirely of WorkflowDataSteps, then no modifications were made to the exisiting template.
-        if (reprovisionSequence.stream().allMatch(n -> n.workflowStep().getName().equals(WorkflowDataStep.NAME))) {
+        // If the reprovision sequence is empty, then no modifications were made to the existing template.
+        if (reprovisionSequence.isEmpty()) {
             throw new FlowFrameworkException("Template does not contain any modifications", RestStatus.BAD_REQUEST);
         }
 
@@ -220,10 +243,11 @@ public class WorkflowProcessSorter {
     }
 
     /**
-     * Compares an original and upated template and creates a list of update, create or workflowdatastep nodes
+     * Compares an original and updated template and creates a list of update or create nodes. Unchanged nodes are not executed: they are
+     * completed with their created resource as output, which is passed to the nodes of the sequence depending on them.
      * @param workflowId the workflow ID associated with the template
      * @param updatedWorkflow the updated workflow to be processed
-     * @param sortedUpdatedNodes the topologically sorted updated template nodes
+     * @param sortedUpdatedWorkflow the topologically sorted updated template nodes
      * @param originalTemplateMap a map of node Id to workflow node of the original template
      * @param resourcesCreated a list of resources created for this template
      * @param tenantId the tenant id
@@ -233,76 +257,42 @@ public class WorkflowProcessSorter {
     private List<ProcessNode> createReprovisionSequence(
         String workflowId,
         Workflow updatedWorkflow,
-        List<WorkflowNode> sortedUpdatedNodes,
+        SortedWorkflow sortedUpdatedWorkflow,
         Map<String, WorkflowNode> originalTemplateMap,
         List<ResourceCreated> resourcesCreated,
         String tenantId
     ) throws Exception {
+        Map<String, ResourceCreated> resourcesByNodeId = new HashMap<>();
+        for (ResourceCreated resource : resourcesCreated) {
+            resourcesByNodeId.putIfAbsent(resource.workflowStepId(), resource);
+        }
         Map<String, ProcessNode> idToNodeMap = new HashMap<>();
         List<ProcessNode> reprovisionSequence = new ArrayList<>();
 
-        for (WorkflowNode node : sortedUpdatedNodes) {
-            ProcessNode processNode = createProcessNode(
-                updatedWorkflow,
-                node,
-                originalTemplateMap,
-                resourcesCreated,
-                workflowId,
-                idToNodeMap,
-                tenantId
-            );
-            if (processNode != null) {
-                idToNodeMap.put(processNode.id(), processNode);
-                reprovisionSequence.add(processNode);
-            }
-        }
-
-        return reprovisionSequence;
-    }
-
-    /**
-     * Determines which type of process node to create for a reprovision sequence
-     * @param updatedWorkflow the updated workflow to be processed
-     * @param node the current workflow node
-     * @param originalTemplateMap a map of node Id to workflow node of the original template
-     * @param resourcesCreated a list of resources created for this template
-     * @param workflowId the workflow ID associated with the template
-     * @param idToNodeMap a map of the current reprovision sequence
-     * @param tenantId the tenant id
-     * @return a ProcessNode
-     * @throws Exception for issues creating the process node
-     */
-    private ProcessNode createProcessNode(
-        Workflow updatedWorkflow,
-        WorkflowNode node,
-        Map<String, WorkflowNode> originalTemplateMap,
-        List<ResourceCreated> resourcesCreated,
-        String workflowId,
-        Map<String, ProcessNode> idToNodeMap,
-        String tenantId
-    ) throws Exception {
-        WorkflowData data = new WorkflowData(node.userInputs(), updatedWorkflow.userParams(), workflowId, node.id());
-        List<ProcessNode> predecessorNodes = updatedWorkflow.edges()
-            .stream()
-            .filter(e -> e.destination().equals(node.id()))
-            // since we are iterating in topological order we know all predecessors will be in the map
-            .map(e -> idToNodeMap.get(e.source()))
-            .collect(Collectors.toList());
-        TimeValue nodeTimeout = parseTimeout(node);
-
-        if (!originalTemplateMap.containsKey(node.id())) {
-            // Case 1: Additive modification, create new node
-            return createNewProcessNode(node, data, predecessorNodes, nodeTimeout, tenantId);
-        } else {
+        for (WorkflowNode node : sortedUpdatedWorkflow.nodes) {
+            WorkflowData data = new WorkflowData(node.userInputs(), updatedWorkflow.userParams(), workflowId, node.id());
+            TimeValue nodeTimeout = parseTimeout(node);
             WorkflowNode originalNode = originalTemplateMap.get(node.id());
-            if (shouldUpdateNode(node, originalNode)) {
-                // Case 2: Existing modification, create update step
-                return createUpdateProcessNode(node, data, predecessorNodes, nodeTimeout, tenantId);
+
+            if (originalNode != null && !shouldUpdateNode(node, originalNode)) {
+                // Case 4: No modification to existing node, pass on its created resource without executing it
+                idToNodeMap.put(node.id(), createCompletedNode(node, data, nodeTimeout, resourcesByNodeId.get(node.id()), tenantId));
+                continue;
+            }
+            List<ProcessNode> predecessorNodes = sortedUpdatedWorkflow.predecessors(node, idToNodeMap);
+            ProcessNode processNode;
+            if (originalNode == null) {
+                // Case 1: Additive modification, create new node
+                processNode = createNewProcessNode(node, data, predecessorNodes, nodeTimeout, tenantId);
             } else {
-                // Case 4: No modification to existing node, create proxy step
-                return createWorkflowDataStepNode(node, data, predecessorNodes, nodeTimeout, resourcesCreated, tenantId);
+                // Case 2: Existing modification, create update step
+                processNode = createUpdateProcessNode(node, data, predecessorNodes, nodeTimeout, tenantId);
             }
+            idToNodeMap.put(processNode.id(), processNode);
+            reprovisionSequence.add(processNode);
         }
+
+        return reprovisionSequence;
     }
 
     /**
@@ -325,14 +315,15 @@ public class WorkflowProcessSorter {
         return new ProcessNode(
             node.id(),
             step,
-            node.previousNodeInputs(),
+            PreviousNodeInputs.of(node.previousNodeInputs()),
             Collections.emptyMap(), // TODO Add support to reprovision substitution templates
             data,
             predecessorNodes,
             threadPool,
             PROVISION_WORKFLOW_THREAD_POOL,
             nodeTimeout,
-            tenantId
+            tenantId,
+            flowFrameworkExecutors.executor(PROVISION_WORKFLOW_THREAD_POOL)
         );
     }
 
@@ -359,14 +350,15 @@ public class WorkflowProcessSorter {
             return new ProcessNode(
                 node.id(),
                 step,
-                node.previousNodeInputs(),
+                PreviousNodeInputs.of(node.previousNodeInputs()),
                 Collections.emptyMap(), // TODO Add support to reprovision substitution templates
                 data,
                 predecessorNodes,
                 threadPool,
                 PROVISION_WORKFLOW_THREAD_POOL,
                 nodeTimeout,
-                tenantId
+                tenantId,
+                flowFrameworkExecutors.executor(PROVISION_WORKFLOW_THREAD_POOL)
             );
         } else {
             // Case 3 : Cannot update step (not supported)
@@ -378,47 +370,43 @@ public class WorkflowProcessSorter {
     }
 
     /**
-     * Creates a process node to pass workflow data to the next step in the reprovision sequence
+     * Creates an already completed process node, whose output is the resource previously created for it. The node is not part of the
+     * reprovision sequence, so it is never scheduled; its future only passes the resource to the nodes depending on it.
      * @param node the current node
      * @param data the current node data
-     * @param predecessorNodes the current node predecessors
      * @param nodeTimeout the current node timeout
-     * @param resourcesCreated the list of resources created for the template assoicated with this node
+     * @param nodeResource the resource created for this node, or null if it did not create one
      * @param tenantId the tenant id
-     * @return a Process node
+     * @return a completed Process node
      */
-    private ProcessNode createWorkflowDataStepNode(
+    private ProcessNode createCompletedNode(
         WorkflowNode node,
         WorkflowData data,
-        List<ProcessNode> predecessorNodes,
         TimeValue nodeTimeout,
-        List<ResourceCreated> resourcesCreated,
+        ResourceCreated nodeResource,
         String tenantId
     ) {
-        ResourceCreated nodeResource = resourcesCreated.stream()
-            .filter(rc -> rc.workflowStepId().equals(node.id()))
-            .findFirst()
-            .orElse(null);
-
-        if (nodeResource != null) {
-            return new ProcessNode(
-                node.id(),
-                new WorkflowDataStep(nodeResource),
-                node.previousNodeInputs(),
-                Collections.emptyMap(),
-                data,
-                predecessorNodes,
-                threadPool,
-                PROVISION_WORKFLOW_THREAD_POOL,
-                nodeTimeout,
-                tenantId
-            );
-        } else {
-            return null;
-        }
+        Map<String, Object> output = nodeResource == null
+            ? Collections.emptyMap()
+            : Map.of(nodeResource.resourceType(), nodeResource.resourceId());
+        ProcessNode processNode = new ProcessNode(
+            node.id(),
+            new WorkflowDataStep(output),
+            PreviousNodeInputs.of(node.previousNodeInputs()),
+            Collections.emptyMap(),
+            data,
+            Collections.emptyList(),
+            threadPool,
+            PROVISION_WORKFLOW_THREAD_POOL,
+            nodeTimeout,
+            tenantId,
+            flowFrameworkExecutors.executor(PROVISION_WORKFLOW_THREAD_POOL)
+        );
+        processNode.future().onResponse(new WorkflowData(output, data.getWorkflowId(), node.id()));
+        return processNode;
     }
 
-    private boolean shouldUpdateNode(WorkflowNode node, WorkflowNode originalNode) throws Exception {
+    private boolean shouldUpdateNode(WorkflowNode node, WorkflowNode originalNode) {
         return !node.previousNodeInputs().equals(originalNode.previousNodeInputs())
             || !ParseUtils.userInputsEquals(originalNode.userInputs(), node.userInputs());
     }
@@ -446,19 +434,19 @@ public class WorkflowProcessSorter {
      * @throws Exception on validation failure
      */
     public void validatePluginsInstalled(List<ProcessNode> processNodes, List<String> installedPlugins) throws Exception {
+        Set<String> installed = new HashSet<>(installedPlugins);
         // Iterate through process nodes in graph
         for (ProcessNode processNode : processNodes) {
 
             // Retrieve required plugins of this node based on type
             String nodeType = processNode.workflowStep().getName();
-            List<String> requiredPlugins = new ArrayList<>(getRequiredPluginsByWorkflowType(nodeType));
-            if (!installedPlugins.containsAll(requiredPlugins)) {
-                requiredPlugins.removeAll(installedPlugins);
+            List<String> missingPlugins = missing(getRequiredPluginsByWorkflowType(nodeType), installed);
+            if (!missingPlugins.isEmpty()) {
                 throw new FlowFrameworkException(
                     "The workflowStep "
                         + processNode.workflowStep().getName()
                         + " requires the following plugins to be installed : "
-                        + requiredPlugins.toString(),
+                        + missingPlugins.toString(),
                     RestStatus.BAD_REQUEST
                 );
             }
@@ -475,41 +463,36 @@ public class WorkflowProcessSorter {
         // Iterate through process nodes in graph
         for (ProcessNode processNode : processNodes) {
 
-            // Get predecessor nodes types of this processNode
-            List<String> predecessorNodeTypes = processNode.predecessors()
-                .stream()
-                .map(x -> x.workflowStep().getName())
-                .collect(Collectors.toList());
-
-            // Compile a list of outputs from the predecessor nodes based on type
-            List<String> predecessorOutputs = predecessorNodeTypes.stream()
-                .map(nodeType -> getOutputByWorkflowType(nodeType))
-                .flatMap(Collection::stream)
-                .collect(Collectors.toList());
-
-            // Retrieve all the user input data from this node
-            List<String> currentNodeUserInputs = new ArrayList<>(processNode.input().getContent().keySet());
-
-            // Combine both predecessor outputs and current node user inputs
-            List<String> allInputs = Stream.concat(predecessorOutputs.stream(), currentNodeUserInputs.stream())
-                .collect(Collectors.toList());
+            // Combine the outputs of the predecessor nodes, based on their type, and the user inputs of this node
+            Set<String> allInputs = new HashSet<>(processNode.input().getContent().keySet());
+            for (ProcessNode predecessor : processNode.predecessors()) {
+                allInputs.addAll(getOutputByWorkflowType(predecessor.workflowStep().getName()));
+            }
 
             // Retrieve list of required inputs from the current process node and compare
-            List<String> expectedInputs = new ArrayList<>(getInputByWorkflowType(processNode.workflowStep().getName()));
-
-            if (!allInputs.containsAll(expectedInputs)) {
-                expectedInputs.removeAll(allInputs);
+            List<String> missingInputs = missing(getInputByWorkflowType(processNode.workflowStep().getName()), allInputs);
+            if (!missingInputs.isEmpty()) {
                 throw new FlowFrameworkException(
-                    "Invalid workflow, node ["
-                        + processNode.id()
-                        + "] missing the following required inputs : "
-                        + expectedInputs.toString(),
+                    "Invalid workflow, node [" + processNode.id() + "] missing the following required inputs : " + missingInputs.toString(),
                     RestStatus.BAD_REQUEST
                 );
             }
         }
     }
 
+    /**
+     * Gets the required values which are not present, in the order they are required
+     */
+    private static List<String> missing(List<String> required, Set<String> present) {
+        List<String> missing = new ArrayList<>();
+        for (String value : required) {
+            if (!present.contains(value)) {
+                missing.add(value);
+            }
+        }
+        return missing;
+    }
+
     /**
      * A method for parsing workflow timeout value.
      * The value could be parsed from node NODE_TIMEOUT_FIELD, the timeout field in workflow-step.json,
@@ -533,7 +516,7 @@ public class WorkflowProcessSorter {
         return userInputTimeValue;
     }
 
-    private static List<WorkflowNode> topologicalSort(List<WorkflowNode> workflowNodes, List<WorkflowEdge> workflowEdges) {
+    private static SortedWorkflow topologicalSort(List<WorkflowNode> workflowNodes, List<WorkflowEdge> workflowEdges) {
         // Basic validation
         Map<String, WorkflowNode> nodeMap = new HashMap<>();
         for (WorkflowNode node : workflowNodes) {
@@ -556,23 +539,27 @@ public class WorkflowProcessSorter {
             }
         }
 
-        // Build predecessor and successor maps
-        Map<WorkflowNode, Set<WorkflowEdge>> predecessorEdges = new HashMap<>();
-        Map<WorkflowNode, Set<WorkflowEdge>> successorEdges = new HashMap<>();
-        for (WorkflowEdge edge : workflowEdges) {
-            WorkflowNode source = nodeMap.get(edge.source());
-            WorkflowNode dest = nodeMap.get(edge.destination());
-            predecessorEdges.computeIfAbsent(dest, k -> new HashSet<>()).add(edge);
-            successorEdges.computeIfAbsent(source, k -> new HashSet<>()).add(edge);
+        // Build predecessor and successor lists, and count the incoming edges of each node. Duplicate edges are counted once.
+        Map<String, List<String>> predecessorIds = new HashMap<>();
+        Map<String, List<String>> successorIds = new HashMap<>();
+        Map<String, Integer> inDegree = new HashMap<>();
+        for (WorkflowNode node : workflowNodes) {
+            predecessorIds.put(node.id(), new ArrayList<>());
+            successorIds.put(node.id(), new ArrayList<>());
+            inDegree.put(node.id(), 0);
+        }
+        for (WorkflowEdge edge : new LinkedHashSet<>(workflowEdges)) {
+            predecessorIds.get(edge.destination()).add(edge.source());
+            successorIds.get(edge.source()).add(edge.destination());
+            inDegree.merge(edge.destination(), 1, Integer::sum);
         }
 
         // See https://en.wikipedia.org/wiki/Topological_sorting#Kahn's_algorithm
-        Set<WorkflowEdge> graph = new HashSet<>(workflowEdges);
         // L <- Empty list that will contain the sorted elements
         List<WorkflowNode> sortedNodes = new ArrayList<>();
         // S <- Set of all nodes with no incoming edge
         Queue<WorkflowNode> sourceNodes = workflowNodes.stream()
-            .filter(n -> !predecessorEdges.containsKey(n))
+            .filter(n -> inDegree.get(n.id()) == 0)
             .collect(ArrayDeque::new, ArrayDeque::add, ArrayDeque::addAll);
         if (sourceNodes.isEmpty()) {
             throw new FlowFrameworkException("No start node detected: all nodes have a predecessor.", RestStatus.BAD_REQUEST);
@@ -586,21 +573,46 @@ public class WorkflowProcessSorter {
             // add n to L
             sortedNodes.add(n);
             // for each node m with an edge e from n to m do
-            for (WorkflowEdge e : successorEdges.getOrDefault(n, Collections.emptySet())) {
-                WorkflowNode m = nodeMap.get(e.destination());
-                // remove edge e from the graph
-                graph.remove(e);
-                // if m has no other incoming edges then
-                if (predecessorEdges.get(m).stream().noneMatch(graph::contains)) {
-                    // insert m into S
-                    sourceNodes.add(m);
+            for (String m : successorIds.get(n.id())) {
+                // remove edge e from the graph, and if m has no other incoming edges then insert m into S
+                if (inDegree.merge(m, -1, Integer::sum) == 0) {
+                    sourceNodes.add(nodeMap.get(m));
                 }
             }
         }
-        if (!graph.isEmpty()) {
+        if (sortedNodes.size() < workflowNodes.size()) {
+            // The edges remaining in the graph are those from nodes which were never reached
+            Set<String> sortedIds = sortedNodes.stream().map(WorkflowNode::id).collect(Collectors.toSet());
+            Set<WorkflowEdge> graph = workflowEdges.stream().filter(e -> !sortedIds.contains(e.source())).collect(Collectors.toSet());
             throw new FlowFrameworkException("Cycle detected: " + graph, RestStatus.BAD_REQUEST);
         }
         logger.debug("Execution sequence: {}", sortedNodes);
-        return sortedNodes;
+        return new SortedWorkflow(sortedNodes, predecessorIds);
+    }
+
+    /**
+     * The nodes of a workflow in topological order, with the ids of the predecessors of each node
+     */
+    private static final class SortedWorkflow {
+        private final List<WorkflowNode> nodes;
+        private final Map<String, List<String>> predecessorIds;
+
+        SortedWorkflow(List<WorkflowNode> nodes, Map<String, List<String>> predecessorIds) {
+            this.nodes = nodes;
+            this.predecessorIds = predecessorIds;
+        }
+
+        Set<String> nodeIds() {
+            return predecessorIds.keySet();
+        }
+
+        List<ProcessNode> predecessors(WorkflowNode node, Map<String, ProcessNode> idToNodeMap) {
+            List<ProcessNode> predecessors = new ArrayList<>();
+            for (String id : predecessorIds.get(node.id())) {
+                // since we are iterating in topological order we know all predecessors will be in the map
+                predecessors.add(idToNodeMap.get(id));
+            }
+            return predecessors;
+        }
     }
 }
@@ -0,0 +1,181 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.workflow;
+
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.flowframework.util.ListenablePlainActionFuture;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Schedules the steps of one workflow execution whose predecessors have completed.
+ * <p>
+ * At most a fixed number of steps run at once, so a large template cannot occupy the whole provision thread pool. When more steps are
+ * ready than may run, the step with the longest remaining path to the end of the workflow starts first, so the critical path is not
+ * delayed by steps which have time to spare. Step durations are estimated from the durations previously observed for their step types
+ * once every step type of the workflow has been observed, and from the step timeouts until then, so estimates on different bases are
+ * never compared.
+ */
+public class WorkflowScheduler {
+
+    private final int maxConcurrentSteps;
+    private final StepExecutionListener stepExecutionListener;
+    private final StepDurationHistory stepDurationHistory;
+    // Whether durations are estimated from observed durations rather than timeouts
+    private final boolean observedBasis;
+    private final Map<String, Long> remainingPath = new HashMap<>();
+    private final PriorityQueue<ReadyStep> readySteps = new PriorityQueue<>(
+        Comparator.comparingLong((ReadyStep s) -> s.remainingPath).reversed().thenComparingLong(s -> s.sequence)
+    );
+
+    private long sequence = 0;
+    private int runningSteps = 0;
+    private boolean started = false;
+
+    /**
+     * Instantiate this class
+     * @param processSequence the topologically sorted process nodes to schedule
+     * @param maxConcurrentSteps the maximum number of steps running at once. At least one step always runs.
+     */
+    public WorkflowScheduler(List<ProcessNode> processSequence, int maxConcurrentSteps) {
+        this(processSequence, maxConcurrentSteps, null, null);
+    }
+
+    /**
+     * Instantiate this class
+     * @param processSequence the topologically sorted process nodes to schedule
+     * @param maxConcurrentSteps the maximum number of steps running at once. At least one step always runs.
+     * @param stepExecutionListener notified as steps start and complete, or null
+     * @param stepDurationHistory the durations of the steps executed on this node, updated as steps complete, or null to estimate
+     *                            durations from timeouts
+     */
+    public WorkflowScheduler(
+        List<ProcessNode> processSequence,
+        int maxConcurrentSteps,
+        StepExecutionListener stepExecutionListener,
+        StepDurationHistory stepDurationHistory
+    ) {
+        this.maxConcurrentSteps = Math.max(1, maxConcurrentSteps);
+        this.stepExecutionListener = stepExecutionListener;
+        this.stepDurationHistory = stepDurationHistory;
+        this.observedBasis = stepDurationHistory != null
+            && processSequence.stream().allMatch(node -> stepDurationHistory.getAverageMillis(node.workflowStep().getName()) != null);
+        // Successors follow their predecessors in the sequence, so visiting it in reverse computes each successor first
+        Map<String, Long> longestSuccessorPath = new HashMap<>();
+        for (int i = processSequence.size() - 1; i >= 0; i--) {
+            ProcessNode node = processSequence.get(i);
+            long path = estimatedDuration(node) + longestSuccessorPath.getOrDefault(node.id(), 0L);
+            remainingPath.put(node.id(), path);
+            for (ProcessNode predecessor : node.predecessors()) {
+                longestSuccessorPath.merge(predecessor.id(), path, Math::max);
+            }
+        }
+    }
+
+    /**
+     * Gets the estimated duration of a node's step from the steps of its type observed before if every step type of the workflow has
+     * been observed, or else from its timeout
+     * @param node the process node
+     * @return the estimated duration in milliseconds
+     */
+    long estimatedDuration(ProcessNode node) {
+        if (observedBasis) {
+            // Observed durations are never removed from the history
+            return stepDurationHistory.getAverageMillis(node.workflowStep().getName());
+        }
+        return Math.max(1, node.nodeTimeout().millis());
+    }
+
+    /**
+     * Gets the estimated duration of the longest path from a node to the end of the workflow, including the node itself
+     * @param nodeId the process node id
+     * @return the estimated duration in milliseconds, or 0 if the node is not scheduled here
+     */
+    long remainingPath(String nodeId) {
+        return remainingPath.getOrDefault(nodeId, 0L);
+    }
+
+    /**
+     * Queues a node whose predecessors have completed, and starts it if fewer than the maximum number of steps are running.
+     * The node counts as running until its future completes.
+     * @param node the process node
+     * @param dispatch dispatches the node's step to its executor
+     */
+    public void schedule(ProcessNode node, Runnable dispatch) {
+        synchronized (this) {
+            readySteps.add(new ReadyStep(node, dispatch, remainingPath(node.id()), sequence++));
+        }
+        dispatchReadySteps();
+    }
+
+    /**
+     * Starts dispatching queued nodes. Nodes ready before this is called are queued, so that the first steps to start are ranked
+     * among all the nodes with no predecessors rather than started in sequence order.
+     */
+    public void start() {
+        synchronized (this) {
+            started = true;
+        }
+        dispatchReadySteps();
+    }
+
+    private void dispatchReadySteps() {
+        while (true) {
+            ReadyStep step;
+            synchronized (this) {
+                if (!started || runningSteps >= maxConcurrentSteps || readySteps.isEmpty()) {
+                    return;
+                }
+                step = readySteps.poll();
+                runningSteps++;
+            }
+            ProcessNode node = step.node;
+            String stepName = node.workflowStep().getName();
+            long startNanos = System.nanoTime();
+            ListenablePlainActionFuture.addListener(node.future(), ActionListener.wrap(workflowData -> {
+                if (stepDurationHistory != null) {
+                    stepDurationHistory.record(stepName, (System.nanoTime() - startNanos) / 1_000_000);
+                }
+                if (stepExecutionListener != null) {
+                    stepExecutionListener.onStepCompleted(node, workflowData);
+                }
+                onStepDone();
+            }, e -> onStepDone()), Runnable::run);
+            if (stepExecutionListener != null) {
+                stepExecutionListener.onStepStarted(node);
+            }
+            step.dispatch.run();
+        }
+    }
+
+    private void onStepDone() {
+        synchronized (this) {
+            runningSteps--;
+        }
+        dispatchReadySteps();
+    }
+
+    private static final class ReadyStep {
+        private final ProcessNode node;
+        private final Runnable dispatch;
+        private final long remainingPath;
+        private final long sequence;
+
+        ReadyStep(ProcessNode node, Runnable dispatch, long remainingPath, long sequence) {
+            this.node = node;
+            this.dispatch = dispatch;
+            this.remainingPath = remainingPath;
+            this.sequence = sequence;
+        }
+    }
+}
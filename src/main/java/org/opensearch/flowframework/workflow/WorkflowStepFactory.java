@@ -29,6 +29,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -69,6 +70,15 @@ public class WorkflowStepFactory {
 
     private final Map<String, Supplier<WorkflowStep>> stepMap = new HashMap<>();
     private static final Logger logger = LogManager.getLogger(WorkflowStepFactory.class);
+    // The validators of the steps which may be used in templates, which are built once since the steps are fixed
+    private static final Map<String, WorkflowStepValidator> STEP_VALIDATORS = Stream.of(WorkflowSteps.values())
+        .filter(w -> !WorkflowProcessSorter.WORKFLOW_STEP_DENYLIST.contains(w.getWorkflowStepName()))
+        .collect(
+            Collectors.collectingAndThen(
+                Collectors.toMap(WorkflowSteps::getWorkflowStepName, WorkflowSteps::getWorkflowStepValidator),
+                Collections::unmodifiableMap
+            )
+        );
 
     /**
      * Instantiate this class.
@@ -86,28 +96,27 @@ public class WorkflowStepFactory {
         FlowFrameworkSettings flowFrameworkSettings,
         Client client
     ) {
+        // Shared by all steps so that ml tasks are polled together
+        MlTaskPoller mlTaskPoller = new MlTaskPoller(threadPool, mlClient, flowFrameworkSettings);
         stepMap.put(NoOpStep.NAME, NoOpStep::new);
         stepMap.put(CreateIndexStep.NAME, () -> new CreateIndexStep(client, flowFrameworkIndicesHandler));
         stepMap.put(DeleteIndexStep.NAME, () -> new DeleteIndexStep(client));
         stepMap.put(ReindexStep.NAME, () -> new ReindexStep(client, flowFrameworkIndicesHandler));
         stepMap.put(
             RegisterLocalCustomModelStep.NAME,
-            () -> new RegisterLocalCustomModelStep(threadPool, mlClient, flowFrameworkIndicesHandler, flowFrameworkSettings)
+            () -> new RegisterLocalCustomModelStep(mlClient, flowFrameworkIndicesHandler, mlTaskPoller)
         );
         stepMap.put(
             RegisterLocalSparseEncodingModelStep.NAME,
-            () -> new RegisterLocalSparseEncodingModelStep(threadPool, mlClient, flowFrameworkIndicesHandler, flowFrameworkSettings)
+            () -> new RegisterLocalSparseEncodingModelStep(mlClient, flowFrameworkIndicesHandler, mlTaskPoller)
         );
         stepMap.put(
             RegisterLocalPretrainedModelStep.NAME,
-            () -> new RegisterLocalPretrainedModelStep(threadPool, mlClient, flowFrameworkIndicesHandler, flowFrameworkSettings)
+            () -> new RegisterLocalPretrainedModelStep(mlClient, flowFrameworkIndicesHandler, mlTaskPoller)
         );
         stepMap.put(RegisterRemoteModelStep.NAME, () -> new RegisterRemoteModelStep(mlClient, flowFrameworkIndicesHandler));
         stepMap.put(DeleteModelStep.NAME, () -> new DeleteModelStep(mlClient));
-        stepMap.put(
-            DeployModelStep.NAME,
-            () -> new DeployModelStep(threadPool, mlClient, flowFrameworkIndicesHandler, flowFrameworkSettings)
-        );
+        stepMap.put(DeployModelStep.NAME, () -> new DeployModelStep(mlClient, flowFrameworkIndicesHandler, mlTaskPoller));
         stepMap.put(UndeployModelStep.NAME, () -> new UndeployModelStep(mlClient));
         stepMap.put(CreateConnectorStep.NAME, () -> new CreateConnectorStep(mlClient, flowFrameworkIndicesHandler));
         stepMap.put(DeleteConnectorStep.NAME, () -> new DeleteConnectorStep(mlClient));
@@ -290,6 +299,10 @@ public class WorkflowStepFactory {
             null
         );
 
+        // Indexes the steps by name, so that validating a graph looks up each node's step in constant time
+        private static final Map<String, WorkflowSteps> STEPS_BY_NAME = Stream.of(values())
+            .collect(Collectors.toUnmodifiableMap(WorkflowSteps::getWorkflowStepName, Function.identity()));
+
         private final String workflowStepName;
         private final List<String> inputs;
         private final List<String> outputs;
@@ -358,6 +371,15 @@ public class WorkflowStepFactory {
             return new WorkflowStepValidator(inputs, outputs, requiredPlugins, timeout);
         }
 
+        /**
+         * Gets the step with the given name.
+         * @param workflowStep workflow step type
+         * @return the step, or null if there is no step with this name
+         */
+        public static WorkflowSteps getByName(String workflowStep) {
+            return Strings.isNullOrEmpty(workflowStep) ? null : STEPS_BY_NAME.get(workflowStep);
+        }
+
         /**
          * Gets the timeout based on the workflowStep.
          * @param workflowStep workflow step type
@@ -365,12 +387,9 @@ public class WorkflowStepFactory {
          * @throws FlowFrameworkException if workflow step doesn't exist in enum
          */
         public static TimeValue getTimeoutByWorkflowType(String workflowStep) throws FlowFrameworkException {
-            if (!Strings.isNullOrEmpty(workflowStep)) {
-                for (WorkflowSteps mapping : values()) {
-                    if (workflowStep.equals(mapping.getWorkflowStepName())) {
-                        return mapping.timeout();
-                    }
-                }
+            WorkflowSteps mapping = getByName(workflowStep);
+            if (mapping != null) {
+                return mapping.timeout();
             }
             String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage(
                 "Unable to find workflow timeout for step: {}",
@@ -387,12 +406,9 @@ public class WorkflowStepFactory {
          * @throws FlowFrameworkException if workflow step doesn't exist in enum
          */
         public static List<String> getRequiredPluginsByWorkflowType(String workflowStep) throws FlowFrameworkException {
-            if (!Strings.isNullOrEmpty(workflowStep)) {
-                for (WorkflowSteps mapping : values()) {
-                    if (workflowStep.equals(mapping.getWorkflowStepName())) {
-                        return mapping.requiredPlugins();
-                    }
-                }
+            WorkflowSteps mapping = getByName(workflowStep);
+            if (mapping != null) {
+                return mapping.requiredPlugins();
             }
             String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage(
                 "Unable to find workflow required plugins for step: {}",
@@ -409,12 +425,9 @@ public class WorkflowStepFactory {
          * @throws FlowFrameworkException if workflow step doesn't exist in enum
          */
         public static List<String> getOutputByWorkflowType(String workflowStep) throws FlowFrameworkException {
-            if (!Strings.isNullOrEmpty(workflowStep)) {
-                for (WorkflowSteps mapping : values()) {
-                    if (workflowStep.equals(mapping.getWorkflowStepName())) {
-                        return mapping.outputs();
-                    }
-                }
+            WorkflowSteps mapping = getByName(workflowStep);
+            if (mapping != null) {
+                return mapping.outputs();
             }
             String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage(
                 "Unable to find workflow output for step {}",
@@ -431,12 +444,9 @@ public class WorkflowStepFactory {
          * @throws FlowFrameworkException if workflow step doesn't exist in enum
          */
         public static List<String> getInputByWorkflowType(String workflowStep) throws FlowFrameworkException {
-            if (!Strings.isNullOrEmpty(workflowStep)) {
-                for (WorkflowSteps mapping : values()) {
-                    if (workflowStep.equals(mapping.getWorkflowStepName())) {
-                        return mapping.inputs();
-                    }
-                }
+            WorkflowSteps mapping = getByName(workflowStep);
+            if (mapping != null) {
+                return mapping.inputs();
             }
             String errorMessage = ParameterizedMessageFactory.INSTANCE.newMessage(
                 "Unable to find workflow input for step: {}",
@@ -453,11 +463,7 @@ public class WorkflowStepFactory {
      * @return WorkflowValidator
      */
     public WorkflowValidator getWorkflowValidator() {
-        return new WorkflowValidator(
-            Stream.of(WorkflowSteps.values())
-                .filter(w -> !WorkflowProcessSorter.WORKFLOW_STEP_DENYLIST.contains(w.getWorkflowStepName()))
-                .collect(Collectors.toMap(WorkflowSteps::getWorkflowStepName, WorkflowSteps::getWorkflowStepValidator))
-        );
+        return new WorkflowValidator(STEP_VALIDATORS);
     }
 
     /**
@@ -466,20 +472,15 @@ public class WorkflowStepFactory {
      * @return WorkflowValidator
      */
     public WorkflowValidator getWorkflowValidatorByStep(List<String> steps) {
-        Set<String> validSteps = Stream.of(WorkflowSteps.values())
-            .map(WorkflowSteps::getWorkflowStepName)
-            .filter(name -> !WorkflowProcessSorter.WORKFLOW_STEP_DENYLIST.contains(name))
-            .filter(steps::contains)
-            .collect(Collectors.toSet());
-        Set<String> invalidSteps = steps.stream().filter(name -> !validSteps.contains(name)).collect(Collectors.toSet());
+        Set<String> invalidSteps = steps.stream().filter(name -> !STEP_VALIDATORS.containsKey(name)).collect(Collectors.toSet());
         if (!invalidSteps.isEmpty()) {
             throw new FlowFrameworkException("Invalid step name: " + invalidSteps, RestStatus.BAD_REQUEST);
         }
-        return new WorkflowValidator(
-            Stream.of(WorkflowSteps.values())
-                .filter(w -> validSteps.contains(w.getWorkflowStepName()))
-                .collect(Collectors.toMap(WorkflowSteps::getWorkflowStepName, WorkflowSteps::getWorkflowStepValidator))
-        );
+        Map<String, WorkflowStepValidator> validators = new HashMap<>();
+        for (String step : steps) {
+            validators.put(step, STEP_VALIDATORS.get(step));
+        }
+        return new WorkflowValidator(validators);
     }
 
     /**
@@ -33,6 +33,8 @@ import static org.opensearch.flowframework.common.FlowFrameworkSettings.FLOW_FRA
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.FLOW_FRAMEWORK_MULTI_TENANCY_ENABLED;
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.MAX_ACTIVE_DEPROVISIONS_PER_TENANT;
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.MAX_ACTIVE_PROVISIONS_PER_TENANT;
+import static org.opensearch.flowframework.common.FlowFrameworkSettings.MAX_BULK_WORKFLOWS;
+import static org.opensearch.flowframework.common.FlowFrameworkSettings.MAX_CONCURRENT_STEPS_PER_WORKFLOW;
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.MAX_WORKFLOWS;
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.MAX_WORKFLOW_STEPS;
 import static org.opensearch.flowframework.common.FlowFrameworkSettings.REMOTE_METADATA_ENDPOINT;
@@ -77,12 +79,14 @@ public class FlowFrameworkPluginTests extends OpenSearchTestCase {
             Stream.of(
                 FLOW_FRAMEWORK_ENABLED,
                 MAX_WORKFLOWS,
+                MAX_BULK_WORKFLOWS,
                 MAX_WORKFLOW_STEPS,
                 WORKFLOW_REQUEST_TIMEOUT,
                 TASK_REQUEST_RETRY_DURATION,
                 FILTER_BY_BACKEND_ROLES,
                 FLOW_FRAMEWORK_MULTI_TENANCY_ENABLED,
                 MAX_ACTIVE_PROVISIONS_PER_TENANT,
+                MAX_CONCURRENT_STEPS_PER_WORKFLOW,
                 MAX_ACTIVE_DEPROVISIONS_PER_TENANT,
                 REMOTE_METADATA_TYPE,
                 REMOTE_METADATA_ENDPOINT,
@@ -104,13 +108,13 @@ public class FlowFrameworkPluginTests extends OpenSearchTestCase {
     public void testPlugin() throws IOException {
         try (FlowFrameworkPlugin ffp = new FlowFrameworkPlugin()) {
             assertEquals(
-                7,
+                11,
                 ffp.createComponents(client, clusterService, threadPool, null, null, null, environment, null, null, null, null).size()
             );
-            assertEquals(9, ffp.getRestHandlers(settings, null, null, null, null, null, null).size());
-            assertEquals(10, ffp.getActions().size());
-            assertEquals(3, ffp.getExecutorBuilders(settings).size());
-            assertEquals(16, ffp.getSettings().size());
+            assertEquals(10, ffp.getRestHandlers(settings, null, null, null, null, null, null).size());
+            assertEquals(11, ffp.getActions().size());
+            assertEquals(4, ffp.getExecutorBuilders(settings).size());
+            assertEquals(20, ffp.getSettings().size());
 
             Collection<SystemIndexDescriptor> systemIndexDescriptors = ffp.getSystemIndexDescriptors(Settings.EMPTY);
             assertEquals(3, systemIndexDescriptors.size());
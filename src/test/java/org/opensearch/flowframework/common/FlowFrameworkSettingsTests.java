@@ -43,11 +43,13 @@ public class FlowFrameworkSettingsTests extends OpenSearchTestCase {
                 FlowFrameworkSettings.TASK_REQUEST_RETRY_DURATION,
                 FlowFrameworkSettings.MAX_WORKFLOW_STEPS,
                 FlowFrameworkSettings.MAX_WORKFLOWS,
+                FlowFrameworkSettings.MAX_BULK_WORKFLOWS,
                 FlowFrameworkSettings.WORKFLOW_REQUEST_TIMEOUT,
                 FlowFrameworkSettings.FLOW_FRAMEWORK_MULTI_TENANCY_ENABLED,
                 FlowFrameworkSettings.WORKFLOW_THREAD_POOL_SIZE,
                 FlowFrameworkSettings.PROVISION_THREAD_POOL_SIZE,
                 FlowFrameworkSettings.MAX_ACTIVE_PROVISIONS_PER_TENANT,
+                FlowFrameworkSettings.MAX_CONCURRENT_STEPS_PER_WORKFLOW,
                 FlowFrameworkSettings.DEPROVISION_THREAD_POOL_SIZE,
                 FlowFrameworkSettings.MAX_ACTIVE_DEPROVISIONS_PER_TENANT
             )
@@ -68,11 +70,13 @@ public class FlowFrameworkSettingsTests extends OpenSearchTestCase {
         assertEquals(Optional.of(TimeValue.timeValueSeconds(5)), Optional.ofNullable(flowFrameworkSettings.getRetryDuration()));
         assertEquals(Optional.of(50), Optional.ofNullable(flowFrameworkSettings.getMaxWorkflowSteps()));
         assertEquals(Optional.of(1000), Optional.ofNullable(flowFrameworkSettings.getMaxWorkflows()));
+        assertEquals(Optional.of(100), Optional.ofNullable(flowFrameworkSettings.getMaxBulkWorkflows()));
         assertEquals(Optional.of(TimeValue.timeValueSeconds(10)), Optional.ofNullable(flowFrameworkSettings.getRequestTimeout()));
         assertFalse(flowFrameworkSettings.isMultiTenancyEnabled());
         assertEquals(Optional.of(4), Optional.ofNullable(flowFrameworkSettings.getWorkflowThreadPoolSize()));
         assertEquals(Optional.of(8), Optional.ofNullable(flowFrameworkSettings.getProvisionThreadPoolSize()));
         assertEquals(Optional.of(2), Optional.ofNullable(flowFrameworkSettings.getMaxActiveProvisionsPerTenant()));
+        assertEquals(Optional.of(4), Optional.ofNullable(flowFrameworkSettings.getMaxConcurrentStepsPerWorkflow()));
         assertEquals(Optional.of(4), Optional.ofNullable(flowFrameworkSettings.getDeprovisionThreadPoolSize()));
         assertEquals(Optional.of(1), Optional.ofNullable(flowFrameworkSettings.getMaxActiveDeprovisionsPerTenant()));
     }
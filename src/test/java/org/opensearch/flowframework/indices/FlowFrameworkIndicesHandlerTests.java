@@ -37,6 +37,7 @@ import org.opensearch.core.xcontent.ToXContentObject;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.flowframework.TestHelpers;
 import org.opensearch.flowframework.common.WorkflowResources;
+import org.opensearch.flowframework.model.ExecutionJournal.StepExecution;
 import org.opensearch.flowframework.model.ProvisioningProgress;
 import org.opensearch.flowframework.model.ResourceCreated;
 import org.opensearch.flowframework.model.Template;
@@ -58,24 +59,35 @@ import org.opensearch.transport.client.IndicesAdminClient;
 
 import java.io.IOException;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import static org.opensearch.flowframework.common.CommonValue.EXECUTION_JOURNAL_FIELD;
 import static org.opensearch.flowframework.common.CommonValue.GLOBAL_CONTEXT_INDEX;
+import static org.opensearch.flowframework.common.CommonValue.RESOURCES_CREATED_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.STEPS_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.STEP_END_TIME_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.STEP_OUTPUT_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.STEP_START_TIME_FIELD;
 import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_STATE_INDEX;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -123,7 +135,8 @@ public class FlowFrameworkIndicesHandlerTests extends OpenSearchTestCase {
             sdkClient,
             clusterService,
             encryptorUtils,
-            xContentRegistry()
+            xContentRegistry(),
+            false
         );
         adminClient = mock(AdminClient.class);
         indicesAdminClient = mock(IndicesAdminClient.class);
@@ -416,6 +429,37 @@ public class FlowFrameworkIndicesHandlerTests extends OpenSearchTestCase {
         verify(function).accept(true);
     }
 
+    public void testParseTemplateCache() throws IOException {
+        XContentBuilder builder = XContentFactory.jsonBuilder();
+        this.template.toXContent(builder, null);
+        BytesReference templateBytesRef = BytesReference.bytes(builder);
+
+        Template parsed = flowFrameworkIndicesHandler.parseTemplate(
+            new GetResponse(new GetResult(GLOBAL_CONTEXT_INDEX, "id", 1, 1, 1, true, templateBytesRef, null, null))
+        );
+        assertEquals(this.template.name(), parsed.name());
+        // Same document version is cached
+        assertSame(
+            parsed,
+            flowFrameworkIndicesHandler.parseTemplate(
+                new GetResponse(new GetResult(GLOBAL_CONTEXT_INDEX, "id", 1, 1, 1, true, templateBytesRef, null, null))
+            )
+        );
+        // Updated document is parsed again
+        Template updated = flowFrameworkIndicesHandler.parseTemplate(
+            new GetResponse(new GetResult(GLOBAL_CONTEXT_INDEX, "id", 2, 1, 2, true, templateBytesRef, null, null))
+        );
+        assertNotSame(parsed, updated);
+        // Invalidated document is parsed again
+        flowFrameworkIndicesHandler.invalidateTemplate("id");
+        assertNotSame(
+            updated,
+            flowFrameworkIndicesHandler.parseTemplate(
+                new GetResponse(new GetResult(GLOBAL_CONTEXT_INDEX, "id", 2, 1, 2, true, templateBytesRef, null, null))
+            )
+        );
+    }
+
     public void testUpdateFlowFrameworkSystemIndexDoc() throws IOException {
         ClusterState mockClusterState = mock(ClusterState.class);
         Metadata mockMetaData = mock(Metadata.class);
@@ -850,6 +894,268 @@ public class FlowFrameworkIndicesHandlerTests extends OpenSearchTestCase {
         );
     }
 
+    public void testCoalesceResourceUpdatesToStateIndex() {
+        ClusterState mockClusterState = mock(ClusterState.class);
+        Metadata mockMetaData = mock(Metadata.class);
+        when(clusterService.state()).thenReturn(mockClusterState);
+        when(mockClusterState.metadata()).thenReturn(mockMetaData);
+        when(mockMetaData.hasIndex(WORKFLOW_STATE_INDEX)).thenReturn(true);
+        UpdateResponse updateResponse = new UpdateResponse(new ShardId(WORKFLOW_STATE_INDEX, "", 1), "this_id", -2, 0, 0, Result.UPDATED);
+        doAnswer(invocation -> {
+            ActionListener<GetResponse> responseListener = invocation.getArgument(1);
+            XContentBuilder builder = XContentFactory.jsonBuilder();
+            WorkflowState state = WorkflowState.builder().build();
+            state.toXContent(builder, null);
+            BytesReference workflowBytesRef = BytesReference.bytes(builder);
+            GetResult getResult = new GetResult(WORKFLOW_STATE_INDEX, "this_id", 1, 1, 1, true, workflowBytesRef, null, null);
+            responseListener.onResponse(new GetResponse(getResult));
+            return null;
+        }).when(client).get(any(GetRequest.class), any());
+
+        // Hold the first update in flight
+        AtomicReference<ActionListener<UpdateResponse>> inFlightUpdate = new AtomicReference<>();
+        List<String> updateUserHeaders = new ArrayList<>();
+        doAnswer(invocation -> {
+            updateUserHeaders.add(threadContext.getHeader("test_user"));
+            inFlightUpdate.set(invocation.getArgument(1));
+            return null;
+        }).doAnswer(invocation -> {
+            updateUserHeaders.add(threadContext.getHeader("test_user"));
+            ActionListener<UpdateResponse> responseListener = invocation.getArgument(1);
+            responseListener.onResponse(updateResponse);
+            return null;
+        }).when(client).update(any(UpdateRequest.class), any());
+        threadContext.putHeader("test_user", "caller");
+
+        @SuppressWarnings("unchecked")
+        ActionListener<WorkflowData> firstListener = mock(ActionListener.class);
+        @SuppressWarnings("unchecked")
+        ActionListener<WorkflowData> secondListener = mock(ActionListener.class);
+        @SuppressWarnings("unchecked")
+        ActionListener<WorkflowData> thirdListener = mock(ActionListener.class);
+        WorkflowData inputs = new WorkflowData(Collections.emptyMap(), "this_id", null);
+        flowFrameworkIndicesHandler.addResourceToStateIndex(inputs, "node_1", CreateConnectorStep.NAME, "first_id", null, firstListener);
+        flowFrameworkIndicesHandler.addResourceToStateIndex(inputs, "node_2", CreateConnectorStep.NAME, "second_id", null, secondListener);
+        flowFrameworkIndicesHandler.addResourceToStateIndex(inputs, "node_3", CreateConnectorStep.NAME, "third_id", null, thirdListener);
+
+        // Only the first update was sent, and no listener completes before its update is written
+        verify(client, times(1)).update(any(UpdateRequest.class), any());
+        verify(firstListener, never()).onResponse(any());
+        verify(secondListener, never()).onResponse(any());
+
+        inFlightUpdate.get().onResponse(updateResponse);
+
+        // The queued updates were written together in a single update
+        ArgumentCaptor<UpdateRequest> updateCaptor = ArgumentCaptor.forClass(UpdateRequest.class);
+        verify(client, times(2)).update(updateCaptor.capture(), any());
+        List<?> resources = (List<?>) updateCaptor.getAllValues().get(1).doc().sourceAsMap().get(RESOURCES_CREATED_FIELD);
+        assertEquals(2, resources.size());
+        // Both updates were written in a stashed context, although the first listener restored the caller's context
+        assertEquals(Arrays.asList(null, null), updateUserHeaders);
+        assertEquals("caller", threadContext.getHeader("test_user"));
+        ArgumentCaptor<WorkflowData> responseCaptor = ArgumentCaptor.forClass(WorkflowData.class);
+        verify(firstListener, times(1)).onResponse(responseCaptor.capture());
+        assertEquals("first_id", responseCaptor.getValue().getContent().get(WorkflowResources.CONNECTOR_ID));
+        verify(secondListener, times(1)).onResponse(responseCaptor.capture());
+        assertEquals("second_id", responseCaptor.getValue().getContent().get(WorkflowResources.CONNECTOR_ID));
+        verify(thirdListener, times(1)).onResponse(responseCaptor.capture());
+        assertEquals("third_id", responseCaptor.getValue().getContent().get(WorkflowResources.CONNECTOR_ID));
+    }
+
+    public void testCoalesceStepsOfParallelBranchesToStateIndex() {
+        ClusterState mockClusterState = mock(ClusterState.class);
+        Metadata mockMetaData = mock(Metadata.class);
+        when(clusterService.state()).thenReturn(mockClusterState);
+        when(mockClusterState.metadata()).thenReturn(mockMetaData);
+        when(mockMetaData.hasIndex(WORKFLOW_STATE_INDEX)).thenReturn(true);
+        UpdateResponse updateResponse = new UpdateResponse(new ShardId(WORKFLOW_STATE_INDEX, "", 1), "this_id", -2, 0, 0, Result.UPDATED);
+        doAnswer(invocation -> {
+            ActionListener<GetResponse> responseListener = invocation.getArgument(1);
+            XContentBuilder builder = XContentFactory.jsonBuilder();
+            WorkflowState state = WorkflowState.builder().build();
+            state.toXContent(builder, null);
+            BytesReference workflowBytesRef = BytesReference.bytes(builder);
+            GetResult getResult = new GetResult(WORKFLOW_STATE_INDEX, "this_id", 1, 1, 1, true, workflowBytesRef, null, null);
+            responseListener.onResponse(new GetResponse(getResult));
+            return null;
+        }).when(client).get(any(GetRequest.class), any());
+
+        // Hold the first update in flight
+        AtomicReference<ActionListener<UpdateResponse>> inFlightUpdate = new AtomicReference<>();
+        doAnswer(invocation -> {
+            inFlightUpdate.set(invocation.getArgument(1));
+            return null;
+        }).doAnswer(invocation -> {
+            ActionListener<UpdateResponse> responseListener = invocation.getArgument(1);
+            responseListener.onResponse(updateResponse);
+            return null;
+        }).when(client).update(any(UpdateRequest.class), any());
+
+        // Two branches start, create a resource and complete while the first update is in flight
+        Instant startTime = Instant.ofEpochMilli(1_000_000L);
+        Instant endTime = Instant.ofEpochMilli(1_005_000L);
+        List<ActionListener<WorkflowData>> listeners = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            @SuppressWarnings("unchecked")
+            ActionListener<WorkflowData> listener = mock(ActionListener.class);
+            listeners.add(listener);
+        }
+        WorkflowData inputs = new WorkflowData(Collections.emptyMap(), "this_id", null);
+        StepExecution started = StepExecution.started(startTime);
+        flowFrameworkIndicesHandler.recordStepInExecutionJournal("this_id", "tenant", "node_1", started, listeners.get(0));
+        flowFrameworkIndicesHandler.recordStepInExecutionJournal("this_id", "tenant", "node_2", started, listeners.get(1));
+        flowFrameworkIndicesHandler.addResourceToStateIndex(
+            inputs,
+            "node_1",
+            CreateConnectorStep.NAME,
+            "first_id",
+            "tenant",
+            listeners.get(2)
+        );
+        flowFrameworkIndicesHandler.addResourceToStateIndex(
+            inputs,
+            "node_2",
+            CreateConnectorStep.NAME,
+            "second_id",
+            "tenant",
+            listeners.get(3)
+        );
+        flowFrameworkIndicesHandler.recordStepInExecutionJournal(
+            "this_id",
+            "tenant",
+            "node_1",
+            StepExecution.completed(endTime, Map.of(WorkflowResources.CONNECTOR_ID, "first_id")),
+            listeners.get(4)
+        );
+        flowFrameworkIndicesHandler.recordStepInExecutionJournal(
+            "this_id",
+            "tenant",
+            "node_2",
+            StepExecution.completed(endTime, Map.of(WorkflowResources.CONNECTOR_ID, "second_id")),
+            listeners.get(5)
+        );
+
+        // Only the first step was read and written, the others are queued instead of retrying on version conflicts
+        verify(client, times(1)).get(any(GetRequest.class), any());
+        verify(client, times(1)).update(any(UpdateRequest.class), any());
+        inFlightUpdate.get().onResponse(updateResponse);
+
+        // The queued steps and resources were written together in a single update
+        ArgumentCaptor<UpdateRequest> updateCaptor = ArgumentCaptor.forClass(UpdateRequest.class);
+        verify(client, times(2)).update(updateCaptor.capture(), any());
+        Map<String, Object> source = updateCaptor.getAllValues().get(1).doc().sourceAsMap();
+        assertEquals(2, ((List<?>) source.get(RESOURCES_CREATED_FIELD)).size());
+        Map<?, ?> steps = (Map<?, ?>) ((Map<?, ?>) source.get(EXECUTION_JOURNAL_FIELD)).get(STEPS_FIELD);
+        assertEquals(Set.of("node_1", "node_2"), steps.keySet());
+        Map<?, ?> secondStep = (Map<?, ?>) steps.get("node_2");
+        assertEquals(1_000_000L, ((Number) secondStep.get(STEP_START_TIME_FIELD)).longValue());
+        assertEquals(1_005_000L, ((Number) secondStep.get(STEP_END_TIME_FIELD)).longValue());
+        assertEquals(Map.of(WorkflowResources.CONNECTOR_ID, "second_id"), secondStep.get(STEP_OUTPUT_FIELD));
+        for (ActionListener<WorkflowData> listener : listeners) {
+            verify(listener, times(1)).onResponse(any());
+            verify(listener, never()).onFailure(any());
+        }
+    }
+
+    public void testScriptUpdateResourcesInStateIndex() {
+        FlowFrameworkIndicesHandler scriptedIndicesHandler = new FlowFrameworkIndicesHandler(
+            client,
+            sdkClient,
+            clusterService,
+            encryptorUtils,
+            xContentRegistry(),
+            true
+        );
+        ClusterState mockClusterState = mock(ClusterState.class);
+        Metadata mockMetaData = mock(Metadata.class);
+        when(clusterService.state()).thenReturn(mockClusterState);
+        when(mockClusterState.metadata()).thenReturn(mockMetaData);
+        when(mockMetaData.hasIndex(WORKFLOW_STATE_INDEX)).thenReturn(true);
+        UpdateResponse updateResponse = new UpdateResponse(new ShardId(WORKFLOW_STATE_INDEX, "", 1), "this_id", -2, 0, 0, Result.UPDATED);
+        doAnswer(invocation -> {
+            ActionListener<UpdateResponse> responseListener = invocation.getArgument(1);
+            responseListener.onResponse(updateResponse);
+            return null;
+        }).when(client).update(any(UpdateRequest.class), any());
+
+        @SuppressWarnings("unchecked")
+        ActionListener<WorkflowData> listener = mock(ActionListener.class);
+        scriptedIndicesHandler.addResourceToStateIndex(
+            new WorkflowData(Collections.emptyMap(), "this_id", null),
+            "node_id",
+            CreateConnectorStep.NAME,
+            "connector_id",
+            null,
+            listener
+        );
+
+        // The resource is appended by a script without reading the document
+        ArgumentCaptor<UpdateRequest> updateCaptor = ArgumentCaptor.forClass(UpdateRequest.class);
+        verify(client, times(1)).update(updateCaptor.capture(), any());
+        verify(client, never()).get(any(GetRequest.class), any());
+        UpdateRequest updateRequest = updateCaptor.getValue();
+        assertNotNull(updateRequest.script());
+        assertNull(updateRequest.doc());
+        List<?> updates = (List<?>) updateRequest.script().getParams().get("updates");
+        assertEquals(1, updates.size());
+        Map<?, ?> update = (Map<?, ?>) updates.get(0);
+        assertEquals("add", update.get("op"));
+        ResourceCreated expected = new ResourceCreated(CreateConnectorStep.NAME, "node_id", "connector_id", "connector_id");
+        assertEquals(expected.resourceMap(), update.get("resource"));
+        ArgumentCaptor<WorkflowData> responseCaptor = ArgumentCaptor.forClass(WorkflowData.class);
+        verify(listener, times(1)).onResponse(responseCaptor.capture());
+        assertEquals("connector_id", responseCaptor.getValue().getContent().get(WorkflowResources.CONNECTOR_ID));
+
+        // Steps are recorded in the execution journal by the same script
+        @SuppressWarnings("unchecked")
+        ActionListener<WorkflowData> stepListener = mock(ActionListener.class);
+        scriptedIndicesHandler.recordStepInExecutionJournal("this_id", null, "node_id", StepExecution.started(Instant.EPOCH), stepListener);
+        verify(client, times(2)).update(updateCaptor.capture(), any());
+        update = (Map<?, ?>) ((List<?>) updateCaptor.getValue().script().getParams().get("updates")).get(0);
+        assertEquals("step", update.get("op"));
+        assertEquals("node_id", update.get("step_id"));
+        assertEquals(Map.of(STEP_START_TIME_FIELD, 0L), update.get("fields"));
+        verify(stepListener, times(1)).onResponse(any());
+
+        // Falls back to get and update when the cluster cannot run the script
+        doAnswer(invocation -> {
+            ActionListener<GetResponse> responseListener = invocation.getArgument(1);
+            XContentBuilder builder = XContentFactory.jsonBuilder();
+            WorkflowState state = WorkflowState.builder().build();
+            state.toXContent(builder, null);
+            BytesReference workflowBytesRef = BytesReference.bytes(builder);
+            GetResult getResult = new GetResult(WORKFLOW_STATE_INDEX, "this_id", 1, 1, 1, true, workflowBytesRef, null, null);
+            responseListener.onResponse(new GetResponse(getResult));
+            return null;
+        }).when(client).get(any(GetRequest.class), any());
+        doAnswer(invocation -> {
+            UpdateRequest request = invocation.getArgument(0);
+            ActionListener<UpdateResponse> responseListener = invocation.getArgument(1);
+            if (request.script() != null) {
+                responseListener.onFailure(new IllegalArgumentException("script_lang not supported [painless]"));
+            } else {
+                responseListener.onResponse(updateResponse);
+            }
+            return null;
+        }).when(client).update(any(UpdateRequest.class), any());
+
+        @SuppressWarnings("unchecked")
+        ActionListener<WorkflowData> fallbackListener = mock(ActionListener.class);
+        ResourceCreated resourceToDelete = new ResourceCreated(CreateConnectorStep.NAME, "node_id", "connector_id", "connector_id");
+        scriptedIndicesHandler.deleteResourceFromStateIndex("this_id", null, resourceToDelete, fallbackListener);
+        verify(client, times(1)).get(any(GetRequest.class), any());
+        verify(client, times(4)).update(any(UpdateRequest.class), any());
+        verify(fallbackListener, times(1)).onResponse(any());
+
+        // Later updates skip the script
+        @SuppressWarnings("unchecked")
+        ActionListener<WorkflowData> nextListener = mock(ActionListener.class);
+        scriptedIndicesHandler.deleteResourceFromStateIndex("this_id", null, resourceToDelete, nextListener);
+        verify(client, times(2)).get(any(GetRequest.class), any());
+        verify(client, times(5)).update(any(UpdateRequest.class), any());
+        verify(nextListener, times(1)).onResponse(any());
+    }
+
     public void testDeleteResourceFromStateIndexWithRetries() {
         ClusterState mockClusterState = mock(ClusterState.class);
         Metadata mockMetaData = mock(Metadata.class);
@@ -0,0 +1,144 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.model;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.BytesStreamInput;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.flowframework.exception.FlowFrameworkException;
+import org.opensearch.flowframework.model.ExecutionJournal.StepExecution;
+import org.opensearch.flowframework.util.ParseUtils;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+public class ExecutionJournalTests extends OpenSearchTestCase {
+
+    private final Instant startTime = Instant.ofEpochMilli(1_000_000L);
+    private final Instant endTime = Instant.ofEpochMilli(1_005_000L);
+
+    public void testExecutionJournal() throws IOException {
+        ExecutionJournal journal = new ExecutionJournal(
+            "node",
+            Map.of("index_name", "my-index", "dimension", "768"),
+            Map.of(
+                "create_connector",
+                new StepExecution(startTime, endTime, Map.of("connector_id", "abc")),
+                "register_model",
+                new StepExecution(startTime, null, Map.of())
+            )
+        );
+
+        String json = journal.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS).toString();
+        assertTrue(json.contains("\"executing_node_id\":\"node\""));
+        // Params are stored as a list sorted by name
+        assertTrue(json.contains("\"params\":[{\"name\":\"dimension\",\"value\":\"768\"},{\"name\":\"index_name\","));
+        assertTrue(json.contains("\"create_connector\":{\"start_time\":1000000,\"end_time\":1005000,"));
+        assertTrue(json.contains("\"output\":{\"connector_id\":\"abc\"}"));
+
+        try (XContentParser parser = ParseUtils.jsonToParser(json)) {
+            assertJournal(ExecutionJournal.parse(parser));
+        }
+
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            journal.writeTo(out);
+            try (BytesStreamInput in = new BytesStreamInput(BytesReference.toBytes(out.bytes()))) {
+                assertJournal(new ExecutionJournal(in));
+            }
+        }
+
+        try (XContentParser parser = ParseUtils.jsonToParser("{\"steps\":{},\"foo\":\"bar\"}")) {
+            assertThrows(FlowFrameworkException.class, () -> ExecutionJournal.parse(parser));
+        }
+    }
+
+    private void assertJournal(ExecutionJournal journal) {
+        assertEquals("node", journal.getExecutingNodeId());
+        assertEquals(Map.of("index_name", "my-index", "dimension", "768"), journal.getParams());
+        assertEquals(2, journal.getSteps().size());
+        StepExecution completed = journal.getSteps().get("create_connector");
+        assertEquals(startTime, completed.getStartTime());
+        assertEquals(endTime, completed.getEndTime());
+        assertEquals(Map.of("connector_id", "abc"), completed.getOutput());
+        StepExecution started = journal.getSteps().get("register_model");
+        assertEquals(startTime, started.getStartTime());
+        assertNull(started.getEndTime());
+        assertTrue(started.getOutput().isEmpty());
+    }
+
+    public void testCompletedOutputs() {
+        ExecutionJournal journal = new ExecutionJournal(
+            "node",
+            Map.of(),
+            Map.of(
+                "create_connector",
+                new StepExecution(startTime, endTime, Map.of("connector_id", "abc")),
+                "register_model",
+                new StepExecution(startTime, null, Map.of()),
+                "create_index",
+                new StepExecution(startTime.minusSeconds(60), startTime.minusSeconds(50), Map.of("index_name", "old"))
+            )
+        );
+        List<ResourceCreated> resourcesCreated = List.of(
+            new ResourceCreated("create_connector", "create_connector", "connector_id", "abc"),
+            new ResourceCreated("register_remote_model", "register_model", "model_id", "def")
+        );
+
+        Map<String, Map<String, String>> outputs = journal.completedOutputs(startTime, resourcesCreated);
+        assertEquals(2, outputs.size());
+        assertEquals(Map.of("connector_id", "abc"), outputs.get("create_connector"));
+        // Interrupted after creating its resource
+        assertEquals(Map.of("model_id", "def"), outputs.get("register_model"));
+        // Completed during an earlier provisioning
+        assertFalse(outputs.containsKey("create_index"));
+    }
+
+    public void testExecutingNodeUpdate() {
+        assertEquals(
+            Map.of(
+                "execution_journal",
+                Map.of("executing_node_id", "node", "params", List.of(Map.of("name", "a", "value", "1"), Map.of("name", "b", "value", "2")))
+            ),
+            ExecutionJournal.executingNodeUpdate("node", Map.of("b", "2", "a", "1"))
+        );
+        Map<?, ?> cleared = (Map<?, ?>) ExecutionJournal.executingNodeUpdate(null, Map.of()).get("execution_journal");
+        assertTrue(cleared.containsKey("executing_node_id"));
+        assertNull(cleared.get("executing_node_id"));
+        assertEquals(List.of(), cleared.get("params"));
+    }
+
+    public void testStepExecutionUpdates() {
+        StepExecution started = StepExecution.started(startTime);
+        assertEquals(Map.of("start_time", 1_000_000L), started.fields());
+
+        StepExecution completed = StepExecution.completed(endTime, Map.of("id", "abc", "count", 3, "nested", Map.of("a", "b")));
+        assertNull(completed.getStartTime());
+        assertEquals(Map.of("end_time", 1_005_000L, "output", Map.of("id", "abc")), completed.fields());
+
+        StepExecution merged = started.merge(completed);
+        assertEquals(startTime, merged.getStartTime());
+        assertEquals(endTime, merged.getEndTime());
+        assertEquals(Map.of("id", "abc"), merged.getOutput());
+
+        ExecutionJournal journal = new ExecutionJournal("node", Map.of("a", "1"), Map.of());
+        journal = journal.withStep("step", started).withStep("step", completed);
+        assertEquals("node", journal.getExecutingNodeId());
+        assertEquals(Map.of("a", "1"), journal.getParams());
+        assertEquals(1, journal.getSteps().size());
+        assertEquals(startTime, journal.getSteps().get("step").getStartTime());
+        assertEquals(endTime, journal.getSteps().get("step").getEndTime());
+        assertEquals(Map.of("id", "abc"), journal.getSteps().get("step").getOutput());
+    }
+}
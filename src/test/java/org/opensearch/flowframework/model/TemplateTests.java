@@ -9,11 +9,15 @@
 package org.opensearch.flowframework.model;
 
 import org.opensearch.Version;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.commons.authuser.User;
+import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.DeprecationHandler;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.flowframework.common.CommonValue;
 import org.opensearch.flowframework.exception.FlowFrameworkException;
 import org.opensearch.test.OpenSearchTestCase;
 
@@ -192,6 +196,32 @@ public class TemplateTests extends OpenSearchTestCase {
         assertTrue(json.contains("\"use_case\":\"\""));
     }
 
+    public void testTemplateStreamRoundTrip() throws IOException {
+        Template template = Template.builder(Template.parse(expectedTemplate))
+            .uiMetadata(Map.of("foo", "bar"))
+            .user(new User("alice", List.of("engineering"), List.of(), List.of()))
+            .createdTime(Instant.now().truncatedTo(ChronoUnit.MILLIS))
+            .tenantId("tenant-id")
+            .build();
+
+        // Binary form, and JSON for older versions
+        for (Version version : List.of(Version.CURRENT, CommonValue.VERSION_2_19_0)) {
+            BytesStreamOutput out = new BytesStreamOutput();
+            out.setVersion(version);
+            template.writeTo(out);
+            StreamInput in = out.bytes().streamInput();
+            in.setVersion(version);
+            Template templateX = Template.readFrom(in);
+
+            assertEquals(template.toJson(), templateX.toJson());
+            assertEquals(template.templateVersion(), templateX.templateVersion());
+            assertEquals(template.compatibilityVersion(), templateX.compatibilityVersion());
+            assertEquals("alice", templateX.getUser().getName());
+            assertEquals(template.createdTime(), templateX.createdTime());
+            assertEquals("tenant-id", templateX.getTenantId());
+        }
+    }
+
     public void testCreateEmptyTemplateWithTenantId() {
         String tenantId = "test-tenant";
         Template t = Template.createEmptyTemplateWithTenantId(tenantId);
@@ -8,12 +8,14 @@
  */
 package org.opensearch.flowframework.model;
 
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.flowframework.exception.FlowFrameworkException;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 public class WorkflowNodeTests extends OpenSearchTestCase {
@@ -87,6 +89,44 @@ public class WorkflowNodeTests extends OpenSearchTestCase {
         assertEquals(Map.of("key2", "value2"), ppX[0].params());
     }
 
+    public void testNodeStreamRoundTrip() throws IOException {
+        WorkflowNode node = new WorkflowNode(
+            "A",
+            "a-type",
+            Map.of("foo", "field"),
+            Map.ofEntries(
+                Map.entry("foo", "a string"),
+                Map.entry("bar", Map.of("key", "value")),
+                Map.entry("baz", new Map<?, ?>[] { Map.of("A", "a"), Map.of("B", Map.of("C", List.of("c"))) }),
+                Map.entry("qux", false),
+                Map.entry("processors", new PipelineProcessor[] { new PipelineProcessor("test-type", Map.of("key2", "value2")) }),
+                Map.entry("created_time", 1689793598499L),
+                Map.entry("score", 0.5f),
+                Map.entry("tools_order", new String[] { "foo", "bar" })
+            )
+        );
+
+        BytesStreamOutput out = new BytesStreamOutput();
+        node.writeTo(out);
+        WorkflowNode nodeX = new WorkflowNode(out.bytes().streamInput());
+
+        assertEquals("A", nodeX.id());
+        assertEquals("a-type", nodeX.type());
+        assertEquals(Map.of("foo", "field"), nodeX.previousNodeInputs());
+        Map<String, Object> map = nodeX.userInputs();
+        assertEquals("a string", map.get("foo"));
+        assertEquals(Map.of("key", "value"), map.get("bar"));
+        assertArrayEquals(new Map<?, ?>[] { Map.of("A", "a"), Map.of("B", Map.of("C", List.of("c"))) }, (Map<?, ?>[]) map.get("baz"));
+        assertEquals(false, map.get("qux"));
+        PipelineProcessor[] pp = (PipelineProcessor[]) map.get("processors");
+        assertEquals(1, pp.length);
+        assertEquals("test-type", pp[0].type());
+        assertEquals(Map.of("key2", "value2"), pp[0].params());
+        assertEquals(1689793598499L, map.get("created_time"));
+        assertEquals(0.5f, map.get("score"));
+        assertArrayEquals(new String[] { "foo", "bar" }, (String[]) map.get("tools_order"));
+    }
+
     public void testExceptions() throws IOException {
         String badJson = "{\"badField\":\"A\",\"type\":\"a-type\",\"user_inputs\":{\"foo\":\"bar\"}}";
         FlowFrameworkException e = assertThrows(
@@ -8,6 +8,7 @@
  */
 package org.opensearch.flowframework.model;
 
+import org.opensearch.flowframework.exception.FlowFrameworkException;
 import org.opensearch.flowframework.workflow.WorkflowStepFactory;
 import org.opensearch.test.OpenSearchTestCase;
 
@@ -37,4 +38,18 @@ public class WorkflowStepValidatorTests extends OpenSearchTestCase {
         assertEquals("connector_id", WorkflowStepFactory.WorkflowSteps.CREATE_CONNECTOR.outputs().get(0));
     }
 
+    public void testGetByWorkflowType() {
+        for (WorkflowStepFactory.WorkflowSteps step : WorkflowStepFactory.WorkflowSteps.values()) {
+            assertSame(step, WorkflowStepFactory.WorkflowSteps.getByName(step.getWorkflowStepName()));
+            assertEquals(step.inputs(), WorkflowStepFactory.WorkflowSteps.getInputByWorkflowType(step.getWorkflowStepName()));
+            assertEquals(step.outputs(), WorkflowStepFactory.WorkflowSteps.getOutputByWorkflowType(step.getWorkflowStepName()));
+        }
+        assertNull(WorkflowStepFactory.WorkflowSteps.getByName(null));
+        assertNull(WorkflowStepFactory.WorkflowSteps.getByName("unknown"));
+        FlowFrameworkException e = assertThrows(
+            FlowFrameworkException.class,
+            () -> WorkflowStepFactory.WorkflowSteps.getTimeoutByWorkflowType("unknown")
+        );
+        assertEquals("Unable to find workflow timeout for step: unknown", e.getMessage());
+    }
 }
@@ -0,0 +1,159 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.rest;
+
+import org.opensearch.Version;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.flowframework.common.FlowFrameworkSettings;
+import org.opensearch.flowframework.model.Template;
+import org.opensearch.flowframework.model.Workflow;
+import org.opensearch.flowframework.model.WorkflowNode;
+import org.opensearch.flowframework.transport.BulkWorkflowRequest;
+import org.opensearch.flowframework.transport.BulkWorkflowResponse;
+import org.opensearch.flowframework.transport.BulkWorkflowResponse.BulkWorkflowItem;
+import org.opensearch.rest.RestHandler.Route;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.rest.FakeRestChannel;
+import org.opensearch.test.rest.FakeRestRequest;
+import org.opensearch.transport.client.node.NodeClient;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.opensearch.flowframework.common.CommonValue.BULK_WORKFLOW_URI;
+import static org.opensearch.flowframework.common.CommonValue.PROVISION_WORKFLOW;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class RestBulkCreateWorkflowActionTests extends OpenSearchTestCase {
+
+    private String validBulkContent;
+    private RestBulkCreateWorkflowAction bulkCreateWorkflowRestAction;
+    private NodeClient nodeClient;
+    private FlowFrameworkSettings flowFrameworkFeatureEnabledSetting;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        flowFrameworkFeatureEnabledSetting = mock(FlowFrameworkSettings.class);
+        when(flowFrameworkFeatureEnabledSetting.isFlowFrameworkEnabled()).thenReturn(true);
+        when(flowFrameworkFeatureEnabledSetting.getMaxBulkWorkflows()).thenReturn(100);
+
+        WorkflowNode nodeA = new WorkflowNode("A", "a-type", Collections.emptyMap(), Map.of("foo", "bar"));
+        Workflow workflow = new Workflow(Map.of("key", "value"), List.of(nodeA), Collections.emptyList());
+        Template template = Template.builder()
+            .name("test")
+            .description("description")
+            .useCase("use case")
+            .templateVersion(Version.fromString("1.0.0"))
+            .compatibilityVersion(List.of(Version.fromString("2.0.0")))
+            .workflows(Map.of("workflow", workflow))
+            .build();
+
+        this.validBulkContent = "{\"templates\":[" + template.toJson() + "," + template.toJson() + "]}";
+        this.bulkCreateWorkflowRestAction = new RestBulkCreateWorkflowAction(flowFrameworkFeatureEnabledSetting);
+        this.nodeClient = mock(NodeClient.class);
+    }
+
+    public void testRestBulkCreateWorkflowActionName() {
+        assertEquals("bulk_create_workflow_action", bulkCreateWorkflowRestAction.getName());
+    }
+
+    public void testRestBulkCreateWorkflowActionRoutes() {
+        List<Route> routes = bulkCreateWorkflowRestAction.routes();
+        assertEquals(1, routes.size());
+        assertEquals(RestRequest.Method.POST, routes.get(0).getMethod());
+        assertEquals(BULK_WORKFLOW_URI, routes.get(0).getPath());
+    }
+
+    public void testBulkCreateWorkflow() throws Exception {
+        RestRequest request = new FakeRestRequest.Builder(xContentRegistry()).withMethod(RestRequest.Method.POST)
+            .withPath(BULK_WORKFLOW_URI)
+            .withParams(Map.of(PROVISION_WORKFLOW, "true"))
+            .withContent(new BytesArray(validBulkContent), MediaTypeRegistry.JSON)
+            .build();
+        FakeRestChannel channel = new FakeRestChannel(request, false, 1);
+        doAnswer(invocation -> {
+            BulkWorkflowRequest bulkRequest = invocation.getArgument(1);
+            assertEquals(2, bulkRequest.getTemplates().size());
+            assertTrue(bulkRequest.isProvision());
+            ActionListener<BulkWorkflowResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(
+                new BulkWorkflowResponse(
+                    List.of(BulkWorkflowItem.success("id-123"), BulkWorkflowItem.failure(null, "Limit reached", RestStatus.BAD_REQUEST))
+                )
+            );
+            return null;
+        }).when(nodeClient).execute(any(), any(BulkWorkflowRequest.class), any());
+        bulkCreateWorkflowRestAction.handleRequest(request, channel, nodeClient);
+        assertEquals(RestStatus.ACCEPTED, channel.capturedResponse().status());
+        assertEquals(
+            "{\"workflows\":[{\"workflow_id\":\"id-123\"},{\"error\":\"Limit reached\",\"status\":400}]}",
+            channel.capturedResponse().content().utf8ToString()
+        );
+    }
+
+    public void testBulkCreateWorkflowWithInvalidContent() throws Exception {
+        RestRequest request = new FakeRestRequest.Builder(xContentRegistry()).withMethod(RestRequest.Method.POST)
+            .withPath(BULK_WORKFLOW_URI)
+            .withContent(new BytesArray(validBulkContent.replace("templates", "invalid")), MediaTypeRegistry.JSON)
+            .build();
+        FakeRestChannel channel = new FakeRestChannel(request, false, 1);
+        bulkCreateWorkflowRestAction.handleRequest(request, channel, nodeClient);
+        assertEquals(RestStatus.BAD_REQUEST, channel.capturedResponse().status());
+        assertTrue(channel.capturedResponse().content().utf8ToString().contains("Unable to parse field [invalid]"));
+        verify(nodeClient, never()).execute(any(), any(), any());
+    }
+
+    public void testBulkCreateWorkflowWithoutTemplates() throws Exception {
+        RestRequest request = new FakeRestRequest.Builder(xContentRegistry()).withMethod(RestRequest.Method.POST)
+            .withPath(BULK_WORKFLOW_URI)
+            .withContent(new BytesArray("{\"templates\":[]}"), MediaTypeRegistry.JSON)
+            .build();
+        FakeRestChannel channel = new FakeRestChannel(request, false, 1);
+        bulkCreateWorkflowRestAction.handleRequest(request, channel, nodeClient);
+        assertEquals(RestStatus.BAD_REQUEST, channel.capturedResponse().status());
+        assertTrue(channel.capturedResponse().content().utf8ToString().contains("At least one template is required."));
+    }
+
+    public void testBulkCreateWorkflowAboveMaxBulkWorkflows() throws Exception {
+        when(flowFrameworkFeatureEnabledSetting.getMaxBulkWorkflows()).thenReturn(1);
+        RestRequest request = new FakeRestRequest.Builder(xContentRegistry()).withMethod(RestRequest.Method.POST)
+            .withPath(BULK_WORKFLOW_URI)
+            .withContent(new BytesArray(validBulkContent), MediaTypeRegistry.JSON)
+            .build();
+        FakeRestChannel channel = new FakeRestChannel(request, false, 1);
+        bulkCreateWorkflowRestAction.handleRequest(request, channel, nodeClient);
+        assertEquals(RestStatus.BAD_REQUEST, channel.capturedResponse().status());
+        String content = channel.capturedResponse().content().utf8ToString();
+        assertTrue(content.contains("A bulk request can create at most 1 templates, but 2 were provided."));
+        verify(nodeClient, never()).execute(any(), any(), any());
+    }
+
+        public void testFeatureFlagNotEnabled() throws Exception {
+        when(flowFrameworkFeatureEnabledSetting.isFlowFrameworkEnabled()).thenReturn(false);
+        RestRequest request = new FakeRestRequest.Builder(xContentRegistry()).withMethod(RestRequest.Method.POST)
+            .withPath(BULK_WORKFLOW_URI)
+            .withContent(new BytesArray(validBulkContent), MediaTypeRegistry.JSON)
+            .build();
+        FakeRestChannel channel = new FakeRestChannel(request, false, 1);
+        bulkCreateWorkflowRestAction.handleRequest(request, channel, nodeClient);
+        assertEquals(RestStatus.FORBIDDEN, channel.capturedResponse().status());
+        assertTrue(channel.capturedResponse().content().utf8ToString().contains("This API is disabled."));
+    }
+}
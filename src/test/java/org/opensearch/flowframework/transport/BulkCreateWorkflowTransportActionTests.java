@@ -0,0 +1,393 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.transport;
+
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.Version;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchResponseSections;
+import org.opensearch.action.search.ShardSearchFailure;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.flowframework.TestHelpers;
+import org.opensearch.flowframework.common.FlowFrameworkSettings;
+import org.opensearch.flowframework.exception.FlowFrameworkException;
+import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
+import org.opensearch.flowframework.model.Template;
+import org.opensearch.flowframework.transport.BulkWorkflowResponse.BulkWorkflowItem;
+import org.opensearch.flowframework.util.FlowFrameworkExecutors;
+import org.opensearch.flowframework.util.WorkflowCountTracker;
+import org.opensearch.flowframework.workflow.WorkflowProcessSorter;
+import org.opensearch.plugins.PluginsService;
+import org.opensearch.remote.metadata.client.SdkClient;
+import org.opensearch.remote.metadata.client.impl.SdkClientFactory;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.tasks.Task;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+import org.opensearch.transport.client.Client;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.mockito.ArgumentCaptor;
+
+import static org.opensearch.flowframework.common.CommonValue.GLOBAL_CONTEXT_INDEX;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_STATE_INDEX;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BulkCreateWorkflowTransportActionTests extends OpenSearchTestCase {
+
+    private BulkCreateWorkflowTransportAction bulkCreateWorkflowTransportAction;
+    private FlowFrameworkIndicesHandler flowFrameworkIndicesHandler;
+    private WorkflowProcessSorter workflowProcessSorter;
+    private FlowFrameworkSettings flowFrameworkSettings;
+    private WorkflowCountTracker workflowCountTracker;
+    private Client client;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        this.client = mock(Client.class);
+        SdkClient sdkClient = SdkClientFactory.createSdkClient(client, NamedXContentRegistry.EMPTY, Collections.emptyMap());
+        ThreadPool threadPool = mock(ThreadPool.class);
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.getThreadContext()).thenReturn(new ThreadContext(Settings.EMPTY));
+        when(threadPool.executor(anyString())).thenReturn(OpenSearchExecutors.newDirectExecutorService());
+
+        this.flowFrameworkSettings = mock(FlowFrameworkSettings.class);
+        when(flowFrameworkSettings.getMaxWorkflows()).thenReturn(1000);
+        when(flowFrameworkSettings.getRequestTimeout()).thenReturn(TimeValue.timeValueSeconds(10));
+        this.flowFrameworkIndicesHandler = mock(FlowFrameworkIndicesHandler.class);
+        this.workflowProcessSorter = mock(WorkflowProcessSorter.class);
+        this.workflowCountTracker = new WorkflowCountTracker();
+
+        ClusterService clusterService = mock(ClusterService.class);
+        ClusterSettings clusterSettings = new ClusterSettings(Settings.EMPTY, Set.of(FlowFrameworkSettings.FILTER_BY_BACKEND_ROLES));
+        when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
+
+        this.bulkCreateWorkflowTransportAction = new BulkCreateWorkflowTransportAction(
+            mock(TransportService.class),
+            mock(ActionFilters.class),
+            workflowProcessSorter,
+            flowFrameworkIndicesHandler,
+            flowFrameworkSettings,
+            workflowCountTracker,
+            new FlowFrameworkExecutors(threadPool, false),
+            client,
+            sdkClient,
+            mock(PluginsService.class),
+            clusterService,
+            Settings.EMPTY
+        );
+
+        // Bypass initializeConfigIndex and force onResponse
+        doAnswer(invocation -> {
+            ActionListener<Boolean> initializeConfigIndexListener = invocation.getArgument(1);
+            initializeConfigIndexListener.onResponse(true);
+            return null;
+        }).when(flowFrameworkIndicesHandler).initializeConfigIndex(nullable(String.class), any());
+    }
+
+    public void testAdmitTemplatesUpToMaxWorkflows() {
+        when(flowFrameworkSettings.getMaxWorkflows()).thenReturn(3);
+        when(flowFrameworkIndicesHandler.doesIndexExist(GLOBAL_CONTEXT_INDEX)).thenReturn(true);
+        // Two of the three workflows allowed already exist
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> searchListener = invocation.getArgument(1);
+            searchListener.onResponse(generateEmptySearchResponseWithHitCount(2));
+            return null;
+        }).when(client).search(any(SearchRequest.class), any());
+        mockGlobalContextResponses(true, true, true);
+        mockWorkflowStateResponses();
+
+        BulkWorkflowResponse response = execute(false, "t0", "t1", "t2");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Template>> templatesCaptor = ArgumentCaptor.forClass(List.class);
+        verify(flowFrameworkIndicesHandler).putTemplatesToGlobalContext(templatesCaptor.capture(), nullable(String.class), any());
+        assertEquals(1, templatesCaptor.getValue().size());
+        assertEquals("t0", templatesCaptor.getValue().get(0).name());
+
+        List<BulkWorkflowItem> items = response.getItems();
+        assertEquals(3, items.size());
+        assertEquals("workflow-0", items.get(0).getWorkflowId());
+        assertFalse(items.get(0).isFailed());
+        for (BulkWorkflowItem item : items.subList(1, 3)) {
+            assertTrue(item.isFailed());
+            assertNull(item.getWorkflowId());
+            assertEquals("Maximum workflows limit reached: 3", item.getError());
+            assertEquals(RestStatus.BAD_REQUEST, item.getStatus());
+        }
+    }
+
+    public void testAdmitNoTemplatesAtMaxWorkflows() {
+        when(flowFrameworkSettings.getMaxWorkflows()).thenReturn(2);
+        when(flowFrameworkIndicesHandler.doesIndexExist(GLOBAL_CONTEXT_INDEX)).thenReturn(true);
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> searchListener = invocation.getArgument(1);
+            searchListener.onResponse(generateEmptySearchResponseWithHitCount(2));
+            return null;
+        }).when(client).search(any(SearchRequest.class), any());
+
+        BulkWorkflowResponse response = execute(false, "t0", "t1");
+
+        verify(flowFrameworkIndicesHandler, never()).initializeConfigIndex(nullable(String.class), any());
+        assertTrue(response.getItems().stream().allMatch(BulkWorkflowItem::isFailed));
+        assertFalse(workflowCountTracker.isBelowMax(null, 2));
+    }
+
+    public void testPartialBulkItemFailures() {
+        // The tracked count admits the batch without counting the workflows again
+        when(flowFrameworkIndicesHandler.doesIndexExist(GLOBAL_CONTEXT_INDEX)).thenReturn(true);
+        workflowCountTracker.reconcile(null, 1);
+        mockGlobalContextResponses(true, false, true);
+        mockWorkflowStateResponses();
+
+        BulkWorkflowResponse response = execute(false, "t0", "t1", "t2");
+
+        verify(client, never()).search(any(SearchRequest.class), any());
+        // Only the saved templates get a state
+        verify(flowFrameworkIndicesHandler).putInitialStatesToWorkflowState(
+            eq(List.of("workflow-0", "workflow-2")),
+            nullable(String.class),
+            any(),
+            any()
+        );
+        List<BulkWorkflowItem> items = response.getItems();
+        assertTrue(response.hasFailures());
+        assertEquals("workflow-0", items.get(0).getWorkflowId());
+        assertFalse(items.get(0).isFailed());
+        assertTrue(items.get(1).isFailed());
+        assertNull(items.get(1).getWorkflowId());
+        assertTrue(items.get(1).getError().contains("Template t1 rejected"));
+        assertEquals(RestStatus.BAD_REQUEST, items.get(1).getStatus());
+        assertEquals("workflow-2", items.get(2).getWorkflowId());
+        assertFalse(items.get(2).isFailed());
+        // The tracked count only includes the saved templates
+        assertTrue(workflowCountTracker.isBelowMax(null, 4));
+        assertFalse(workflowCountTracker.isBelowMax(null, 3));
+    }
+
+    public void testFailedStatesMapToRequestOrder() {
+        mockGlobalContextResponses(false, true, true);
+        // The state of the second saved template, the third of the request, fails
+        doAnswer(invocation -> {
+            List<String> workflowIds = invocation.getArgument(0);
+            ActionListener<BulkResponse> stateListener = invocation.getArgument(3);
+            stateListener.onResponse(
+                new BulkResponse(
+                    new BulkItemResponse[] {
+                        successItem(0, WORKFLOW_STATE_INDEX, workflowIds.get(0)),
+                        failureItem(1, WORKFLOW_STATE_INDEX, "State " + workflowIds.get(1) + " rejected") },
+                    1
+                )
+            );
+            return null;
+        }).when(flowFrameworkIndicesHandler).putInitialStatesToWorkflowState(anyList(), nullable(String.class), any(), any());
+
+        BulkWorkflowResponse response = execute(false, "t0", "t1", "t2");
+
+        List<BulkWorkflowItem> items = response.getItems();
+        assertTrue(items.get(0).isFailed());
+        assertNull(items.get(0).getWorkflowId());
+        assertFalse(items.get(1).isFailed());
+        assertEquals("workflow-1", items.get(1).getWorkflowId());
+        assertTrue(items.get(2).isFailed());
+        assertEquals("workflow-2", items.get(2).getWorkflowId());
+        assertTrue(items.get(2).getError().contains("State workflow-2 rejected"));
+    }
+
+    public void testValidationFailuresMapToRequestOrder() throws Exception {
+        doThrow(new FlowFrameworkException("Invalid workflow", RestStatus.BAD_REQUEST)).when(workflowProcessSorter)
+            .validate(anyList(), any());
+        mockGlobalContextResponses(true, true, true);
+        mockWorkflowStateResponses();
+
+        // Only the template without workflows is valid
+        Template noWorkflows = Template.builder(createTemplate("t1")).workflows(Collections.emptyMap()).build();
+        List<Template> templates = List.of(createTemplate("t0"), noWorkflows, createTemplate("t2"));
+        BulkWorkflowResponse response = execute(new BulkWorkflowRequest(templates, new String[] { "all" }, false, null, 10));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Template>> templatesCaptor = ArgumentCaptor.forClass(List.class);
+        verify(flowFrameworkIndicesHandler).putTemplatesToGlobalContext(templatesCaptor.capture(), nullable(String.class), any());
+        assertEquals(1, templatesCaptor.getValue().size());
+        assertEquals("t1", templatesCaptor.getValue().get(0).name());
+
+        List<BulkWorkflowItem> items = response.getItems();
+        assertEquals("Invalid workflow", items.get(0).getError());
+        assertEquals(RestStatus.BAD_REQUEST, items.get(0).getStatus());
+        assertEquals("workflow-0", items.get(1).getWorkflowId());
+        assertFalse(items.get(1).isFailed());
+        assertEquals("Invalid workflow", items.get(2).getError());
+    }
+
+    public void testProvisionFanOut() {
+        mockGlobalContextResponses(true, true, true);
+        mockWorkflowStateResponses();
+        doAnswer(invocation -> {
+            WorkflowRequest workflowRequest = invocation.getArgument(1);
+            ActionListener<WorkflowResponse> provisionListener = invocation.getArgument(2);
+            if ("workflow-1".equals(workflowRequest.getWorkflowId())) {
+                provisionListener.onFailure(new FlowFrameworkException("Provisioning rejected", RestStatus.CONFLICT));
+            } else {
+                provisionListener.onResponse(new WorkflowResponse(workflowRequest.getWorkflowId()));
+            }
+            return null;
+        }).when(client).execute(eq(ProvisionWorkflowAction.INSTANCE), any(WorkflowRequest.class), any());
+
+        BulkWorkflowResponse response = execute(true, "t0", "t1", "t2");
+
+        ArgumentCaptor<WorkflowRequest> requestCaptor = ArgumentCaptor.forClass(WorkflowRequest.class);
+        verify(client, times(3)).execute(eq(ProvisionWorkflowAction.INSTANCE), requestCaptor.capture(), any());
+        assertEquals(
+            List.of("workflow-0", "workflow-1", "workflow-2"),
+            requestCaptor.getAllValues().stream().map(WorkflowRequest::getWorkflowId).toList()
+        );
+
+        List<BulkWorkflowItem> items = response.getItems();
+        assertFalse(items.get(0).isFailed());
+        assertTrue(items.get(1).isFailed());
+        assertEquals("workflow-1", items.get(1).getWorkflowId());
+        assertEquals("Provisioning rejected", items.get(1).getError());
+        assertEquals(RestStatus.CONFLICT, items.get(1).getStatus());
+        assertFalse(items.get(2).isFailed());
+    }
+
+    public void testNoProvisionWithoutCreatedWorkflows() {
+        mockGlobalContextResponses(false, false);
+
+        BulkWorkflowResponse response = execute(true, "t0", "t1");
+
+        verify(flowFrameworkIndicesHandler, never()).putInitialStatesToWorkflowState(anyList(), nullable(String.class), any(), any());
+        verify(client, never()).execute(eq(ProvisionWorkflowAction.INSTANCE), any(WorkflowRequest.class), any());
+        assertTrue(response.getItems().stream().allMatch(BulkWorkflowItem::isFailed));
+    }
+
+    private BulkWorkflowResponse execute(boolean provision, String... names) {
+        List<Template> templates = Arrays.stream(names).map(this::createTemplate).toList();
+        return execute(new BulkWorkflowRequest(templates, new String[] { "none" }, provision, null, 10));
+    }
+
+    private BulkWorkflowResponse execute(BulkWorkflowRequest request) {
+        @SuppressWarnings("unchecked")
+        ActionListener<BulkWorkflowResponse> listener = mock(ActionListener.class);
+        bulkCreateWorkflowTransportAction.doExecute(mock(Task.class), request, listener);
+        ArgumentCaptor<BulkWorkflowResponse> responseCaptor = ArgumentCaptor.forClass(BulkWorkflowResponse.class);
+        verify(listener, times(1)).onResponse(responseCaptor.capture());
+        verify(listener, never()).onFailure(any());
+        return responseCaptor.getValue();
+    }
+
+    /**
+     * Mocks the global context bulk response, assigning ids workflow-0, workflow-1, ... to the saved templates
+     * @param saved whether each template is saved
+     */
+    private void mockGlobalContextResponses(boolean... saved) {
+        doAnswer(invocation -> {
+            List<Template> templates = invocation.getArgument(0);
+            ActionListener<BulkResponse> globalContextListener = invocation.getArgument(2);
+            BulkItemResponse[] responses = new BulkItemResponse[templates.size()];
+            int created = 0;
+            for (int i = 0; i < responses.length; i++) {
+                responses[i] = saved[i]
+                    ? successItem(i, GLOBAL_CONTEXT_INDEX, "workflow-" + created++)
+                    : failureItem(i, GLOBAL_CONTEXT_INDEX, "Template " + templates.get(i).name() + " rejected");
+            }
+            globalContextListener.onResponse(new BulkResponse(responses, 1));
+            return null;
+        }).when(flowFrameworkIndicesHandler).putTemplatesToGlobalContext(anyList(), nullable(String.class), any());
+    }
+
+    private void mockWorkflowStateResponses() {
+        doAnswer(invocation -> {
+            List<String> workflowIds = invocation.getArgument(0);
+            ActionListener<BulkResponse> stateListener = invocation.getArgument(3);
+            BulkItemResponse[] responses = new BulkItemResponse[workflowIds.size()];
+            for (int i = 0; i < responses.length; i++) {
+                responses[i] = successItem(i, WORKFLOW_STATE_INDEX, workflowIds.get(i));
+            }
+            stateListener.onResponse(new BulkResponse(responses, 1));
+            return null;
+        }).when(flowFrameworkIndicesHandler).putInitialStatesToWorkflowState(anyList(), nullable(String.class), any(), any());
+    }
+
+    private static BulkItemResponse successItem(int itemId, String index, String id) {
+        return new BulkItemResponse(
+            itemId,
+            DocWriteRequest.OpType.INDEX,
+            new IndexResponse(new ShardId(index, "_na_", 0), id, 1, 1, 1, true)
+        );
+    }
+
+    private static BulkItemResponse failureItem(int itemId, String index, String message) {
+        return new BulkItemResponse(
+            itemId,
+            DocWriteRequest.OpType.INDEX,
+            new BulkItemResponse.Failure(index, null, new IllegalArgumentException(message))
+        );
+    }
+
+    private Template createTemplate(String name) {
+        return Template.builder()
+            .name(name)
+            .description("description")
+            .useCase("use case")
+            .templateVersion(Version.fromString("1.0.0"))
+            .compatibilityVersion(List.of(Version.fromString("2.0.0")))
+            .workflows(Map.of("workflow", TestHelpers.createSampleWorkflow()))
+            .build();
+    }
+
+    private SearchResponse generateEmptySearchResponseWithHitCount(int hitCount) {
+        SearchHits searchHits = new SearchHits(new SearchHit[0], new TotalHits(hitCount, TotalHits.Relation.EQUAL_TO), 1.0f);
+        SearchResponseSections searchSections = new SearchResponseSections(
+            searchHits,
+            InternalAggregations.EMPTY,
+            null,
+            true,
+            false,
+            null,
+            1
+        );
+        return new SearchResponse(searchSections, null, 1, 1, 0, 11, ShardSearchFailure.EMPTY_ARRAY, SearchResponse.Clusters.EMPTY);
+    }
+}
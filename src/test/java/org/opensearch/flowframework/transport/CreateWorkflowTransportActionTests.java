@@ -40,6 +40,8 @@ import org.opensearch.flowframework.model.Workflow;
 import org.opensearch.flowframework.model.WorkflowEdge;
 import org.opensearch.flowframework.model.WorkflowNode;
 import org.opensearch.flowframework.model.WorkflowState;
+import org.opensearch.flowframework.util.WorkflowAccessControlCache;
+import org.opensearch.flowframework.util.WorkflowCountTracker;
 import org.opensearch.flowframework.workflow.WorkflowProcessSorter;
 import org.opensearch.plugins.PluginsService;
 import org.opensearch.remote.metadata.client.SdkClient;
@@ -84,6 +86,7 @@ import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -101,10 +104,12 @@ public class CreateWorkflowTransportActionTests extends OpenSearchTestCase {
     private PluginsService pluginsService;
     private ClusterService clusterService;
     private ClusterSettings clusterSettings;
+    private WorkflowCountTracker workflowCountTracker;
 
     @Override
     public void setUp() throws Exception {
         super.setUp();
+        this.workflowCountTracker = new WorkflowCountTracker();
         client = mock(Client.class);
         this.sdkClient = SdkClientFactory.createSdkClient(client, NamedXContentRegistry.EMPTY, Collections.emptyMap());
 
@@ -112,6 +117,9 @@ public class CreateWorkflowTransportActionTests extends OpenSearchTestCase {
         when(flowFrameworkSettings.getMaxWorkflows()).thenReturn(2);
         when(flowFrameworkSettings.getRequestTimeout()).thenReturn(TimeValue.timeValueSeconds(10));
         this.flowFrameworkIndicesHandler = mock(FlowFrameworkIndicesHandler.class);
+        when(flowFrameworkIndicesHandler.parseTemplate(any(GetResponse.class))).thenAnswer(
+            invocation -> Template.parse(((GetResponse) invocation.getArgument(0)).getSourceAsString())
+        );
 
         // Validation functionality should not be invoked in these unit tests, mocking instead
         this.workflowProcessSorter = mock(WorkflowProcessSorter.class);
@@ -144,11 +152,13 @@ public class CreateWorkflowTransportActionTests extends OpenSearchTestCase {
                 workflowProcessSorter,
                 flowFrameworkIndicesHandler,
                 flowFrameworkSettings,
+                workflowCountTracker,
                 client,
                 sdkClient,
                 pluginsService,
                 clusterService,
                 xContentRegistry(),
+                new WorkflowAccessControlCache(),
                 Settings.EMPTY
             )
         );
@@ -299,6 +309,30 @@ public class CreateWorkflowTransportActionTests extends OpenSearchTestCase {
         createWorkflowTransportAction.checkMaxWorkflows(new TimeValue(10, TimeUnit.SECONDS), Integer.valueOf(10), "tenant-id", listener);
     }
 
+    public void testMaxWorkflowFromTrackedCount() {
+        when(flowFrameworkIndicesHandler.doesIndexExist(anyString())).thenReturn(true);
+        @SuppressWarnings("unchecked")
+        ActionListener<Boolean> listener = mock(ActionListener.class);
+
+        // A current count below the limit is answered without a search
+        workflowCountTracker.reconcile("tenant-id", 1);
+        createWorkflowTransportAction.checkMaxWorkflows(new TimeValue(10, TimeUnit.SECONDS), Integer.valueOf(2), "tenant-id", listener);
+        verify(listener, times(1)).onResponse(true);
+        verify(client, never()).search(any(SearchRequest.class), any());
+
+        // A count at the limit is confirmed by a search
+        workflowCountTracker.onCreated("tenant-id");
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> searchListener = invocation.getArgument(1);
+            searchListener.onResponse(generateEmptySearchResponseWithHitCount(1));
+            return null;
+        }).when(client).search(any(SearchRequest.class), any());
+        createWorkflowTransportAction.checkMaxWorkflows(new TimeValue(10, TimeUnit.SECONDS), Integer.valueOf(2), "tenant-id", listener);
+        verify(client, times(1)).search(any(SearchRequest.class), any());
+        verify(listener, times(2)).onResponse(true);
+        assertTrue(workflowCountTracker.isBelowMax("tenant-id", 2));
+    }
+
     public void testFailedToCreateNewWorkflow() {
         @SuppressWarnings("unchecked")
         ActionListener<WorkflowResponse> listener = mock(ActionListener.class);
@@ -404,11 +438,13 @@ public class CreateWorkflowTransportActionTests extends OpenSearchTestCase {
                 workflowProcessSorter,
                 flowFrameworkIndicesHandler,
                 flowFrameworkSettings,
+                workflowCountTracker,
                 client,
                 sdkClient,
                 pluginsService,
                 clusterService,
                 xContentRegistry(),
+                new WorkflowAccessControlCache(),
                 settings
             )
         );
@@ -476,11 +512,13 @@ public class CreateWorkflowTransportActionTests extends OpenSearchTestCase {
                 workflowProcessSorter,
                 flowFrameworkIndicesHandler,
                 flowFrameworkSettings,
+                workflowCountTracker,
                 client,
                 sdkClient,
                 pluginsService,
                 clusterService,
                 xContentRegistry(),
+                new WorkflowAccessControlCache(),
                 settings
             )
         );
@@ -520,11 +558,13 @@ public class CreateWorkflowTransportActionTests extends OpenSearchTestCase {
                 workflowProcessSorter,
                 flowFrameworkIndicesHandler,
                 flowFrameworkSettings,
+                workflowCountTracker,
                 client,
                 sdkClient,
                 pluginsService,
                 clusterService,
                 xContentRegistry(),
+                new WorkflowAccessControlCache(),
                 settings
             )
         );
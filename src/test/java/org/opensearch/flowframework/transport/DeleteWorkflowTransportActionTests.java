@@ -22,6 +22,8 @@ import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.flowframework.common.FlowFrameworkSettings;
 import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
+import org.opensearch.flowframework.util.WorkflowAccessControlCache;
+import org.opensearch.flowframework.util.WorkflowCountTracker;
 import org.opensearch.remote.metadata.client.SdkClient;
 import org.opensearch.remote.metadata.client.impl.SdkClientFactory;
 import org.opensearch.tasks.Task;
@@ -72,10 +74,12 @@ public class DeleteWorkflowTransportActionTests extends OpenSearchTestCase {
             mock(ActionFilters.class),
             flowFrameworkIndicesHandler,
             flowFrameworkSettings,
+            new WorkflowCountTracker(),
             client,
             sdkClient,
             clusterService,
             xContentRegistry(),
+            new WorkflowAccessControlCache(),
             Settings.EMPTY
         );
 
@@ -25,6 +25,8 @@ import org.opensearch.flowframework.exception.FlowFrameworkException;
 import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
 import org.opensearch.flowframework.model.ResourceCreated;
 import org.opensearch.flowframework.model.WorkflowState;
+import org.opensearch.flowframework.util.FlowFrameworkExecutors;
+import org.opensearch.flowframework.util.WorkflowAccessControlCache;
 import org.opensearch.flowframework.workflow.DeleteConnectorStep;
 import org.opensearch.flowframework.workflow.DeleteIndexStep;
 import org.opensearch.flowframework.workflow.DeleteIngestPipelineStep;
@@ -136,8 +138,10 @@ public class DeprovisionWorkflowTransportActionTests extends OpenSearchTestCase
             workflowStepFactory,
             flowFrameworkIndicesHandler,
             flowFrameworkSettings,
+            new FlowFrameworkExecutors(clientThreadPool, false),
             clusterService,
             xContentRegistry(),
+            new WorkflowAccessControlCache(),
             Settings.EMPTY
         );
     }
@@ -30,6 +30,7 @@ import org.opensearch.flowframework.exception.FlowFrameworkException;
 import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
 import org.opensearch.flowframework.model.WorkflowState;
 import org.opensearch.flowframework.util.EncryptorUtils;
+import org.opensearch.flowframework.util.WorkflowAccessControlCache;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.get.GetResult;
 import org.opensearch.remote.metadata.client.SdkClient;
@@ -88,7 +89,7 @@ public class GetWorkflowStateTransportActionTests extends OpenSearchTestCase {
         when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
         this.encryptorUtils = new EncryptorUtils(mock(ClusterService.class), client, sdkClient, xContentRegistry);
         this.flowFrameworkIndicesHandler = spy(
-            new FlowFrameworkIndicesHandler(client, sdkClient, clusterService, encryptorUtils, xContentRegistry)
+            new FlowFrameworkIndicesHandler(client, sdkClient, clusterService, encryptorUtils, xContentRegistry, false)
         );
 
         this.getWorkflowStateTransportAction = new GetWorkflowStateTransportAction(
@@ -99,6 +100,7 @@ public class GetWorkflowStateTransportActionTests extends OpenSearchTestCase {
             client,
             sdkClient,
             xContentRegistry(),
+            new WorkflowAccessControlCache(),
             clusterService,
             Settings.EMPTY
         );
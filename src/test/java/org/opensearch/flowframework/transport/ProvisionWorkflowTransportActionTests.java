@@ -8,13 +8,25 @@
  */
 package org.opensearch.flowframework.transport;
 
+import org.apache.lucene.search.TotalHits;
 import org.opensearch.Version;
 import org.opensearch.action.get.GetRequest;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchResponseSections;
+import org.opensearch.action.search.ShardSearchFailure;
 import org.opensearch.action.support.ActionFilters;
 import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.action.update.UpdateResponse;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.ClusterStateListener;
+import org.opensearch.cluster.block.ClusterBlocks;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.routing.IndexRoutingTable;
+import org.opensearch.cluster.routing.RoutingTable;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
@@ -22,54 +34,75 @@ import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.commons.ConfigConstants;
+import org.opensearch.commons.authuser.User;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.flowframework.TestHelpers;
 import org.opensearch.flowframework.common.FlowFrameworkSettings;
 import org.opensearch.flowframework.exception.FlowFrameworkException;
 import org.opensearch.flowframework.exception.WorkflowStepException;
 import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
+import org.opensearch.flowframework.model.ExecutionJournal;
+import org.opensearch.flowframework.model.ExecutionJournal.StepExecution;
 import org.opensearch.flowframework.model.ProvisioningProgress;
+import org.opensearch.flowframework.model.State;
 import org.opensearch.flowframework.model.Template;
 import org.opensearch.flowframework.model.Workflow;
 import org.opensearch.flowframework.model.WorkflowEdge;
 import org.opensearch.flowframework.model.WorkflowNode;
+import org.opensearch.flowframework.model.WorkflowState;
 import org.opensearch.flowframework.util.EncryptorUtils;
+import org.opensearch.flowframework.util.FlowFrameworkExecutors;
+import org.opensearch.flowframework.util.WorkflowAccessControlCache;
 import org.opensearch.flowframework.workflow.ProcessNode;
+import org.opensearch.flowframework.workflow.StepDurationHistory;
 import org.opensearch.flowframework.workflow.WorkflowData;
 import org.opensearch.flowframework.workflow.WorkflowProcessSorter;
+import org.opensearch.gateway.GatewayService;
 import org.opensearch.index.get.GetResult;
 import org.opensearch.plugins.PluginsService;
 import org.opensearch.remote.metadata.client.SdkClient;
 import org.opensearch.remote.metadata.client.impl.SdkClientFactory;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.aggregations.InternalAggregations;
 import org.opensearch.tasks.Task;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportService;
 import org.opensearch.transport.client.Client;
 
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 import org.mockito.ArgumentCaptor;
 
 import static org.opensearch.flowframework.common.CommonValue.GLOBAL_CONTEXT_INDEX;
+import static org.opensearch.flowframework.common.CommonValue.STATE_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_STATE_INDEX;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -86,6 +119,7 @@ public class ProvisionWorkflowTransportActionTests extends OpenSearchTestCase {
     private FlowFrameworkSettings flowFrameworkSettings;
     private EncryptorUtils encryptorUtils;
     private PluginsService pluginsService;
+    private ClusterService clusterService;
 
     @Override
     public void setUp() throws Exception {
@@ -96,15 +130,28 @@ public class ProvisionWorkflowTransportActionTests extends OpenSearchTestCase {
         this.flowFrameworkSettings = mock(FlowFrameworkSettings.class);
         this.encryptorUtils = mock(EncryptorUtils.class);
         this.pluginsService = mock(PluginsService.class);
-        ClusterService clusterService = mock(ClusterService.class);
+        this.clusterService = mock(ClusterService.class);
         ClusterSettings clusterSettings = new ClusterSettings(
             Settings.EMPTY,
             Collections.unmodifiableSet(new HashSet<>(Arrays.asList(FlowFrameworkSettings.FILTER_BY_BACKEND_ROLES)))
         );
         when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
         this.flowFrameworkIndicesHandler = spy(
-            new FlowFrameworkIndicesHandler(client, sdkClient, clusterService, encryptorUtils, xContentRegistry())
+            new FlowFrameworkIndicesHandler(client, sdkClient, clusterService, encryptorUtils, xContentRegistry(), false)
         );
+        // Steps are recorded in the execution journal without a state index
+        doAnswer(invocation -> {
+            ActionListener<WorkflowData> journalListener = invocation.getArgument(4);
+            journalListener.onResponse(new WorkflowData(Collections.emptyMap(), invocation.getArgument(0), invocation.getArgument(2)));
+            return null;
+        }).when(flowFrameworkIndicesHandler).recordStepInExecutionJournal(any(), nullable(String.class), any(), any(), any());
+
+        ThreadPool clientThreadPool = mock(ThreadPool.class);
+        ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
+
+        when(client.threadPool()).thenReturn(clientThreadPool);
+        when(clientThreadPool.getThreadContext()).thenReturn(threadContext);
+        when(clientThreadPool.executor(anyString())).thenReturn(OpenSearchExecutors.newDirectExecutorService());
 
         this.provisionWorkflowTransportAction = new ProvisionWorkflowTransportAction(
             mock(TransportService.class),
@@ -114,10 +161,13 @@ public class ProvisionWorkflowTransportActionTests extends OpenSearchTestCase {
             workflowProcessSorter,
             flowFrameworkIndicesHandler,
             flowFrameworkSettings,
+            new FlowFrameworkExecutors(clientThreadPool, false),
+            new StepDurationHistory(),
             encryptorUtils,
             pluginsService,
             clusterService,
             xContentRegistry(),
+            new WorkflowAccessControlCache(),
             Settings.EMPTY
         );
 
@@ -144,13 +194,6 @@ public class ProvisionWorkflowTransportActionTests extends OpenSearchTestCase {
             null,
             null
         );
-
-        ThreadPool clientThreadPool = mock(ThreadPool.class);
-        ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
-
-        when(client.threadPool()).thenReturn(clientThreadPool);
-        when(clientThreadPool.getThreadContext()).thenReturn(threadContext);
-        when(clientThreadPool.executor(anyString())).thenReturn(OpenSearchExecutors.newDirectExecutorService());
     }
 
     public void testProvisionWorkflow() {
@@ -172,7 +215,7 @@ public class ProvisionWorkflowTransportActionTests extends OpenSearchTestCase {
             return null;
         }).when(client).get(any(GetRequest.class), any());
 
-        when(encryptorUtils.decryptTemplateCredentials(any())).thenReturn(template);
+        mockDecryptTemplateCredentials(template);
 
         // Bypass isWorkflowNotStarted and force true response
         doAnswer(invocation -> {
@@ -219,7 +262,7 @@ public class ProvisionWorkflowTransportActionTests extends OpenSearchTestCase {
             responseListener.onResponse(new GetResponse(getResult));
             return null;
         }).when(client).get(any(GetRequest.class), any());
-        when(encryptorUtils.decryptTemplateCredentials(any())).thenReturn(template);
+        mockDecryptTemplateCredentials(template);
 
         // Bypass isWorkflowNotStarted and force false response
         doAnswer(invocation -> {
@@ -283,7 +326,7 @@ public class ProvisionWorkflowTransportActionTests extends OpenSearchTestCase {
             return null;
         }).when(client).get(any(GetRequest.class), any());
 
-        when(encryptorUtils.decryptTemplateCredentials(any())).thenReturn(template);
+        mockDecryptTemplateCredentials(template);
 
         // Bypass isWorkflowNotStarted and force true response
         doAnswer(invocation -> {
@@ -309,7 +352,7 @@ public class ProvisionWorkflowTransportActionTests extends OpenSearchTestCase {
         PlainActionFuture<WorkflowData> failedFuture = PlainActionFuture.newFuture();
         failedFuture.onFailure(new RuntimeException("Simulated failure during workflow execution"));
         ProcessNode failedProcessNode = mock(ProcessNode.class);
-        when(failedProcessNode.execute()).thenReturn(failedFuture);
+        when(failedProcessNode.execute(any())).thenReturn(failedFuture);
         when(workflowProcessSorter.sortProcessNodes(any(), any(), any(), any())).thenReturn(Collections.singletonList(failedProcessNode));
 
         provisionWorkflowTransportAction.doExecute(mock(Task.class), workflowRequest, listener);
@@ -322,7 +365,7 @@ public class ProvisionWorkflowTransportActionTests extends OpenSearchTestCase {
         // Create a failed future for the workflow execution with FlowFrameworkException
         failedFuture = PlainActionFuture.newFuture();
         failedFuture.onFailure(new WorkflowStepException("Simulated failure during workflow execution", RestStatus.BAD_REQUEST));
-        when(failedProcessNode.execute()).thenReturn(failedFuture);
+        when(failedProcessNode.execute(any())).thenReturn(failedFuture);
 
         provisionWorkflowTransportAction.doExecute(mock(Task.class), workflowRequest, listener);
 
@@ -332,4 +375,202 @@ public class ProvisionWorkflowTransportActionTests extends OpenSearchTestCase {
         assertTrue(responseCaptor.getValue().getMessage().contains("Simulated failure during workflow execution"));
         assertTrue(responseCaptor.getValue().getMessage().endsWith("restStatus: BAD_REQUEST"));
     }
+
+    public void testResumeInterruptedWorkflowOnStart() throws Exception {
+        DiscoveryNode localNode = mock(DiscoveryNode.class);
+        when(localNode.getId()).thenReturn("node-1");
+        when(clusterService.localNode()).thenReturn(localNode);
+        ArgumentCaptor<ClusterStateListener> resumeListenerCaptor = ArgumentCaptor.forClass(ClusterStateListener.class);
+        verify(clusterService).addListener(resumeListenerCaptor.capture());
+        ClusterStateListener resumeListener = resumeListenerCaptor.getValue();
+
+        // Step A completed before the restart, step B completed during an earlier provisioning of the workflow
+        Instant provisionStartTime = Instant.ofEpochMilli(System.currentTimeMillis() - 60_000);
+        Map<String, String> params = Map.of("foo", "bar");
+        ExecutionJournal executionJournal = new ExecutionJournal(
+            "node-1",
+            params,
+            Map.of(
+                "A",
+                new StepExecution(provisionStartTime.plusSeconds(1), provisionStartTime.plusSeconds(2), Map.of("foo", "bar")),
+                "B",
+                new StepExecution(provisionStartTime.minusSeconds(30), provisionStartTime.minusSeconds(20), Map.of("baz", "qux"))
+            )
+        );
+        WorkflowState workflowState = WorkflowState.builder()
+            .workflowId("1")
+            .state(State.PROVISIONING.name())
+            .provisioningProgress(ProvisioningProgress.IN_PROGRESS.name())
+            .provisionStartTime(provisionStartTime)
+            .executionJournal(executionJournal)
+            .build();
+        mockInterruptedWorkflowSearch(workflowState);
+        mockGetTemplate("1");
+        mockDecryptTemplateCredentials(template);
+        mockUpdateFlowFrameworkSystemIndexDoc();
+
+        // The state is not recovered yet
+        resumeListener.clusterChanged(clusterChangedEvent(true, false));
+        verify(client, never()).search(any(SearchRequest.class), any());
+
+        resumeListener.clusterChanged(clusterChangedEvent(true, true));
+        resumeListener.clusterChanged(clusterChangedEvent(true, true));
+
+        // Only the workflows this node was provisioning are resumed, once
+        verify(clusterService).removeListener(resumeListener);
+        ArgumentCaptor<SearchRequest> searchCaptor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client, times(1)).search(searchCaptor.capture(), any());
+        assertArrayEquals(new String[] { WORKFLOW_STATE_INDEX }, searchCaptor.getValue().indices());
+        assertTrue(searchCaptor.getValue().source().query().toString().contains("node-1"));
+
+        // The complete workflow is validated, then resumed with the recorded params, reusing the output of the step completed during this
+        // provisioning
+        verify(workflowProcessSorter).validate(any(), any());
+        verify(workflowProcessSorter).sortProcessNodes(any(Workflow.class), eq("1"), eq(params), nullable(String.class));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, Map<String, String>>> completedOutputsCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(workflowProcessSorter).sortProcessNodes(
+            any(Workflow.class),
+            eq("1"),
+            eq(params),
+            nullable(String.class),
+            completedOutputsCaptor.capture()
+        );
+        assertEquals(Map.of("A", Map.of("foo", "bar")), completedOutputsCaptor.getValue());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, Object>> updateCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(flowFrameworkIndicesHandler, atLeastOnce()).updateFlowFrameworkSystemIndexDoc(
+            eq("1"),
+            nullable(String.class),
+            updateCaptor.capture(),
+            any()
+        );
+        assertTrue(updateCaptor.getAllValues().stream().anyMatch(update -> State.COMPLETED.equals(update.get(STATE_FIELD))));
+    }
+
+    public void testResumeWorkflowProvisionedByUser() {
+        DiscoveryNode localNode = mock(DiscoveryNode.class);
+        when(localNode.getId()).thenReturn("node-1");
+        when(clusterService.localNode()).thenReturn(localNode);
+        ArgumentCaptor<ClusterStateListener> resumeListenerCaptor = ArgumentCaptor.forClass(ClusterStateListener.class);
+        verify(clusterService).addListener(resumeListenerCaptor.capture());
+
+        User user = TestHelpers.randomUser();
+        WorkflowState workflowState = WorkflowState.builder()
+            .workflowId("1")
+            .state(State.PROVISIONING.name())
+            .provisioningProgress(ProvisioningProgress.IN_PROGRESS.name())
+            .provisionStartTime(Instant.ofEpochMilli(System.currentTimeMillis()))
+            .user(user)
+            .executionJournal(new ExecutionJournal("node-1", Collections.emptyMap(), Collections.emptyMap()))
+            .build();
+        mockInterruptedWorkflowSearch(workflowState);
+        mockGetTemplate("1");
+        mockUpdateFlowFrameworkSystemIndexDoc();
+        ThreadContext threadContext = client.threadPool().getThreadContext();
+        AtomicReference<String> injectedRoles = new AtomicReference<>();
+        doAnswer(invocation -> {
+            injectedRoles.set(threadContext.getTransient(ConfigConstants.OPENSEARCH_SECURITY_INJECTED_ROLES));
+            ActionListener<Template> templateListener = invocation.getArgument(1);
+            templateListener.onResponse(template);
+            return null;
+        }).when(encryptorUtils).decryptTemplateCredentials(any(Template.class), any());
+
+        resumeListenerCaptor.getValue().clusterChanged(clusterChangedEvent(true, true));
+
+        // The remaining steps are executed with the roles of the user who started provisioning
+        assertNotNull(injectedRoles.get());
+        assertTrue(injectedRoles.get().contains(String.join(",", user.getRoles())));
+        assertNull(threadContext.getTransient(ConfigConstants.OPENSEARCH_SECURITY_INJECTED_ROLES));
+        verify(workflowProcessSorter).sortProcessNodes(any(Workflow.class), eq("1"), anyMap(), nullable(String.class), anyMap());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, Object>> updateCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(flowFrameworkIndicesHandler, atLeastOnce()).updateFlowFrameworkSystemIndexDoc(
+            eq("1"),
+            nullable(String.class),
+            updateCaptor.capture(),
+            any()
+        );
+        assertEquals(State.COMPLETED, updateCaptor.getValue().get(STATE_FIELD));
+    }
+
+    public void testNoResumeWithoutStateIndex() {
+        ArgumentCaptor<ClusterStateListener> resumeListenerCaptor = ArgumentCaptor.forClass(ClusterStateListener.class);
+        verify(clusterService).addListener(resumeListenerCaptor.capture());
+
+        resumeListenerCaptor.getValue().clusterChanged(clusterChangedEvent(false, true));
+
+        verify(clusterService).removeListener(resumeListenerCaptor.getValue());
+        verify(client, never()).search(any(SearchRequest.class), any());
+    }
+
+    private ClusterChangedEvent clusterChangedEvent(boolean stateIndexExists, boolean stateRecovered) {
+        ClusterState state = mock(ClusterState.class);
+        when(state.blocks()).thenReturn(
+            stateRecovered
+                ? ClusterBlocks.EMPTY_CLUSTER_BLOCK
+                : ClusterBlocks.builder().addGlobalBlock(GatewayService.STATE_NOT_RECOVERED_BLOCK).build()
+        );
+        RoutingTable routingTable = mock(RoutingTable.class);
+        when(state.routingTable()).thenReturn(routingTable);
+        if (stateIndexExists) {
+            IndexRoutingTable stateIndexRouting = mock(IndexRoutingTable.class);
+            when(stateIndexRouting.allPrimaryShardsActive()).thenReturn(true);
+            when(routingTable.index(WORKFLOW_STATE_INDEX)).thenReturn(stateIndexRouting);
+        }
+        ClusterChangedEvent event = mock(ClusterChangedEvent.class);
+        when(event.state()).thenReturn(state);
+        return event;
+    }
+
+    private void mockInterruptedWorkflowSearch(WorkflowState workflowState) {
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> searchListener = invocation.getArgument(1);
+            SearchHit hit = new SearchHit(0, workflowState.getWorkflowId(), Collections.emptyMap(), Collections.emptyMap());
+            hit.sourceRef(BytesReference.bytes(workflowState.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS)));
+            SearchHits searchHits = new SearchHits(new SearchHit[] { hit }, new TotalHits(1, TotalHits.Relation.EQUAL_TO), 1.0f);
+            SearchResponseSections searchSections = new SearchResponseSections(
+                searchHits,
+                InternalAggregations.EMPTY,
+                null,
+                false,
+                false,
+                null,
+                1
+            );
+            searchListener.onResponse(
+                new SearchResponse(searchSections, null, 1, 1, 0, 1, ShardSearchFailure.EMPTY_ARRAY, SearchResponse.Clusters.EMPTY)
+            );
+            return null;
+        }).when(client).search(any(SearchRequest.class), any());
+    }
+
+    private void mockGetTemplate(String workflowId) {
+        doAnswer(invocation -> {
+            ActionListener<GetResponse> responseListener = invocation.getArgument(1);
+            XContentBuilder builder = XContentFactory.jsonBuilder();
+            this.template.toXContent(builder, null);
+            BytesReference templateBytesRef = BytesReference.bytes(builder);
+            GetResult getResult = new GetResult(GLOBAL_CONTEXT_INDEX, workflowId, 1, 1, 1, true, templateBytesRef, null, null);
+            responseListener.onResponse(new GetResponse(getResult));
+            return null;
+        }).when(client).get(any(GetRequest.class), any());
+    }
+
+    private void mockUpdateFlowFrameworkSystemIndexDoc() {
+        doAnswer(invocation -> {
+            ActionListener<UpdateResponse> actionListener = invocation.getArgument(3);
+            actionListener.onResponse(mock(UpdateResponse.class));
+            return null;
+        }).when(flowFrameworkIndicesHandler).updateFlowFrameworkSystemIndexDoc(any(), nullable(String.class), anyMap(), any());
+    }
+
+    private void mockDecryptTemplateCredentials(Template decryptedTemplate) {
+        doAnswer(invocation -> {
+            ActionListener<Template> templateListener = invocation.getArgument(1);
+            templateListener.onResponse(decryptedTemplate);
+            return null;
+        }).when(encryptorUtils).decryptTemplateCredentials(any(Template.class), any());
+    }
 }
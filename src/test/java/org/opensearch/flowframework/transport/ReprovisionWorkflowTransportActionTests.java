@@ -27,7 +27,10 @@ import org.opensearch.flowframework.model.Template;
 import org.opensearch.flowframework.model.Workflow;
 import org.opensearch.flowframework.model.WorkflowState;
 import org.opensearch.flowframework.util.EncryptorUtils;
+import org.opensearch.flowframework.util.FlowFrameworkExecutors;
+import org.opensearch.flowframework.util.WorkflowAccessControlCache;
 import org.opensearch.flowframework.workflow.ProcessNode;
+import org.opensearch.flowframework.workflow.StepDurationHistory;
 import org.opensearch.flowframework.workflow.WorkflowData;
 import org.opensearch.flowframework.workflow.WorkflowProcessSorter;
 import org.opensearch.flowframework.workflow.WorkflowStep;
@@ -116,10 +119,13 @@ public class ReprovisionWorkflowTransportActionTests extends OpenSearchTestCase
             workflowProcessSorter,
             flowFrameworkIndicesHandler,
             flowFrameworkSettings,
+            new FlowFrameworkExecutors(clientThreadPool, false),
+            new StepDurationHistory(),
             encryptorUtils,
             pluginsService,
             clusterService,
             xContentRegistry(),
+            new WorkflowAccessControlCache(),
             Settings.EMPTY
         );
 
@@ -138,7 +144,7 @@ public class ReprovisionWorkflowTransportActionTests extends OpenSearchTestCase
         when(mockTemplate.workflows()).thenReturn(mockWorkflows);
         when(workflowProcessSorter.sortProcessNodes(any(), any(), any(), any())).thenReturn(List.of());
         doNothing().when(workflowProcessSorter).validate(any(), any());
-        when(encryptorUtils.decryptTemplateCredentials(any())).thenReturn(mockTemplate);
+        mockDecryptTemplateCredentials(mockTemplate);
 
         // Stub state and resources created
         doAnswer(invocation -> {
@@ -188,7 +194,7 @@ public class ReprovisionWorkflowTransportActionTests extends OpenSearchTestCase
         when(mockTemplate.workflows()).thenReturn(mockWorkflows);
         when(workflowProcessSorter.sortProcessNodes(any(), any(), any(), any())).thenReturn(List.of());
         doNothing().when(workflowProcessSorter).validate(any(), any());
-        when(encryptorUtils.decryptTemplateCredentials(any())).thenReturn(mockTemplate);
+        mockDecryptTemplateCredentials(mockTemplate);
 
         // Stub state and resources created
         doAnswer(invocation -> {
@@ -228,7 +234,7 @@ public class ReprovisionWorkflowTransportActionTests extends OpenSearchTestCase
         when(mockTemplate.workflows()).thenReturn(mockWorkflows);
         when(workflowProcessSorter.sortProcessNodes(any(), any(), any(), any())).thenReturn(List.of());
         doNothing().when(workflowProcessSorter).validate(any(), any());
-        when(encryptorUtils.decryptTemplateCredentials(any())).thenReturn(mockTemplate);
+        mockDecryptTemplateCredentials(mockTemplate);
 
         // Stub state and resources created
         doAnswer(invocation -> {
@@ -268,7 +274,7 @@ public class ReprovisionWorkflowTransportActionTests extends OpenSearchTestCase
         when(mockTemplate.workflows()).thenReturn(mockWorkflows);
         when(workflowProcessSorter.sortProcessNodes(any(), any(), any(), any())).thenReturn(List.of());
         doNothing().when(workflowProcessSorter).validate(any(), any());
-        when(encryptorUtils.decryptTemplateCredentials(any())).thenReturn(mockTemplate);
+        mockDecryptTemplateCredentials(mockTemplate);
 
         // Stub state and resources created
         doAnswer(invocation -> {
@@ -318,7 +324,7 @@ public class ReprovisionWorkflowTransportActionTests extends OpenSearchTestCase
         when(mockTemplate.workflows()).thenReturn(mockWorkflows);
         when(workflowProcessSorter.sortProcessNodes(any(), any(), any(), any())).thenReturn(List.of());
         doNothing().when(workflowProcessSorter).validate(any(), any());
-        when(encryptorUtils.decryptTemplateCredentials(any())).thenReturn(mockTemplate);
+        mockDecryptTemplateCredentials(mockTemplate);
 
         // Stub state index retrieval failure
         doAnswer(invocation -> {
@@ -350,7 +356,7 @@ public class ReprovisionWorkflowTransportActionTests extends OpenSearchTestCase
         when(mockTemplate.workflows()).thenReturn(mockWorkflows);
         when(workflowProcessSorter.sortProcessNodes(any(), any(), any(), any())).thenReturn(List.of());
         doNothing().when(workflowProcessSorter).validate(any(), any());
-        when(encryptorUtils.decryptTemplateCredentials(any())).thenReturn(mockTemplate);
+        mockDecryptTemplateCredentials(mockTemplate);
 
         // Stub state and resources created
         doAnswer(invocation -> {
@@ -368,7 +374,7 @@ public class ReprovisionWorkflowTransportActionTests extends OpenSearchTestCase
         PlainActionFuture<WorkflowData> failedFuture = PlainActionFuture.newFuture();
         failedFuture.onFailure(new RuntimeException("Simulated failure during workflow execution"));
         ProcessNode failedProcessNode = mock(ProcessNode.class);
-        when(failedProcessNode.execute()).thenReturn(failedFuture);
+        when(failedProcessNode.execute(any())).thenReturn(failedFuture);
         WorkflowStep mockStep = mock(WorkflowStep.class);
         when(mockStep.getName()).thenReturn("FakeStep");
         when(failedProcessNode.workflowStep()).thenReturn(mockStep);
@@ -399,4 +405,11 @@ public class ReprovisionWorkflowTransportActionTests extends OpenSearchTestCase
         assertTrue(exceptionCaptor.getValue().getMessage().startsWith("Simulated failure during workflow execution"));
     }
 
+    private void mockDecryptTemplateCredentials(Template decryptedTemplate) {
+        doAnswer(invocation -> {
+            ActionListener<Template> templateListener = invocation.getArgument(1);
+            templateListener.onResponse(decryptedTemplate);
+            return null;
+        }).when(encryptorUtils).decryptTemplateCredentials(any(Template.class), any());
+    }
 }
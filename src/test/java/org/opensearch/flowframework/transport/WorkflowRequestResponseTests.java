@@ -9,10 +9,12 @@
 package org.opensearch.flowframework.transport;
 
 import org.opensearch.Version;
+import org.opensearch.action.ActionRequestValidationException;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.io.stream.BytesStreamInput;
+import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.MediaTypeRegistry;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
@@ -246,4 +248,70 @@ public class WorkflowRequestResponseTests extends OpenSearchTestCase {
         assertTrue(builder.toString().contains("\"state\":\"PROVISIONING\""));
     }
 
+    public void testBulkWorkflowRequest() throws IOException {
+        BulkWorkflowRequest bulkRequest = new BulkWorkflowRequest(
+            List.of(template, template),
+            new String[] { "none" },
+            true,
+            "tenant",
+            2
+        );
+        assertNull(bulkRequest.validate());
+
+        BytesStreamOutput out = new BytesStreamOutput();
+        bulkRequest.writeTo(out);
+        BytesStreamInput in = new BytesStreamInput(BytesReference.toBytes(out.bytes()));
+
+        BulkWorkflowRequest streamInputRequest = new BulkWorkflowRequest(in);
+
+        assertEquals(2, streamInputRequest.getTemplates().size());
+        assertEquals(template.toString(), streamInputRequest.getTemplates().get(1).toString());
+        assertArrayEquals(new String[] { "none" }, streamInputRequest.getValidation());
+        assertTrue(streamInputRequest.isProvision());
+        assertEquals("tenant", streamInputRequest.getTenantId());
+        assertEquals(2, streamInputRequest.getMaxBulkWorkflows());
+
+        assertNotNull(new BulkWorkflowRequest(Collections.emptyList(), new String[] { "all" }, false, null, 2).validate());
+
+        ActionRequestValidationException e = new BulkWorkflowRequest(
+            List.of(template, template, template),
+            new String[] { "all" },
+            false,
+            null,
+            2
+        ).validate();
+        assertNotNull(e);
+        assertEquals("A bulk request can create at most 2 templates, but 3 were provided.", e.validationErrors().get(0));
+    }
+
+    public void testBulkWorkflowResponse() throws IOException {
+        BulkWorkflowResponse response = new BulkWorkflowResponse(
+            List.of(
+                BulkWorkflowResponse.BulkWorkflowItem.success("123"),
+                BulkWorkflowResponse.BulkWorkflowItem.failure("456", "Provisioning failed", RestStatus.INTERNAL_SERVER_ERROR),
+                BulkWorkflowResponse.BulkWorkflowItem.failure(null, "Limit reached", RestStatus.BAD_REQUEST)
+            )
+        );
+        assertTrue(response.hasFailures());
+
+        BytesStreamOutput out = new BytesStreamOutput();
+        response.writeTo(out);
+        BytesStreamInput in = new BytesStreamInput(BytesReference.toBytes(out.bytes()));
+
+        BulkWorkflowResponse streamInputResponse = new BulkWorkflowResponse(in);
+        assertEquals(3, streamInputResponse.getItems().size());
+        assertFalse(streamInputResponse.getItems().get(0).isFailed());
+        assertEquals("456", streamInputResponse.getItems().get(1).getWorkflowId());
+        assertEquals(RestStatus.INTERNAL_SERVER_ERROR, streamInputResponse.getItems().get(1).getStatus());
+        assertNull(streamInputResponse.getItems().get(2).getWorkflowId());
+
+        XContentBuilder builder = MediaTypeRegistry.contentBuilder(XContentType.JSON);
+        streamInputResponse.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        assertEquals(
+            "{\"workflows\":[{\"workflow_id\":\"123\"},"
+                + "{\"workflow_id\":\"456\",\"error\":\"Provisioning failed\",\"status\":500},"
+                + "{\"error\":\"Limit reached\",\"status\":400}]}",
+            builder.toString()
+        );
+    }
 }
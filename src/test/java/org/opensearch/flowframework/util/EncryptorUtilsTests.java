@@ -19,6 +19,7 @@ import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.commons.authuser.User;
 import org.opensearch.core.action.ActionListener;
@@ -34,6 +35,9 @@ import org.opensearch.remote.metadata.client.PutDataObjectRequest;
 import org.opensearch.remote.metadata.client.SdkClient;
 import org.opensearch.remote.metadata.client.impl.SdkClientFactory;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.FixedExecutorBuilder;
+import org.opensearch.threadpool.ScalingExecutorBuilder;
+import org.opensearch.threadpool.TestThreadPool;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.Client;
 
@@ -44,12 +48,19 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.opensearch.flowframework.common.CommonValue.CONFIG_INDEX;
 import static org.opensearch.flowframework.common.CommonValue.CREDENTIAL_FIELD;
+import static org.opensearch.flowframework.common.CommonValue.CRYPTO_WORKFLOW_THREAD_POOL;
+import static org.opensearch.flowframework.common.CommonValue.FLOW_FRAMEWORK_THREAD_POOL_PREFIX;
 import static org.opensearch.flowframework.common.CommonValue.MASTER_KEY;
+import static org.opensearch.flowframework.common.CommonValue.PROVISION_WORKFLOW_THREAD_POOL;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doAnswer;
@@ -151,6 +162,22 @@ public class EncryptorUtilsTests extends OpenSearchTestCase {
         assertNotEquals(encrypted1, encrypted2);
     }
 
+    public void testEncryptDecryptWithDataKeyCache() {
+        encryptorUtils = new EncryptorUtils(clusterService, client, sdkClient, xContentRegistry, true);
+        encryptorUtils.setMasterKey(null, testMasterKey);
+        String encrypted1 = encryptorUtils.encrypt("test1", null);
+        String encrypted2 = encryptorUtils.encrypt("test2", null);
+        assertEquals("test1", encryptorUtils.decrypt(encrypted1, null));
+        assertEquals("test2", encryptorUtils.decrypt(encrypted2, null));
+
+        // Setting the same key keeps cached data keys, rotating the key discards them
+        encryptorUtils.setMasterKey(null, testMasterKey);
+        assertEquals("test1", encryptorUtils.decrypt(encrypted1, null));
+        encryptorUtils.setMasterKey(null, encryptorUtils.generateMasterKey());
+        expectThrows(Exception.class, () -> encryptorUtils.decrypt(encrypted1, null));
+        assertEquals("test3", encryptorUtils.decrypt(encryptorUtils.encrypt("test3", null), null));
+    }
+
     public void testInitializeMasterKeySuccess() throws IOException {
         String masterKey = encryptorUtils.generateMasterKey();
 
@@ -299,6 +326,140 @@ public class EncryptorUtilsTests extends OpenSearchTestCase {
         assertEquals(testCredentialValue, decryptedCredential);
     }
 
+    public void testEncryptDecryptTemplateCredentialsAsync() throws InterruptedException {
+        encryptorUtils.setMasterKey(null, testMasterKey);
+        List<WorkflowNode> nodes = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            // Two nodes share each credential value
+            nodes.add(
+                new WorkflowNode("node" + i, "a-type", Collections.emptyMap(), Map.of(CREDENTIAL_FIELD, Map.of("key", "value" + i / 2)))
+            );
+        }
+        Template template = Template.builder(testTemplate)
+            .workflows(Map.of("provision", new Workflow(Collections.emptyMap(), nodes, Collections.emptyList())))
+            .build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            PlainActionFuture<Template> encryptFuture = PlainActionFuture.newFuture();
+            encryptorUtils.encryptTemplateCredentials(template, executor, encryptFuture);
+            Template encryptedTemplate = encryptFuture.actionGet(10, TimeUnit.SECONDS);
+
+            PlainActionFuture<Template> decryptFuture = PlainActionFuture.newFuture();
+            encryptorUtils.decryptTemplateCredentials(encryptedTemplate, executor, decryptFuture);
+            Template decryptedTemplate = decryptFuture.actionGet(10, TimeUnit.SECONDS);
+
+            for (int i = 0; i < 6; i++) {
+                @SuppressWarnings("unchecked")
+                Map<String, String> encrypted = (Map<String, String>) encryptedTemplate.workflows()
+                    .get("provision")
+                    .nodes()
+                    .get(i)
+                    .userInputs()
+                    .get(CREDENTIAL_FIELD);
+                assertNotEquals("value" + i / 2, encrypted.get("key"));
+                @SuppressWarnings("unchecked")
+                Map<String, String> decrypted = (Map<String, String>) decryptedTemplate.workflows()
+                    .get("provision")
+                    .nodes()
+                    .get(i)
+                    .userInputs()
+                    .get(CREDENTIAL_FIELD);
+                assertEquals("value" + i / 2, decrypted.get("key"));
+            }
+
+            // A template without credentials is returned without initializing the key
+            PlainActionFuture<Template> noCredentialsFuture = PlainActionFuture.newFuture();
+            Template noCredentials = Template.builder(testTemplate).workflows(Collections.emptyMap()).build();
+            encryptorUtils.decryptTemplateCredentials(noCredentials, executor, noCredentialsFuture);
+            assertSame(noCredentials, noCredentialsFuture.actionGet(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+
+    public void testDecryptTemplateCredentialsAsyncFailure() {
+        encryptorUtils.setMasterKey(null, testMasterKey);
+        PlainActionFuture<Template> future = PlainActionFuture.newFuture();
+        Template template = Template.builder(testTemplate)
+            .workflows(
+                Map.of(
+                    "provision",
+                    new Workflow(
+                        Collections.emptyMap(),
+                        List.of(new WorkflowNode("A", "a-type", Collections.emptyMap(), Map.of(CREDENTIAL_FIELD, Map.of("key", "bad")))),
+                        Collections.emptyList()
+                    )
+                )
+            )
+            .build();
+        encryptorUtils.decryptTemplateCredentials(template, Runnable::run, future);
+        FlowFrameworkException e = expectThrows(FlowFrameworkException.class, () -> future.actionGet(10, TimeUnit.SECONDS));
+        assertEquals("Failed to process template credentials", e.getMessage());
+    }
+
+    public void testTemplateCredentialsProcessedOnCryptoThreadPool() {
+        encryptorUtils.setMasterKey(null, testMasterKey);
+        TestThreadPool testThreadPool = new TestThreadPool(
+            EncryptorUtilsTests.class.getName(),
+            new FixedExecutorBuilder(
+                Settings.EMPTY,
+                CRYPTO_WORKFLOW_THREAD_POOL,
+                1,
+                10,
+                FLOW_FRAMEWORK_THREAD_POOL_PREFIX + CRYPTO_WORKFLOW_THREAD_POOL
+            ),
+            new ScalingExecutorBuilder(
+                PROVISION_WORKFLOW_THREAD_POOL,
+                1,
+                1,
+                TimeValue.timeValueMinutes(5),
+                FLOW_FRAMEWORK_THREAD_POOL_PREFIX + PROVISION_WORKFLOW_THREAD_POOL
+            )
+        );
+        CountDownLatch releaseCryptoThread = new CountDownLatch(1);
+        try {
+            when(client.threadPool()).thenReturn(testThreadPool);
+            // Occupy the only crypto thread with credential work
+            testThreadPool.executor(CRYPTO_WORKFLOW_THREAD_POOL).execute(() -> {
+                try {
+                    releaseCryptoThread.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            PlainActionFuture<Template> encryptFuture = PlainActionFuture.newFuture();
+            AtomicReference<String> encryptThreadName = new AtomicReference<>();
+            encryptorUtils.encryptTemplateCredentials(testTemplate, ActionListener.wrap(template -> {
+                encryptThreadName.set(Thread.currentThread().getName());
+                encryptFuture.onResponse(template);
+            }, encryptFuture::onFailure));
+
+            // Provisioning still runs while the credential work is queued
+            PlainActionFuture<String> provisionFuture = PlainActionFuture.newFuture();
+            testThreadPool.executor(PROVISION_WORKFLOW_THREAD_POOL)
+                .execute(() -> provisionFuture.onResponse(Thread.currentThread().getName()));
+            assertTrue(provisionFuture.actionGet(10, TimeUnit.SECONDS).contains(PROVISION_WORKFLOW_THREAD_POOL));
+            assertFalse(encryptFuture.isDone());
+
+            releaseCryptoThread.countDown();
+            Template encryptedTemplate = encryptFuture.actionGet(10, TimeUnit.SECONDS);
+            assertTrue(encryptThreadName.get().contains(CRYPTO_WORKFLOW_THREAD_POOL));
+            @SuppressWarnings("unchecked")
+            Map<String, String> encrypted = (Map<String, String>) encryptedTemplate.workflows()
+                .get("provision")
+                .nodes()
+                .get(0)
+                .userInputs()
+                .get(CREDENTIAL_FIELD);
+            assertNotEquals(testCredentialValue, encrypted.get(testCredentialKey));
+        } finally {
+            releaseCryptoThread.countDown();
+            ThreadPool.terminate(testThreadPool, 500, TimeUnit.MILLISECONDS);
+        }
+    }
+
     public void testRedactTemplateCredential() {
         // Confirm credentials are present in the non-redacted template
         WorkflowNode node = testTemplate.workflows().get("provision").nodes().get(0);
@@ -0,0 +1,119 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.util;
+
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ScalingExecutorBuilder;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.opensearch.flowframework.common.CommonValue.DEPROVISION_WORKFLOW_THREAD_POOL;
+import static org.opensearch.flowframework.common.CommonValue.FLOW_FRAMEWORK_THREAD_POOL_PREFIX;
+import static org.opensearch.flowframework.common.CommonValue.PROVISION_WORKFLOW_THREAD_POOL;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_THREAD_POOL;
+
+public class FlowFrameworkExecutorsTests extends OpenSearchTestCase {
+
+    private TestThreadPool testThreadPool;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        testThreadPool = new TestThreadPool(
+            FlowFrameworkExecutorsTests.class.getName(),
+            new ScalingExecutorBuilder(
+                WORKFLOW_THREAD_POOL,
+                1,
+                2,
+                TimeValue.timeValueMinutes(1),
+                FLOW_FRAMEWORK_THREAD_POOL_PREFIX + WORKFLOW_THREAD_POOL
+            ),
+            new ScalingExecutorBuilder(
+                PROVISION_WORKFLOW_THREAD_POOL,
+                1,
+                2,
+                TimeValue.timeValueMinutes(5),
+                FLOW_FRAMEWORK_THREAD_POOL_PREFIX + PROVISION_WORKFLOW_THREAD_POOL
+            ),
+            new ScalingExecutorBuilder(
+                DEPROVISION_WORKFLOW_THREAD_POOL,
+                1,
+                2,
+                TimeValue.timeValueMinutes(1),
+                FLOW_FRAMEWORK_THREAD_POOL_PREFIX + DEPROVISION_WORKFLOW_THREAD_POOL
+            )
+        );
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        ThreadPool.terminate(testThreadPool, 500, TimeUnit.MILLISECONDS);
+        super.tearDown();
+    }
+
+    public void testPlatformThreads() throws Exception {
+        try (FlowFrameworkExecutors executors = new FlowFrameworkExecutors(testThreadPool, false)) {
+            assertFalse(executors.isVirtualThreadsEnabled());
+            PlainActionFuture<Boolean> future = PlainActionFuture.newFuture();
+            executors.executor(PROVISION_WORKFLOW_THREAD_POOL).execute(() -> future.onResponse(Thread.currentThread().isVirtual()));
+            assertFalse(future.actionGet(1, TimeUnit.MINUTES));
+
+            assertBusy(() -> assertEquals(1, executors.stats().get(PROVISION_WORKFLOW_THREAD_POOL).getCompleted()), 1, TimeUnit.MINUTES);
+            FlowFrameworkExecutors.ExecutorStats stats = executors.stats().get(PROVISION_WORKFLOW_THREAD_POOL);
+            assertEquals("platform", stats.getMode());
+            assertEquals(0, stats.getFailed());
+            assertEquals(0, stats.getRejected());
+            assertEquals(0, executors.stats().get(WORKFLOW_THREAD_POOL).getCompleted());
+        }
+    }
+
+    public void testVirtualThreads() throws Exception {
+        try (FlowFrameworkExecutors executors = new FlowFrameworkExecutors(testThreadPool, true)) {
+            assertTrue(executors.isVirtualThreadsEnabled());
+            ThreadContext threadContext = testThreadPool.getThreadContext();
+            PlainActionFuture<String> future = PlainActionFuture.newFuture();
+            try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+                threadContext.putHeader("test-header", "test-value");
+                executors.executor(DEPROVISION_WORKFLOW_THREAD_POOL)
+                    .execute(() -> future.onResponse(Thread.currentThread().isVirtual() + ":" + threadContext.getHeader("test-header")));
+            }
+            // Thread context is carried to the virtual thread
+            assertEquals("true:test-value", future.actionGet(1, TimeUnit.MINUTES));
+
+            assertBusy(() -> assertEquals(1, executors.stats().get(DEPROVISION_WORKFLOW_THREAD_POOL).getCompleted()), 1, TimeUnit.MINUTES);
+            FlowFrameworkExecutors.ExecutorStats stats = executors.stats().get(DEPROVISION_WORKFLOW_THREAD_POOL);
+            assertEquals("virtual", stats.getMode());
+            assertEquals(0, stats.getFailed());
+            assertEquals(0, stats.getActive());
+        }
+    }
+
+    public void testStatsLogging() {
+        FlowFrameworkExecutors executors = new FlowFrameworkExecutors(testThreadPool, false);
+        executors.startStatsLogging(TimeValue.timeValueMillis(10));
+        executors.logStats();
+        assertEquals(
+            "{\"mode\":\"platform\",\"active\":0,\"completed\":0,\"failed\":0,\"rejected\":0,\"total_queue_time_millis\":0}",
+            executors.stats().get(WORKFLOW_THREAD_POOL).toString()
+        );
+        executors.close();
+    }
+
+    public void testUnknownExecutor() {
+        try (FlowFrameworkExecutors executors = new FlowFrameworkExecutors(testThreadPool, false)) {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> executors.executor("unknown"));
+            assertEquals("No flow framework executor for thread pool unknown", e.getMessage());
+        }
+    }
+}
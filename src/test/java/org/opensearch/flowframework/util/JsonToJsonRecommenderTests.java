@@ -12,6 +12,8 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.StreamReadConstraints;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import org.opensearch.flowframework.common.CommonValue;
 import org.opensearch.test.OpenSearchTestCase;
@@ -916,4 +918,51 @@ public class JsonToJsonRecommenderTests extends OpenSearchTestCase {
         assertNotNull("Should have detailed mapping", output.detailedJsonPathString);
         assertNotNull("Should have generalized mapping", output.generalizedJsonPathString);
     }
+
+    public void testWideAndDeepDocuments() throws IllegalArgumentException {
+        int rows = 1000;
+        int width = 20;
+        ObjectNode inputNode = MAPPER.createObjectNode();
+        ArrayNode inputRows = inputNode.putObject("data").putArray("rows");
+        ObjectNode outputNode = MAPPER.createObjectNode();
+        ArrayNode outputRows = outputNode.putArray("results");
+        for (int i = 0; i < rows; i++) {
+            ObjectNode inputRow = inputRows.addObject();
+            ObjectNode outputRow = outputRows.addObject();
+            for (int f = 0; f < width; f++) {
+                inputRow.put("f" + f, "v-" + i + "-" + f);
+                outputRow.put("g" + f, "v-" + i + "-" + f);
+            }
+            inputRow.putArray("tags").add("t-" + i + "-0").add("t-" + i + "-1");
+            outputRow.putArray("labels").add("t-" + i + "-0").add("t-" + i + "-1");
+        }
+
+        // A deep branch, with an array at every level
+        ObjectNode level = inputNode;
+        StringBuilder deepPath = new StringBuilder("$");
+        for (int i = 0; i < 200; i++) {
+            level = level.putArray("l").addObject();
+            deepPath.append(".l[0]");
+        }
+        level.put("v", "deep-value");
+        outputNode.put("deep", "deep-value");
+
+        JsonToJsonRecommender.MapFormatResult result = JsonToJsonRecommender.getRecommendationInMapFormat(inputNode, outputNode);
+
+        ObjectNode expectedElement = MAPPER.createObjectNode();
+        for (int f = 0; f < width; f++) {
+            expectedElement.put("g" + f, "$.data.rows[*].f" + f);
+        }
+        expectedElement.put("labels[*]", "$.data.rows[*].tags[*]");
+        ObjectNode expectedGeneralized = MAPPER.createObjectNode();
+        expectedGeneralized.set("results[*]", expectedElement);
+        expectedGeneralized.put("deep", deepPath + ".v");
+        assertEquals(expectedGeneralized, MAPPER.valueToTree(result.generalizedJsonPath));
+
+        JsonNode detailed = MAPPER.valueToTree(result.detailedJsonPath);
+        assertEquals(rows + 1, detailed.size());
+        assertEquals("$.data.rows[999].f19", detailed.get("results[999]").get("g19").asText());
+        assertEquals("$.data.rows[999].tags[1]", detailed.get("results[999]").get("labels[1]").asText());
+        assertEquals(deepPath + ".v", detailed.get("deep").asText());
+    }
 }
@@ -11,9 +11,20 @@ package org.opensearch.flowframework.util;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.test.OpenSearchTestCase;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 /**
  * Unit tests for {@link JsonToJsonTransformer}.
  */
@@ -405,7 +416,7 @@ public class JsonToJsonTransformerTests extends OpenSearchTestCase {
     public void testErrorHandling_NullMappingRules() {
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class,
-            () -> JsonToJsonTransformer.transform("{}", null)
+            () -> JsonToJsonTransformer.transform("{}", (String) null)
         );
         assertEquals("mappingRules must not be null or empty", exception.getMessage());
     }
@@ -563,6 +574,258 @@ public class JsonToJsonTransformerTests extends OpenSearchTestCase {
         assertJsonEquals(expectedOutput, actualOutput);
     }
 
+    public void testNestedWildcardArrays() throws JsonProcessingException {
+        String inputJson = """
+            {
+              "groups": [
+                { "name": "A", "members": [ { "id": 1 }, { "id": 2 } ] },
+                { "name": "B", "members": [ { "id": 3 } ] }
+              ]
+            }
+            """;
+
+        String mappingJson = """
+            {
+              "teams[*]": {
+                "team": "$.groups[*].name",
+                "first": "$.groups[*].members[0].id",
+                "people[*]": {
+                  "id": "$.groups[*].members[*].id",
+                  "team": "$.groups[*].name"
+                }
+              }
+            }
+            """;
+
+        String expectedOutput = """
+            {
+              "teams": [
+                {
+                  "team": "A",
+                  "first": 1,
+                  "people": [ { "id": 1, "team": "A" }, { "id": 2, "team": "A" } ]
+                },
+                {
+                  "team": "B",
+                  "first": 3,
+                  "people": [ { "id": 3, "team": "B" } ]
+                }
+              ]
+            }
+            """;
+
+        String actualOutput = JsonToJsonTransformer.transform(inputJson, mappingJson);
+        assertJsonEquals(expectedOutput, actualOutput);
+    }
+
+    public void testCompiledMappingIsReused() throws JsonProcessingException {
+        String mappingJson = """
+            {
+              "names": "$.items[*].name"
+            }
+            """;
+
+        JsonToJsonTransformer.CompiledMapping compiledMapping = JsonToJsonTransformer.compile(mappingJson);
+        assertSame(compiledMapping, JsonToJsonTransformer.compile(mappingJson));
+
+        assertJsonEquals(
+            "{\"names\":[\"a\"]}",
+            JsonToJsonTransformer.transform("{\"items\":[{\"name\":\"a\"}]}", compiledMapping)
+        );
+        assertJsonEquals(
+            "{\"names\":[\"b\",\"c\"]}",
+            JsonToJsonTransformer.transform("{\"items\":[{\"name\":\"b\"},{\"name\":\"c\"}]}", compiledMapping)
+        );
+    }
+
+    public void testLargeArray() throws JsonProcessingException {
+        int size = 1_000;
+        ArrayNode items = MAPPER.createArrayNode();
+        for (int i = 0; i < size; i++) {
+            ObjectNode item = items.addObject();
+            item.put("id", i);
+            item.put("name", "item-" + i);
+            item.putObject("detail").put("score", i * 2);
+        }
+        ObjectNode input = MAPPER.createObjectNode();
+        input.set("items", items);
+
+        String mappingJson = """
+            {
+              "results[*]": {
+                "id": "$.items[*].id",
+                "label": "$.items[*].name",
+                "score": "$.items[*].detail.score"
+              }
+            }
+            """;
+
+        JsonNode output = MAPPER.readTree(JsonToJsonTransformer.transform(MAPPER.writeValueAsString(input), mappingJson));
+        JsonNode results = output.get("results");
+        assertEquals(size, results.size());
+        for (int i = 0; i < size; i++) {
+            assertEquals(i, results.get(i).get("id").asInt());
+            assertEquals("item-" + i, results.get(i).get("label").asText());
+            assertEquals(i * 2, results.get(i).get("score").asInt());
+        }
+    }
+
+    public void testStreamingTransform() throws JsonProcessingException {
+        String inputJson = """
+            {
+              "user": {
+                "name": "Ann",
+                "tags": ["a", "b"],
+                "address": { "city": "Paris" }
+              },
+              "payload": { "blob": [1, 2, { "deep": [3] }] },
+              "items": [
+                { "id": 1, "v": { "x": 10 } },
+                { "id": 2, "v": { "x": 20 } }
+              ],
+              "weird key": { "k": true }
+            }
+            """;
+
+        String mappingJson = """
+            {
+              "name": "$.user.name",
+              "firstTag": "$.user.tags[0]",
+              "tags": "$.user.tags[*]",
+              "city": "$['user']['address'].city",
+              "ids": "$.items[*].id",
+              "xs": "$.items[*].v.x",
+              "userValues": "$.user.*",
+              "key": "$['weird key'].k",
+              "missing": "$.user.missing",
+              "list[1]": {
+                "id": "$.items[1].id"
+              },
+              "nested": {
+                "whole": "$.user.address",
+                "city": "$.user.address.city"
+              }
+            }
+            """;
+
+        String expectedOutput = """
+            {
+              "name": "Ann",
+              "firstTag": "a",
+              "tags": ["a", "b"],
+              "city": "Paris",
+              "ids": [1, 2],
+              "xs": [10, 20],
+              "userValues": ["Ann", ["a", "b"], { "city": "Paris" }],
+              "key": true,
+              "list": [{}, { "id": 2 }],
+              "nested": {
+                "whole": { "city": "Paris" },
+                "city": "Paris"
+              }
+            }
+            """;
+
+        assertTrue(JsonToJsonTransformer.compile(mappingJson).isStreamable());
+        assertJsonEquals(expectedOutput, JsonToJsonTransformer.transform(inputJson, mappingJson));
+    }
+
+    public void testStreamAndBytesReferenceTransform() throws IOException {
+        String inputJson = "{\"skipped\":[1,2,3],\"user\":{\"name\":\"Ann\"}}";
+        JsonToJsonTransformer.CompiledMapping compiledMapping = JsonToJsonTransformer.compile("{\"name\":\"$.user.name\"}");
+
+        AtomicBoolean inputClosed = new AtomicBoolean();
+        AtomicBoolean outputClosed = new AtomicBoolean();
+        InputStream input = new ByteArrayInputStream(inputJson.getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public void close() {
+                inputClosed.set(true);
+            }
+        };
+        ByteArrayOutputStream output = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                outputClosed.set(true);
+            }
+        };
+        JsonToJsonTransformer.transform(input, compiledMapping, output);
+        assertJsonEquals("{\"name\":\"Ann\"}", output.toString(StandardCharsets.UTF_8));
+        assertFalse(inputClosed.get());
+        assertFalse(outputClosed.get());
+
+        BytesReference result = JsonToJsonTransformer.transform(new BytesArray(inputJson), compiledMapping);
+        assertJsonEquals("{\"name\":\"Ann\"}", result.utf8ToString());
+    }
+
+    public void testTreeModeFallback() throws IOException {
+        String inputJson = "{\"items\":[{\"id\":1},{\"id\":2}]}";
+
+        // Wildcard arrays need random access to the input
+        JsonToJsonTransformer.CompiledMapping wildcardArray = JsonToJsonTransformer.compile("{\"results[*]\":{\"id\":\"$.items[*].id\"}}");
+        assertFalse(wildcardArray.isStreamable());
+        assertJsonEquals(
+            "{\"results\":[{\"id\":1},{\"id\":2}]}",
+            JsonToJsonTransformer.transform(new BytesArray(inputJson), wildcardArray).utf8ToString()
+        );
+
+        // Elements of the same array are merged
+        JsonToJsonTransformer.CompiledMapping sameName = JsonToJsonTransformer.compile(
+            "{\"list[0]\":{\"id\":\"$.items[0].id\"},\"list[1]\":{\"id\":\"$.items[1].id\"}}"
+        );
+        assertFalse(sameName.isStreamable());
+        assertJsonEquals("{\"list\":[{\"id\":1},{\"id\":2}]}", JsonToJsonTransformer.transform(inputJson, sameName));
+
+        // Filters are evaluated by JsonPath
+        JsonToJsonTransformer.CompiledMapping filter = JsonToJsonTransformer.compile("{\"ids\":\"$.items[?(@.id > 1)].id\"}");
+        assertFalse(filter.isStreamable());
+        assertJsonEquals("{\"ids\":2}", JsonToJsonTransformer.transform(inputJson, filter));
+    }
+
+    public void testStreamingInvalidInput() throws IOException {
+        JsonToJsonTransformer.CompiledMapping compiledMapping = JsonToJsonTransformer.compile("{\"name\":\"$.user.name\"}");
+        assertTrue(compiledMapping.isStreamable());
+
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> JsonToJsonTransformer.transform(new BytesArray("{\"skipped\":[1, 2"), compiledMapping)
+        );
+        assertTrue(exception.getMessage(), exception.getMessage().contains("Invalid input JSON for JsonPath parsing"));
+
+        exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> JsonToJsonTransformer.transform(new ByteArrayInputStream(new byte[0]), compiledMapping, new ByteArrayOutputStream())
+        );
+        assertTrue(exception.getMessage(), exception.getMessage().contains("Invalid input JSON for JsonPath parsing"));
+    }
+
+    public void testLargeStreamedInput() throws IOException {
+        int size = 10_000;
+        ArrayNode items = MAPPER.createArrayNode();
+        for (int i = 0; i < size; i++) {
+            ObjectNode item = items.addObject();
+            item.put("id", i);
+            item.put("name", "item-" + i);
+            item.putArray("history").add(i).add(i + 1);
+        }
+        ObjectNode input = MAPPER.createObjectNode();
+        input.set("items", items);
+        input.putObject("meta").put("count", size);
+
+        JsonToJsonTransformer.CompiledMapping compiledMapping = JsonToJsonTransformer.compile(
+            "{\"count\":\"$.meta.count\",\"ids\":\"$.items[*].id\",\"last\":\"$.items[" + (size - 1) + "].name\"}"
+        );
+        assertTrue(compiledMapping.isStreamable());
+
+        BytesReference output = JsonToJsonTransformer.transform(new BytesArray(MAPPER.writeValueAsBytes(input)), compiledMapping);
+        JsonNode result = MAPPER.readTree(output.utf8ToString());
+        assertEquals(size, result.get("count").asInt());
+        assertEquals(size, result.get("ids").size());
+        for (int i = 0; i < size; i++) {
+            assertEquals(i, result.get("ids").get(i).asInt());
+        }
+        assertEquals("item-" + (size - 1), result.get("last").asText());
+    }
+
     /**
      * Helper method to compare JSON strings for structural equality using Jackson.
      */
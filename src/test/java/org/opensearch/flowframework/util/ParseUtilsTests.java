@@ -16,6 +16,7 @@ import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.core.xcontent.XContentParser.Token;
 import org.opensearch.flowframework.common.CommonValue;
 import org.opensearch.flowframework.exception.FlowFrameworkException;
+import org.opensearch.flowframework.model.PipelineProcessor;
 import org.opensearch.flowframework.workflow.WorkflowData;
 import org.opensearch.ml.common.connector.ConnectorAction;
 import org.opensearch.ml.repackage.com.google.common.collect.ImmutableList;
@@ -376,6 +377,36 @@ public class ParseUtilsTests extends OpenSearchTestCase {
 
     }
 
+    public void testUserInputsEqualsStructurally() {
+        Map<String, Object> originalInputs = Map.ofEntries(
+            Map.entry("name", "test"),
+            Map.entry("dimension", 768),
+            Map.entry("ratio", 0.5f),
+            Map.entry("tools", new String[] { "a", "b" }),
+            Map.entry("processors", new PipelineProcessor[] { new PipelineProcessor("text_embedding", Map.of("model_id", "abc")) }),
+            Map.entry("parameters", Map.of("model", "gpt", "temperature", "0"))
+        );
+        Map<String, Object> equivalentInputs = new HashMap<>();
+        equivalentInputs.put("parameters", new HashMap<>(Map.of("temperature", "0", "model", "gpt")));
+        equivalentInputs.put("processors", List.of(new PipelineProcessor("text_embedding", Map.of("model_id", "abc"))));
+        equivalentInputs.put("tools", List.of("a", "b"));
+        equivalentInputs.put("ratio", 0.5d);
+        equivalentInputs.put("dimension", 768L);
+        equivalentInputs.put("name", "test");
+        assertTrue(ParseUtils.userInputsEquals(originalInputs, equivalentInputs));
+
+        equivalentInputs.put("tools", List.of("b", "a"));
+        assertFalse(ParseUtils.userInputsEquals(originalInputs, equivalentInputs));
+        equivalentInputs.put("tools", List.of("a", "b"));
+        equivalentInputs.put("dimension", "768");
+        assertFalse(ParseUtils.userInputsEquals(originalInputs, equivalentInputs));
+        equivalentInputs.put("dimension", 768);
+        equivalentInputs.put("processors", List.of(new PipelineProcessor("text_embedding", Map.of("model_id", "def"))));
+        assertFalse(ParseUtils.userInputsEquals(originalInputs, equivalentInputs));
+        equivalentInputs.remove("processors");
+        assertFalse(ParseUtils.userInputsEquals(originalInputs, equivalentInputs));
+    }
+
     public void testFlattenSettings() throws Exception {
 
         Map<String, Object> indexSettingsMap = new HashMap<>();
@@ -0,0 +1,55 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.util;
+
+import org.opensearch.flowframework.workflow.WorkflowData;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.Collections;
+import java.util.Map;
+
+public class SubstitutionTemplateTests extends OpenSearchTestCase {
+
+    private final Map<String, WorkflowData> outputs = Map.of(
+        "create_connector",
+        new WorkflowData(Map.of("connector_id", "abc", "count", 3), "workflowId", "create_connector")
+    );
+    private final Map<String, String> params = Map.of("region", "us-east-1", "prompt", "Say \"hi\"\nC:\\", "a.b", "dotted");
+
+    public void testNoPlaceholders() {
+        assertNull(SubstitutionTemplate.compile("no placeholders"));
+        assertEquals("no placeholders", SubstitutionTemplate.substitute("no placeholders", outputs, params));
+    }
+
+    public void testSubstituteOutputsAndParams() {
+        String value = "${{create_connector.connector_id}} in ${{ region }}, ${{\tregion\n}}: ${{prompt}}";
+        assertEquals("abc in us-east-1, us-east-1: Say \\\"hi\\\"\\nC:\\\\", SubstitutionTemplate.substitute(value, outputs, params));
+    }
+
+    public void testUnresolvedPlaceholdersAreKept() {
+        String value = "${{create_connector.count}} ${{create_connector.missing}} ${{missing}} ${{}} ${{a.b}} ${{region";
+        assertEquals(
+            "${{create_connector.count}} ${{create_connector.missing}} ${{missing}} ${{}} dotted ${{region",
+            SubstitutionTemplate.substitute(value, outputs, params)
+        );
+        assertEquals(value, SubstitutionTemplate.substitute(value, null, null));
+        assertEquals(value.replace("${{a.b}}", "dotted"), SubstitutionTemplate.substitute(value, Collections.emptyMap(), params));
+    }
+
+    public void testInnermostPlaceholder() {
+        assertEquals("${{ us-east-1 }}", SubstitutionTemplate.substitute("${{ ${{region}} }}", outputs, params));
+    }
+
+    public void testCompiledTemplateIsCached() {
+        String value = "${{region}}-" + randomAlphaOfLength(5);
+        SubstitutionTemplate template = SubstitutionTemplate.compile(value);
+        assertSame(template, SubstitutionTemplate.compile(value));
+        assertEquals(value.replace("${{region}}", "us-east-1"), template.apply(outputs, params));
+    }
+}
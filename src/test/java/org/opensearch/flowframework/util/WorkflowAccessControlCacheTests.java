@@ -0,0 +1,45 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.util;
+
+import org.opensearch.commons.authuser.User;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.List;
+
+import static org.opensearch.flowframework.common.CommonValue.GLOBAL_CONTEXT_INDEX;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_STATE_INDEX;
+
+public class WorkflowAccessControlCacheTests extends OpenSearchTestCase {
+
+    private final User user = new User("alice", List.of("engineering"), List.of("all_access"), List.of());
+
+    public void testCache() {
+        WorkflowAccessControlCache accessControlCache = new WorkflowAccessControlCache();
+        String workflowId = randomAlphaOfLength(10);
+        WorkflowAccessControl accessControl = new WorkflowAccessControl(user, "tenant");
+        accessControlCache.put(GLOBAL_CONTEXT_INDEX, workflowId, "tenant", user, accessControl);
+
+        assertSame(accessControl, accessControlCache.get(GLOBAL_CONTEXT_INDEX, workflowId, "tenant", user));
+        assertNull(accessControlCache.get(WORKFLOW_STATE_INDEX, workflowId, "tenant", user));
+        assertNull(accessControlCache.get(GLOBAL_CONTEXT_INDEX, workflowId, "other", user));
+        assertNull(accessControlCache.get(GLOBAL_CONTEXT_INDEX, workflowId, "tenant", null));
+        User otherRoles = new User("alice", List.of("operations"), List.of("all_access"), List.of());
+        assertNull(accessControlCache.get(GLOBAL_CONTEXT_INDEX, workflowId, "tenant", otherRoles));
+        // Instances do not share entries
+        assertNull(new WorkflowAccessControlCache().get(GLOBAL_CONTEXT_INDEX, workflowId, "tenant", user));
+
+        accessControlCache.put(WORKFLOW_STATE_INDEX, workflowId, "tenant", user, accessControl);
+        accessControlCache.put(GLOBAL_CONTEXT_INDEX, "other", "tenant", user, accessControl);
+        accessControlCache.invalidate(workflowId);
+        assertNull(accessControlCache.get(GLOBAL_CONTEXT_INDEX, workflowId, "tenant", user));
+        assertNull(accessControlCache.get(WORKFLOW_STATE_INDEX, workflowId, "tenant", user));
+        assertSame(accessControl, accessControlCache.get(GLOBAL_CONTEXT_INDEX, "other", "tenant", user));
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.util;
+
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.commons.authuser.User;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.List;
+
+public class WorkflowAccessControlTests extends OpenSearchTestCase {
+
+    private final User user = new User("alice", List.of("engineering"), List.of("all_access"), List.of());
+
+    public void testParseSkipsOtherFields() throws IOException {
+        XContentBuilder builder = XContentFactory.jsonBuilder()
+            .startObject()
+            .field("name", "test")
+            .startObject("workflows")
+            .startObject("provision")
+            .startArray("nodes")
+            .startObject()
+            .field("id", "node")
+            .field("user", "not the user")
+            .endObject()
+            .endArray()
+            .endObject()
+            .endObject()
+            .field("user", user, ToXContent.EMPTY_PARAMS)
+            .field("tenant_id", "tenant")
+            .field("last_updated_time", 123L)
+            .endObject();
+
+        WorkflowAccessControl accessControl;
+        try (XContentParser parser = ParseUtils.jsonToParser(builder.toString())) {
+            accessControl = WorkflowAccessControl.parse(parser);
+        }
+        assertEquals("alice", accessControl.getUser().getName());
+        assertEquals(List.of("engineering"), accessControl.getUser().getBackendRoles());
+        assertEquals("tenant", accessControl.getTenantId());
+
+        try (XContentParser parser = ParseUtils.jsonToParser("{\"user\":null,\"name\":\"test\"}")) {
+            accessControl = WorkflowAccessControl.parse(parser);
+        }
+        assertNull(accessControl.getUser());
+        assertNull(accessControl.getTenantId());
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.util;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class WorkflowCountTrackerTests extends OpenSearchTestCase {
+
+    public void testTrackedCount() {
+        WorkflowCountTracker workflowCountTracker = new WorkflowCountTracker();
+        String tenantId = randomAlphaOfLength(10);
+        // Not counted yet
+        assertFalse(workflowCountTracker.isBelowMax(tenantId, 3));
+        workflowCountTracker.onCreated(tenantId);
+        assertFalse(workflowCountTracker.isBelowMax(tenantId, 3));
+
+        workflowCountTracker.reconcile(tenantId, 1);
+        assertTrue(workflowCountTracker.isBelowMax(tenantId, 3));
+        workflowCountTracker.onCreated(tenantId);
+        assertTrue(workflowCountTracker.isBelowMax(tenantId, 3));
+        workflowCountTracker.onCreated(tenantId);
+        assertFalse(workflowCountTracker.isBelowMax(tenantId, 3));
+        workflowCountTracker.onDeleted(tenantId);
+        assertTrue(workflowCountTracker.isBelowMax(tenantId, 3));
+
+        // Counts never go below zero
+        workflowCountTracker.onDeleted(tenantId);
+        workflowCountTracker.onDeleted(tenantId);
+        workflowCountTracker.onDeleted(tenantId);
+        workflowCountTracker.onCreated(tenantId);
+        workflowCountTracker.onCreated(tenantId);
+        assertTrue(workflowCountTracker.isBelowMax(tenantId, 3));
+
+        // Tenants are tracked separately, as are the counts of other instances
+        assertFalse(workflowCountTracker.isBelowMax(tenantId + "-other", 3));
+        assertFalse(new WorkflowCountTracker().isBelowMax(tenantId, 3));
+
+        workflowCountTracker.invalidate(tenantId);
+        assertFalse(workflowCountTracker.isBelowMax(tenantId, 3));
+    }
+
+    public void testTenantsWithoutWorkflowsAreNotTracked() {
+        WorkflowCountTracker workflowCountTracker = new WorkflowCountTracker();
+        workflowCountTracker.reconcile(null, 2);
+        assertTrue(workflowCountTracker.isBelowMax(null, 3));
+
+        workflowCountTracker.reconcile(null, 0);
+        assertFalse(workflowCountTracker.isBelowMax(null, 3));
+        workflowCountTracker.onCreated(null);
+        assertFalse(workflowCountTracker.isBelowMax(null, 3));
+    }
+}
@@ -35,6 +35,7 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
@@ -44,6 +45,7 @@ import static org.opensearch.flowframework.common.CommonValue.FLOW_FRAMEWORK_THR
 import static org.opensearch.flowframework.common.CommonValue.PROVISION_WORKFLOW_THREAD_POOL;
 import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_THREAD_POOL;
 import static org.opensearch.flowframework.common.WorkflowResources.MODEL_ID;
+import static org.opensearch.flowframework.model.WorkflowNode.NODE_TIMEOUT_FIELD;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -95,10 +97,9 @@ public class DeployModelStepTests extends OpenSearchTestCase {
             )
         );
         this.deployModel = new DeployModelStep(
-            testThreadPool,
             machineLearningNodeClient,
             flowFrameworkIndicesHandler,
-            flowFrameworkSettings
+            new MlTaskPoller(testThreadPool, machineLearningNodeClient, flowFrameworkSettings)
         );
         this.inputData = new WorkflowData(Map.ofEntries(Map.entry("model_id", "modelId")), "test-id", "test-node-id");
     }
@@ -222,4 +223,88 @@ public class DeployModelStepTests extends OpenSearchTestCase {
         assertTrue(ex.getCause() instanceof FlowFrameworkException);
         assertEquals("Failed to deploy model", ex.getCause().getMessage());
     }
+
+    public void testDeployModelPollsUntilComplete() throws Exception {
+        String modelId = "modelId";
+        String taskId = "taskId";
+
+        doAnswer(invocation -> {
+            ActionListener<MLDeployModelResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(new MLDeployModelResponse(taskId, MLTaskType.DEPLOY_MODEL, MLTaskState.CREATED.name()));
+            return null;
+        }).when(machineLearningNodeClient).deploy(eq(modelId), nullable(String.class), any());
+
+        // The task is running for two polls before completing
+        AtomicInteger polls = new AtomicInteger();
+        doAnswer(invocation -> {
+            ActionListener<MLTask> actionListener = invocation.getArgument(2);
+            MLTaskState state = polls.incrementAndGet() < 3 ? MLTaskState.RUNNING : MLTaskState.COMPLETED;
+            actionListener.onResponse(MLTask.builder().taskId(taskId).modelId(modelId).state(state).async(false).build());
+            return null;
+        }).when(machineLearningNodeClient).getTask(any(), nullable(String.class), any());
+
+        doAnswer(invocation -> {
+            ActionListener<WorkflowData> updateResponseListener = invocation.getArgument(5);
+            updateResponseListener.onResponse(new WorkflowData(Map.of(MODEL_ID, modelId), "test-id", "test-node-id"));
+            return null;
+        }).when(flowFrameworkIndicesHandler)
+            .addResourceToStateIndex(any(WorkflowData.class), anyString(), anyString(), anyString(), any(), any());
+
+        PlainActionFuture<WorkflowData> future = deployModel.execute(
+            inputData.getNodeId(),
+            inputData,
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            null
+        );
+
+        assertEquals(modelId, future.get(1, TimeUnit.MINUTES).getContent().get(MODEL_ID));
+        verify(machineLearningNodeClient, times(3)).getTask(any(), nullable(String.class), any());
+        verify(flowFrameworkIndicesHandler, times(1)).addResourceToStateIndex(
+            any(WorkflowData.class),
+            anyString(),
+            anyString(),
+            anyString(),
+            any(),
+            any()
+        );
+    }
+
+    public void testDeployModelPollingTimeout() {
+        String modelId = "modelId";
+        String taskId = "taskId";
+        WorkflowData timeoutInputData = new WorkflowData(
+            Map.ofEntries(Map.entry("model_id", modelId), Map.entry(NODE_TIMEOUT_FIELD, "300ms")),
+            "test-id",
+            "test-node-id"
+        );
+
+        doAnswer(invocation -> {
+            ActionListener<MLDeployModelResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(new MLDeployModelResponse(taskId, MLTaskType.DEPLOY_MODEL, MLTaskState.CREATED.name()));
+            return null;
+        }).when(machineLearningNodeClient).deploy(eq(modelId), nullable(String.class), any());
+
+        // The task never completes
+        doAnswer(invocation -> {
+            ActionListener<MLTask> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(MLTask.builder().taskId(taskId).modelId(modelId).state(MLTaskState.RUNNING).async(false).build());
+            return null;
+        }).when(machineLearningNodeClient).getTask(any(), nullable(String.class), any());
+
+        PlainActionFuture<WorkflowData> future = deployModel.execute(
+            timeoutInputData.getNodeId(),
+            timeoutInputData,
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            null
+        );
+
+        ExecutionException ex = expectThrows(ExecutionException.class, () -> future.get(1, TimeUnit.MINUTES));
+        assertTrue(ex.getCause() instanceof FlowFrameworkException);
+        assertEquals("Failed to deploy model", ex.getCause().getMessage());
+        assertEquals(RestStatus.REQUEST_TIMEOUT, ((FlowFrameworkException) ex.getCause()).getRestStatus());
+    }
 }
@@ -0,0 +1,176 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.workflow;
+
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.flowframework.indices.FlowFrameworkIndicesHandler;
+import org.opensearch.flowframework.model.ResourceCreated;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ScalingExecutorBuilder;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.opensearch.flowframework.common.CommonValue.DEPROVISION_WORKFLOW_THREAD_POOL;
+import static org.opensearch.flowframework.common.CommonValue.FLOW_FRAMEWORK_THREAD_POOL_PREFIX;
+import static org.opensearch.flowframework.common.WorkflowResources.AGENT_ID;
+import static org.opensearch.flowframework.common.WorkflowResources.CONNECTOR_ID;
+import static org.opensearch.flowframework.common.WorkflowResources.MODEL_ID;
+import static org.opensearch.flowframework.common.WorkflowResources.PIPELINE_ID;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class DeprovisionPlannerTests extends OpenSearchTestCase {
+
+    private TestThreadPool testThreadPool;
+    private WorkflowStepFactory workflowStepFactory;
+    private FlowFrameworkIndicesHandler flowFrameworkIndicesHandler;
+    private List<String> executedSteps;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        testThreadPool = new TestThreadPool(
+            DeprovisionPlannerTests.class.getName(),
+            new ScalingExecutorBuilder(
+                DEPROVISION_WORKFLOW_THREAD_POOL,
+                1,
+                4,
+                TimeValue.timeValueMinutes(1),
+                FLOW_FRAMEWORK_THREAD_POOL_PREFIX + DEPROVISION_WORKFLOW_THREAD_POOL
+            )
+        );
+        workflowStepFactory = mock(WorkflowStepFactory.class);
+        flowFrameworkIndicesHandler = mock(FlowFrameworkIndicesHandler.class);
+        executedSteps = Collections.synchronizedList(new ArrayList<>());
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        ThreadPool.terminate(testThreadPool, 500, TimeUnit.MILLISECONDS);
+        super.tearDown();
+    }
+
+    public void testDeprovisionInDependencyOrder() {
+        mockStep(DeleteConnectorStep.NAME, 0);
+        mockStep(DeleteModelStep.NAME, 0);
+        mockStep(UndeployModelStep.NAME, 0);
+        mockStep(DeleteIngestPipelineStep.NAME, 0);
+        mockStep(DeleteSearchPipelineStep.NAME, 0);
+        mockStep(DeleteAgentStep.NAME, 0);
+        // In provisioning order
+        List<ResourceCreated> resources = new ArrayList<>(
+            List.of(
+                new ResourceCreated(CreateConnectorStep.NAME, "connector", CONNECTOR_ID, "connector_id"),
+                new ResourceCreated(RegisterRemoteModelStep.NAME, "model", MODEL_ID, "model_id"),
+                new ResourceCreated(DeployModelStep.NAME, "deploy", MODEL_ID, "model_id"),
+                new ResourceCreated(RegisterAgentStep.NAME, "agent", AGENT_ID, "agent_id"),
+                new ResourceCreated(CreateIngestPipelineStep.NAME, "ingest", PIPELINE_ID, "ingest_id"),
+                new ResourceCreated(CreateSearchPipelineStep.NAME, "search", PIPELINE_ID, "search_id")
+            )
+        );
+        Collections.reverse(resources);
+
+        PlainActionFuture<List<ResourceCreated>> future = PlainActionFuture.newFuture();
+        createPlanner(resources).execute(future);
+
+        assertTrue(future.actionGet(1, TimeUnit.MINUTES).isEmpty());
+        assertEquals(6, executedSteps.size());
+        // Resources referencing others are deleted first, pipelines in either order
+        assertEquals(DeleteAgentStep.NAME, executedSteps.get(0));
+        assertTrue(executedSteps.subList(1, 3).containsAll(List.of(DeleteIngestPipelineStep.NAME, DeleteSearchPipelineStep.NAME)));
+        assertEquals(List.of(UndeployModelStep.NAME, DeleteModelStep.NAME, DeleteConnectorStep.NAME), executedSteps.subList(3, 6));
+        verify(flowFrameworkIndicesHandler, times(6)).deleteResourceFromStateIndex(eq("workflow_id"), nullable(String.class), any(), any());
+    }
+
+    public void testRetryAfterProgress() {
+        // The model fails once, and the connector is not found
+        mockStep(DeleteModelStep.NAME, 1);
+        WorkflowStep deleteConnectorStep = mock(WorkflowStep.class);
+        when(workflowStepFactory.createStep(DeleteConnectorStep.NAME)).thenReturn(deleteConnectorStep);
+        PlainActionFuture<WorkflowData> notFound = PlainActionFuture.newFuture();
+        notFound.onFailure(new OpenSearchStatusException("not found", RestStatus.NOT_FOUND));
+        when(deleteConnectorStep.execute(anyString(), any(WorkflowData.class), anyMap(), anyMap(), anyMap(), nullable(String.class)))
+            .thenReturn(notFound);
+        List<ResourceCreated> resources = List.of(
+            new ResourceCreated(RegisterRemoteModelStep.NAME, "model", MODEL_ID, "model_id"),
+            new ResourceCreated(CreateConnectorStep.NAME, "connector", CONNECTOR_ID, "connector_id")
+        );
+
+        PlainActionFuture<List<ResourceCreated>> future = PlainActionFuture.newFuture();
+        createPlanner(resources).execute(future);
+
+        assertTrue(future.actionGet(1, TimeUnit.MINUTES).isEmpty());
+        assertEquals(List.of(DeleteModelStep.NAME, DeleteModelStep.NAME), executedSteps);
+    }
+
+    public void testNoRetryWithoutProgress() {
+        mockStep(DeleteModelStep.NAME, Integer.MAX_VALUE);
+        mockStep(UndeployModelStep.NAME, Integer.MAX_VALUE);
+        ResourceCreated deployed = new ResourceCreated(DeployModelStep.NAME, "deploy", MODEL_ID, "model_id");
+        ResourceCreated registered = new ResourceCreated(RegisterRemoteModelStep.NAME, "model", MODEL_ID, "model_id");
+
+        PlainActionFuture<List<ResourceCreated>> future = PlainActionFuture.newFuture();
+        createPlanner(List.of(registered, deployed)).execute(future);
+
+        // Remaining resources keep their order
+        assertEquals(List.of(registered, deployed), future.actionGet(1, TimeUnit.MINUTES));
+        assertEquals(List.of(UndeployModelStep.NAME, DeleteModelStep.NAME), executedSteps);
+        verify(flowFrameworkIndicesHandler, times(0)).deleteResourceFromStateIndex(anyString(), nullable(String.class), any(), any());
+    }
+
+    private DeprovisionPlanner createPlanner(List<ResourceCreated> resources) {
+        return new DeprovisionPlanner(
+            "workflow_id",
+            null,
+            resources,
+            workflowStepFactory,
+            flowFrameworkIndicesHandler,
+            testThreadPool,
+            testThreadPool.executor(DEPROVISION_WORKFLOW_THREAD_POOL),
+            TimeValue.timeValueSeconds(10)
+        );
+    }
+
+    /**
+     * Mocks a deprovision step which records its execution and fails a number of times before succeeding
+     */
+    private void mockStep(String name, int failures) {
+        WorkflowStep step = mock(WorkflowStep.class);
+        when(workflowStepFactory.createStep(name)).thenReturn(step);
+        AtomicInteger attempts = new AtomicInteger();
+        when(step.execute(anyString(), any(WorkflowData.class), anyMap(), anyMap(), anyMap(), nullable(String.class))).thenAnswer(
+            invocation -> {
+                executedSteps.add(name);
+                PlainActionFuture<WorkflowData> future = PlainActionFuture.newFuture();
+                if (attempts.getAndIncrement() < failures) {
+                    future.onFailure(new RuntimeException(name + " failed"));
+                } else {
+                    future.onResponse(WorkflowData.EMPTY);
+                }
+                return future;
+            }
+        );
+    }
+}
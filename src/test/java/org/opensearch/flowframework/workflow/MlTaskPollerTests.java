@@ -0,0 +1,210 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.workflow;
+
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.flowframework.common.FlowFrameworkSettings;
+import org.opensearch.flowframework.exception.FlowFrameworkException;
+import org.opensearch.ml.client.MachineLearningNodeClient;
+import org.opensearch.ml.common.MLTask;
+import org.opensearch.ml.common.MLTaskState;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ScalingExecutorBuilder;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.opensearch.flowframework.common.CommonValue.FLOW_FRAMEWORK_THREAD_POOL_PREFIX;
+import static org.opensearch.flowframework.common.CommonValue.WORKFLOW_THREAD_POOL;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class MlTaskPollerTests extends OpenSearchTestCase {
+
+    private TestThreadPool testThreadPool;
+    private MachineLearningNodeClient mlClient;
+    private MlTaskPoller mlTaskPoller;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        testThreadPool = new TestThreadPool(
+            MlTaskPollerTests.class.getName(),
+            new ScalingExecutorBuilder(
+                WORKFLOW_THREAD_POOL,
+                1,
+                4,
+                TimeValue.timeValueMinutes(1),
+                FLOW_FRAMEWORK_THREAD_POOL_PREFIX + WORKFLOW_THREAD_POOL
+            )
+        );
+        mlClient = mock(MachineLearningNodeClient.class);
+        FlowFrameworkSettings flowFrameworkSettings = mock(FlowFrameworkSettings.class);
+        when(flowFrameworkSettings.getRetryDuration()).thenReturn(TimeValue.timeValueMillis(200));
+        mlTaskPoller = new MlTaskPoller(testThreadPool, mlClient, flowFrameworkSettings);
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        ThreadPool.terminate(testThreadPool, 500, TimeUnit.MILLISECONDS);
+        super.tearDown();
+    }
+
+    public void testPollTasksWithBoundedConcurrency() throws Exception {
+        int taskCount = MlTaskPoller.MAX_CONCURRENT_REQUESTS * 3;
+        // Each task is running for two polls, and responses are sent from another thread so requests overlap
+        Map<String, AtomicInteger> polls = new ConcurrentHashMap<>();
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        doAnswer(invocation -> {
+            String taskId = invocation.getArgument(0);
+            ActionListener<MLTask> listener = invocation.getArgument(2);
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            int poll = polls.computeIfAbsent(taskId, id -> new AtomicInteger()).incrementAndGet();
+            MLTaskState state = poll < 3 ? MLTaskState.RUNNING : MLTaskState.COMPLETED;
+            testThreadPool.schedule(() -> {
+                inFlight.decrementAndGet();
+                listener.onResponse(MLTask.builder().taskId(taskId).modelId("model_" + taskId).state(state).async(false).build());
+            }, TimeValue.timeValueMillis(5), WORKFLOW_THREAD_POOL);
+            return null;
+        }).when(mlClient).getTask(anyString(), nullable(String.class), any());
+
+        List<PlainActionFuture<MLTask>> futures = new ArrayList<>();
+        for (int i = 0; i < taskCount; i++) {
+            PlainActionFuture<MLTask> future = PlainActionFuture.newFuture();
+            mlTaskPoller.poll("task_" + i, null, PlainActionFuture.newFuture(), TimeValue.timeValueMinutes(1), future);
+            futures.add(future);
+        }
+
+        for (int i = 0; i < taskCount; i++) {
+            MLTask task = futures.get(i).actionGet(1, TimeUnit.MINUTES);
+            assertEquals(MLTaskState.COMPLETED, task.getState());
+            assertEquals("model_task_" + i, task.getModelId());
+            assertEquals(3, polls.get("task_" + i).get());
+        }
+        assertTrue(maxInFlight.get() <= MlTaskPoller.MAX_CONCURRENT_REQUESTS);
+        assertBusy(() -> assertEquals(0, mlTaskPoller.size()), 1, TimeUnit.MINUTES);
+    }
+
+    public void testStopPollingWhenStepCompletes() throws Exception {
+        AtomicInteger polls = new AtomicInteger();
+        doAnswer(invocation -> {
+            ActionListener<MLTask> listener = invocation.getArgument(2);
+            polls.incrementAndGet();
+            listener.onResponse(MLTask.builder().taskId("task").state(MLTaskState.RUNNING).async(false).build());
+            return null;
+        }).when(mlClient).getTask(anyString(), nullable(String.class), any());
+
+        PlainActionFuture<WorkflowData> stepFuture = PlainActionFuture.newFuture();
+        PlainActionFuture<MLTask> future = PlainActionFuture.newFuture();
+        mlTaskPoller.poll("task", null, stepFuture, TimeValue.timeValueMinutes(1), future);
+        assertBusy(() -> assertTrue(polls.get() > 0), 1, TimeUnit.MINUTES);
+
+        stepFuture.onFailure(new Exception("cancelled"));
+        assertBusy(() -> assertEquals(0, mlTaskPoller.size()), 1, TimeUnit.MINUTES);
+        assertFalse(future.isDone());
+    }
+
+    public void testPollingTimeout() {
+        doAnswer(invocation -> {
+            ActionListener<MLTask> listener = invocation.getArgument(2);
+            listener.onResponse(MLTask.builder().taskId("task").state(MLTaskState.RUNNING).async(false).build());
+            return null;
+        }).when(mlClient).getTask(anyString(), nullable(String.class), any());
+
+        PlainActionFuture<MLTask> future = PlainActionFuture.newFuture();
+        mlTaskPoller.poll("task", null, PlainActionFuture.newFuture(), TimeValue.timeValueMillis(300), future);
+
+        FlowFrameworkException e = expectThrows(FlowFrameworkException.class, () -> future.actionGet(1, TimeUnit.MINUTES));
+        assertEquals("Task task did not complete within 300ms", e.getMessage());
+        assertEquals(RestStatus.REQUEST_TIMEOUT, e.getRestStatus());
+    }
+
+    public void testPollInThreadContextOfStep() throws Exception {
+        ThreadContext threadContext = testThreadPool.getThreadContext();
+        Map<String, String> requestHeaders = new ConcurrentHashMap<>();
+        doAnswer(invocation -> {
+            String taskId = invocation.getArgument(0);
+            ActionListener<MLTask> listener = invocation.getArgument(2);
+            requestHeaders.put(taskId, threadContext.getHeader("step"));
+            // Respond in another context, as the response of a transport request would be
+            try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+                listener.onResponse(MLTask.builder().taskId(taskId).state(MLTaskState.COMPLETED).async(false).build());
+            }
+            return null;
+        }).when(mlClient).getTask(anyString(), nullable(String.class), any());
+
+        List<PlainActionFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            PlainActionFuture<String> future = PlainActionFuture.newFuture();
+            try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+                threadContext.putHeader("step", "step_" + i);
+                mlTaskPoller.poll(
+                    "task_" + i,
+                    null,
+                    PlainActionFuture.newFuture(),
+                    TimeValue.timeValueMinutes(1),
+                    ActionListener.wrap(task -> future.onResponse(threadContext.getHeader("step")), future::onFailure)
+                );
+            }
+            futures.add(future);
+        }
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("step_" + i, futures.get(i).actionGet(1, TimeUnit.MINUTES));
+            assertEquals("step_" + i, requestHeaders.get("task_" + i));
+        }
+    }
+
+    public void testRegisteringTaskDoesNotResetBackoff() throws Exception {
+        FlowFrameworkSettings flowFrameworkSettings = mock(FlowFrameworkSettings.class);
+        when(flowFrameworkSettings.getRetryDuration()).thenReturn(TimeValue.timeValueMinutes(1));
+        mlTaskPoller = new MlTaskPoller(testThreadPool, mlClient, flowFrameworkSettings);
+        AtomicInteger runningPolls = new AtomicInteger();
+        doAnswer(invocation -> {
+            String taskId = invocation.getArgument(0);
+            ActionListener<MLTask> listener = invocation.getArgument(2);
+            MLTaskState state = MLTaskState.COMPLETED;
+            if ("running".equals(taskId)) {
+                runningPolls.incrementAndGet();
+                state = MLTaskState.RUNNING;
+            }
+            listener.onResponse(MLTask.builder().taskId(taskId).state(state).async(false).build());
+            return null;
+        }).when(mlClient).getTask(anyString(), nullable(String.class), any());
+
+        PlainActionFuture<WorkflowData> runningStepFuture = PlainActionFuture.newFuture();
+        mlTaskPoller.poll("running", null, runningStepFuture, TimeValue.timeValueMinutes(1), PlainActionFuture.newFuture());
+        assertBusy(() -> assertTrue(runningPolls.get() >= 3), 1, TimeUnit.MINUTES);
+        int polls = runningPolls.get();
+
+        // The polls of the running task are now at least 400ms apart, while new tasks are polled within 100ms
+        for (int i = 0; i < 3; i++) {
+            PlainActionFuture<MLTask> future = PlainActionFuture.newFuture();
+            mlTaskPoller.poll("task_" + i, null, PlainActionFuture.newFuture(), TimeValue.timeValueMinutes(1), future);
+            assertEquals(MLTaskState.COMPLETED, future.actionGet(1, TimeUnit.MINUTES).getState());
+        }
+        assertTrue(runningPolls.get() - polls <= 1);
+        runningStepFuture.onFailure(new Exception("cancelled"));
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.workflow;
+
+import org.opensearch.flowframework.util.ParseUtils;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+public class PreviousNodeInputsTests extends OpenSearchTestCase {
+
+    public void testIndexedInputs() {
+        Map<String, String> map = Map.of("create_connector", "connector_id", "register_model", "model_id");
+        PreviousNodeInputs inputs = PreviousNodeInputs.of(map);
+
+        assertEquals(map, inputs);
+        assertEquals(inputs, map);
+        assertEquals("model_id", inputs.get("register_model"));
+        assertSame(inputs, PreviousNodeInputs.of(inputs));
+        assertEquals(Map.of("connector_id", "create_connector", "model_id", "register_model"), PreviousNodeInputs.sourceNodeByKey(inputs));
+        assertEquals(PreviousNodeInputs.sourceNodeByKey(inputs), PreviousNodeInputs.sourceNodeByKey(map));
+    }
+
+    public void testGetInputsFromIndexedInputs() {
+        WorkflowData currentNodeInputs = new WorkflowData(Map.of("name", "agent"), "workflowId", "register_agent");
+        Map<String, WorkflowData> outputs = Map.of(
+            "register_model",
+            new WorkflowData(Map.of("model_id", "abc", "tool", "${{register_model.model_id}}"), "workflowId", "register_model"),
+            "deploy_model",
+            new WorkflowData(Map.of("model_id", "def", "tools", Collections.singletonList("${{ index }}")), "workflowId", "deploy_model")
+        );
+
+        Map<String, Object> inputs = ParseUtils.getInputsFromPreviousSteps(
+            Set.of("name", "model_id"),
+            Set.of("tool", "tools", "missing"),
+            currentNodeInputs,
+            outputs,
+            PreviousNodeInputs.of(Map.of("deploy_model", "model_id")),
+            Map.of("index", "my-index")
+        );
+
+        assertEquals(Map.of("name", "agent", "model_id", "def", "tool", "abc", "tools", Collections.singletonList("my-index")), inputs);
+    }
+}
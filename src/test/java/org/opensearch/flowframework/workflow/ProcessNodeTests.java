@@ -13,6 +13,7 @@ import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.flowframework.util.ListenablePlainActionFuture;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.ScalingExecutorBuilder;
 import org.opensearch.threadpool.TestThreadPool;
@@ -250,4 +251,41 @@ public class ProcessNodeTests extends OpenSearchTestCase {
         // Tests where we already called execute
         assertThrows(IllegalStateException.class, () -> nodeE.execute());
     }
+
+    public void testListenableNodeTimeout() {
+        // Tests where a step supporting listeners finishes after timeout
+        ProcessNode nodeL = new ProcessNode("L", new WorkflowStep() {
+            @Override
+            public PlainActionFuture<WorkflowData> execute(
+                String currentNodeId,
+                WorkflowData currentNodeInputs,
+                Map<String, WorkflowData> outputs,
+                Map<String, String> previousNodeInputs,
+                Map<String, String> params,
+                String tenantId
+            ) {
+                // Never completed
+                return ListenablePlainActionFuture.newListenableFuture();
+            }
+
+            @Override
+            public String getName() {
+                return "sleepy";
+            }
+        },
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            WorkflowData.EMPTY,
+            List.of(successfulNode),
+            testThreadPool,
+            PROVISION_WORKFLOW_THREAD_POOL,
+            TimeValue.timeValueMillis(100),
+            null
+        );
+
+        PlainActionFuture<WorkflowData> f = nodeL.execute();
+        OpenSearchTimeoutException exception = assertThrows(OpenSearchTimeoutException.class, () -> f.actionGet());
+        assertTrue(f.isDone());
+        assertEquals(TimeoutException.class, exception.getCause().getClass());
+    }
 }
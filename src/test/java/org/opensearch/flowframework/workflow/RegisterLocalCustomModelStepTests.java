@@ -101,10 +101,9 @@ public class RegisterLocalCustomModelStepTests extends OpenSearchTestCase {
             )
         );
         this.registerLocalModelStep = new RegisterLocalCustomModelStep(
-            testThreadPool,
             machineLearningNodeClient,
             flowFrameworkIndicesHandler,
-            flowFrameworkSettings
+            new MlTaskPoller(testThreadPool, machineLearningNodeClient, flowFrameworkSettings)
         );
 
         this.workflowData = new WorkflowData(
@@ -100,10 +100,9 @@ public class RegisterLocalSparseEncodingModelStepTests extends OpenSearchTestCas
             )
         );
         this.registerLocalSparseEncodingModelStep = new RegisterLocalSparseEncodingModelStep(
-            testThreadPool,
             machineLearningNodeClient,
             flowFrameworkIndicesHandler,
-            flowFrameworkSettings
+            new MlTaskPoller(testThreadPool, machineLearningNodeClient, flowFrameworkSettings)
         );
 
         this.workflowData = new WorkflowData(
@@ -0,0 +1,422 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.flowframework.workflow;
+
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.flowframework.exception.FlowFrameworkException;
+import org.opensearch.flowframework.util.ListenablePlainActionFuture;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ScalingExecutorBuilder;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.opensearch.flowframework.common.CommonValue.FLOW_FRAMEWORK_THREAD_POOL_PREFIX;
+import static org.opensearch.flowframework.common.CommonValue.PROVISION_WORKFLOW_THREAD_POOL;
+
+public class WorkflowExecutorTests extends OpenSearchTestCase {
+
+    private static TestThreadPool testThreadPool;
+
+    @BeforeClass
+    public static void setup() {
+        testThreadPool = new TestThreadPool(
+            WorkflowExecutorTests.class.getName(),
+            new ScalingExecutorBuilder(
+                PROVISION_WORKFLOW_THREAD_POOL,
+                1,
+                Math.max(1, OpenSearchExecutors.allocatedProcessors(Settings.EMPTY) - 1),
+                TimeValue.timeValueMinutes(5),
+                FLOW_FRAMEWORK_THREAD_POOL_PREFIX + PROVISION_WORKFLOW_THREAD_POOL
+            )
+        );
+    }
+
+    @AfterClass
+    public static void cleanup() {
+        ThreadPool.terminate(testThreadPool, 500, TimeUnit.MILLISECONDS);
+    }
+
+    private StepDurationHistory stepDurationHistory;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        // Durations observed by other tests would change the estimates
+        stepDurationHistory = new StepDurationHistory();
+    }
+
+    private static ProcessNode createNode(String id, List<ProcessNode> predecessors, boolean fail) {
+        return new ProcessNode(id, new WorkflowStep() {
+            @Override
+            public PlainActionFuture<WorkflowData> execute(
+                String currentNodeId,
+                WorkflowData currentNodeInputs,
+                Map<String, WorkflowData> outputs,
+                Map<String, String> previousNodeInputs,
+                Map<String, String> params,
+                String tenantId
+            ) {
+                PlainActionFuture<WorkflowData> future = ListenablePlainActionFuture.newListenableFuture();
+                if (fail) {
+                    testThreadPool.schedule(
+                        () -> future.onFailure(new RuntimeException("Test exception")),
+                        TimeValue.timeValueMillis(10),
+                        PROVISION_WORKFLOW_THREAD_POOL
+                    );
+                } else {
+                    // Each node counts the outputs of its predecessors
+                    int inputs = outputs.values().stream().mapToInt(wd -> (Integer) wd.getContent().get("count")).sum();
+                    testThreadPool.schedule(
+                        () -> future.onResponse(new WorkflowData(Map.<String, Object>of("count", inputs + 1), "test-id", currentNodeId)),
+                        TimeValue.timeValueMillis(10),
+                        PROVISION_WORKFLOW_THREAD_POOL
+                    );
+                }
+                return future;
+            }
+
+            @Override
+            public String getName() {
+                return "test";
+            }
+        },
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            WorkflowData.EMPTY,
+            predecessors,
+            testThreadPool,
+            PROVISION_WORKFLOW_THREAD_POOL,
+            TimeValue.timeValueSeconds(10),
+            null
+        );
+    }
+
+    public void testExecuteDiamond() {
+        ProcessNode a = createNode("A", Collections.emptyList(), false);
+        ProcessNode b = createNode("B", List.of(a), false);
+        ProcessNode c = createNode("C", List.of(a), false);
+        ProcessNode d = createNode("D", List.of(b, c), false);
+
+        WorkflowExecutor executor = new WorkflowExecutor(
+            "test-id",
+            List.of(a, b, c, d),
+            testThreadPool.executor(PROVISION_WORKFLOW_THREAD_POOL)
+        );
+        PlainActionFuture<Map<String, WorkflowData>> future = PlainActionFuture.newFuture();
+        executor.execute(future);
+
+        Map<String, WorkflowData> results = future.actionGet(1, TimeUnit.MINUTES);
+        assertEquals(List.of("A", "B", "C", "D"), List.copyOf(results.keySet()));
+        assertEquals(1, results.get("A").getContent().get("count"));
+        assertEquals(2, results.get("B").getContent().get("count"));
+        assertEquals(2, results.get("C").getContent().get("count"));
+        assertEquals(5, results.get("D").getContent().get("count"));
+        assertNull(executor.failedNodeId());
+    }
+
+    public void testExecuteFailure() {
+        ProcessNode a = createNode("A", Collections.emptyList(), false);
+        ProcessNode b = createNode("B", List.of(a), true);
+        ProcessNode c = createNode("C", List.of(b), false);
+
+        WorkflowExecutor executor = new WorkflowExecutor(
+            "test-id",
+            List.of(a, b, c),
+            testThreadPool.executor(PROVISION_WORKFLOW_THREAD_POOL)
+        );
+        PlainActionFuture<Map<String, WorkflowData>> future = PlainActionFuture.newFuture();
+        executor.execute(future);
+
+        RuntimeException e = assertThrows(RuntimeException.class, () -> future.actionGet(1, TimeUnit.MINUTES));
+        assertEquals("Test exception", e.getMessage());
+        assertEquals("B", executor.failedNodeId());
+        // The successor never started
+        assertThrows(RuntimeException.class, () -> c.future().actionGet(1, TimeUnit.MINUTES));
+    }
+
+    public void testStepExecutionListener() {
+        ProcessNode a = createNode("A", Collections.emptyList(), false);
+        ProcessNode b = createNode("B", List.of(a), true);
+        ProcessNode c = createNode("C", List.of(b), false);
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+        StepExecutionListener listener = new StepExecutionListener() {
+            @Override
+            public void onStepStarted(ProcessNode node) {
+                events.add("started " + node.id());
+            }
+
+            @Override
+            public void onStepCompleted(ProcessNode node, WorkflowData output) {
+                events.add("completed " + node.id() + " with count " + output.getContent().get("count"));
+            }
+        };
+
+        WorkflowExecutor executor = new WorkflowExecutor(
+            "test-id",
+            List.of(a, b, c),
+            testThreadPool.executor(PROVISION_WORKFLOW_THREAD_POOL),
+            Integer.MAX_VALUE,
+            listener,
+            stepDurationHistory
+        );
+        PlainActionFuture<Map<String, WorkflowData>> future = PlainActionFuture.newFuture();
+        executor.execute(future);
+
+        assertThrows(RuntimeException.class, () -> future.actionGet(1, TimeUnit.MINUTES));
+        // The failed step is not reported as completed, and its successor never starts
+        assertEquals(List.of("started A", "completed A with count 1", "started B"), events);
+    }
+
+    public void testExecuteEmpty() {
+        WorkflowExecutor executor = new WorkflowExecutor("test-id", Collections.emptyList(), Runnable::run);
+        PlainActionFuture<Map<String, WorkflowData>> future = PlainActionFuture.newFuture();
+        executor.execute(future);
+        assertTrue(future.actionGet().isEmpty());
+    }
+
+    public void testFailureCancelsSiblings() {
+        ProcessNode a = createNode("A", Collections.emptyList(), true);
+        AtomicBoolean dStarted = new AtomicBoolean(false);
+        ProcessNode b = createPendingNode("B", Collections.emptyList(), new AtomicBoolean(false));
+        ProcessNode d = createPendingNode("D", List.of(b), dStarted);
+
+        WorkflowExecutor executor = new WorkflowExecutor(
+            "test-id",
+            List.of(a, b, d),
+            testThreadPool.executor(PROVISION_WORKFLOW_THREAD_POOL)
+        );
+        PlainActionFuture<Map<String, WorkflowData>> future = PlainActionFuture.newFuture();
+        executor.execute(future);
+
+        RuntimeException e = assertThrows(RuntimeException.class, () -> future.actionGet(1, TimeUnit.MINUTES));
+        assertEquals("Test exception", e.getMessage());
+        assertEquals("A", executor.failedNodeId());
+        // The in-flight sibling step was cancelled
+        FlowFrameworkException cancelled = assertThrows(FlowFrameworkException.class, () -> b.future().actionGet(1, TimeUnit.MINUTES));
+        assertEquals("Step B was cancelled: step A failed", cancelled.getMessage());
+        assertEquals(RestStatus.REQUEST_TIMEOUT, cancelled.getRestStatus());
+        // Its successor never started
+        assertThrows(FlowFrameworkException.class, () -> d.future().actionGet(1, TimeUnit.MINUTES));
+        assertFalse(dStarted.get());
+    }
+
+    public void testCancelBeforeStart() {
+        WorkflowCancellationToken token = new WorkflowCancellationToken();
+        assertTrue(token.cancel("test reason"));
+        assertFalse(token.cancel("another reason"));
+        assertTrue(token.isCancelled());
+        assertEquals("test reason", token.getReason());
+
+        AtomicBoolean started = new AtomicBoolean(false);
+        ProcessNode a = createPendingNode("A", Collections.emptyList(), started);
+        FlowFrameworkException e = assertThrows(
+            FlowFrameworkException.class,
+            () -> a.execute(token).actionGet(1, TimeUnit.MINUTES)
+        );
+        assertEquals("Step A was cancelled: test reason", e.getMessage());
+        assertFalse(started.get());
+    }
+
+    public void testCriticalPathStartsFirst() {
+        List<String> startOrder = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        // A is a single step while B starts a chain of three, so B is on the critical path
+        ProcessNode a = createTrackedNode("A", Collections.emptyList(), startOrder, running, maxRunning);
+        ProcessNode b = createTrackedNode("B", Collections.emptyList(), startOrder, running, maxRunning);
+        ProcessNode c = createTrackedNode("C", List.of(b), startOrder, running, maxRunning);
+        ProcessNode d = createTrackedNode("D", List.of(c), startOrder, running, maxRunning);
+
+        WorkflowScheduler scheduler = new WorkflowScheduler(List.of(a, b, c, d), 1, null, stepDurationHistory);
+        assertEquals(scheduler.estimatedDuration(a), scheduler.remainingPath("A"));
+        assertEquals(3 * scheduler.estimatedDuration(b), scheduler.remainingPath("B"));
+
+        WorkflowExecutor executor = new WorkflowExecutor(
+            "test-id",
+            List.of(a, b, c, d),
+            testThreadPool.executor(PROVISION_WORKFLOW_THREAD_POOL),
+            1,
+            null,
+            stepDurationHistory
+        );
+        PlainActionFuture<Map<String, WorkflowData>> future = PlainActionFuture.newFuture();
+        executor.execute(future);
+
+        assertEquals(4, future.actionGet(1, TimeUnit.MINUTES).size());
+        // Once B completes, C is on the critical path and starts before A
+        assertEquals(List.of("B", "C", "D", "A"), startOrder);
+        assertEquals(1, maxRunning.get());
+        assertNotNull(stepDurationHistory.getAverageMillis("tracked"));
+    }
+
+    public void testDurationEstimatesUseOneBasis() {
+        // A short chain of slow steps and a long chain of fast steps, all with the same timeout
+        ProcessNode slow1 = createTypedNode("slow1", "slow", Collections.emptyList());
+        ProcessNode slow2 = createTypedNode("slow2", "slow", List.of(slow1));
+        ProcessNode fast1 = createTypedNode("fast1", "fast", Collections.emptyList());
+        ProcessNode fast2 = createTypedNode("fast2", "fast", List.of(fast1));
+        ProcessNode fast3 = createTypedNode("fast3", "fast", List.of(fast2));
+        List<ProcessNode> nodes = List.of(slow1, slow2, fast1, fast2, fast3);
+
+        // Until every step type is observed, all estimates are timeouts rather than a mix of observed durations and timeouts
+        stepDurationHistory.record("fast", 10);
+        WorkflowScheduler scheduler = new WorkflowScheduler(nodes, 1, null, stepDurationHistory);
+        assertEquals(20_000, scheduler.remainingPath("slow1"));
+        assertEquals(30_000, scheduler.remainingPath("fast1"));
+
+        stepDurationHistory.record("slow", 1_000);
+        scheduler = new WorkflowScheduler(nodes, 1, null, stepDurationHistory);
+        assertEquals(2_000, scheduler.remainingPath("slow1"));
+        assertEquals(30, scheduler.remainingPath("fast1"));
+
+        // Observed durations are averaged
+        stepDurationHistory.record("fast", 50);
+        assertEquals(Long.valueOf(20), stepDurationHistory.getAverageMillis("fast"));
+
+        // Without a history, estimates are timeouts
+        assertEquals(30_000, new WorkflowScheduler(nodes, 1).remainingPath("fast1"));
+    }
+
+    public void testMaxConcurrentSteps() {
+        List<String> startOrder = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<ProcessNode> nodes = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            nodes.add(createTrackedNode("node" + i, Collections.emptyList(), startOrder, running, maxRunning));
+        }
+
+        WorkflowExecutor executor = new WorkflowExecutor("test-id", nodes, testThreadPool.executor(PROVISION_WORKFLOW_THREAD_POOL), 3);
+        PlainActionFuture<Map<String, WorkflowData>> future = PlainActionFuture.newFuture();
+        executor.execute(future);
+
+        assertEquals(10, future.actionGet(1, TimeUnit.MINUTES).size());
+        assertEquals(10, startOrder.size());
+        assertTrue(maxRunning.get() <= 3);
+    }
+
+    private static ProcessNode createTrackedNode(
+        String id,
+        List<ProcessNode> predecessors,
+        List<String> startOrder,
+        AtomicInteger running,
+        AtomicInteger maxRunning
+    ) {
+        return new ProcessNode(id, new WorkflowStep() {
+            @Override
+            public PlainActionFuture<WorkflowData> execute(
+                String currentNodeId,
+                WorkflowData currentNodeInputs,
+                Map<String, WorkflowData> outputs,
+                Map<String, String> previousNodeInputs,
+                Map<String, String> params,
+                String tenantId
+            ) {
+                startOrder.add(currentNodeId);
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                PlainActionFuture<WorkflowData> future = ListenablePlainActionFuture.newListenableFuture();
+                testThreadPool.schedule(() -> {
+                    running.decrementAndGet();
+                    future.onResponse(new WorkflowData(Collections.emptyMap(), "test-id", currentNodeId));
+                }, TimeValue.timeValueMillis(10), PROVISION_WORKFLOW_THREAD_POOL);
+                return future;
+            }
+
+            @Override
+            public String getName() {
+                return "tracked";
+            }
+        },
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            WorkflowData.EMPTY,
+            predecessors,
+            testThreadPool,
+            PROVISION_WORKFLOW_THREAD_POOL,
+            TimeValue.timeValueSeconds(10),
+            null
+        );
+    }
+
+    private static ProcessNode createTypedNode(String id, String stepName, List<ProcessNode> predecessors) {
+        return new ProcessNode(id, new WorkflowStep() {
+            @Override
+            public PlainActionFuture<WorkflowData> execute(
+                String currentNodeId,
+                WorkflowData currentNodeInputs,
+                Map<String, WorkflowData> outputs,
+                Map<String, String> previousNodeInputs,
+                Map<String, String> params,
+                String tenantId
+            ) {
+                return ListenablePlainActionFuture.newListenableFuture();
+            }
+
+            @Override
+            public String getName() {
+                return stepName;
+            }
+        },
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            WorkflowData.EMPTY,
+            predecessors,
+            testThreadPool,
+            PROVISION_WORKFLOW_THREAD_POOL,
+            TimeValue.timeValueSeconds(10),
+            null
+        );
+    }
+
+    private static ProcessNode createPendingNode(String id, List<ProcessNode> predecessors, AtomicBoolean started) {
+        return new ProcessNode(id, new WorkflowStep() {
+            @Override
+            public PlainActionFuture<WorkflowData> execute(
+                String currentNodeId,
+                WorkflowData currentNodeInputs,
+                Map<String, WorkflowData> outputs,
+                Map<String, String> previousNodeInputs,
+                Map<String, String> params,
+                String tenantId
+            ) {
+                started.set(true);
+                // Never completed unless cancelled
+                return ListenablePlainActionFuture.newListenableFuture();
+            }
+
+            @Override
+            public String getName() {
+                return "pending";
+            }
+        },
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            WorkflowData.EMPTY,
+            predecessors,
+            testThreadPool,
+            PROVISION_WORKFLOW_THREAD_POOL,
+            TimeValue.timeValueSeconds(30),
+            null
+        );
+    }
+}
@@ -25,6 +25,7 @@ import org.opensearch.flowframework.model.TemplateTestJsonUtil;
 import org.opensearch.flowframework.model.Workflow;
 import org.opensearch.flowframework.model.WorkflowEdge;
 import org.opensearch.flowframework.model.WorkflowNode;
+import org.opensearch.flowframework.util.FlowFrameworkExecutors;
 import org.opensearch.ml.client.MachineLearningNodeClient;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.ScalingExecutorBuilder;
@@ -37,6 +38,7 @@ import org.junit.BeforeClass;
 
 import java.io.IOException;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
@@ -133,7 +135,12 @@ public class WorkflowProcessSorterTests extends OpenSearchTestCase {
             )
         );
         workflowStepFactory = new WorkflowStepFactory(testThreadPool, mlClient, flowFrameworkIndicesHandler, flowFrameworkSettings, client);
-        workflowProcessSorter = new WorkflowProcessSorter(workflowStepFactory, testThreadPool, flowFrameworkSettings);
+        workflowProcessSorter = new WorkflowProcessSorter(
+            workflowStepFactory,
+            testThreadPool,
+            new FlowFrameworkExecutors(testThreadPool, false),
+            flowFrameworkSettings
+        );
 
         templateVersion = Version.fromString("1.0.0");
         compatibilityVersions = List.of(Version.fromString("2.1.6"), Version.fromString("3.0.0"));
@@ -247,6 +254,42 @@ public class WorkflowProcessSorterTests extends OpenSearchTestCase {
         assertEquals(4, workflow.indexOf("E"));
     }
 
+    public void testLargeGraph() {
+        int nodeCount = 10_000;
+        FlowFrameworkSettings largeSettings = mock(FlowFrameworkSettings.class);
+        when(largeSettings.getMaxWorkflowSteps()).thenReturn(nodeCount);
+        WorkflowProcessSorter largeSorter = new WorkflowProcessSorter(
+            workflowStepFactory,
+            testThreadPool,
+            new FlowFrameworkExecutors(testThreadPool, false),
+            largeSettings
+        );
+
+        // Each node follows the previous one and the one at half its index
+        List<WorkflowNode> nodes = new ArrayList<>();
+        List<WorkflowEdge> edges = new ArrayList<>();
+        for (int i = 0; i < nodeCount; i++) {
+            nodes.add(new WorkflowNode("node" + i, NoOpStep.NAME, Collections.emptyMap(), Collections.emptyMap()));
+            if (i > 0) {
+                edges.add(new WorkflowEdge("node" + (i - 1), "node" + i));
+                if (i / 2 != i - 1) {
+                    edges.add(new WorkflowEdge("node" + (i / 2), "node" + i));
+                }
+            }
+        }
+        Collections.shuffle(nodes, random());
+        Collections.shuffle(edges, random());
+
+        List<ProcessNode> sorted = largeSorter.sortProcessNodes(new Workflow(Collections.emptyMap(), nodes, edges), "123", Map.of(), null);
+
+        assertEquals(nodeCount, sorted.size());
+        for (int i = 0; i < nodeCount; i++) {
+            ProcessNode node = sorted.get(i);
+            assertEquals("node" + i, node.id());
+            assertEquals(i == 0 ? 0 : i / 2 == i - 1 ? 1 : 2, node.predecessors().size());
+        }
+    }
+
     public void testCycles() {
         Exception ex;
 
@@ -622,6 +665,53 @@ public class WorkflowProcessSorterTests extends OpenSearchTestCase {
         assertEquals(10, registerRemoteModelTimeout.getSeconds());
     }
 
+    public void testSortProcessNodesWithCompletedOutputs() {
+        Workflow workflow = reprovisionTemplate.workflows().get("provision");
+
+        // The pipeline was created before provisioning was interrupted
+        List<ProcessNode> sortedNodes = workflowProcessSorter.sortProcessNodes(
+            workflow,
+            "1",
+            Collections.emptyMap(),
+            null,
+            Map.of("workflow_step_1", Map.of(PIPELINE_ID, "pipelineId"))
+        );
+
+        assertEquals(2, sortedNodes.size());
+        ProcessNode searchPipeline = sortedNodes.get(0);
+        ProcessNode createIndex = sortedNodes.get(1);
+        assertEquals("workflow_step_1", searchPipeline.id());
+        // The completed step passes its journaled output instead of creating the pipeline again
+        assertEquals(WorkflowDataStep.NAME, searchPipeline.workflowStep().getName());
+        WorkflowData output = searchPipeline.workflowStep()
+            .execute(
+                searchPipeline.id(),
+                searchPipeline.input(),
+                Collections.emptyMap(),
+                Collections.emptyMap(),
+                Collections.emptyMap(),
+                null
+            )
+            .actionGet();
+        assertEquals(Map.of(PIPELINE_ID, "pipelineId"), output.getContent());
+        assertEquals("1", output.getWorkflowId());
+        // The remaining step is executed, after the completed one
+        assertEquals("workflow_step_2", createIndex.id());
+        assertEquals(CreateIndexStep.NAME, createIndex.workflowStep().getName());
+        assertEquals(List.of(searchPipeline), createIndex.predecessors());
+    }
+
+    public void testSortProcessNodesWithoutCompletedOutputs() {
+        Workflow workflow = reprovisionTemplate.workflows().get("provision");
+
+        List<ProcessNode> sortedNodes = workflowProcessSorter.sortProcessNodes(workflow, "1", Collections.emptyMap(), null, Map.of());
+
+        assertEquals(
+            List.of(CreateSearchPipelineStep.NAME, CreateIndexStep.NAME),
+            sortedNodes.stream().map(node -> node.workflowStep().getName()).collect(Collectors.toList())
+        );
+    }
+
     public void testCreateReprovisionSequenceWithNoChange() {
         FlowFrameworkException ex = expectThrows(
             FlowFrameworkException.class,
@@ -750,18 +840,10 @@ public class WorkflowProcessSorterTests extends OpenSearchTestCase {
             null
         );
 
-        // Should result in a 3 step sequence
-        assertTrue(reprovisionSequence.size() == 3);
-        List<String> reprovisionWorkflowStepNames = reprovisionSequence.stream()
-            .map(ProcessNode::workflowStep)
-            .map(WorkflowStep::getName)
-            .collect(Collectors.toList());
+        // Should result in a 1 step sequence, the unchanged steps are not executed
+        assertEquals(1, reprovisionSequence.size());
         // Assert 1 create ingest pipeline step in the sequence
-        assertTrue(reprovisionWorkflowStepNames.contains(CreateIngestPipelineStep.NAME));
-        // Assert 2 get resource steps in the sequence
-        assertTrue(
-            reprovisionWorkflowStepNames.stream().filter(x -> x.equals(WorkflowDataStep.NAME)).collect(Collectors.toList()).size() == 2
-        );
+        assertEquals(CreateIngestPipelineStep.NAME, reprovisionSequence.get(0).workflowStep().getName());
     }
 
     public void testCreateReprovisionSequenceWithUpdates() throws Exception {
@@ -828,4 +910,53 @@ public class WorkflowProcessSorterTests extends OpenSearchTestCase {
         assertTrue(reprovisionWorkflowStepNames.contains(UpdateIndexStep.NAME));
     }
 
+    public void testCreateReprovisionSequenceWithUnchangedPredecessor() throws Exception {
+        Workflow originalWorkflow = reprovisionTemplate.workflows().get("provision");
+        WorkflowNode createSearchPipeline = originalWorkflow.nodes().get(0);
+
+        // Create Index Step with modified index settings
+        String configurations =
+            "{\"settings\":{\"index\":{\"knn\":true,\"number_of_shards\":2,\"number_of_replicas\":1,\"default_pipeline\":\"test_pipeline_id\"}}}";
+        WorkflowNode createIndex = new WorkflowNode(
+            "workflow_step_2",
+            CreateIndexStep.NAME,
+            Map.ofEntries(Map.entry("workflow_step_1", PIPELINE_ID)),
+            Map.ofEntries(Map.entry(INDEX_NAME, "indexName"), Map.entry(CONFIGURATIONS, configurations))
+        );
+        Workflow workflow = new Workflow(Map.of(), List.of(createSearchPipeline, createIndex), originalWorkflow.edges());
+        Instant now = Instant.now();
+        Template templateWithModifiedIndex = new Template(
+            "test",
+            "a test template",
+            "test use case",
+            templateVersion,
+            compatibilityVersions,
+            Map.of("provision", workflow),
+            null,
+            null,
+            now,
+            now,
+            null,
+            null
+        );
+
+        List<ProcessNode> reprovisionSequence = workflowProcessSorter.createReprovisionSequence(
+            "1",
+            reprovisionTemplate,
+            templateWithModifiedIndex,
+            List.of(pipelineResource, indexResource),
+            null
+        );
+
+        // Only the update index step is executed
+        assertEquals(1, reprovisionSequence.size());
+        ProcessNode updateIndex = reprovisionSequence.get(0);
+        assertEquals(UpdateIndexStep.NAME, updateIndex.workflowStep().getName());
+        // Its unchanged predecessor is already complete, with the created pipeline as output
+        assertEquals(1, updateIndex.predecessors().size());
+        ProcessNode searchPipeline = updateIndex.predecessors().get(0);
+        assertTrue(searchPipeline.future().isDone());
+        assertEquals(pipelineResource.resourceId(), searchPipeline.future().actionGet().getContent().get(PIPELINE_ID));
+    }
+
 }